@@ -0,0 +1,33 @@
+package edu.ntnu.idi.bidata.analysis;
+
+/**
+ * Fairness metrics of a Snakes and Ladders board, as computed by {@link SnakesLaddersSolver}.
+ * Game length is counted in turns of a single token, from the start tile until it rests on the
+ * last tile.
+ *
+ * @param expectedTurns The expected number of turns, or {@link Double#POSITIVE_INFINITY} if the
+ *                      last tile cannot be reached for sure.
+ * @param turnsVariance The variance of the number of turns, or {@link Double#POSITIVE_INFINITY}.
+ * @param maxChainLength The largest number of snakes and ladders taken one after the other
+ *                       after a single roll (0 on a board without any).
+ */
+public record BoardMetrics(double expectedTurns, double turnsVariance, int maxChainLength) {
+
+  /**
+   * Gets the standard deviation of the number of turns.
+   *
+   * @return The square root of {@link #turnsVariance()}.
+   */
+  public double turnsStdDev() {
+    return Math.sqrt(turnsVariance);
+  }
+
+  /**
+   * Tells whether every game on the board ends.
+   *
+   * @return true if the expected number of turns is finite.
+   */
+  public boolean isFinite() {
+    return Double.isFinite(expectedTurns) && Double.isFinite(turnsVariance);
+  }
+}
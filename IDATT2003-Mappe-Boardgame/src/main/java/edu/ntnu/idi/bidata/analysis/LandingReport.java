@@ -0,0 +1,211 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a {@link MonopolyLandingAnalyzer} run.
+ * Holds the merged landing count per tile and derives rent yield and payback estimates
+ * for every {@link PropertyAction} and every color group.
+ *
+ * <p>Rent figures are "per opponent turn": the expected rent an owner collects each time
+ * one opponent takes a turn, using the base rent of the property. Railroads use the
+ * single-railroad rent and utilities use four times the mean dice roll.</p>
+ */
+public class LandingReport {
+  /** Group name used for railroads, which have no color group of their own. */
+  public static final String RAILROAD_GROUP = "Railroad";
+  /** Group name used for utilities, which have no color group of their own. */
+  public static final String UTILITY_GROUP = "Utility";
+
+  private final Tile[] tiles;
+  private final long[] landings;
+  private final long totalTurns;
+  private final double meanRoll;
+
+  /**
+   * Per-property statistics.
+   *
+   * @param name The property name.
+   * @param tileId The id of the tile holding the property.
+   * @param colorGroup The color group, or {@link #RAILROAD_GROUP} / {@link #UTILITY_GROUP}.
+   * @param cost The purchase cost.
+   * @param rentPerLanding The rent charged for one landing.
+   * @param landingProbability The probability that one turn ends a move on this tile.
+   * @param expectedRentPerTurn The expected rent per opponent turn.
+   * @param yieldPerTurn The expected rent per opponent turn divided by the cost.
+   * @param paybackTurns The number of opponent turns needed to earn back the cost.
+   */
+  public record PropertyStats(String name, int tileId, String colorGroup, int cost,
+                              double rentPerLanding, double landingProbability,
+                              double expectedRentPerTurn, double yieldPerTurn,
+                              double paybackTurns) {
+  }
+
+  /**
+   * Statistics aggregated over all properties in one color group.
+   *
+   * @param colorGroup The color group.
+   * @param propertyCount The number of properties in the group.
+   * @param totalCost The cost of buying the whole group.
+   * @param landingProbability The probability that one turn ends a move in the group.
+   * @param expectedRentPerTurn The expected rent per opponent turn for the whole group.
+   * @param yieldPerTurn The expected rent per opponent turn divided by the total cost.
+   * @param paybackTurns The number of opponent turns needed to earn back the total cost.
+   */
+  public record ColorGroupStats(String colorGroup, int propertyCount, int totalCost,
+                                double landingProbability, double expectedRentPerTurn,
+                                double yieldPerTurn, double paybackTurns) {
+  }
+
+  /**
+   * Creates a report from merged simulation counters.
+   *
+   * @param tiles The simulated tiles in ring order.
+   * @param landings The landing count per tile, indexed like {@code tiles}.
+   * @param totalTurns The total number of simulated turns.
+   * @param meanRoll The mean dice roll observed during the simulation.
+   */
+  LandingReport(Tile[] tiles, long[] landings, long totalTurns, double meanRoll) {
+    this.tiles = tiles;
+    this.landings = landings;
+    this.totalTurns = totalTurns;
+    this.meanRoll = meanRoll;
+  }
+
+  /**
+   * Gets the total number of simulated turns, including turns spent in jail.
+   *
+   * @return The total number of turns.
+   */
+  public long getTotalTurns() {
+    return totalTurns;
+  }
+
+  /**
+   * Gets the mean dice roll observed during the simulation.
+   *
+   * @return The mean roll.
+   */
+  public double getMeanRoll() {
+    return meanRoll;
+  }
+
+  /**
+   * Gets the number of landings recorded for a tile.
+   *
+   * @param tileId The tile id.
+   * @return The landing count, or 0 if the tile was not part of the simulation.
+   */
+  public long getLandings(int tileId) {
+    for (int i = 0; i < tiles.length; i++) {
+      if (tiles[i].getId() == tileId) {
+        return landings[i];
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the probability that one turn ends a move on the given tile.
+   *
+   * @param tileId The tile id.
+   * @return The landing probability per turn.
+   */
+  public double getLandingProbability(int tileId) {
+    return totalTurns == 0 ? 0.0 : (double) getLandings(tileId) / totalTurns;
+  }
+
+  /**
+   * Gets the landing counts of all tiles in ring order, keyed by tile id.
+   *
+   * @return An unmodifiable map from tile id to landing count.
+   */
+  public Map<Integer, Long> getLandingCounts() {
+    Map<Integer, Long> counts = new LinkedHashMap<>();
+    for (int i = 0; i < tiles.length; i++) {
+      counts.put(tiles[i].getId(), landings[i]);
+    }
+    return Collections.unmodifiableMap(counts);
+  }
+
+  /**
+   * Computes rent yield and payback for every property on the board, in ring order.
+   *
+   * @return A list of {@link PropertyStats}.
+   */
+  public List<PropertyStats> getPropertyStats() {
+    List<PropertyStats> stats = new ArrayList<>();
+    for (int i = 0; i < tiles.length; i++) {
+      if (tiles[i].getAction() instanceof PropertyAction property) {
+        double probability = totalTurns == 0 ? 0.0 : (double) landings[i] / totalTurns;
+        double rent = rentPerLanding(property);
+        double rentPerTurn = probability * rent;
+        stats.add(new PropertyStats(property.getName(), tiles[i].getId(), groupOf(property),
+            property.getCost(), rent, probability, rentPerTurn,
+            yieldOf(rentPerTurn, property.getCost()), payback(rentPerTurn, property.getCost())));
+      }
+    }
+    return stats;
+  }
+
+  /**
+   * Aggregates the property statistics per color group, in the order the groups first appear.
+   *
+   * @return A list of {@link ColorGroupStats}.
+   */
+  public List<ColorGroupStats> getColorGroupStats() {
+    Map<String, List<PropertyStats>> groups = new LinkedHashMap<>();
+    for (PropertyStats property : getPropertyStats()) {
+      groups.computeIfAbsent(property.colorGroup(), g -> new ArrayList<>()).add(property);
+    }
+
+    List<ColorGroupStats> stats = new ArrayList<>();
+    groups.forEach((group, members) -> {
+      int cost = 0;
+      double probability = 0.0;
+      double rentPerTurn = 0.0;
+      for (PropertyStats member : members) {
+        cost += member.cost();
+        probability += member.landingProbability();
+        rentPerTurn += member.expectedRentPerTurn();
+      }
+      stats.add(new ColorGroupStats(group, members.size(), cost, probability, rentPerTurn,
+          yieldOf(rentPerTurn, cost), payback(rentPerTurn, cost)));
+    });
+    return stats;
+  }
+
+  private double rentPerLanding(PropertyAction property) {
+    if (property instanceof UtilityAction) {
+      return 4 * meanRoll;
+    }
+    return property.getRent();
+  }
+
+  private static String groupOf(PropertyAction property) {
+    if (property instanceof RailroadAction) {
+      return RAILROAD_GROUP;
+    }
+    if (property instanceof UtilityAction) {
+      return UTILITY_GROUP;
+    }
+    return property.getColorGroup() != null ? property.getColorGroup() : "None";
+  }
+
+  private static double yieldOf(double rentPerTurn, int cost) {
+    return cost == 0 ? 0.0 : rentPerTurn / cost;
+  }
+
+  private static double payback(double rentPerTurn, int cost) {
+    return rentPerTurn == 0.0 ? Double.POSITIVE_INFINITY : cost / rentPerTurn;
+  }
+}
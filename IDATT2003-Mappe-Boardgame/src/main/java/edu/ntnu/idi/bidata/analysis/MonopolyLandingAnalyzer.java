@@ -0,0 +1,455 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.exception.JsonParseException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.file.CardJsonReaderWriter;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.Card;
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.ChanceAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.CommunityChestAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoToJailAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
+import edu.ntnu.idi.bidata.util.Logger;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo analyzer that estimates how often each tile of a Monopoly board is landed on.
+ * Every simulated game moves a single token around the board with the same rules as
+ * {@link edu.ntnu.idi.bidata.service.MonopolyService}: landing on a {@link GoToJailAction}
+ * sends the token to jail for three turns, "Get Out of Jail Free" cards are used right away,
+ * and Chance / Community Chest cards that move the token are applied to its position.
+ * Money is not tracked; the landing counts are turned into rent yield and payback estimates
+ * by {@link LandingReport}.
+ *
+ * <p>Games are split over a fixed thread pool. Each worker counts into its own {@code long[]}
+ * and the arrays are summed once all workers are done, so no counter is shared between threads.
+ * Every game is seeded from its own index, which makes the result independent of the thread count.
+ * This class is not meant to be instantiated.</p>
+ */
+public final class MonopolyLandingAnalyzer {
+  private static final int JAIL_TURNS = 3;
+  private static final int MAX_CHAINED_MOVES = 4;
+
+  private static final byte KIND_PLAIN = 0;
+  private static final byte KIND_GO_TO_JAIL = 1;
+  private static final byte KIND_CHANCE = 2;
+  private static final byte KIND_COMMUNITY_CHEST = 3;
+
+  private static final int OP_NONE = 0;
+  private static final int OP_MOVE_TO = 1;
+  private static final int OP_MOVE_BACK = 2;
+  private static final int OP_NEAREST_RAILROAD = 3;
+  private static final int OP_NEAREST_UTILITY = 4;
+  private static final int OP_GO_TO_JAIL = 5;
+  private static final int OP_JAIL_FREE = 6;
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private MonopolyLandingAnalyzer() { }
+
+  /**
+   * Runs the analysis using one worker thread per available processor.
+   *
+   * @param board The Monopoly {@link Board} to simulate. Must form a ring through the next links.
+   * @param decks The card decks keyed by deck name ("chance", "communityChest"), as returned by
+   *              {@link CardJsonReaderWriter#read(Reader)}. May be empty.
+   * @param games The number of games to simulate.
+   * @param turnsPerGame The number of turns played in every game.
+   * @param seed The base seed for the random number generators.
+   * @return A {@link LandingReport} with the merged landing counts.
+   * @throws InvalidParameterException if any argument is invalid.
+   */
+  public static LandingReport analyze(Board board, Map<String, List<Card>> decks,
+                                      int games, int turnsPerGame, long seed) {
+    return analyze(board, decks, games, turnsPerGame, seed,
+        Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Runs the analysis on the given number of worker threads.
+   *
+   * @param board The Monopoly {@link Board} to simulate. Must form a ring through the next links.
+   * @param decks The card decks keyed by deck name ("chance", "communityChest"). May be empty.
+   * @param games The number of games to simulate.
+   * @param turnsPerGame The number of turns played in every game.
+   * @param seed The base seed for the random number generators.
+   * @param threads The number of worker threads to use.
+   * @return A {@link LandingReport} with the merged landing counts.
+   * @throws InvalidParameterException if any argument is invalid.
+   * @throws IllegalStateException if a worker fails or the analysis is interrupted.
+   */
+  public static LandingReport analyze(Board board, Map<String, List<Card>> decks,
+                                      int games, int turnsPerGame, long seed, int threads) {
+    if (board == null || board.getTiles().isEmpty()) {
+      throw new InvalidParameterException("Board must not be null or empty");
+    }
+    if (games < 1 || turnsPerGame < 1 || threads < 1) {
+      throw new InvalidParameterException("Games, turns per game and threads must all be at least 1");
+    }
+
+    Layout layout = new Layout(board, decks == null ? Map.of() : decks);
+    int workers = Math.min(threads, games);
+    Logger.info("Simulating " + games + " games of " + turnsPerGame + " turns on "
+        + layout.size + " tiles using " + workers + " thread(s).");
+
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(workers);
+    try {
+      List<Future<long[]>> futures = new ArrayList<>(workers);
+      for (int w = 0; w < workers; w++) {
+        int from = (int) ((long) games * w / workers);
+        int to = (int) ((long) games * (w + 1) / workers);
+        futures.add(executor.submit(() -> simulateRange(layout, from, to, turnsPerGame, seed)));
+      }
+
+      // Slots 0..size-1 are tile landings, the last two slots are roll count and roll sum.
+      long[] merged = new long[layout.size + 2];
+      for (Future<long[]> future : futures) {
+        long[] partial = future.get();
+        for (int i = 0; i < merged.length; i++) {
+          merged[i] += partial[i];
+        }
+      }
+
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      Logger.info("Landing analysis finished in " + elapsedMillis + " ms.");
+
+      long[] landings = new long[layout.size];
+      System.arraycopy(merged, 0, landings, 0, layout.size);
+      long rolls = merged[layout.size];
+      double meanRoll = rolls == 0 ? 0.0 : (double) merged[layout.size + 1] / rolls;
+      return new LandingReport(layout.tiles, landings, (long) games * turnsPerGame, meanRoll);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Landing analysis was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Landing analysis worker failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Simulates the games {@code [from, to)} and returns the worker-local counters.
+   */
+  private static long[] simulateRange(Layout layout, int from, int to, int turnsPerGame, long seed) {
+    long[] counts = new long[layout.size + 2];
+    for (int game = from; game < to; game++) {
+      new GameRun(layout, counts, new SplittableRandom(seed + game * 0x9E3779B97F4A7C15L))
+          .play(turnsPerGame);
+    }
+    return counts;
+  }
+
+  /**
+   * Immutable, array based view of the board and card decks shared by all workers.
+   */
+  private static final class Layout {
+    private final int size;
+    private final Tile[] tiles;
+    private final byte[] kinds;
+    private final int[] jailTargets;
+    private final int[] nextRailroad;
+    private final int[] nextUtility;
+    private final int[] chanceOps;
+    private final int[] chanceArgs;
+    private final int[] chestOps;
+    private final int[] chestArgs;
+
+    private Layout(Board board, Map<String, List<Card>> decks) {
+      List<Tile> ring = new ArrayList<>();
+      Tile start = board.getStart();
+      Tile current = start;
+      do {
+        ring.add(current);
+        current = current.getNext();
+      } while (current != null && current != start && ring.size() <= board.getTiles().size());
+      if (current != start) {
+        throw new InvalidParameterException("Board tiles must form a closed ring to be analyzed");
+      }
+
+      size = ring.size();
+      tiles = ring.toArray(new Tile[0]);
+      kinds = new byte[size];
+      jailTargets = new int[size];
+
+      Map<Integer, Integer> indexById = new HashMap<>();
+      Map<String, Integer> indexByName = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        indexById.put(tiles[i].getId(), i);
+        if (tiles[i].getAction() instanceof PropertyAction property) {
+          indexByName.put(property.getName(), i);
+        }
+      }
+
+      for (int i = 0; i < size; i++) {
+        TileAction action = tiles[i].getAction();
+        if (action instanceof GoToJailAction goToJail) {
+          Integer target = indexById.get(goToJail.getTargetId());
+          if (target != null) {
+            kinds[i] = KIND_GO_TO_JAIL;
+            jailTargets[i] = target;
+          }
+        } else if (action instanceof ChanceAction) {
+          kinds[i] = KIND_CHANCE;
+        } else if (action instanceof CommunityChestAction) {
+          kinds[i] = KIND_COMMUNITY_CHEST;
+        }
+      }
+
+      nextRailroad = nearestForward(RailroadAction.class);
+      nextUtility = nearestForward(UtilityAction.class);
+
+      int jail = firstJailTarget();
+      List<Card> chance = decks.getOrDefault("chance", List.of());
+      List<Card> chest = decks.getOrDefault("communityChest", List.of());
+      chanceOps = new int[chance.size()];
+      chanceArgs = new int[chance.size()];
+      chestOps = new int[chest.size()];
+      chestArgs = new int[chest.size()];
+      compileDeck(chance, chanceOps, chanceArgs, indexByName, jail);
+      compileDeck(chest, chestOps, chestArgs, indexByName, jail);
+    }
+
+    private int firstJailTarget() {
+      for (int i = 0; i < size; i++) {
+        if (kinds[i] == KIND_GO_TO_JAIL) {
+          return jailTargets[i];
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * For every ring position, the position of the first tile at or after it (wrapping) with an
+     * action of the given type, or -1 if the board has none.
+     */
+    private int[] nearestForward(Class<? extends TileAction> type) {
+      int[] nearest = new int[size];
+      int found = -1;
+      for (int pass = 0; pass < 2; pass++) {
+        for (int i = size - 1; i >= 0; i--) {
+          if (type.isInstance(tiles[i].getAction())) {
+            found = i;
+          }
+          nearest[i] = found;
+        }
+      }
+      return nearest;
+    }
+
+    private void compileDeck(List<Card> deck, int[] ops, int[] args,
+                             Map<String, Integer> indexByName, int jail) {
+      for (int i = 0; i < deck.size(); i++) {
+        Card card = deck.get(i);
+        int op = OP_NONE;
+        int arg = 0;
+        switch (card.getType()) {
+          case "AdvanceToGo":
+            op = OP_MOVE_TO;
+            break;
+          case "AdvanceToIllinoisAve":
+            arg = indexByName.getOrDefault("Illinois Avenue", -1);
+            op = arg >= 0 ? OP_MOVE_TO : OP_NONE;
+            break;
+          case "AdvanceToBoardwalk":
+            arg = indexByName.getOrDefault("Boardwalk", -1);
+            op = arg >= 0 ? OP_MOVE_TO : OP_NONE;
+            break;
+          case "AdvanceToRailroad":
+            arg = indexByName.getOrDefault(card.getStringProperty("target", "Reading Railroad"), -1);
+            op = arg >= 0 ? OP_MOVE_TO : OP_NONE;
+            break;
+          case "AdvanceToProperty":
+            arg = indexByName.getOrDefault(card.getStringProperty("target", ""), -1);
+            op = arg >= 0 ? OP_MOVE_TO : OP_NONE;
+            break;
+          case "AdvanceToNearestRailroad":
+            op = OP_NEAREST_RAILROAD;
+            break;
+          case "AdvanceToUtility":
+            op = OP_NEAREST_UTILITY;
+            break;
+          case "GoBack":
+            op = OP_MOVE_BACK;
+            arg = card.getIntProperty("spaces", 3);
+            break;
+          case "GoToJail":
+            op = jail >= 0 ? OP_GO_TO_JAIL : OP_NONE;
+            arg = jail;
+            break;
+          case "GetOutOfJailFree":
+            op = OP_JAIL_FREE;
+            break;
+          default:
+            break;
+        }
+        ops[i] = op;
+        args[i] = arg;
+      }
+    }
+  }
+
+  /**
+   * Mutable state of one simulated game. Instances are confined to the worker that created them.
+   */
+  private static final class GameRun {
+    private final Layout layout;
+    private final long[] counts;
+    private final SplittableRandom random;
+    private final int[] chanceOrder;
+    private final int[] chestOrder;
+    private int chanceCursor;
+    private int chestCursor;
+    private int position;
+    private int jailTurns;
+    private int jailFreeCards;
+
+    private GameRun(Layout layout, long[] counts, SplittableRandom random) {
+      this.layout = layout;
+      this.counts = counts;
+      this.random = random;
+      this.chanceOrder = shuffledOrder(layout.chanceOps.length);
+      this.chestOrder = shuffledOrder(layout.chestOps.length);
+    }
+
+    private int[] shuffledOrder(int n) {
+      int[] order = new int[n];
+      for (int i = 0; i < n; i++) {
+        order[i] = i;
+      }
+      for (int i = n - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        int tmp = order[i];
+        order[i] = order[j];
+        order[j] = tmp;
+      }
+      return order;
+    }
+
+    private void play(int turns) {
+      for (int turn = 0; turn < turns; turn++) {
+        if (jailTurns > 0) {
+          if (jailFreeCards > 0) {
+            jailFreeCards--;
+            jailTurns = 0;
+          } else if (--jailTurns > 0) {
+            continue;
+          }
+        }
+        int roll = random.nextInt(1, 7) + random.nextInt(1, 7);
+        counts[layout.size]++;
+        counts[layout.size + 1] += roll;
+        land((position + roll) % layout.size, 0);
+      }
+    }
+
+    private void land(int target, int depth) {
+      position = target;
+      counts[target]++;
+      if (depth >= MAX_CHAINED_MOVES) {
+        return;
+      }
+      switch (layout.kinds[target]) {
+        case KIND_GO_TO_JAIL -> goToJail(layout.jailTargets[target]);
+        case KIND_CHANCE -> {
+          if (layout.chanceOps.length > 0) {
+            int card = chanceOrder[chanceCursor];
+            chanceCursor = (chanceCursor + 1) % chanceOrder.length;
+            apply(layout.chanceOps[card], layout.chanceArgs[card], depth);
+          }
+        }
+        case KIND_COMMUNITY_CHEST -> {
+          if (layout.chestOps.length > 0) {
+            int card = chestOrder[chestCursor];
+            chestCursor = (chestCursor + 1) % chestOrder.length;
+            apply(layout.chestOps[card], layout.chestArgs[card], depth);
+          }
+        }
+        default -> { }
+      }
+    }
+
+    private void goToJail(int jail) {
+      position = jail;
+      counts[jail]++;
+      jailTurns = JAIL_TURNS;
+    }
+
+    private void apply(int op, int arg, int depth) {
+      switch (op) {
+        case OP_MOVE_TO -> land(arg, depth + 1);
+        case OP_MOVE_BACK -> land(Math.floorMod(position - arg, layout.size), depth + 1);
+        case OP_NEAREST_RAILROAD -> {
+          int target = layout.nextRailroad[(position + 1) % layout.size];
+          if (target >= 0) {
+            land(target, depth + 1);
+          }
+        }
+        case OP_NEAREST_UTILITY -> {
+          int target = layout.nextUtility[(position + 1) % layout.size];
+          if (target >= 0) {
+            land(target, depth + 1);
+          }
+        }
+        case OP_GO_TO_JAIL -> goToJail(arg);
+        case OP_JAIL_FREE -> jailFreeCards++;
+        default -> { }
+      }
+    }
+  }
+
+  /**
+   * Command line entry point. Analyzes the bundled mini Monopoly board and logs the results.
+   * Optional arguments: number of games and turns per game.
+   *
+   * @param args Optional {@code [games] [turnsPerGame]}.
+   */
+  public static void main(String[] args) {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+    int turns = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+    Board board = BoardFactory.createFromJson("/data/boards/mini_monopoly.json",
+        GameVariant.MINI_MONOPOLY, null);
+    Map<String, List<Card>> decks;
+    try (Reader reader = new InputStreamReader(
+        Objects.requireNonNull(MonopolyLandingAnalyzer.class.getResourceAsStream("/data/cards/cards.json")),
+        StandardCharsets.UTF_8)) {
+      decks = CardJsonReaderWriter.read(reader);
+    } catch (Exception e) {
+      throw new JsonParseException("Failed to load cards for landing analysis", e);
+    }
+
+    LandingReport report = analyze(board, decks, games, turns, 42L);
+    for (LandingReport.PropertyStats stats : report.getPropertyStats()) {
+      Logger.info(String.format("%-24s %-11s p=%.4f rent/turn=%.3f payback=%.0f turns",
+          stats.name(), stats.colorGroup(), stats.landingProbability(),
+          stats.expectedRentPerTurn(), stats.paybackTurns()));
+    }
+    for (LandingReport.ColorGroupStats stats : report.getColorGroupStats()) {
+      Logger.info(String.format("%-11s cost=%d p=%.4f rent/turn=%.3f payback=%.0f turns",
+          stats.colorGroup(), stats.totalCost(), stats.landingProbability(),
+          stats.expectedRentPerTurn(), stats.paybackTurns()));
+    }
+  }
+}
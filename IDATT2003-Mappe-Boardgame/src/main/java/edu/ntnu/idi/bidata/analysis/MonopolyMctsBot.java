@@ -0,0 +1,359 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.MonopolyState;
+import edu.ntnu.idi.bidata.service.MonopolyStateService;
+import edu.ntnu.idi.bidata.util.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo tree search bot for the yes/no decisions of a Monopoly game: whether to buy the
+ * property a player landed on, and whether a jailed player should use a "Get Out of Jail Free" card.
+ *
+ * <p>Both answers are tried over and over from a {@link MonopolyState} snapshot, each time
+ * followed by a random playout of the rest of the game played by {@link MonopolyStateService}.
+ * Which answer to try next is chosen with UCB1, so the search spends its time on the answer that
+ * looks best while still checking the other one. A playout rolls real dice, buys affordable
+ * properties most of the time, and is scored 1 for a win, 0 for a loss, or by the player's share
+ * of the total net worth if it is cut off before the game ends.</p>
+ *
+ * <p>The search is root-parallel: every worker thread searches on its own, with its own random
+ * generator and its own counters, until the time budget of the decision runs out. The counters are
+ * then added up and the answer tried most often wins. States are persistent, so a playout branches
+ * off the snapshot without copying it.</p>
+ *
+ * <p>The worker threads are daemon threads owned by the bot and reused for every decision. Close
+ * the bot when it is no longer needed to stop them.</p>
+ */
+public final class MonopolyMctsBot implements AutoCloseable {
+  /** Default time spent on one decision. */
+  public static final long DEFAULT_BUDGET_NANOS = 50_000_000;
+  /** Number of turns after which a playout is cut off and scored by net worth. */
+  public static final int MAX_PLAYOUT_TURNS = 200;
+
+  /** Chance that the playout policy buys a property it can afford. */
+  private static final double PLAYOUT_BUY_PROBABILITY = 0.8;
+  /** Exploration constant of UCB1. */
+  private static final double EXPLORATION = Math.sqrt(2);
+  /** Sum of two dice for every outcome {@code 6 * (a - 1) + (b - 1)}, so one draw rolls both. */
+  private static final int[] TWO_DICE = new int[36];
+
+  static {
+    for (int i = 0; i < TWO_DICE.length; i++) {
+      TWO_DICE[i] = i / 6 + i % 6 + 2;
+    }
+  }
+
+  private final MonopolyStateService rules;
+  private final long budgetNanos;
+  private final int threads;
+  private final long seed;
+  private final AtomicLong decisions = new AtomicLong();
+  private final ExecutorService workers; // Null when the search runs on the calling thread
+  private volatile boolean closed = false;
+
+  /**
+   * A yes/no question asked about a state.
+   */
+  private enum Question { PURCHASE, USE_JAIL_CARD }
+
+  /**
+   * Outcome of one decision.
+   *
+   * @param answer The chosen answer.
+   * @param playouts The number of playouts run over all threads.
+   * @param yesValue The mean score of the playouts after answering yes, from 0 to 1.
+   * @param noValue The mean score of the playouts after answering no, from 0 to 1.
+   * @param elapsedNanos The time the search took.
+   */
+  public record Decision(boolean answer, long playouts, double yesValue, double noValue, long elapsedNanos) {
+    /**
+     * Gets the search speed.
+     *
+     * @return The number of playouts per second.
+     */
+    public double playoutsPerSecond() {
+      return elapsedNanos == 0 ? 0.0 : playouts * 1e9 / elapsedNanos;
+    }
+  }
+
+  /**
+   * Creates a bot that thinks for {@link #DEFAULT_BUDGET_NANOS} per decision on every processor.
+   *
+   * @param rules The rules of the board to play on.
+   * @throws InvalidParameterException if rules is null.
+   */
+  public MonopolyMctsBot(MonopolyStateService rules) {
+    this(rules, DEFAULT_BUDGET_NANOS, Runtime.getRuntime().availableProcessors(), System.nanoTime());
+  }
+
+  /**
+   * Creates a bot.
+   *
+   * @param rules The rules of the board to play on.
+   * @param budgetNanos The time spent on one decision. Every answer gets at least one playout.
+   * @param threads The number of worker threads searching in parallel.
+   * @param seed The base seed for the random number generators; each decision gets its own.
+   * @throws InvalidParameterException if rules is null, or the budget or thread count is not positive.
+   */
+  public MonopolyMctsBot(MonopolyStateService rules, long budgetNanos, int threads, long seed) {
+    if (rules == null) {
+      throw new InvalidParameterException("Rules must not be null");
+    }
+    if (budgetNanos <= 0 || threads < 1) {
+      throw new InvalidParameterException("Budget and threads must be positive");
+    }
+    this.rules = rules;
+    this.budgetNanos = budgetNanos;
+    this.threads = threads;
+    this.seed = seed;
+    if (threads == 1) {
+      this.workers = null;
+    } else {
+      AtomicLong workerCount = new AtomicLong();
+      this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, "mcts-worker-" + workerCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * Stops the worker threads of the bot. Decisions asked for afterwards fail.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (workers != null) {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Gets the rules the bot plays by, e.g. to capture the live game into a state.
+   *
+   * @return The state service.
+   */
+  public MonopolyStateService getRules() {
+    return rules;
+  }
+
+  /**
+   * Decides whether a player should buy the property they stand on. The state is the one right
+   * after the landing, so the turn has already passed to the next seat.
+   *
+   * @param state The state.
+   * @param player The seat of the player who landed.
+   * @return The decision; its answer is false if the property cannot be bought at all.
+   * @throws InvalidParameterException if the player is not in the game.
+   */
+  public Decision decidePurchase(MonopolyState state, int player) {
+    return decidePurchase(state, player, budgetNanos);
+  }
+
+  /**
+   * Decides like {@link #decidePurchase(MonopolyState, int)}, within a time budget of its own,
+   * e.g. a smaller one while turns are played in a frame.
+   *
+   * @param state The state.
+   * @param player The seat of the player who landed.
+   * @param budgetNanos The time spent on this decision. Every answer gets at least one playout.
+   * @return The decision; its answer is false if the property cannot be bought at all.
+   * @throws InvalidParameterException if the player is not in the game or the budget is not positive.
+   */
+  public Decision decidePurchase(MonopolyState state, int player, long budgetNanos) {
+    checkPlayer(state, player);
+    checkBudget(budgetNanos);
+    if (!rules.canPurchase(state, player)) {
+      return new Decision(false, 0, 0.0, 0.0, 0);
+    }
+    return search(state, player, Question.PURCHASE, budgetNanos);
+  }
+
+  /**
+   * Decides whether a jailed player should use a "Get Out of Jail Free" card on this turn,
+   * or keep it and sit the turn out. The state is the one at the start of the player's turn.
+   *
+   * @param state The state.
+   * @param player The seat of the jailed player, who must be the current player.
+   * @return The decision; its answer is false if the player is not jailed or holds no card.
+   * @throws InvalidParameterException if the player is not in the game.
+   */
+  public Decision decideJailCard(MonopolyState state, int player) {
+    return decideJailCard(state, player, budgetNanos);
+  }
+
+  /**
+   * Decides like {@link #decideJailCard(MonopolyState, int)}, within a time budget of its own.
+   *
+   * @param state The state.
+   * @param player The seat of the jailed player, who must be the current player.
+   * @param budgetNanos The time spent on this decision. Every answer gets at least one playout.
+   * @return The decision; its answer is false if the player is not jailed or holds no card.
+   * @throws InvalidParameterException if the player is not in the game or the budget is not positive.
+   */
+  public Decision decideJailCard(MonopolyState state, int player, long budgetNanos) {
+    checkPlayer(state, player);
+    checkBudget(budgetNanos);
+    if (state.getJailTurns(player) == 0 || state.getJailFreeCards(player) == 0) {
+      return new Decision(false, 0, 0.0, 0.0, 0);
+    }
+    return search(state.withCurrentPlayer(player), player, Question.USE_JAIL_CARD, budgetNanos);
+  }
+
+  private static void checkPlayer(MonopolyState state, int player) {
+    if (state == null || player < 0 || player >= state.getPlayerCount()) {
+      throw new InvalidParameterException("Player " + player + " is not in this game");
+    }
+  }
+
+  private static void checkBudget(long budgetNanos) {
+    if (budgetNanos <= 0) {
+      throw new InvalidParameterException("Budget must be positive");
+    }
+  }
+
+  /**
+   * Runs the root-parallel search and merges the counters of all workers.
+   */
+  private Decision search(MonopolyState root, int player, Question question, long budgetNanos) {
+    if (closed) {
+      throw new IllegalStateException("Bot was closed");
+    }
+    long start = System.nanoTime();
+    long deadline = start + budgetNanos;
+    long decisionSeed = seed + decisions.getAndIncrement() * 0x9E3779B97F4A7C15L;
+
+    Arm merged = new Arm();
+    if (workers == null) {
+      merged.add(searchWorker(root, player, question, deadline, new SplittableRandom(decisionSeed)));
+    } else {
+      List<Future<Arm>> futures = new ArrayList<>(threads);
+      try {
+        for (int w = 0; w < threads; w++) {
+          SplittableRandom random = new SplittableRandom(decisionSeed + w);
+          futures.add(workers.submit(() -> searchWorker(root, player, question, deadline, random)));
+        }
+        for (Future<Arm> future : futures) {
+          merged.add(future.get());
+        }
+      } catch (RejectedExecutionException e) {
+        throw new IllegalStateException("Bot was closed", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Bot search was interrupted", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("Bot search worker failed", e.getCause());
+      } finally {
+        for (Future<Arm> future : futures) {
+          future.cancel(true); // Only workers still running after a failure
+        }
+      }
+    }
+
+    boolean answer = merged.yesVisits != merged.noVisits
+        ? merged.yesVisits > merged.noVisits
+        : merged.yesValue() >= merged.noValue();
+    Decision decision = new Decision(answer, merged.yesVisits + merged.noVisits,
+        merged.yesValue(), merged.noValue(), System.nanoTime() - start);
+    Logger.debug("Bot " + question + " for seat " + player + ": " + answer + " after " + decision.playouts()
+        + " playouts (" + Math.round(decision.playoutsPerSecond()) + "/s), yes " + decision.yesValue()
+        + ", no " + decision.noValue());
+    return decision;
+  }
+
+  /**
+   * Picks answers with UCB1 and runs one playout per pick until the deadline.
+   */
+  private Arm searchWorker(MonopolyState root, int player, Question question, long deadline,
+                           SplittableRandom random) {
+    Arm arm = new Arm();
+    do {
+      boolean yes;
+      if (arm.yesVisits == 0 || arm.noVisits == 0) {
+        yes = arm.yesVisits == 0;
+      } else {
+        double logTotal = Math.log(arm.yesVisits + arm.noVisits);
+        double yesBound = arm.yesValue() + EXPLORATION * Math.sqrt(logTotal / arm.yesVisits);
+        double noBound = arm.noValue() + EXPLORATION * Math.sqrt(logTotal / arm.noVisits);
+        yes = yesBound >= noBound;
+      }
+      double score = playout(answer(root, player, question, yes, random), player, random);
+      if (yes) {
+        arm.yesVisits++;
+        arm.yesScore += score;
+      } else {
+        arm.noVisits++;
+        arm.noScore += score;
+      }
+    } while (arm.yesVisits == 0 || arm.noVisits == 0 || System.nanoTime() < deadline);
+    return arm;
+  }
+
+  /**
+   * Applies an answer to the root state.
+   */
+  private MonopolyState answer(MonopolyState root, int player, Question question, boolean yes,
+                               SplittableRandom random) {
+    return switch (question) {
+      case PURCHASE -> yes ? rules.purchaseProperty(root, player) : root;
+      case USE_JAIL_CARD -> rules.playTurn(root, TWO_DICE[random.nextInt(36)], yes);
+    };
+  }
+
+  /**
+   * Plays the game on with random dice and a simple buying policy, and scores it for the player.
+   */
+  private double playout(MonopolyState state, int player, SplittableRandom random) {
+    for (int turn = 0; turn < MAX_PLAYOUT_TURNS && !rules.isFinished(state); turn++) {
+      int mover = state.getCurrentPlayer();
+      state = rules.playTurn(state, TWO_DICE[random.nextInt(36)]);
+      if (rules.canPurchase(state, mover) && random.nextDouble() < PLAYOUT_BUY_PROBABILITY) {
+        state = rules.purchaseProperty(state, mover);
+      }
+    }
+    if (rules.isFinished(state)) {
+      return rules.getWinner(state) == player ? 1.0 : 0.0;
+    }
+    long total = 0;
+    for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+      total += rules.getNetWorth(state, seat);
+    }
+    return total == 0 ? 0.0 : (double) rules.getNetWorth(state, player) / total;
+  }
+
+  /**
+   * Visit counts and score sums of the two answers, for one worker or merged.
+   */
+  private static final class Arm {
+    private long yesVisits;
+    private long noVisits;
+    private double yesScore;
+    private double noScore;
+
+    private double yesValue() {
+      return yesVisits == 0 ? 0.0 : yesScore / yesVisits;
+    }
+
+    private double noValue() {
+      return noVisits == 0 ? 0.0 : noScore / noVisits;
+    }
+
+    private void add(Arm other) {
+      yesVisits += other.yesVisits;
+      noVisits += other.noVisits;
+      yesScore += other.yesScore;
+      noScore += other.noScore;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package edu.ntnu.idi.bidata.analysis;
+
+/**
+ * Result of a {@link SnakesLaddersRaceSimulator} run: who won how often, and how long the games took.
+ * Seats are numbered in turn order, so seat 0 is the player who rolls first.
+ */
+public class RaceReport {
+  private final long[] winsBySeat;
+  private final long games;
+  private final long unfinishedGames;
+  private final long totalRounds;
+  private final long totalTurns;
+  private final int longestGame;
+
+  /**
+   * Creates a report from merged simulation counters.
+   *
+   * @param winsBySeat The number of games won per seat.
+   * @param games The number of simulated games.
+   * @param unfinishedGames The number of games stopped at the round limit without a winner.
+   * @param totalRounds The number of rounds played in finished games, counting the winning round.
+   * @param totalTurns The number of single-player turns played in finished games.
+   * @param longestGame The largest number of rounds a finished game took.
+   */
+  RaceReport(long[] winsBySeat, long games, long unfinishedGames, long totalRounds,
+             long totalTurns, int longestGame) {
+    this.winsBySeat = winsBySeat.clone();
+    this.games = games;
+    this.unfinishedGames = unfinishedGames;
+    this.totalRounds = totalRounds;
+    this.totalTurns = totalTurns;
+    this.longestGame = longestGame;
+  }
+
+  /**
+   * Gets the number of players in every game.
+   *
+   * @return The number of seats.
+   */
+  public int getPlayers() {
+    return winsBySeat.length;
+  }
+
+  /**
+   * Gets the number of simulated games.
+   *
+   * @return The number of games, finished or not.
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games won by a seat.
+   *
+   * @param seat The seat, from 0 to {@link #getPlayers()} - 1.
+   * @return The number of wins.
+   */
+  public long getWins(int seat) {
+    return winsBySeat[seat];
+  }
+
+  /**
+   * Gets the share of all games won by a seat.
+   *
+   * @param seat The seat, from 0 to {@link #getPlayers()} - 1.
+   * @return The number of wins divided by the number of games.
+   */
+  public double getWinRate(int seat) {
+    return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+  }
+
+  /**
+   * Gets the number of games stopped at the round limit without a winner.
+   *
+   * @return The number of unfinished games.
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Gets the mean number of rounds of a finished game.
+   *
+   * @return The mean number of rounds, or 0 if no game finished.
+   */
+  public double getMeanRounds() {
+    long finished = games - unfinishedGames;
+    return finished == 0 ? 0.0 : (double) totalRounds / finished;
+  }
+
+  /**
+   * Gets the mean number of single-player turns of a finished game.
+   *
+   * @return The mean number of turns, or 0 if no game finished.
+   */
+  public double getMeanTurns() {
+    long finished = games - unfinishedGames;
+    return finished == 0 ? 0.0 : (double) totalTurns / finished;
+  }
+
+  /**
+   * Gets the largest number of rounds a finished game took.
+   *
+   * @return The length of the longest game in rounds.
+   */
+  public int getLongestGame() {
+    return longestGame;
+  }
+}
@@ -0,0 +1,307 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.DiceDistribution;
+
+import java.util.Arrays;
+
+/**
+ * The best choice for every Schrödinger box on a Snakes and Ladders board, worked out once and
+ * kept as a lookup table so bots and hints can ask for it in constant time.
+ *
+ * <p>Observing a box sends the token to the start or to the last tile with equal odds; ignoring it
+ * leaves the token where it is. Which is better depends on how far the box is from the finish and
+ * on what the snakes ahead of it do, so the board is solved as a Markov decision process with
+ * value iteration: the value of every tile is updated from the tiles the next roll can reach,
+ * taking the better choice on every box, until the values settle. Two objectives are supported:</p>
+ * <ul>
+ *   <li>{@link Objective#MIN_EXPECTED_TURNS}: finish in as few turns as possible on average.</li>
+ *   <li>{@link Objective#MAX_WIN_PROBABILITY}: finish before any of {@code N} opponents. Each
+ *       opponent is taken to finish on a given turn with probability {@code 1 / E}, where
+ *       {@code E} is the expected game length under the first objective, so every turn spent
+ *       costs a factor {@code (1 - 1/E)^N} of the chance to win. With more opponents, gambling on
+ *       the box pays off sooner.</li>
+ * </ul>
+ *
+ * <p>Dice and movement are the same as in {@link SnakesLaddersSolver}: two six-sided dice unless
+ * a {@link DiceDistribution} is given.</p>
+ */
+public final class SchrodingerPolicy {
+  /**
+   * What the policy optimizes.
+   */
+  public enum Objective {
+    /** Minimize the expected number of turns left. */
+    MIN_EXPECTED_TURNS,
+    /** Maximize the probability of finishing before all opponents. */
+    MAX_WIN_PROBABILITY
+  }
+
+  private final Objective objective;
+  private final int opponents;
+  private final boolean[] boxes;
+  private final boolean[] observe;
+  private final double[] observeValues;
+  private final double[] ignoreValues;
+  private final double startValue;
+
+  private SchrodingerPolicy(Objective objective, int opponents, boolean[] boxes, boolean[] observe,
+                            double[] observeValues, double[] ignoreValues, double startValue) {
+    this.objective = objective;
+    this.opponents = opponents;
+    this.boxes = boxes;
+    this.observe = observe;
+    this.observeValues = observeValues;
+    this.ignoreValues = ignoreValues;
+    this.startValue = startValue;
+  }
+
+  /**
+   * Solves the policy that minimizes the expected number of turns.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @return The policy for every box on the board.
+   * @throws InvalidParameterException if the board is empty, has gaps in its tile ids or its
+   *                                   snakes and ladders loop.
+   */
+  public static SchrodingerPolicy minimizeTurns(Board board) {
+    return minimizeTurns(board, SnakesLaddersSolver.STANDARD_DICE);
+  }
+
+  /**
+   * Solves the policy that minimizes the expected number of turns with other dice.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param dice The distribution of the sum of the dice, e.g. {@link edu.ntnu.idi.bidata.model.Dice#getDistribution()}.
+   * @return The policy for every box on the board.
+   * @throws InvalidParameterException if the board is empty, has gaps in its tile ids or its
+   *                                   snakes and ladders loop, or the dice are null.
+   */
+  public static SchrodingerPolicy minimizeTurns(Board board, DiceDistribution dice) {
+    return solve(SnakesLaddersSolver.jumpsOf(board), SnakesLaddersSolver.boxesOf(board), dice,
+        Objective.MIN_EXPECTED_TURNS, 0);
+  }
+
+  /**
+   * Solves the policy that maximizes the probability of finishing before the opponents.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param opponents The number of opponents, at least 1.
+   * @return The policy for every box on the board.
+   * @throws InvalidParameterException if the board is invalid or there are no opponents.
+   */
+  public static SchrodingerPolicy maximizeWinProbability(Board board, int opponents) {
+    return maximizeWinProbability(board, SnakesLaddersSolver.STANDARD_DICE, opponents);
+  }
+
+  /**
+   * Solves the policy that maximizes the probability of finishing before the opponents with other dice.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param dice The distribution of the sum of the dice, e.g. {@link edu.ntnu.idi.bidata.model.Dice#getDistribution()}.
+   * @param opponents The number of opponents, at least 1.
+   * @return The policy for every box on the board.
+   * @throws InvalidParameterException if the board is invalid, the dice are null or there are no opponents.
+   */
+  public static SchrodingerPolicy maximizeWinProbability(Board board, DiceDistribution dice, int opponents) {
+    return solve(SnakesLaddersSolver.jumpsOf(board), SnakesLaddersSolver.boxesOf(board), dice,
+        Objective.MAX_WIN_PROBABILITY, opponents);
+  }
+
+  /**
+   * Solves the policy for a board given as arrays, played with two six-sided dice.
+   *
+   * @param jumps For every tile, the tile a snake or ladder on it leads to, or the tile itself.
+   * @param boxes For every tile, whether it holds a Schrödinger box.
+   * @param objective What to optimize.
+   * @param opponents The number of opponents; only used for {@link Objective#MAX_WIN_PROBABILITY}.
+   * @return The policy.
+   * @throws InvalidParameterException if the arguments are invalid or the jumps loop.
+   */
+  static SchrodingerPolicy solve(int[] jumps, boolean[] boxes, Objective objective, int opponents) {
+    return solve(jumps, boxes, SnakesLaddersSolver.STANDARD_DICE, objective, opponents);
+  }
+
+  /**
+   * Solves the policy for a board given as arrays, played with the given dice.
+   *
+   * @throws InvalidParameterException if the arguments are invalid, the dice are null or the jumps loop.
+   */
+  static SchrodingerPolicy solve(int[] jumps, boolean[] boxes, DiceDistribution dice,
+                                 Objective objective, int opponents) {
+    if (dice == null) {
+      throw new InvalidParameterException("Dice distribution must not be null");
+    }
+    if (jumps.length == 0 || jumps.length != boxes.length) {
+      throw new InvalidParameterException("Jump and box arrays must be non-empty and of equal length");
+    }
+    if (objective == null) {
+      throw new InvalidParameterException("Objective must not be null");
+    }
+    if (objective == Objective.MAX_WIN_PROBABILITY && opponents < 1) {
+      throw new InvalidParameterException("There must be at least one opponent to win against");
+    }
+    SnakesLaddersSolver.chainLengths(jumps); // Rejects loops
+    int[] rest = SnakesLaddersSolver.restingTiles(jumps);
+
+    double[] turns = iterate(rest, boxes, dice, Objective.MIN_EXPECTED_TURNS, 0);
+    if (objective == Objective.MIN_EXPECTED_TURNS) {
+      return tabulate(rest, boxes, objective, 0, turns, 0);
+    }
+    double survival = Double.isFinite(turns[0])
+        ? Math.pow(1 - 1 / Math.max(1, turns[0]), opponents)
+        : 1; // Opponents never finish either, so only finishing matters
+    double[] winProbabilities = iterate(rest, boxes, dice, objective, survival);
+    return tabulate(rest, boxes, objective, opponents, winProbabilities, survival);
+  }
+
+  /**
+   * Runs Gauss-Seidel value iteration from the last tile back to the start.
+   * For turns, {@code V(t) = 1 + sum p U(x)}; for wins, {@code V(t) = sum p U(x)}, where
+   * {@code U} is the value of resting on {@code x} after the move (see {@link #restValue}).
+   */
+  private static double[] iterate(int[] rest, boolean[] boxes, DiceDistribution dice,
+                                  Objective objective, double survival) {
+    int last = rest.length - 1;
+    double[] values = new double[rest.length];
+    boolean turns = objective == Objective.MIN_EXPECTED_TURNS;
+    for (int sweep = 0; sweep < SnakesLaddersSolver.MAX_SWEEPS; sweep++) {
+      double maxChange = 0;
+      for (int tile = last - 1; tile >= 0; tile--) {
+        double value = turns ? 1 : 0;
+        for (int roll = dice.getMinSum(); roll <= dice.getMaxSum(); roll++) {
+          double probability = dice.getProbability(roll);
+          if (probability == 0) continue;
+          int end = rest[Math.min(last, tile + roll)];
+          value += probability * bestRestValue(values, boxes, end, objective, survival);
+        }
+        maxChange = Math.max(maxChange, Math.abs(value - values[tile]) / Math.max(1, value));
+        values[tile] = value;
+      }
+      if (turns && values[0] > SnakesLaddersSolver.MAX_TURNS) {
+        break;
+      }
+      if (maxChange < SnakesLaddersSolver.TOLERANCE) {
+        return values;
+      }
+    }
+    Arrays.fill(values, 0, last, Double.POSITIVE_INFINITY); // Only reachable for turns
+    return values;
+  }
+
+  private static double bestRestValue(double[] values, boolean[] boxes, int tile,
+                                      Objective objective, double survival) {
+    double ignore = restValue(values, tile, objective, survival, false);
+    if (!boxes[tile]) {
+      return ignore;
+    }
+    double observe = restValue(values, tile, objective, survival, true);
+    return objective == Objective.MIN_EXPECTED_TURNS ? Math.min(ignore, observe) : Math.max(ignore, observe);
+  }
+
+  /**
+   * The value of resting on a tile after a move, when the box on it (if any) is observed or not.
+   * Resting on the last tile ends the game; in the win objective the opponents then play their
+   * turns before ours, which they all survive with probability {@code survival}.
+   */
+  private static double restValue(double[] values, int tile, Objective objective, double survival, boolean observe) {
+    int last = values.length - 1;
+    boolean turns = objective == Objective.MIN_EXPECTED_TURNS;
+    if (tile == last) {
+      return turns ? 0 : 1;
+    }
+    if (observe) {
+      return turns ? values[0] / 2 : (survival * values[0] + 1) / 2;
+    }
+    return turns ? values[tile] : survival * values[tile];
+  }
+
+  private static SchrodingerPolicy tabulate(int[] rest, boolean[] boxes, Objective objective, int opponents,
+                                            double[] values, double survival) {
+    int size = rest.length;
+    boolean[] observe = new boolean[size];
+    double[] observeValues = new double[size];
+    double[] ignoreValues = new double[size];
+    Arrays.fill(observeValues, Double.NaN);
+    Arrays.fill(ignoreValues, Double.NaN);
+    for (int tile = 0; tile < size; tile++) {
+      if (!boxes[tile] || rest[tile] != tile) continue; // A box under a snake or ladder is never rested on
+      observeValues[tile] = restValue(values, tile, objective, survival, true);
+      ignoreValues[tile] = restValue(values, tile, objective, survival, false);
+      observe[tile] = objective == Objective.MIN_EXPECTED_TURNS
+          ? observeValues[tile] < ignoreValues[tile]
+          : observeValues[tile] > ignoreValues[tile];
+    }
+    double startValue = size == 1 ? (objective == Objective.MIN_EXPECTED_TURNS ? 0 : 1) : values[0];
+    return new SchrodingerPolicy(objective, opponents, boxes.clone(), observe, observeValues, ignoreValues, startValue);
+  }
+
+  /**
+   * Tells whether the box on a tile should be observed. Ties are resolved as ignore.
+   *
+   * @param tileId The tile the player rests on.
+   * @return true if observing is strictly better; false for tiles without a box.
+   */
+  public boolean shouldObserve(int tileId) {
+    return tileId >= 0 && tileId < observe.length && observe[tileId];
+  }
+
+  /**
+   * Tells whether the policy has a choice for a tile.
+   *
+   * @param tileId The tile id.
+   * @return true if the tile holds a Schrödinger box.
+   */
+  public boolean hasBox(int tileId) {
+    return tileId >= 0 && tileId < boxes.length && boxes[tileId];
+  }
+
+  /**
+   * Gets the value of observing the box on a tile: the expected turns left, or the win
+   * probability, depending on the {@link #getObjective() objective}.
+   *
+   * @param tileId The tile id.
+   * @return The value, or {@link Double#NaN} if the tile has no box to choose on.
+   */
+  public double getObserveValue(int tileId) {
+    return tileId >= 0 && tileId < observeValues.length ? observeValues[tileId] : Double.NaN;
+  }
+
+  /**
+   * Gets the value of ignoring the box on a tile, in the same unit as {@link #getObserveValue(int)}.
+   *
+   * @param tileId The tile id.
+   * @return The value, or {@link Double#NaN} if the tile has no box to choose on.
+   */
+  public double getIgnoreValue(int tileId) {
+    return tileId >= 0 && tileId < ignoreValues.length ? ignoreValues[tileId] : Double.NaN;
+  }
+
+  /**
+   * Gets the value of the start tile when the policy is followed.
+   *
+   * @return The expected number of turns, or the win probability.
+   */
+  public double getStartValue() {
+    return startValue;
+  }
+
+  /**
+   * Gets what the policy optimizes.
+   *
+   * @return The objective.
+   */
+  public Objective getObjective() {
+    return objective;
+  }
+
+  /**
+   * Gets the number of opponents the policy was solved for.
+   *
+   * @return The number of opponents; 0 for {@link Objective#MIN_EXPECTED_TURNS}.
+   */
+  public int getOpponents() {
+    return opponents;
+  }
+}
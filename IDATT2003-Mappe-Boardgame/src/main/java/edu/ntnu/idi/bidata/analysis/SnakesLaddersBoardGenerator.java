@@ -0,0 +1,417 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.util.JsonUtils;
+import edu.ntnu.idi.bidata.util.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates Snakes and Ladders boards that meet fairness targets: an expected game length,
+ * a variance of the game length and a maximum number of chained snakes and ladders.
+ * Boards are written in the same JSON format as {@code /data/boards/snakes_and_ladders.json},
+ * including {@code SchrodingerBoxAction} tiles, so they load with
+ * {@link edu.ntnu.idi.bidata.factory.BoardFactory#createFromJson}.
+ *
+ * <p>The search starts from a random layout and improves it generation by generation: every
+ * generation makes {@link #CANDIDATES_PER_GENERATION} variations of the best layout so far
+ * (one snake, ladder or box moved) and keeps the best of them if it scores better. Candidates are
+ * scored exactly with {@link SnakesLaddersSolver} on a fixed thread pool. Layouts that were
+ * already scored, in this or an earlier generation, are looked up instead of solved again.</p>
+ *
+ * <p>All random choices are made on the calling thread from one seed, and ties are broken by
+ * candidate order, so the same seed gives the same board for any number of threads.
+ * This class is not meant to be instantiated.</p>
+ */
+public final class SnakesLaddersBoardGenerator {
+  /** Number of variations scored in every generation. */
+  public static final int CANDIDATES_PER_GENERATION = 64;
+  /** Default number of generations before the search gives up on the targets. */
+  public static final int DEFAULT_MAX_GENERATIONS = 300;
+
+  private static final int MIN_JUMP_LENGTH = 3;
+  private static final int PLACEMENT_ATTEMPTS = 200;
+
+  /**
+   * What to put on the board.
+   *
+   * @param tileCount The number of tiles, at least 13.
+   * @param ladders The number of ladders.
+   * @param snakes The number of snakes.
+   * @param schrodingerBoxes The number of Schrödinger box tiles.
+   * @param observeProbability The probability that a player observes a box, used when scoring.
+   */
+  public record Spec(int tileCount, int ladders, int snakes, int schrodingerBoxes,
+                     double observeProbability) {
+    /**
+     * Validates the spec.
+     *
+     * @throws InvalidParameterException if any value is out of range or the items do not fit.
+     */
+    public Spec {
+      if (tileCount < 13) {
+        throw new InvalidParameterException("A generated board needs at least 13 tiles");
+      }
+      if (ladders < 0 || snakes < 0 || schrodingerBoxes < 0) {
+        throw new InvalidParameterException("Ladder, snake and box counts must not be negative");
+      }
+      if (ladders + snakes + schrodingerBoxes > (tileCount - 2) / 2) {
+        throw new InvalidParameterException("At most half of the inner tiles can hold a snake, ladder or box");
+      }
+      if (!(observeProbability >= 0 && observeProbability <= 1)) {
+        throw new InvalidParameterException("Observe probability must be between 0 and 1");
+      }
+    }
+  }
+
+  /**
+   * The fairness targets a board should meet.
+   *
+   * @param expectedTurns The wanted expected number of turns for one token.
+   * @param turnsVariance The wanted variance of the number of turns.
+   * @param maxChainLength The largest allowed number of chained snakes and ladders, at least 1.
+   * @param tolerance The allowed relative deviation of the expected turns and of the variance,
+   *                  e.g. 0.05 for 5 %.
+   */
+  public record Targets(double expectedTurns, double turnsVariance, int maxChainLength,
+                        double tolerance) {
+    /**
+     * Validates the targets.
+     *
+     * @throws InvalidParameterException if any value is out of range.
+     */
+    public Targets {
+      if (!(expectedTurns > 0) || !(turnsVariance > 0) || !(tolerance > 0)) {
+        throw new InvalidParameterException("Expected turns, variance and tolerance must be positive");
+      }
+      if (maxChainLength < 1) {
+        throw new InvalidParameterException("Maximum chain length must be at least 1");
+      }
+    }
+
+    private double score(BoardMetrics metrics) {
+      if (!metrics.isFinite() || metrics.maxChainLength() > maxChainLength) {
+        return Double.POSITIVE_INFINITY;
+      }
+      double turnsError = (metrics.expectedTurns() - expectedTurns) / expectedTurns;
+      double varianceError = (metrics.turnsVariance() - turnsVariance) / turnsVariance;
+      return turnsError * turnsError + varianceError * varianceError;
+    }
+
+    /**
+     * Tells whether the metrics of a board meet these targets.
+     *
+     * @param metrics The metrics to check.
+     * @return true if both deviations are within the tolerance and the chains are short enough.
+     */
+    public boolean isMetBy(BoardMetrics metrics) {
+      return metrics.isFinite()
+          && metrics.maxChainLength() <= maxChainLength
+          && Math.abs(metrics.expectedTurns() - expectedTurns) <= tolerance * expectedTurns
+          && Math.abs(metrics.turnsVariance() - turnsVariance) <= tolerance * turnsVariance;
+    }
+  }
+
+  /**
+   * The outcome of a search.
+   *
+   * @param json The board in {@code snakes_and_ladders} JSON format.
+   * @param metrics The metrics of the board.
+   * @param targetsMet Whether the board meets the targets; if not, it is the closest one found.
+   * @param generations The number of generations run.
+   * @param evaluations The number of layouts solved.
+   * @param cacheHits The number of candidates whose score was looked up instead of solved.
+   */
+  public record Result(String json, BoardMetrics metrics, boolean targetsMet,
+                       int generations, long evaluations, long cacheHits) { }
+
+  /**
+   * A board layout: where every tile leads (itself if nothing) and which tiles hold a box.
+   * Used as the cache key, so layouts reached in different ways are scored once.
+   */
+  private static final class Layout {
+    private final int[] jumps;
+    private final boolean[] boxes;
+
+    private Layout(int[] jumps, boolean[] boxes) {
+      this.jumps = jumps;
+      this.boxes = boxes;
+    }
+
+    private Layout copy() {
+      return new Layout(jumps.clone(), boxes.clone());
+    }
+
+    private boolean isFree(int tile) {
+      return jumps[tile] == tile && !boxes[tile];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Layout other && Arrays.equals(jumps, other.jumps) && Arrays.equals(boxes, other.boxes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Arrays.hashCode(jumps) + Arrays.hashCode(boxes);
+    }
+  }
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private SnakesLaddersBoardGenerator() { }
+
+  /**
+   * Searches for a board using one worker thread per available processor and
+   * {@link #DEFAULT_MAX_GENERATIONS} generations at most.
+   *
+   * @param spec What to put on the board.
+   * @param targets The fairness targets.
+   * @param seed The seed for all random choices.
+   * @return The best board found.
+   * @throws InvalidParameterException if the items cannot be placed within the chain limit.
+   */
+  public static Result generate(Spec spec, Targets targets, long seed) {
+    return generate(spec, targets, seed, DEFAULT_MAX_GENERATIONS,
+        Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Searches for a board on the given number of worker threads.
+   *
+   * @param spec What to put on the board.
+   * @param targets The fairness targets.
+   * @param seed The seed for all random choices.
+   * @param maxGenerations The number of generations after which the closest board is returned.
+   * @param threads The number of worker threads to use.
+   * @return The best board found.
+   * @throws InvalidParameterException if an argument is invalid or the items cannot be placed
+   *                                   within the chain limit.
+   * @throws IllegalStateException if a worker fails or the search is interrupted.
+   */
+  public static Result generate(Spec spec, Targets targets, long seed, int maxGenerations, int threads) {
+    if (spec == null || targets == null) {
+      throw new InvalidParameterException("Spec and targets must not be null");
+    }
+    if (maxGenerations < 0 || threads < 1) {
+      throw new InvalidParameterException("Generations must not be negative and threads must be at least 1");
+    }
+
+    SplittableRandom random = new SplittableRandom(seed);
+    Map<Layout, BoardMetrics> cache = new HashMap<>();
+    long evaluations = 0;
+    long cacheHits = 0;
+    long start = System.nanoTime();
+    Logger.info("Generating a " + spec.tileCount() + "-tile board using " + threads + " thread(s).");
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      Layout best = randomLayout(spec, targets, random);
+      BoardMetrics bestMetrics = SnakesLaddersSolver.solve(best.jumps, best.boxes, spec.observeProbability());
+      cache.put(best, bestMetrics);
+      evaluations++;
+      double bestScore = targets.score(bestMetrics);
+
+      int generation = 0;
+      while (generation < maxGenerations && !targets.isMetBy(bestMetrics)) {
+        generation++;
+        List<Layout> candidates = new ArrayList<>(CANDIDATES_PER_GENERATION);
+        for (int i = 0; i < CANDIDATES_PER_GENERATION; i++) {
+          candidates.add(mutate(best, spec, targets, random));
+        }
+
+        // Solve each new layout once; repeats within the generation share the result
+        Map<Layout, Future<BoardMetrics>> pending = new HashMap<>();
+        for (Layout candidate : candidates) {
+          if (cache.containsKey(candidate) || pending.containsKey(candidate)) {
+            cacheHits++;
+          } else {
+            Callable<BoardMetrics> task = () ->
+                SnakesLaddersSolver.solve(candidate.jumps, candidate.boxes, spec.observeProbability());
+            pending.put(candidate, executor.submit(task));
+          }
+        }
+        for (Map.Entry<Layout, Future<BoardMetrics>> entry : pending.entrySet()) {
+          cache.put(entry.getKey(), entry.getValue().get());
+        }
+        evaluations += pending.size();
+
+        for (Layout candidate : candidates) {
+          BoardMetrics metrics = cache.get(candidate);
+          double score = targets.score(metrics);
+          if (score < bestScore) {
+            best = candidate;
+            bestMetrics = metrics;
+            bestScore = score;
+          }
+        }
+      }
+
+      boolean met = targets.isMetBy(bestMetrics);
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      Logger.info("Board generation " + (met ? "met" : "did not meet") + " the targets after " + generation
+          + " generation(s), " + evaluations + " evaluation(s) and " + cacheHits + " cache hit(s) in "
+          + elapsedMillis + " ms.");
+      return new Result(toJson(best), bestMetrics, met, generation, evaluations, cacheHits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Board generation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Board evaluation worker failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Layout randomLayout(Spec spec, Targets targets, SplittableRandom random) {
+    int size = spec.tileCount();
+    int[] jumps = new int[size];
+    for (int i = 0; i < size; i++) {
+      jumps[i] = i;
+    }
+    Layout layout = new Layout(jumps, new boolean[size]);
+    for (int i = 0; i < spec.ladders(); i++) {
+      placeJump(layout, true, targets, random);
+    }
+    for (int i = 0; i < spec.snakes(); i++) {
+      placeJump(layout, false, targets, random);
+    }
+    for (int i = 0; i < spec.schrodingerBoxes(); i++) {
+      placeBox(layout, random);
+    }
+    return layout;
+  }
+
+  /**
+   * Makes a copy of the layout with one snake, ladder or box moved to a random free spot.
+   */
+  private static Layout mutate(Layout parent, Spec spec, Targets targets, SplittableRandom random) {
+    Layout child = parent.copy();
+    int items = spec.ladders() + spec.snakes() + spec.schrodingerBoxes();
+    if (items == 0) {
+      return child;
+    }
+    int pick = random.nextInt(items);
+    int last = child.jumps.length - 1;
+    for (int tile = 1; tile < last; tile++) {
+      boolean jump = child.jumps[tile] != tile;
+      if (!jump && !child.boxes[tile]) continue;
+      if (pick-- > 0) continue;
+
+      if (jump) {
+        boolean ladder = child.jumps[tile] > tile;
+        int target = child.jumps[tile];
+        child.jumps[tile] = tile;
+        if (!tryPlaceJump(child, ladder, targets, random)) {
+          child.jumps[tile] = target; // No room elsewhere; keep it where it was
+        }
+      } else {
+        child.boxes[tile] = false;
+        placeBox(child, random);
+      }
+      break;
+    }
+    return child;
+  }
+
+  private static void placeJump(Layout layout, boolean ladder, Targets targets, SplittableRandom random) {
+    if (!tryPlaceJump(layout, ladder, targets, random)) {
+      throw new InvalidParameterException("Could not place all " + (ladder ? "ladders" : "snakes")
+          + " within a chain length of " + targets.maxChainLength());
+    }
+  }
+
+  /**
+   * Puts a snake or ladder on a random free inner tile, keeping chains acyclic and within the limit.
+   */
+  private static boolean tryPlaceJump(Layout layout, boolean ladder, Targets targets, SplittableRandom random) {
+    int last = layout.jumps.length - 1;
+    int maxLength = Math.max(MIN_JUMP_LENGTH + 1, last / 2);
+    for (int attempt = 0; attempt < PLACEMENT_ATTEMPTS; attempt++) {
+      int tile = random.nextInt(1, last);
+      int length = random.nextInt(MIN_JUMP_LENGTH, maxLength + 1);
+      int target = ladder ? tile + length : tile - length;
+      if (!layout.isFree(tile) || target < 0 || target > last) continue;
+
+      layout.jumps[tile] = target;
+      if (chainWithinLimit(layout.jumps, targets.maxChainLength())) {
+        return true;
+      }
+      layout.jumps[tile] = tile;
+    }
+    return false;
+  }
+
+  private static boolean chainWithinLimit(int[] jumps, int maxChainLength) {
+    try {
+      for (int length : SnakesLaddersSolver.chainLengths(jumps)) {
+        if (length > maxChainLength) {
+          return false;
+        }
+      }
+      return true;
+    } catch (InvalidParameterException e) {
+      return false; // The jumps loop
+    }
+  }
+
+  private static void placeBox(Layout layout, SplittableRandom random) {
+    int last = layout.jumps.length - 1;
+    int tile;
+    do {
+      tile = random.nextInt(1, last);
+    } while (!layout.isFree(tile)); // At most half of the inner tiles are taken, so this ends quickly
+    layout.boxes[tile] = true;
+  }
+
+  /**
+   * Writes a layout in the {@code snakes_and_ladders} board format.
+   */
+  private static String toJson(Layout layout) {
+    JsonArray tiles = new JsonArray();
+    int last = layout.jumps.length - 1;
+    for (int id = 0; id <= last; id++) {
+      JsonObject tile = new JsonObject();
+      tile.addProperty("id", id);
+      if (id < last) {
+        tile.addProperty("nextId", id + 1);
+      }
+      int target = layout.jumps[id];
+      if (target != id) {
+        JsonObject action = new JsonObject();
+        if (target > id) {
+          action.addProperty("type", "LadderAction");
+          action.addProperty("description", "Ladder to " + target + "!");
+          action.addProperty("steps", target - id);
+        } else {
+          action.addProperty("type", "SnakeAction");
+          action.addProperty("description", "Snake down to " + target + "!");
+          action.addProperty("steps", id - target);
+        }
+        tile.add("action", action);
+      } else if (layout.boxes[id]) {
+        JsonObject action = new JsonObject();
+        action.addProperty("type", "SchrodingerBoxAction");
+        action.addProperty("description", "A peculiar, pulsating box appears!");
+        tile.add("action", action);
+      }
+      tiles.add(tile);
+    }
+    JsonObject root = new JsonObject();
+    root.add("tiles", tiles);
+    return JsonUtils.toJson(root);
+  }
+}
@@ -0,0 +1,302 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.util.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo simulator for whole Snakes and Ladders races, built for large sweeps.
+ * Every game is played by the same rules as {@link edu.ntnu.idi.bidata.service.SnakesLaddersService}:
+ * players roll two dice in seat order, follow snakes and ladders, and the first player to rest on
+ * the last tile wins. Schrödinger boxes are ignored, as the service does, unless a
+ * {@link SchrodingerPolicy} is given, in which case boxes the policy would open are observed.
+ *
+ * <p>Instead of one object graph per game, games are played in lock-step batches of
+ * {@link #BATCH_SIZE}. The positions of a batch are kept in one {@code int[]} per seat, the dice of
+ * a batch are rolled into one {@code int[]} before anyone moves, and a move is a single lookup in
+ * a table that maps "tile + roll" straight to the tile the token ends up resting on. Finished games
+ * are swapped to the end of the arrays so the loops only touch games still running.</p>
+ *
+ * <p>The move is done by {@link VectorRaceKernel} with the Vector API when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, as the Maven build does, and by a scalar loop
+ * otherwise. Both kernels draw the same random numbers in the same order, so a seed gives the same
+ * results on either.</p>
+ *
+ * <p>Batches are split over a fixed thread pool and every batch is seeded from its own index,
+ * which makes the result independent of the thread count. This class is not meant to be
+ * instantiated.</p>
+ */
+public final class SnakesLaddersRaceSimulator {
+  /** Number of games advanced together. */
+  public static final int BATCH_SIZE = 1024;
+  /** Number of rounds after which a game is given up as unfinished. */
+  public static final int MAX_ROUNDS = 100_000;
+  private static final boolean VECTOR_AVAILABLE = vectorAvailable();
+
+  /** Sum of two dice for every outcome {@code 6 * (a - 1) + (b - 1)}, so one draw rolls both. */
+  private static final int[] TWO_DICE = new int[36];
+
+  static {
+    for (int i = 0; i < TWO_DICE.length; i++) {
+      TWO_DICE[i] = i / 6 + i % 6 + 2;
+    }
+  }
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private SnakesLaddersRaceSimulator() { }
+
+  private static boolean vectorAvailable() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return false;
+    }
+    try {
+      return VectorRaceKernel.lanes() > 1;
+    } catch (LinkageError e) {
+      Logger.warning("The Vector API could not be loaded; races are simulated with the scalar kernel.", e);
+      return false;
+    }
+  }
+
+  /**
+   * Tells whether races are simulated with the Vector API kernel. That needs the
+   * {@code jdk.incubator.vector} module and vectors of more than one int on this machine.
+   *
+   * @return true if the vector kernel is used, false if the scalar one is.
+   */
+  public static boolean isVectorAvailable() {
+    return VECTOR_AVAILABLE;
+  }
+
+  /**
+   * Runs the simulation using one worker thread per available processor, ignoring Schrödinger boxes.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param players The number of players in every game.
+   * @param games The number of games to simulate.
+   * @param seed The base seed for the random number generators.
+   * @return A {@link RaceReport} with the merged results.
+   * @throws InvalidParameterException if any argument is invalid.
+   */
+  public static RaceReport simulate(Board board, int players, int games, long seed) {
+    return simulate(board, null, players, games, seed, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Runs the simulation on the given number of worker threads.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param policy The policy for Schrödinger boxes, or null to ignore every box.
+   * @param players The number of players in every game.
+   * @param games The number of games to simulate.
+   * @param seed The base seed for the random number generators.
+   * @param threads The number of worker threads to use.
+   * @return A {@link RaceReport} with the merged results.
+   * @throws InvalidParameterException if any argument is invalid or the snakes and ladders loop.
+   * @throws IllegalStateException if a worker fails or the simulation is interrupted.
+   */
+  public static RaceReport simulate(Board board, SchrodingerPolicy policy, int players, int games,
+                                    long seed, int threads) {
+    return simulate(board, policy, players, games, seed, threads, VECTOR_AVAILABLE);
+  }
+
+  /**
+   * Runs the simulation on the given kernel, e.g. to check the kernels against each other.
+   *
+   * @param vectorized Whether the Vector API kernel is used; needs {@link #isVectorAvailable()}.
+   * @throws InvalidParameterException if any argument is invalid or the snakes and ladders loop.
+   * @throws IllegalStateException if the vector kernel is asked for but not available, a worker
+   *                               fails or the simulation is interrupted.
+   */
+  static RaceReport simulate(Board board, SchrodingerPolicy policy, int players, int games,
+                             long seed, int threads, boolean vectorized) {
+    if (players < 1 || games < 1 || threads < 1) {
+      throw new InvalidParameterException("Players, games and threads must all be at least 1");
+    }
+    if (vectorized && !VECTOR_AVAILABLE) {
+      throw new IllegalStateException("The Vector API kernel needs --add-modules jdk.incubator.vector");
+    }
+    Table table = new Table(board, policy);
+    int batches = (games + BATCH_SIZE - 1) / BATCH_SIZE;
+    int workers = Math.min(threads, batches);
+    Logger.info("Simulating " + games + " races of " + players + " player(s) on "
+        + (table.last + 1) + " tiles using " + workers + " thread(s) and the "
+        + (vectorized ? VectorRaceKernel.lanes() + "-lane vector" : "scalar") + " kernel.");
+
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(workers);
+    try {
+      List<Future<Tally>> futures = new ArrayList<>(workers);
+      for (int w = 0; w < workers; w++) {
+        int from = (int) ((long) batches * w / workers);
+        int to = (int) ((long) batches * (w + 1) / workers);
+        futures.add(executor.submit(() -> simulateBatches(table, players, games, from, to, seed, vectorized)));
+      }
+
+      Tally merged = new Tally(players);
+      for (Future<Tally> future : futures) {
+        merged.add(future.get());
+      }
+
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      Logger.info("Race simulation finished in " + elapsedMillis + " ms.");
+      return new RaceReport(merged.wins, games, merged.unfinished, merged.rounds, merged.turns, merged.longest);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Race simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Race simulation worker failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays the batches {@code [from, to)} and returns the worker-local counters.
+   */
+  private static Tally simulateBatches(Table table, int players, int games, int from, int to, long seed,
+                                       boolean vectorized) {
+    Tally tally = new Tally(players);
+    int[] positions = new int[players * BATCH_SIZE];
+    int[] rolls = new int[BATCH_SIZE];
+    for (int batch = from; batch < to; batch++) {
+      int lanes = Math.min(BATCH_SIZE, games - batch * BATCH_SIZE);
+      playBatch(table, players, lanes, positions, rolls,
+          new SplittableRandom(seed + batch * 0x9E3779B97F4A7C15L), tally, vectorized);
+    }
+    return tally;
+  }
+
+  /**
+   * Plays one batch of games to the end. Seat {@code s} of lane {@code i} is at
+   * {@code positions[s * BATCH_SIZE + i]}; lanes {@code [0, active)} are still running.
+   */
+  private static void playBatch(Table table, int players, int lanes, int[] positions, int[] rolls,
+                                SplittableRandom random, Tally tally, boolean vectorized) {
+    int[] landing = table.landing;
+    boolean[] observe = table.observe;
+    int last = table.last;
+    Arrays.fill(positions, 0);
+    int active = lanes;
+
+    for (int round = 1; round <= MAX_ROUNDS && active > 0; round++) {
+      for (int seat = 0; seat < players && active > 0; seat++) {
+        int base = seat * BATCH_SIZE;
+        for (int i = 0; i < active; i++) {
+          rolls[i] = TWO_DICE[random.nextInt(36)];
+        }
+        boolean finished = vectorized
+            ? VectorRaceKernel.move(landing, positions, base, rolls, active, last)
+            : move(landing, positions, base, rolls, active, last);
+        if (table.hasObservedBoxes) {
+          for (int i = 0; i < active; i++) {
+            if (observe[positions[base + i]]) {
+              positions[base + i] = random.nextBoolean() ? 0 : last;
+              finished |= positions[base + i] == last;
+            }
+          }
+        }
+        if (!finished) {
+          continue;
+        }
+
+        // Retire the lanes this seat just won by swapping the last running lane into their place
+        for (int i = 0; i < active; i++) {
+          if (positions[base + i] != last) continue;
+          tally.wins[seat]++;
+          tally.rounds += round;
+          tally.turns += (long) (round - 1) * players + seat + 1;
+          tally.longest = Math.max(tally.longest, round);
+          active--;
+          for (int s = 0; s < players; s++) {
+            positions[s * BATCH_SIZE + i] = positions[s * BATCH_SIZE + active];
+          }
+          i--;
+        }
+      }
+    }
+    tally.unfinished += active;
+  }
+
+  /**
+   * The scalar kernel: moves one seat in the running games {@code [0, active)} of a batch, like
+   * {@link VectorRaceKernel#move}.
+   *
+   * @return true if a game now rests on the last tile.
+   */
+  private static boolean move(int[] landing, int[] positions, int base, int[] rolls, int active, int last) {
+    boolean finished = false;
+    for (int i = 0; i < active; i++) {
+      int rest = landing[positions[base + i] + rolls[i]];
+      positions[base + i] = rest;
+      finished |= rest == last;
+    }
+    return finished;
+  }
+
+  /**
+   * The board as lookup tables shared by all workers.
+   */
+  private static final class Table {
+    /** For every {@code tile + roll}, the tile the token rests on after the move. */
+    private final int[] landing;
+    /** For every tile, whether a box on it is observed. */
+    private final boolean[] observe;
+    private final boolean hasObservedBoxes;
+    private final int last;
+
+    private Table(Board board, SchrodingerPolicy policy) {
+      int[] jumps = SnakesLaddersSolver.jumpsOf(board);
+      SnakesLaddersSolver.chainLengths(jumps); // Rejects loops
+      int[] rest = SnakesLaddersSolver.restingTiles(jumps);
+      last = jumps.length - 1;
+
+      landing = new int[jumps.length + SnakesLaddersSolver.MAX_ROLL];
+      for (int i = 0; i < landing.length; i++) {
+        landing[i] = rest[Math.min(last, i)]; // Player.move stops at the last tile
+      }
+      observe = new boolean[jumps.length];
+      boolean any = false;
+      for (int tile = 0; tile < last && policy != null; tile++) {
+        observe[tile] = policy.shouldObserve(tile);
+        any |= observe[tile];
+      }
+      hasObservedBoxes = any;
+    }
+  }
+
+  /**
+   * Counters of one worker.
+   */
+  private static final class Tally {
+    private final long[] wins;
+    private long unfinished;
+    private long rounds;
+    private long turns;
+    private int longest;
+
+    private Tally(int players) {
+      wins = new long[players];
+    }
+
+    private void add(Tally other) {
+      for (int seat = 0; seat < wins.length; seat++) {
+        wins[seat] += other.wins[seat];
+      }
+      unfinished += other.unfinished;
+      rounds += other.rounds;
+      turns += other.turns;
+      longest = Math.max(longest, other.longest);
+    }
+  }
+}
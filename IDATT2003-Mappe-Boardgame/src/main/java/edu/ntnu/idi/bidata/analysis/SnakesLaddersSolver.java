@@ -0,0 +1,316 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.Dice;
+import edu.ntnu.idi.bidata.model.DiceDistribution;
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.LadderAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SnakeAction;
+
+import java.util.Arrays;
+
+/**
+ * Exact solver for the game length of a Snakes and Ladders board.
+ * The game of one token is an absorbing Markov chain over the tiles: every turn rolls the dice
+ * (two six-sided ones unless a {@link DiceDistribution} is given, as in
+ * {@link edu.ntnu.idi.bidata.service.SnakesLaddersService}), moves forward and stops on
+ * the last tile if the roll overshoots it, and then follows snakes and ladders until it rests on
+ * a tile without one. On a {@link SchrodingerBoxAction} tile the player observes the box with a
+ * given probability, which sends the token to the start or to the last tile with equal odds.
+ *
+ * <p>The expected number of turns {@code E} and its second moment {@code S} satisfy
+ * {@code E = 1 + P E} and {@code S = 1 + 2 P E + P S} on the tiles before the last one. Both are
+ * solved with Gauss-Seidel sweeps from the last tile back to the start, which settle in one sweep
+ * on a board without snakes and take a few more for every way back. A sweep costs
+ * {@code O(tiles)}, so boards with many thousands of tiles are solved without dense matrices.</p>
+ *
+ * <p>Tile ids are expected to run from 0 to {@code size - 1} along the board, as in the
+ * bundled boards. This class is not meant to be instantiated.</p>
+ */
+public final class SnakesLaddersSolver {
+  /** Distribution of the sum of the two six-sided dice the games are played with. */
+  static final DiceDistribution STANDARD_DICE = new Dice(2).getDistribution();
+  /** Smallest sum of two dice. */
+  static final int MIN_ROLL = STANDARD_DICE.getMinSum();
+  /** Largest sum of two dice. */
+  static final int MAX_ROLL = STANDARD_DICE.getMaxSum();
+  /** Largest relative change of a value at which a sweep counts as settled; shared with {@link SchrodingerPolicy}. */
+  static final double TOLERANCE = 1e-12;
+  /** Most value-iteration sweeps before giving up. */
+  static final int MAX_SWEEPS = 200_000;
+  /** Expected number of turns above which a game is treated as one that never ends. */
+  static final double MAX_TURNS = 1e9;
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private SnakesLaddersSolver() { }
+
+  /**
+   * Computes the metrics of a Snakes and Ladders board.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param observeProbability The probability that a player observes a Schrödinger box they
+   *                           rest on, between 0 (always ignore) and 1 (always observe).
+   * @return The game length metrics of the board.
+   * @throws InvalidParameterException if the board is empty, has gaps in its tile ids, has
+   *                                   snakes and ladders that loop, or the probability is invalid.
+   */
+  public static BoardMetrics solve(Board board, double observeProbability) {
+    return solve(board, STANDARD_DICE, observeProbability);
+  }
+
+  /**
+   * Computes the metrics of a Snakes and Ladders board played with other dice.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @param dice The distribution of the sum of the dice, e.g. {@link Dice#getDistribution()}.
+   * @param observeProbability The probability that a player observes a Schrödinger box they
+   *                           rest on, between 0 (always ignore) and 1 (always observe).
+   * @return The game length metrics of the board.
+   * @throws InvalidParameterException if the board is empty, has gaps in its tile ids, has
+   *                                   snakes and ladders that loop, the dice are null or the
+   *                                   probability is invalid.
+   */
+  public static BoardMetrics solve(Board board, DiceDistribution dice, double observeProbability) {
+    return solve(jumpsOf(board), boxesOf(board), dice, observeProbability);
+  }
+
+  /**
+   * Gets, for every tile of a board, the tile its snake or ladder leads to, or the tile itself.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @return The jump target per tile.
+   * @throws InvalidParameterException if the board is empty or has gaps in its tile ids.
+   */
+  static int[] jumpsOf(Board board) {
+    int size = requireDenseIds(board);
+    int[] jumps = new int[size];
+    for (int id = 0; id < size; id++) {
+      jumps[id] = id;
+      TileAction action = board.getTile(id).getAction();
+      if (action instanceof LadderAction ladder) {
+        jumps[id] = Math.min(size - 1, id + ladder.getSteps()); // Player.move stops at the last tile
+      } else if (action instanceof SnakeAction snake) {
+        jumps[id] = Math.max(0, id - snake.getSteps());
+      }
+    }
+    return jumps;
+  }
+
+  /**
+   * Gets, for every tile of a board, whether it holds a Schrödinger box.
+   *
+   * @param board The board, with tile ids 0 to {@code size - 1}.
+   * @return The box flag per tile.
+   * @throws InvalidParameterException if the board is empty or has gaps in its tile ids.
+   */
+  static boolean[] boxesOf(Board board) {
+    int size = requireDenseIds(board);
+    boolean[] boxes = new boolean[size];
+    for (int id = 0; id < size; id++) {
+      boxes[id] = board.getTile(id).getAction() instanceof SchrodingerBoxAction;
+    }
+    return boxes;
+  }
+
+  private static int requireDenseIds(Board board) {
+    if (board == null || board.getTiles().isEmpty()) {
+      throw new InvalidParameterException("Board must not be null or empty");
+    }
+    int size = board.getTiles().size();
+    for (int id = 0; id < size; id++) {
+      if (board.getTile(id) == null) {
+        throw new InvalidParameterException("Board tile ids must run from 0 to " + (size - 1) + "; " + id + " is missing");
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Computes the metrics of a board given as arrays.
+   *
+   * @param jumps For every tile, the tile a snake or ladder on it leads to, or the tile itself.
+   * @param boxes For every tile, whether it holds a Schrödinger box.
+   * @param observeProbability The probability that a Schrödinger box is observed.
+   * @return The game length metrics.
+   * @throws InvalidParameterException if the arrays do not match, the jumps loop or the probability is invalid.
+   */
+  static BoardMetrics solve(int[] jumps, boolean[] boxes, double observeProbability) {
+    return solve(jumps, boxes, STANDARD_DICE, observeProbability);
+  }
+
+  /**
+   * Computes the metrics of a board given as arrays, played with the given dice.
+   *
+   * @param jumps For every tile, the tile a snake or ladder on it leads to, or the tile itself.
+   * @param boxes For every tile, whether it holds a Schrödinger box.
+   * @param dice The distribution of the sum of the dice.
+   * @param observeProbability The probability that a Schrödinger box is observed.
+   * @return The game length metrics.
+   * @throws InvalidParameterException if the arrays do not match, the jumps loop, the dice are
+   *                                   null or the probability is invalid.
+   */
+  static BoardMetrics solve(int[] jumps, boolean[] boxes, DiceDistribution dice, double observeProbability) {
+    if (dice == null) {
+      throw new InvalidParameterException("Dice distribution must not be null");
+    }
+    if (jumps.length == 0 || jumps.length != boxes.length) {
+      throw new InvalidParameterException("Jump and box arrays must be non-empty and of equal length");
+    }
+    if (!(observeProbability >= 0 && observeProbability <= 1)) {
+      throw new InvalidParameterException("Observe probability must be between 0 and 1");
+    }
+    int size = jumps.length;
+    int[] chainLengths = chainLengths(jumps);
+    int maxChain = 0;
+    for (int length : chainLengths) {
+      maxChain = Math.max(maxChain, length);
+    }
+    if (size == 1) {
+      return new BoardMetrics(0, 0, maxChain);
+    }
+
+    Transitions transitions = new Transitions(jumps, boxes, dice, observeProbability);
+    double[] expected = new double[size];
+    if (!sweep(transitions, expected, null)) {
+      return new BoardMetrics(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, maxChain);
+    }
+    double[] secondMoment = new double[size];
+    if (!sweep(transitions, secondMoment, expected)) {
+      return new BoardMetrics(expected[0], Double.POSITIVE_INFINITY, maxChain);
+    }
+    double variance = Math.max(0, secondMoment[0] - expected[0] * expected[0]);
+    return new BoardMetrics(expected[0], variance, maxChain);
+  }
+
+  /**
+   * Gets, for every tile, how many snakes and ladders are taken one after the other when a
+   * move ends on it.
+   *
+   * @param jumps For every tile, the tile a snake or ladder on it leads to, or the tile itself.
+   * @return The chain length per tile.
+   * @throws InvalidParameterException if the snakes and ladders form a loop.
+   */
+  static int[] chainLengths(int[] jumps) {
+    int[] lengths = new int[jumps.length];
+    for (int start = 0; start < jumps.length; start++) {
+      int tile = start;
+      int length = 0;
+      while (jumps[tile] != tile) {
+        tile = jumps[tile];
+        if (++length > jumps.length) {
+          throw new InvalidParameterException("Snakes and ladders form a loop through tile " + start);
+        }
+      }
+      lengths[start] = length;
+    }
+    return lengths;
+  }
+
+  /**
+   * Gets, for every tile, the tile a move that ends on it finally rests on after following
+   * its snakes and ladders.
+   *
+   * @param jumps For every tile, the tile a snake or ladder on it leads to, or the tile itself.
+   *              Must not loop; see {@link #chainLengths(int[])}.
+   * @return The resting tile per tile.
+   */
+  static int[] restingTiles(int[] jumps) {
+    int[] rest = new int[jumps.length];
+    for (int tile = 0; tile < jumps.length; tile++) {
+      int current = tile;
+      while (jumps[current] != current) {
+        current = jumps[current];
+      }
+      rest[tile] = current;
+    }
+    return rest;
+  }
+
+  /**
+   * Solves {@code X = 1 + P X} (first moment) or {@code X = 1 + 2 P E + P X} (second moment,
+   * when {@code expected} is given) in place.
+   *
+   * @return false if the values do not settle, i.e. the last tile is not reached for sure.
+   */
+  private static boolean sweep(Transitions transitions, double[] values, double[] expected) {
+    int last = values.length - 1;
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double maxChange = 0;
+      for (int tile = last - 1; tile >= 0; tile--) {
+        double stay = 0;
+        double sum = 1;
+        for (int k = transitions.offsets[tile]; k < transitions.offsets[tile + 1]; k++) {
+          int target = transitions.targets[k];
+          double probability = transitions.probabilities[k];
+          if (expected != null) {
+            sum += 2 * probability * expected[target];
+          }
+          if (target == tile) {
+            stay += probability;
+          } else {
+            sum += probability * values[target];
+          }
+        }
+        if (stay >= 1 - TOLERANCE) {
+          return false; // The token can never leave this tile
+        }
+        double value = sum / (1 - stay);
+        maxChange = Math.max(maxChange, Math.abs(value - values[tile]) / Math.max(1, value));
+        values[tile] = value;
+      }
+      if (values[0] > MAX_TURNS * (expected != null ? MAX_TURNS : 1)) {
+        return false;
+      }
+      if (maxChange < TOLERANCE) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Where a turn started on each tile can end, in compressed sparse row form.
+   */
+  private static final class Transitions {
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] probabilities;
+
+    private Transitions(int[] jumps, boolean[] boxes, DiceDistribution dice, double observeProbability) {
+      int size = jumps.length;
+      int last = size - 1;
+      int[] rest = restingTiles(jumps);
+
+      int perTile = (dice.getMaxSum() - dice.getMinSum() + 1) * 3;
+      offsets = new int[size + 1];
+      int[] targetBuffer = new int[size * perTile];
+      double[] probabilityBuffer = new double[size * perTile];
+      int count = 0;
+      for (int tile = 0; tile < size; tile++) {
+        offsets[tile] = count;
+        if (tile == last) continue;
+        for (int roll = dice.getMinSum(); roll <= dice.getMaxSum(); roll++) {
+          double probability = dice.getProbability(roll);
+          if (probability == 0) continue;
+          int end = rest[Math.min(last, tile + roll)];
+          if (boxes[end] && observeProbability > 0) {
+            targetBuffer[count] = 0;
+            probabilityBuffer[count++] = probability * observeProbability / 2;
+            targetBuffer[count] = last;
+            probabilityBuffer[count++] = probability * observeProbability / 2;
+            probability *= 1 - observeProbability;
+          }
+          targetBuffer[count] = end;
+          probabilityBuffer[count++] = probability;
+        }
+      }
+      offsets[size] = count;
+      targets = Arrays.copyOf(targetBuffer, count);
+      probabilities = Arrays.copyOf(probabilityBuffer, count);
+    }
+  }
+}
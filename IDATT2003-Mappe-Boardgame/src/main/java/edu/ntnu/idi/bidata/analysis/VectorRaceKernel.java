@@ -0,0 +1,73 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The move step of {@link SnakesLaddersRaceSimulator} written with the incubating Vector API.
+ * A move of one seat in every running game of a batch is done a vector of lanes at a time: the
+ * rolls are added to the positions, the resting tiles are gathered from the landing table, and
+ * the lanes that rest on the last tile are collected in a mask, so the simulator only looks for
+ * finished games when there are any.
+ *
+ * <p>This class is only loaded when the {@code jdk.incubator.vector} module is present, i.e. the
+ * JVM was started with {@code --add-modules jdk.incubator.vector}; see
+ * {@link SnakesLaddersRaceSimulator#isVectorAvailable()}. This class is not meant to be
+ * instantiated.</p>
+ */
+final class VectorRaceKernel {
+  private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private VectorRaceKernel() { }
+
+  /**
+   * Gets the number of games moved together by one vector operation on this machine.
+   *
+   * @return The number of int lanes of the preferred vector species.
+   */
+  static int lanes() {
+    return SPECIES.length();
+  }
+
+  /**
+   * Moves one seat in the running games {@code [0, active)} of a batch. The games past
+   * {@code active} are left untouched. Overwrites {@code rolls[0, active)} with the tile plus the
+   * roll of every game, which is the index map of the gather.
+   *
+   * @param landing For every {@code tile + roll}, the tile the token rests on after the move.
+   * @param positions The positions of the batch; the seat's games start at {@code base}.
+   * @param base The index of the seat's first game in {@code positions}.
+   * @param rolls The roll of every running game.
+   * @param active The number of running games; at most the room left in {@code rolls}.
+   * @param last The id of the last tile.
+   * @return true if a game now rests on the last tile.
+   */
+  static boolean move(int[] landing, int[] positions, int base, int[] rolls, int active, int last) {
+    VectorMask<Integer> finished = SPECIES.maskAll(false);
+    int bound = SPECIES.loopBound(active);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      IntVector target = IntVector.fromArray(SPECIES, positions, base + i)
+          .add(IntVector.fromArray(SPECIES, rolls, i));
+      target.intoArray(rolls, i);
+      IntVector rest = IntVector.fromArray(SPECIES, landing, 0, rolls, i);
+      rest.intoArray(positions, base + i);
+      finished = finished.or(rest.compare(VectorOperators.EQ, last));
+    }
+    if (i < active) { // The tail, with the games past active masked off
+      VectorMask<Integer> running = SPECIES.indexInRange(i, active);
+      IntVector target = IntVector.fromArray(SPECIES, positions, base + i, running)
+          .add(IntVector.fromArray(SPECIES, rolls, i, running));
+      target.intoArray(rolls, i, running);
+      IntVector rest = IntVector.fromArray(SPECIES, landing, 0, rolls, i, running);
+      rest.intoArray(positions, base + i, running);
+      finished = finished.or(rest.compare(VectorOperators.EQ, last, running));
+    }
+    return finished.anyTrue();
+  }
+}
@@ -1,56 +1,225 @@
 package edu.ntnu.idi.bidata.controller;
 
+import edu.ntnu.idi.bidata.analysis.MonopolyMctsBot;
+import edu.ntnu.idi.bidata.analysis.SchrodingerPolicy;
 import edu.ntnu.idi.bidata.model.Board;
 import edu.ntnu.idi.bidata.model.BoardGame;
 import edu.ntnu.idi.bidata.model.BoardGameObserver;
+import edu.ntnu.idi.bidata.model.BoardProgram;
+import edu.ntnu.idi.bidata.model.DiceDistribution;
+import edu.ntnu.idi.bidata.model.MonopolyState;
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.PlayerRoster;
 import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.model.actions.monopoly.*;
 import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import edu.ntnu.idi.bidata.service.CardService;
 import edu.ntnu.idi.bidata.service.MonopolyService;
+import edu.ntnu.idi.bidata.service.MonopolyStateService;
 import edu.ntnu.idi.bidata.service.ServiceLocator;
 import edu.ntnu.idi.bidata.ui.sl.SnakeLadderGameScene;
 import edu.ntnu.idi.bidata.ui.monopoly.MonopolyGameScene;
 import edu.ntnu.idi.bidata.ui.SceneManager;
 import edu.ntnu.idi.bidata.util.Logger;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 /**
  * The GameController class is responsible for managing the game flow,
  * coordinating between the game model (BoardGame) and the user interface (SceneManager.ControlledScene).
  * It implements BoardGameObserver to react to changes in the game state.
+ *
+ * <p>In auto-play mode the controller plays turns by itself: every frame it plays as many turns
+ * as fit in a time budget, making the usual choices without dialogs (buy affordable properties,
+ * pay rent, open Schrödinger boxes when the {@link SchrodingerPolicy} says it pays off), and then
+ * updates the view once for the whole batch.</p>
+ *
+ * <p>Monopoly players marked with {@link #setBotPlayer(Player, boolean)} are played by a
+ * {@link MonopolyMctsBot}: its answer takes the place of the purchase dialog, and it decides
+ * whether to use a "Get Out of Jail Free" card. Bots and humans can be mixed in one game.</p>
+ *
+ * <p>Turns run on a game executor and every view update is handed to a UI executor. A controller
+ * made with {@link #withGameThread(BoardGame)} plays turns on a dedicated "game-thread" and updates
+ * the view with {@link Platform#runLater(Runnable)}, so the JavaFX Application Thread never waits for
+ * game logic, and game logic never waits in a nested event loop for a dialog: questions to the player
+ * are asked with {@link CompletableFuture}-based prompts and the turn carries on when they are answered.
+ * A controller made with {@link #GameController(BoardGame)} runs everything inline on the calling thread.</p>
  */
 public class GameController implements BoardGameObserver {
     private final BoardGame gameModel;
-    private SceneManager.ControlledScene activeView;
-    private Player currentPlayer;
+    private final Executor gameExecutor; // Runs turns and the model updates they cause
+    private final Executor uiExecutor;   // Runs every call into the view
+    private ExecutorService ownedGameThread; // Set if this controller made its game executor, shut down on dispose
+    private volatile boolean disposed = false;
+    private volatile SceneManager.ControlledScene activeView;
+    private volatile Player currentPlayer;
     private MonopolyService monopolyService;
 
-    private boolean awaitingSchrodingerChoice = false;
-    private Player playerMakingSchrodingerChoice = null;
-    private SchrodingerBoxAction currentSchrodingerAction = null; // Store the action instance
+    private volatile boolean turnInProgress = false; // From the roll until the next player is set up
+    private volatile boolean awaitingSchrodingerChoice = false;
+    private volatile Player playerMakingSchrodingerChoice = null;
+    private volatile SchrodingerBoxAction currentSchrodingerAction = null; // Store the action instance
+    private volatile SchrodingerPolicy schrodingerPolicy = null; // Solved on the first box landing of a game
+    private final Set<Player> botPlayers = ConcurrentHashMap.newKeySet();
+    private volatile MonopolyMctsBot monopolyBot = null; // Built on the first bot decision of a game
+
+    /** Default time per frame spent playing turns in auto-play mode. */
+    public static final long DEFAULT_AUTO_PLAY_BUDGET_NANOS = 8_000_000;
+    /** Time a bot may think about one decision in auto-play mode, so a frame's batch stays within its budget. */
+    public static final long AUTO_PLAY_BOT_BUDGET_NANOS = 1_000_000;
+    private volatile boolean autoPlaying = false;
+    private volatile boolean playingAutoTurns = false; // True while playAutoTurns runs a batch
+    private volatile boolean autoBatchQueued = false;  // True from submitting a batch until its view update ran
+    private volatile long autoPlayBudgetNanos = DEFAULT_AUTO_PLAY_BUDGET_NANOS;
+    private AnimationTimer autoPlayTimer; // Created on first use, needs the JavaFX toolkit
+    private volatile List<Integer> lastAutoPlayRolls = null;
 
     /**
      * Constructs a GameController with the specified game model.
      * It initializes the game model, adds itself as an observer, and attempts to locate the MonopolyService.
+     * Turns and view updates run inline on the calling thread.
      *
      * @param game The BoardGame model instance.
      */
     public GameController(BoardGame game) {
+        this(game, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Constructs a GameController that plays turns on one executor and updates the view on another.
+     *
+     * @param game The BoardGame model instance.
+     * @param gameExecutor The executor turns are played on. Must run tasks one at a time, in order.
+     * @param uiExecutor The executor view updates and prompts run on, e.g. {@code Platform::runLater}.
+     */
+    public GameController(BoardGame game, Executor gameExecutor, Executor uiExecutor) {
         this.gameModel = game;
+        this.gameExecutor = gameExecutor;
+        this.uiExecutor = uiExecutor;
         this.gameModel.addObserver(this);
+        gameExecutor.execute(() -> TurnContext.current().setEventSink(this::onTurnMessage)); // Turns run there
         Logger.info("GameController initialized.");
 
         if (ServiceLocator.getMonopolyService() != null) {
             this.monopolyService = ServiceLocator.getMonopolyService();
+            this.monopolyService.setJailCardChooser(this::usesJailCard);
             Logger.debug("MonopolyService located and assigned.");
         } else {
             Logger.warning("MonopolyService not found via ServiceLocator. Monopoly features might be unavailable.");
         }
     }
 
+    /**
+     * Creates a GameController that plays turns on its own daemon "game-thread" and updates the
+     * view on the JavaFX Application Thread.
+     *
+     * @param game The BoardGame model instance.
+     * @return The new controller.
+     */
+    public static GameController withGameThread(BoardGame game) {
+        ExecutorService gameThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        GameController controller = new GameController(game, gameThread, Platform::runLater);
+        controller.ownedGameThread = gameThread;
+        return controller;
+    }
+
+    /**
+     * Releases what the controller holds once its scene is discarded: stops auto-play, closes the
+     * bot, stops observing the game and shuts down the game thread if the controller made it.
+     * Turns already queued still finish, but no longer update the view. Must be called on the
+     * JavaFX Application Thread; calling it again does nothing.
+     */
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        autoPlaying = false;
+        if (autoPlayTimer != null) {
+            autoPlayTimer.stop();
+        }
+        closeMonopolyBot();
+        gameExecutor.execute(() -> { // After any turn still notifying observers
+            gameModel.removeObserver(this);
+            TurnContext.current().setEventSink(null);
+        });
+        if (ownedGameThread != null) {
+            ownedGameThread.shutdown();
+        }
+        Logger.info("GameController disposed.");
+    }
+
+    /**
+     * Passes on what a tile action tells the players, e.g. a tax paid or a snake slid down. Installed
+     * as the event sink of the game thread's {@link TurnContext}. The message is logged and, in Snakes
+     * and Ladders, shown in the side panel; turns played by auto-play stay silent.
+     */
+    private void onTurnMessage(String message) {
+        if (playingAutoTurns || disposed) {
+            return;
+        }
+        Logger.info(message);
+        if (activeView instanceof SnakeLadderGameScene scene) {
+            onUi(() -> scene.showGameMessage(message));
+        }
+    }
+
+    /**
+     * Runs a view update on the UI executor.
+     */
+    private void onUi(Runnable update) {
+        if (!disposed) {
+            uiExecutor.execute(update);
+        }
+    }
+
+    /**
+     * Asks the view a question on the UI executor. The returned future completes with the answer
+     * on whichever thread the view answers on; continue on the game executor with the async methods.
+     */
+    private <T> CompletableFuture<T> askUi(Supplier<CompletableFuture<T>> prompt) {
+        CompletableFuture<T> answer = new CompletableFuture<>();
+        onUi(() -> {
+            try {
+                prompt.get().whenComplete((result, error) -> {
+                    if (error != null) {
+                        answer.completeExceptionally(error);
+                    } else {
+                        answer.complete(result);
+                    }
+                });
+            } catch (RuntimeException e) {
+                answer.completeExceptionally(e);
+            }
+        });
+        return answer;
+    }
+
+    /**
+     * Ends a turn that could not be completed, so the next roll is accepted again.
+     */
+    private void abortTurn(String reason, Throwable error) {
+        Logger.error(reason, error);
+        turnInProgress = false;
+        onUi(() -> setRollButtonEnabled(!gameModel.isFinished() && this.currentPlayer != null && !awaitingSchrodingerChoice));
+    }
+
     /**
      * Sets the active view (scene) for the game.
      * If the game has already started, it initializes or refreshes the view to reflect the current game state.
@@ -138,29 +307,40 @@ public class GameController implements BoardGameObserver {
         }
 
         this.currentPlayer = gameModel.getCurrentPlayer();
+        turnInProgress = false;
         awaitingSchrodingerChoice = false;
         playerMakingSchrodingerChoice = null;
         currentSchrodingerAction = null; // Reset current action
+        schrodingerPolicy = null; // The players may have changed
+        closeMonopolyBot(); // So may the board and the decks
         Logger.info("First player's turn: " + (this.currentPlayer != null ? this.currentPlayer.getName() : "None"));
 
-
+        Player firstPlayer = this.currentPlayer;
         if (activeView instanceof SnakeLadderGameScene scene) {
             Logger.debug("onGameStart: Schrödinger state reset.");
-            scene.initializeView();
-            scene.hideSchrodingerChoice();
-            if (this.currentPlayer != null) {
-                scene.highlightCurrentPlayer(this.currentPlayer);
-            }
-            scene.setRollButtonEnabled(true);
-            if (scene.getBoardView() != null) scene.getBoardView().refresh();
-            Logger.debug("SnakeLadderGameScene initialized for game start.");
+            onUi(() -> {
+                scene.initializeView();
+                scene.hideSchrodingerChoice();
+                if (firstPlayer != null) {
+                    scene.highlightCurrentPlayer(firstPlayer);
+                }
+                scene.setRollButtonEnabled(true);
+                if (scene.getBoardView() != null) scene.getBoardView().refresh();
+                Logger.debug("SnakeLadderGameScene initialized for game start.");
+            });
         } else if (activeView instanceof MonopolyGameScene scene) {
-            scene.initializeView();
-            if (this.currentPlayer != null) {
-                scene.highlightCurrentPlayer(this.currentPlayer);
+            CardService cardService = getCardService();
+            if (cardService != null) {
+                cardService.setDrawListener(card -> onUi(() -> scene.displayCardImage(card)));
             }
-            scene.setRollButtonEnabled(true);
-            Logger.debug("MonopolyGameScene initialized for game start.");
+            onUi(() -> {
+                scene.initializeView();
+                if (firstPlayer != null) {
+                    scene.highlightCurrentPlayer(firstPlayer);
+                }
+                scene.setRollButtonEnabled(true);
+                Logger.debug("MonopolyGameScene initialized for game start.");
+            });
         }
     }
 
@@ -168,6 +348,8 @@ public class GameController implements BoardGameObserver {
      * Called after a round is played (a player has taken their turn).
      * It updates the UI based on the outcome of the turn, such as player movement,
      * tile actions (e.g., landing on a property, Schrödinger box), and prepares for the next player's turn.
+     * Runs on the game executor; view updates are handed to the UI executor, and a property
+     * purchase prompt is answered asynchronously before the turn is finalized.
      *
      * @param rolls   The list of dice rolls made during the turn.
      * @param players The list of all players in the game.
@@ -179,16 +361,22 @@ public class GameController implements BoardGameObserver {
 
         if (activeView == null) {
             Logger.warning("onRoundPlayed: activeView is null, UI updates will be skipped.");
+            turnInProgress = false;
             return;
         }
 
         Player playerWhoActed = this.currentPlayer;
 
+        if (playingAutoTurns) {
+            resolveAutoPlayTurn(playerWhoActed, rolls);
+            return;
+        }
+
         if(activeView instanceof SnakeLadderGameScene scene) {
             awaitingSchrodingerChoice = false;
             playerMakingSchrodingerChoice = null;
             currentSchrodingerAction = null; // Reset before checking new actions
-            scene.hideSchrodingerChoice();
+            onUi(scene::hideSchrodingerChoice);
             Logger.debug("onRoundPlayed: Schrödinger choice state reset before tile action check.");
 
         }
@@ -201,8 +389,10 @@ public class GameController implements BoardGameObserver {
                 ". Action: " +
                 (landedTile.getAction() != null ? landedTile.getAction().getClass().getSimpleName() : "None"));
 
+            int opcode = opcodeOf(landedTile);
             if(activeView instanceof SnakeLadderGameScene scene) {
-                if (landedTile.getAction() instanceof SchrodingerBoxAction schrodingerActionInstance) {
+                if (opcode == BoardProgram.OP_SCHRODINGER) {
+                    SchrodingerBoxAction schrodingerActionInstance = (SchrodingerBoxAction) landedTile.getAction();
                     this.currentSchrodingerAction = schrodingerActionInstance; // Store the action
                     awaitingSchrodingerChoice = true;
                     playerMakingSchrodingerChoice = playerWhoActed;
@@ -210,48 +400,46 @@ public class GameController implements BoardGameObserver {
                     // Logger.info from action's perform() method should have already fired.
                     // Here, we set up the controller state to await UI input.
                     Logger.info("Controller detected landing on Schrödinger Box. Setting up for player choice.");
-                    // Pass the action instance so UI can get description, etc.
-                    scene.showSchrodingerChoice(playerWhoActed, this.currentSchrodingerAction);
-                    scene.setRollButtonEnabled(false);
                     assert rolls != null;
-                    scene.updateDiceLabel(rolls.isEmpty() ? "" : String.valueOf(rolls.getFirst()));
-                    scene.getBoardView().refresh();
-                    scene.updatePlayerStatusDisplay();
-                    Logger.debug("Schrödinger choice UI shown for " + playerWhoActed.getName());
-                    return; // Await player choice
+                    String hint = schrodingerHint(landedTile.getId());
+                    onUi(() -> {
+                        // Pass the action instance so UI can get description, etc.
+                        scene.showSchrodingerChoice(playerWhoActed, schrodingerActionInstance);
+                        scene.showSchrodingerHint(hint);
+                        scene.setRollButtonEnabled(false);
+                        scene.updateDiceLabel(rolls.isEmpty() ? "" : String.valueOf(rolls.getFirst()));
+                        scene.getBoardView().refresh();
+                        scene.updatePlayerStatusDisplay();
+                        Logger.debug("Schrödinger choice UI shown for " + playerWhoActed.getName());
+                    });
+                    return; // Await player choice; the turn stays in progress until it is made
                 }
             }
             if (activeView instanceof MonopolyGameScene mScene) {
-                mScene.updatePlayerStatusDisplay();
-                mScene.getBoardView().refresh();
-                if (monopolyService != null && landedTile.getAction() instanceof PropertyAction pa) {
+                onUi(() -> {
+                    mScene.updatePlayerStatusDisplay();
+                    mScene.getBoardView().refresh();
+                });
+                CompletableFuture<Void> propertyHandled = CompletableFuture.completedFuture(null);
+                if (monopolyService != null && isProperty(opcode)) {
+                    PropertyAction pa = (PropertyAction) landedTile.getAction();
                     Logger.debug("Player " + playerWhoActed.getName() + " landed on Monopoly property: " + pa.getName() + ". Handling property action.");
-                    handleLandedOnProperty(playerWhoActed, pa, mScene);
+                    propertyHandled = handleLandedOnProperty(playerWhoActed, pa, mScene);
                 }
-                if (landedTile.getAction() instanceof ChanceAction chanceAction) {
-                    Logger.info("Player " + playerWhoActed.getName() + " landed on a Chance tile. Action would already be executed by model, showing alert.");
-                    mScene.showAlert("Chance!", "Chance Tile",
-                        "You landed on a Chance tile! " + chanceAction.getDescription(),
-                        Alert.AlertType.INFORMATION);
-
-                } else if (landedTile.getAction() instanceof CommunityChestAction ca) {
-                    mScene.showAlert("Community Chest!", "Community Chest Tile",
-                        "You landed on a Community Chest tile! " + ca.getDescription(),
-                        Alert.AlertType.INFORMATION);
-                } else if (landedTile.getAction() instanceof TaxAction ta) {
-                    mScene.showAlert("Taxes!", "Death, Taxes, and Taxes",
-                        "You must pay " + ta.getTaxAmount() + "$ in taxes!",
-                        Alert.AlertType.INFORMATION);
-                } else if (landedTile.getAction() instanceof GoToJailAction) {
-                    mScene.showAlert("Go to jail!", "Community Chest Tile",
-                        "You must go to jail! For you are poor!",
-                        Alert.AlertType.WARNING);
-                }
-
-                mScene.updatePlayerStatusDisplay();
-                mScene.getBoardView().refresh();
-                Logger.debug("MonopolyGameScene UI updated after property action handling.");
-
+                propertyHandled.thenRunAsync(() -> {
+                    showLandingAlert(playerWhoActed, landedTile, opcode, mScene);
+                    onUi(() -> {
+                        mScene.updatePlayerStatusDisplay();
+                        mScene.getBoardView().refresh();
+                        Logger.debug("MonopolyGameScene UI updated after property action handling.");
+                    });
+                    Logger.debug("No special choice pending from landing. Finalizing turn and setting up for next player.");
+                    finalizeTurnAndSetupNext(rolls);
+                }, gameExecutor).exceptionally(error -> {
+                    abortTurn("Turn for " + playerWhoActed.getName() + " could not be completed.", error);
+                    return null;
+                });
+                return; // Finalized once the property has been handled
             }
         } else {
             Logger.warning("onRoundPlayed: playerWhoActed or their current tile is null. Player: " +
@@ -262,11 +450,58 @@ public class GameController implements BoardGameObserver {
         finalizeTurnAndSetupNext(rolls);
     }
 
+    /**
+     * Tells the player about the Monopoly tile they landed on (Chance, Community Chest, Tax or Go To Jail).
+     */
+    private void showLandingAlert(Player playerWhoActed, Tile landedTile, int opcode, MonopolyGameScene mScene) {
+        switch (opcode) {
+            case BoardProgram.OP_CHANCE -> {
+                ChanceAction chanceAction = (ChanceAction) landedTile.getAction();
+                Logger.info("Player " + playerWhoActed.getName() + " landed on a Chance tile. Action would already be executed by model, showing alert.");
+                onUi(() -> mScene.showAlert("Chance!", "Chance Tile",
+                    "You landed on a Chance tile! " + chanceAction.getDescription(),
+                    Alert.AlertType.INFORMATION));
+            }
+            case BoardProgram.OP_COMMUNITY_CHEST -> {
+                CommunityChestAction ca = (CommunityChestAction) landedTile.getAction();
+                onUi(() -> mScene.showAlert("Community Chest!", "Community Chest Tile",
+                    "You landed on a Community Chest tile! " + ca.getDescription(),
+                    Alert.AlertType.INFORMATION));
+            }
+            case BoardProgram.OP_TAX -> {
+                TaxAction ta = (TaxAction) landedTile.getAction();
+                onUi(() -> mScene.showAlert("Taxes!", "Death, Taxes, and Taxes",
+                    "You must pay " + ta.getTaxAmount() + "$ in taxes!",
+                    Alert.AlertType.INFORMATION));
+            }
+            case BoardProgram.OP_GO_TO_JAIL -> onUi(() -> mScene.showAlert("Go to jail!", "Community Chest Tile",
+                "You must go to jail! For you are poor!",
+                Alert.AlertType.WARNING));
+            default -> { }
+        }
+    }
+
+    /**
+     * Gets the opcode of a tile from the board's compiled program, which tells what kind of tile it is
+     * without type checks on its action. Tiles the program does not cover are classified directly.
+     */
+    private int opcodeOf(Tile tile) {
+        Board board = gameModel.getBoard();
+        BoardProgram program = board != null ? board.getProgram() : null;
+        return program != null ? program.getOpcode(tile) : BoardProgram.opcodeOf(tile.getAction());
+    }
+
+    private static boolean isProperty(int opcode) {
+        return opcode == BoardProgram.OP_PROPERTY || opcode == BoardProgram.OP_RAILROAD
+            || opcode == BoardProgram.OP_UTILITY;
+    }
+
 
     /**
      * Finalizes the current player's turn and sets up the UI for the next player.
      * This includes updating dice labels, refreshing the board view, highlighting the next current player,
      * and enabling/disabling the roll button. It also checks if the game is over.
+     * Runs on the game executor and ends the turn, so the next roll request is accepted.
      *
      * @param rollsIfApplicable A list of integers representing the dice rolls from the completed turn,
      *                          or null/empty if not applicable (e.g., after a Schrödinger box choice).
@@ -276,42 +511,53 @@ public class GameController implements BoardGameObserver {
         Logger.debug("Entering finalizeTurnAndSetupNext.");
         String rollsStr = rollsIfApplicable != null && !rollsIfApplicable.isEmpty() ? rollsIfApplicable.toString() : "N/A";
         Logger.debug("Rolls from this turn (if applicable): " + rollsStr);
+        String dice = rollsIfApplicable != null && !rollsIfApplicable.isEmpty() ? String.valueOf(rollsIfApplicable.getFirst()) : null;
 
         // Check for game over after potential player position changes (e.g., from Schrödinger box)
         if (gameModel.isFinished()) {
             Logger.info("Game is finished (detected in finalizeTurnAndSetupNext). Calling onGameOver.");
             onGameOver(gameModel.getWinner());
             if (activeView instanceof SnakeLadderGameScene scene) {
-                if (rollsIfApplicable != null && !rollsIfApplicable.isEmpty()) scene.updateDiceLabel(String.valueOf(rollsIfApplicable.getFirst()));
-                scene.getBoardView().refresh();
-                scene.updatePlayerStatusDisplay();
-                Logger.debug("SnakeLadderGameScene UI updated for final game state.");
+                onUi(() -> {
+                    if (dice != null) scene.updateDiceLabel(dice);
+                    scene.getBoardView().refresh();
+                    scene.updatePlayerStatusDisplay();
+                    Logger.debug("SnakeLadderGameScene UI updated for final game state.");
+                });
             }
             if (activeView instanceof MonopolyGameScene scene) {
-                if (rollsIfApplicable != null && !rollsIfApplicable.isEmpty()) scene.updateDiceLabel(String.valueOf(rollsIfApplicable.getFirst()));
-                scene.getBoardView().refresh();
-                scene.updatePlayerStatusDisplay();
-                Logger.debug("MonopolyGameScene UI updated for final game state.");
+                onUi(() -> {
+                    if (dice != null) scene.updateDiceLabel(dice);
+                    scene.getBoardView().refresh();
+                    scene.updatePlayerStatusDisplay();
+                    Logger.debug("MonopolyGameScene UI updated for final game state.");
+                });
             }
+            turnInProgress = false;
             return;
         }
 
         this.currentPlayer = gameModel.getCurrentPlayer(); // This is now the *next* player
-        Logger.info("Next player's turn: " + (this.currentPlayer != null ? this.currentPlayer.getName() : "None"));
+        Player nextPlayer = this.currentPlayer;
+        Logger.info("Next player's turn: " + (nextPlayer != null ? nextPlayer.getName() : "None"));
 
         if (activeView instanceof SnakeLadderGameScene scene) {
-            if (rollsIfApplicable != null && !rollsIfApplicable.isEmpty()) scene.updateDiceLabel(String.valueOf(rollsIfApplicable.getFirst()));
-            scene.getBoardView().refresh();
-            scene.updatePlayerStatusDisplay();
-            scene.hideSchrodingerChoice();
-            if (this.currentPlayer != null) scene.highlightCurrentPlayer(this.currentPlayer);
-            scene.setRollButtonEnabled(!gameModel.isFinished());
-            Logger.debug("SnakeLadderGameScene UI updated for the next turn.");
+            boolean canRoll = !gameModel.isFinished();
+            onUi(() -> {
+                if (dice != null) scene.updateDiceLabel(dice);
+                scene.getBoardView().refresh();
+                scene.updatePlayerStatusDisplay();
+                scene.hideSchrodingerChoice();
+                if (nextPlayer != null) scene.highlightCurrentPlayer(nextPlayer);
+                scene.setRollButtonEnabled(canRoll);
+                Logger.debug("SnakeLadderGameScene UI updated for the next turn.");
+            });
         } else if (activeView instanceof MonopolyGameScene mScene) {
             // ... (Monopoly UI updates)
-            if (rollsIfApplicable != null && !rollsIfApplicable.isEmpty()) mScene.updateDiceLabel(String.valueOf(rollsIfApplicable.getFirst()));
+            if (dice != null) onUi(() -> mScene.updateDiceLabel(dice));
             Logger.debug("MonopolyGameScene UI updated for the next turn (placeholder).");
         }
+        turnInProgress = false;
     }
 
     /**
@@ -334,22 +580,26 @@ public class GameController implements BoardGameObserver {
         Logger.debug("Schrödinger choice state reset on game over.");
 
         if (activeView instanceof SnakeLadderGameScene scene) {
-            scene.displayGameOver(winner);
-            scene.hideSchrodingerChoice();
-            scene.setRollButtonEnabled(false);
-            Logger.debug("SnakeLadderGameScene displayed game over message and disabled roll button.");
+            onUi(() -> {
+                scene.displayGameOver(winner);
+                scene.hideSchrodingerChoice();
+                scene.setRollButtonEnabled(false);
+                Logger.debug("SnakeLadderGameScene displayed game over message and disabled roll button.");
+            });
         } else if (activeView instanceof MonopolyGameScene scene) {
-            scene.displayGameOver(winner);
-            scene.setRollButtonEnabled(false);
-            Logger.debug("MonopolyGameScene displayed game over message and disabled roll button.");
+            onUi(() -> {
+                scene.displayGameOver(winner);
+                scene.setRollButtonEnabled(false);
+                Logger.debug("MonopolyGameScene displayed game over message and disabled roll button.");
+            });
         }
     }
 
     /**
      * Handles a request from the UI to roll the dice for the current player.
      * It checks if the game is ongoing, if there's a current player, and if the game is not awaiting
-     * a special choice (like a Schrödinger box decision). If valid, it instructs the game model
-     * to play the turn for the current player.
+     * a special choice (like a Schrödinger box decision) or still busy with the previous turn. If valid,
+     * it hands the turn to the game executor, which instructs the game model to play it.
      */
     public void handleRollDiceRequest() {
         Logger.debug("Entering handleRollDiceRequest for player: " + (this.currentPlayer != null ? this.currentPlayer.getName() : "Unknown/None"));
@@ -361,29 +611,47 @@ public class GameController implements BoardGameObserver {
             Logger.warning("Roll dice request ignored: Current player is null.");
             return;
         }
+        if (autoPlaying) {
+            Logger.warning("Roll dice request ignored: Auto-play is running.");
+            return;
+        }
         if (awaitingSchrodingerChoice) {
             Logger.warning("Roll dice request ignored: Awaiting Schrödinger choice from " +
                 (playerMakingSchrodingerChoice != null ? playerMakingSchrodingerChoice.getName() : "Unknown"));
             if (activeView instanceof SnakeLadderGameScene scene) scene.setRollButtonEnabled(false);
             return;
         }
+        if (turnInProgress) {
+            Logger.warning("Roll dice request ignored: The previous turn is still being played.");
+            return;
+        }
 
-        Logger.info("Player " + this.currentPlayer.getName() + " initiated a dice roll.");
+        Player roller = this.currentPlayer;
+        Logger.info("Player " + roller.getName() + " initiated a dice roll.");
+        turnInProgress = true;
 
         if (activeView instanceof SnakeLadderGameScene scene) {
             scene.setRollButtonEnabled(false);
-            scene.showGameMessage(this.currentPlayer.getName() + " is rolling...");
+            scene.showGameMessage(roller.getName() + " is rolling...");
             Logger.debug("Roll button disabled for SnakeLadderGameScene during roll.");
+        } else if (activeView instanceof MonopolyGameScene scene) {
+            scene.setRollButtonEnabled(false);
         }
 
-        Logger.debug("Executing gameModel.playTurn() for player: " + this.currentPlayer.getName());
-        gameModel.playTurn(this.currentPlayer);
+        gameExecutor.execute(() -> {
+            try {
+                Logger.debug("Executing gameModel.playTurn() for player: " + roller.getName());
+                gameModel.playTurn(roller);
+            } catch (RuntimeException e) {
+                abortTurn("Turn for " + roller.getName() + " failed.", e);
+            }
+        });
     }
 
     /**
      * Handles a request from the UI to "observe" the Schrödinger box.
      * This is called when a player lands on a Schrödinger box tile and chooses the "observe" option.
-     * It executes the observation logic of the SchrödingerBoxAction and updates the game state.
+     * It executes the observation logic of the SchrödingerBoxAction on the game executor and updates the game state.
      */
     public void handleObserveSchrodingerBoxRequest() {
         Logger.debug("Entering handleObserveSchrodingerBoxRequest.");
@@ -394,28 +662,37 @@ public class GameController implements BoardGameObserver {
             // If UI is out of sync, hide choice and enable roll for current player to recover state
             if (activeView instanceof SnakeLadderGameScene scene) {
                 scene.hideSchrodingerChoice();
-                scene.setRollButtonEnabled(!gameModel.isFinished() && this.currentPlayer != null);
+                scene.setRollButtonEnabled(!gameModel.isFinished() && this.currentPlayer != null && !turnInProgress);
             }
             return;
         }
         // Logging of choice is now within currentSchrodingerAction.executeObserve()
+        Player player = playerMakingSchrodingerChoice;
+        SchrodingerBoxAction action = currentSchrodingerAction;
+        awaitingSchrodingerChoice = false; // Only the first click counts
 
-        Board board = gameModel.getBoard(); // Get the board instance
-        // The player (playerMakingSchrodingerChoice) and board are passed to the action method
-        String outcomeMessage = currentSchrodingerAction.executeObserve(playerMakingSchrodingerChoice, board);
+        gameExecutor.execute(() -> {
+            try {
+                Board board = gameModel.getBoard(); // Get the board instance
+                // The player and board are passed to the action method
+                String outcomeMessage = action.executeObserve(player, board);
 
-        if (activeView instanceof SnakeLadderGameScene scene) {
-            scene.showGameMessage(outcomeMessage);
-            // Board view and player status will be refreshed by completeSchrodingerActionSequence -> finalizeTurnAndSetupNext
-        }
+                if (activeView instanceof SnakeLadderGameScene scene) {
+                    onUi(() -> scene.showGameMessage(outcomeMessage));
+                    // Board view and player status will be refreshed by completeSchrodingerActionSequence -> finalizeTurnAndSetupNext
+                }
 
-        completeSchrodingerActionSequence();
+                completeSchrodingerActionSequence();
+            } catch (RuntimeException e) {
+                abortTurn("Schrödinger box observation for " + player.getName() + " failed.", e);
+            }
+        });
     }
 
     /**
      * Handles a request from the UI to "ignore" the Schrödinger box.
      * This is called when a player lands on a Schrödinger box tile and chooses the "ignore" option.
-     * It executes the ignore logic of the SchrödingerBoxAction and updates the game state.
+     * It executes the ignore logic of the SchrödingerBoxAction on the game executor and updates the game state.
      */
     public void handleIgnoreSchrodingerBoxRequest() {
         Logger.debug("Entering handleIgnoreSchrodingerBoxRequest.");
@@ -425,18 +702,188 @@ public class GameController implements BoardGameObserver {
                 ", action=" + (currentSchrodingerAction != null));
             if (activeView instanceof SnakeLadderGameScene scene) {
                 scene.hideSchrodingerChoice();
-                scene.setRollButtonEnabled(!gameModel.isFinished() && this.currentPlayer != null);
+                scene.setRollButtonEnabled(!gameModel.isFinished() && this.currentPlayer != null && !turnInProgress);
             }
             return;
         }
         // Logging of choice is now within currentSchrodingerAction.executeIgnore()
+        Player player = playerMakingSchrodingerChoice;
+        SchrodingerBoxAction action = currentSchrodingerAction;
+        awaitingSchrodingerChoice = false; // Only the first click counts
 
-        String outcomeMessage = currentSchrodingerAction.executeIgnore(playerMakingSchrodingerChoice);
+        gameExecutor.execute(() -> {
+            try {
+                String outcomeMessage = action.executeIgnore(player);
 
-        if (activeView instanceof SnakeLadderGameScene scene) {
-            scene.showGameMessage(outcomeMessage);
+                if (activeView instanceof SnakeLadderGameScene scene) {
+                    onUi(() -> scene.showGameMessage(outcomeMessage));
+                }
+                completeSchrodingerActionSequence();
+            } catch (RuntimeException e) {
+                abortTurn("Schrödinger box choice for " + player.getName() + " failed.", e);
+            }
+        });
+    }
+
+    /**
+     * Gets the best Schrödinger box choices for the current game. With opponents the policy maximizes
+     * the chance to win against them, otherwise it minimizes the expected number of turns. It is
+     * solved for the dice of the game, or two six-sided dice if the game has none yet.
+     * The policy is solved on first use and kept until the next game starts.
+     *
+     * @return The policy, or null if it cannot be solved for this board.
+     */
+    public SchrodingerPolicy getSchrodingerPolicy() {
+        SchrodingerPolicy policy = schrodingerPolicy;
+        if (policy == null && gameModel.getBoard() != null) {
+            try {
+                int opponents = gameModel.getPlayers().size() - 1;
+                DiceDistribution dice = gameModel.getDice() != null ? gameModel.getDice().getDistribution() : null;
+                if (dice == null) {
+                    policy = opponents > 0
+                        ? SchrodingerPolicy.maximizeWinProbability(gameModel.getBoard(), opponents)
+                        : SchrodingerPolicy.minimizeTurns(gameModel.getBoard());
+                } else {
+                    policy = opponents > 0
+                        ? SchrodingerPolicy.maximizeWinProbability(gameModel.getBoard(), dice, opponents)
+                        : SchrodingerPolicy.minimizeTurns(gameModel.getBoard(), dice);
+                }
+                schrodingerPolicy = policy;
+            } catch (RuntimeException e) {
+                Logger.warning("Could not solve the Schrödinger box policy for this board.", e);
+            }
+        }
+        return policy;
+    }
+
+    /**
+     * Marks a Monopoly player as played by the computer, or back as played by a human.
+     *
+     * @param player The player.
+     * @param bot true to let the {@link MonopolyMctsBot} decide for the player.
+     */
+    public void setBotPlayer(Player player, boolean bot) {
+        if (bot) {
+            botPlayers.add(player);
+        } else {
+            botPlayers.remove(player);
         }
-        completeSchrodingerActionSequence();
+    }
+
+    /**
+     * Tells whether a player is played by the computer.
+     *
+     * @param player The player.
+     * @return true if the {@link MonopolyMctsBot} decides for the player.
+     */
+    public boolean isBotPlayer(Player player) {
+        return player != null && botPlayers.contains(player);
+    }
+
+    /**
+     * Gets the card service of the Monopoly game, so the scene can prepare the next cards.
+     *
+     * @return The card service, or null if this is not a Monopoly game or it has no cards.
+     */
+    public CardService getCardService() {
+        return monopolyService != null ? monopolyService.getCardService() : null;
+    }
+
+    /**
+     * Gets the bot deciding for computer-played Monopoly players. It is built for the current board
+     * and card decks on first use and kept until the next game starts.
+     *
+     * @return The bot, or null if this is not a Monopoly game the bot can play or the controller was disposed.
+     */
+    public MonopolyMctsBot getMonopolyBot() {
+        MonopolyMctsBot bot = monopolyBot;
+        if (bot == null && !disposed && monopolyService != null && gameModel.getBoard() != null) {
+            try {
+                CardService cardService = monopolyService.getCardService();
+                bot = new MonopolyMctsBot(new MonopolyStateService(gameModel.getBoard(),
+                    cardService != null ? cardService.getDecks() : Map.of()));
+                monopolyBot = bot;
+            } catch (RuntimeException e) {
+                Logger.warning("Could not set up the Monopoly bot for this board.", e);
+            }
+        }
+        return bot;
+    }
+
+    /**
+     * Stops the worker threads of the bot, if one was built; the next bot decision builds a new one.
+     */
+    private void closeMonopolyBot() {
+        MonopolyMctsBot bot = monopolyBot;
+        monopolyBot = null;
+        if (bot != null) {
+            bot.close();
+        }
+    }
+
+    /**
+     * Asks the bot whether a player should buy the property they just landed on.
+     * Falls back to buying if the bot is not available.
+     */
+    private boolean botWantsToBuy(Player player) {
+        MonopolyMctsBot bot = getMonopolyBot();
+        if (bot == null) {
+            return true;
+        }
+        MonopolyState state = bot.getRules().capture(gameModel, monopolyService, monopolyService.getCardService());
+        return bot.decidePurchase(state, seatOf(player), botBudgetNanos()).answer();
+    }
+
+    /**
+     * Decides whether a jailed player uses a "Get Out of Jail Free" card. Humans always do;
+     * bots ask the {@link MonopolyMctsBot}.
+     */
+    private boolean usesJailCard(Player player) {
+        MonopolyMctsBot bot = isBotPlayer(player) ? getMonopolyBot() : null;
+        if (bot == null) {
+            return true;
+        }
+        MonopolyState state = bot.getRules().capture(gameModel, monopolyService, monopolyService.getCardService());
+        return bot.decideJailCard(state, seatOf(player), botBudgetNanos()).answer();
+    }
+
+    /**
+     * Gets the seat of a player, their stable id in the roster of the game.
+     *
+     * @return The seat, or -1 if the player is not in the game.
+     */
+    private int seatOf(Player player) {
+        PlayerRoster roster = gameModel.getRoster();
+        return (roster != null ? roster : PlayerRoster.of(gameModel.getPlayers())).indexOf(player);
+    }
+
+    /**
+     * Gets the time a bot may think about a decision: its own budget in a normal turn, and a small
+     * one while auto-play fits a batch of turns into a frame.
+     */
+    private long botBudgetNanos() {
+        return playingAutoTurns
+            ? Math.min(AUTO_PLAY_BOT_BUDGET_NANOS, Math.max(1, autoPlayBudgetNanos))
+            : MonopolyMctsBot.DEFAULT_BUDGET_NANOS;
+    }
+
+    /**
+     * Builds the hint shown next to the Schrödinger choice for a tile.
+     *
+     * @return The hint, or null if there is no policy for the tile.
+     */
+    private String schrodingerHint(int tileId) {
+        SchrodingerPolicy policy = getSchrodingerPolicy();
+        if (policy == null || Double.isNaN(policy.getObserveValue(tileId))) {
+            return null;
+        }
+        String advice = policy.shouldObserve(tileId) ? "Hint: opening the box pays off here" : "Hint: better leave this box alone";
+        if (policy.getObjective() == SchrodingerPolicy.Objective.MAX_WIN_PROBABILITY) {
+            return String.format("%s (win chance %.0f%% if opened, %.0f%% if ignored).", advice,
+                100 * policy.getObserveValue(tileId), 100 * policy.getIgnoreValue(tileId));
+        }
+        return String.format("%s (%.1f turns left if opened, %.1f if ignored).", advice,
+            policy.getObserveValue(tileId), policy.getIgnoreValue(tileId));
     }
 
     /**
@@ -460,73 +907,281 @@ public class GameController implements BoardGameObserver {
      * It checks if the property is owned, unowned, or owned by another player,
      * and interacts with the MonopolyService and the MonopolyGameScene to manage
      * property purchase, rent payment, and display relevant dialogs to the user.
+     * The purchase question is asked without blocking; the purchase itself happens on the
+     * game executor once the player has answered.
      *
      * @param player         The player who landed on the property.
      * @param propertyAction The PropertyAction associated with the tile.
      * @param monopolyView   The MonopolyGameScene instance for UI interactions.
+     * @return A future completing once the property has been dealt with.
      */
-    private void handleLandedOnProperty(Player player, PropertyAction propertyAction, MonopolyGameScene monopolyView) {
+    private CompletableFuture<Void> handleLandedOnProperty(Player player, PropertyAction propertyAction, MonopolyGameScene monopolyView) {
         Logger.info("Player " + player.getName() + " landed on property: " + propertyAction.getName() + ". Handling action.");
 
         if (monopolyService == null) {
             Logger.error("MonopolyService not available! Cannot handle property action for " + propertyAction.getName());
-            monopolyView.showAlert("Error", "Service Unavailable", "Monopoly features are currently unavailable.", Alert.AlertType.ERROR);
-            return;
+            onUi(() -> monopolyView.showAlert("Error", "Service Unavailable", "Monopoly features are currently unavailable.", Alert.AlertType.ERROR));
+            return CompletableFuture.completedFuture(null);
         }
 
+        CompletableFuture<Void> handled = CompletableFuture.completedFuture(null);
         //This is the worst possible way to do this, but it works for now. -Liam
         if (propertyAction.getOwner() == null) {
             Logger.debug("Property " + propertyAction.getName() + " is unowned. Cost: " + propertyAction.getCost() + ". Player money: " + player.getMoney());
             if (player.getMoney() >= propertyAction.getCost()) {
-                Logger.debug("Player " + player.getName() + " can afford " + propertyAction.getName() + ". Showing purchase dialog.");
-                boolean wantsToBuy = monopolyView.showPropertyPurchaseDialog(player, propertyAction);
-                if (wantsToBuy) {
-                    Logger.info("Player " + player.getName() + " attempts to buy " + propertyAction.getName());
-                    boolean purchased = monopolyService.purchaseProperty(player, propertyAction);
-                    if (purchased) {
-                        Logger.info("Property " + propertyAction.getName() + " purchased by " + player.getName() + ". New balance: $" + player.getMoney());
-                        monopolyView.showAlert("Property Purchased", "Congratulations!",
-                            "You now own " + propertyAction.getName() + ".\n" +
-                                "Your remaining balance: $" + player.getMoney(), Alert.AlertType.INFORMATION);
-                    } else {
-                        Logger.error("Purchase of " + propertyAction.getName() + " by " + player.getName() + " failed despite affording it (service layer issue?).");
-                        monopolyView.showAlert("Purchase Failed", "Error",
-                            "Could not complete the purchase of " + propertyAction.getName() + ".", Alert.AlertType.ERROR);
-                    }
+                CompletableFuture<Boolean> answer;
+                if (isBotPlayer(player)) {
+                    Logger.debug("Player " + player.getName() + " can afford " + propertyAction.getName() + ". Asking the bot.");
+                    answer = CompletableFuture.completedFuture(botWantsToBuy(player));
                 } else {
-                    Logger.info("Player " + player.getName() + " chose not to buy unowned property " + propertyAction.getName());
+                    Logger.debug("Player " + player.getName() + " can afford " + propertyAction.getName() + ". Showing purchase dialog.");
+                    answer = askUi(() -> monopolyView.promptPropertyPurchase(player, propertyAction));
                 }
+                handled = answer.thenAcceptAsync(wantsToBuy -> completePurchase(player, propertyAction, monopolyView, wantsToBuy), gameExecutor);
             } else {
                 Logger.info("Player " + player.getName() + " cannot afford unowned property " + propertyAction.getName());
-                monopolyView.showAlert("Property Available", propertyAction.getName(),
+                onUi(() -> monopolyView.showAlert("Property Available", propertyAction.getName(),
                     "You landed on " + propertyAction.getName() + " (Cost: $" + propertyAction.getCost() +
-                        "), but you don't have enough money to buy it.", Alert.AlertType.INFORMATION);
+                        "), but you don't have enough money to buy it.", Alert.AlertType.INFORMATION));
             }
         } else if (!propertyAction.getOwner().equals(player)) {
-            int rentAmount = propertyAction.getRent();
+            Player owner = propertyAction.getOwner();
+            int rentAmount = monopolyService.getRentDue(propertyAction);
             Logger.info("Player " + player.getName() + " landed on " + propertyAction.getName() + " owned by " +
-                propertyAction.getOwner().getName() + ". Rent due: $" + rentAmount);
+                owner.getName() + ". Rent due: $" + rentAmount);
 
-            monopolyView.showAlert("Rent Due!",
+            onUi(() -> monopolyView.showAlert("Rent Due!",
                 "Landed on " + propertyAction.getName(),
-                player.getName() + ", you landed on " + propertyAction.getOwner().getName() +
+                player.getName() + ", you landed on " + owner.getName() +
                     "'s property. You owe $" + rentAmount + " in rent.",
-                Alert.AlertType.INFORMATION);
+                Alert.AlertType.INFORMATION));
 
-            boolean paid = monopolyService.payRent(player, propertyAction.getOwner(), rentAmount);
+            boolean paid = monopolyService.payRent(player, owner, rentAmount);
             if (paid) {
-                Logger.info("Player " + player.getName() + " paid $" + rentAmount + " rent to " + propertyAction.getOwner().getName() + " for " + propertyAction.getName());
+                Logger.info("Player " + player.getName() + " paid $" + rentAmount + " rent to " + owner.getName() + " for " + propertyAction.getName());
             } else {
                 Logger.warning("Player " + player.getName() + " could not afford to pay $" + rentAmount + " rent for " + propertyAction.getName() + ". Potential bankruptcy.");
-                monopolyView.showAlert("Rent Payment Failed", "Insufficient Funds",
-                    player.getName() + " could not afford to pay $" + rentAmount + " rent.", Alert.AlertType.WARNING);
+                onUi(() -> monopolyView.showAlert("Rent Payment Failed", "Insufficient Funds",
+                    player.getName() + " could not afford to pay $" + rentAmount + " rent.", Alert.AlertType.WARNING));
                 player.decreaseMoney(player.getMoney()); //Lose condition
             }
         } else {
             Logger.debug("Player " + player.getName() + " landed on their own property: " + propertyAction.getName() + ". No rent/purchase action.");
         }
-        monopolyView.updatePlayerStatusDisplay();
-        Logger.debug("Monopoly player status display updated after property action handling.");
+        return handled.thenRun(() -> {
+            onUi(monopolyView::updatePlayerStatusDisplay);
+            Logger.debug("Monopoly player status display updated after property action handling.");
+        });
+    }
+
+    /**
+     * Acts on the player's answer to the purchase prompt. Runs on the game executor.
+     */
+    private void completePurchase(Player player, PropertyAction propertyAction, MonopolyGameScene monopolyView, boolean wantsToBuy) {
+        if (!wantsToBuy) {
+            Logger.info("Player " + player.getName() + " chose not to buy unowned property " + propertyAction.getName());
+            return;
+        }
+        Logger.info("Player " + player.getName() + " attempts to buy " + propertyAction.getName());
+        boolean purchased = monopolyService.purchaseProperty(player, propertyAction);
+        if (purchased) {
+            int balance = player.getMoney();
+            Logger.info("Property " + propertyAction.getName() + " purchased by " + player.getName() + ". New balance: $" + balance);
+            onUi(() -> monopolyView.showAlert("Property Purchased", "Congratulations!",
+                "You now own " + propertyAction.getName() + ".\n" +
+                    "Your remaining balance: $" + balance, Alert.AlertType.INFORMATION));
+        } else {
+            Logger.error("Purchase of " + propertyAction.getName() + " by " + player.getName() + " failed despite affording it (service layer issue?).");
+            onUi(() -> monopolyView.showAlert("Purchase Failed", "Error",
+                "Could not complete the purchase of " + propertyAction.getName() + ".", Alert.AlertType.ERROR));
+        }
+    }
+
+    /**
+     * Starts auto-play: turns are played continuously from an {@link AnimationTimer}, as many per
+     * frame as {@link #setAutoPlayBudgetNanos(long)} allows, with one view update per frame.
+     * Token animation is switched off while auto-play runs. Each batch of turns is played on the
+     * game executor, and the next batch is not started before the view has shown the previous one.
+     * Does nothing if the game is not started, already finished, in the middle of a turn or waiting
+     * for a Schrödinger choice. Must be called on the JavaFX Application Thread.
+     */
+    public void startAutoPlay() {
+        if (autoPlaying || !gameModel.isGameStarted() || gameModel.isFinished() || awaitingSchrodingerChoice || turnInProgress) {
+            return;
+        }
+        Logger.info("Auto-play started.");
+        autoPlaying = true;
+        setBoardFastForward(true);
+        setRollButtonEnabled(false);
+        if (autoPlayTimer == null) {
+            autoPlayTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    submitAutoPlayBatch();
+                }
+            };
+        }
+        autoPlayTimer.start();
+    }
+
+    /**
+     * Hands the next batch of auto-played turns to the game executor, unless one is still running
+     * or its view update has not been shown yet.
+     */
+    private void submitAutoPlayBatch() {
+        if (autoBatchQueued || !autoPlaying) {
+            return;
+        }
+        autoBatchQueued = true;
+        gameExecutor.execute(() -> {
+            try {
+                playAutoTurns(autoPlayBudgetNanos);
+            } catch (RuntimeException e) {
+                Logger.error("Auto-play batch failed.", e);
+                onUi(this::stopAutoPlay);
+            } finally {
+                onUi(() -> autoBatchQueued = false); // Queued after the batch's view update
+            }
+        });
+    }
+
+    /**
+     * Stops auto-play after the current frame and gives control back to the roll button.
+     */
+    public void stopAutoPlay() {
+        if (!autoPlaying) {
+            return;
+        }
+        autoPlaying = false;
+        if (autoPlayTimer != null) {
+            autoPlayTimer.stop();
+        }
+        setBoardFastForward(false);
+        setRollButtonEnabled(!gameModel.isFinished() && this.currentPlayer != null);
+        Logger.info("Auto-play stopped.");
+    }
+
+    /**
+     * Tells whether auto-play is running.
+     *
+     * @return true if turns are being played automatically.
+     */
+    public boolean isAutoPlaying() {
+        return autoPlaying;
+    }
+
+    /**
+     * Sets how long each frame may spend playing turns in auto-play mode.
+     *
+     * @param nanos The budget in nanoseconds; at least one turn is played per frame regardless.
+     */
+    public void setAutoPlayBudgetNanos(long nanos) {
+        this.autoPlayBudgetNanos = Math.max(0, nanos);
+    }
+
+    /**
+     * Plays turns until the time budget is used up or the game ends, then updates the view once.
+     * Called on the game executor while auto-play is running; ends auto-play when the game is over.
+     *
+     * @param budgetNanos The time that may be spent playing turns.
+     * @return The number of turns played.
+     */
+    public int playAutoTurns(long budgetNanos) {
+        long start = System.nanoTime();
+        int turns = 0;
+        playingAutoTurns = true;
+        try {
+            do {
+                if (gameModel.isFinished() || this.currentPlayer == null) break;
+                gameModel.playTurn(this.currentPlayer); // Resolved by onRoundPlayed -> resolveAutoPlayTurn
+                turns++;
+            } while (System.nanoTime() - start < budgetNanos);
+        } finally {
+            playingAutoTurns = false;
+        }
+
+        onUi(this::flushAutoPlayView);
+        if (gameModel.isFinished()) {
+            onUi(this::stopAutoPlay);
+            onGameOver(gameModel.getWinner());
+        }
+        return turns;
+    }
+
+    /**
+     * Resolves the outcome of an auto-played turn without any dialogs or view updates,
+     * and moves on to the next player.
+     */
+    private void resolveAutoPlayTurn(Player playerWhoActed, List<Integer> rolls) {
+        lastAutoPlayRolls = rolls;
+        Tile landedTile = playerWhoActed != null ? playerWhoActed.getCurrentTile() : null;
+        if (landedTile != null) {
+            int opcode = opcodeOf(landedTile);
+            if (opcode == BoardProgram.OP_SCHRODINGER) {
+                SchrodingerBoxAction schrodingerAction = (SchrodingerBoxAction) landedTile.getAction();
+                SchrodingerPolicy policy = getSchrodingerPolicy();
+                if (policy != null && policy.shouldObserve(landedTile.getId())) {
+                    schrodingerAction.executeObserve(playerWhoActed, gameModel.getBoard());
+                } else {
+                    schrodingerAction.executeIgnore(playerWhoActed);
+                }
+            } else if (monopolyService != null && isProperty(opcode)) {
+                autoHandleProperty(playerWhoActed, (PropertyAction) landedTile.getAction());
+            }
+        }
+        this.currentPlayer = gameModel.getCurrentPlayer();
+    }
+
+    /**
+     * Buys an unowned property if the player can afford it (and their bot agrees), and pays rent on
+     * other players' properties.
+     */
+    private void autoHandleProperty(Player player, PropertyAction propertyAction) {
+        Player owner = propertyAction.getOwner();
+        if (owner == null) {
+            if (player.getMoney() >= propertyAction.getCost() && (!isBotPlayer(player) || botWantsToBuy(player))) {
+                monopolyService.purchaseProperty(player, propertyAction);
+            }
+        } else if (!owner.equals(player)) {
+            int rentAmount = monopolyService.getRentDue(propertyAction);
+            if (!monopolyService.payRent(player, owner, rentAmount)) {
+                player.decreaseMoney(player.getMoney()); //Lose condition
+            }
+        }
+    }
+
+    /**
+     * Pushes the state after a batch of auto-played turns to the view in one go. Runs on the UI executor.
+     */
+    private void flushAutoPlayView() {
+        String dice = lastAutoPlayRolls != null && !lastAutoPlayRolls.isEmpty() ? String.valueOf(lastAutoPlayRolls.getFirst()) : null;
+        if (activeView instanceof SnakeLadderGameScene scene) {
+            if (dice != null) scene.updateDiceLabel(dice);
+            scene.getBoardView().refresh();
+            scene.updatePlayerStatusDisplay();
+            if (this.currentPlayer != null) scene.highlightCurrentPlayer(this.currentPlayer);
+        } else if (activeView instanceof MonopolyGameScene scene) {
+            if (dice != null) scene.updateDiceLabel(dice);
+            scene.getBoardView().refresh();
+            scene.updatePlayerStatusDisplay();
+            if (this.currentPlayer != null) scene.highlightCurrentPlayer(this.currentPlayer);
+        }
+    }
+
+    private void setBoardFastForward(boolean fastForward) {
+        if (activeView instanceof SnakeLadderGameScene scene && scene.getBoardView() != null) {
+            scene.getBoardView().setFastForward(fastForward);
+        } else if (activeView instanceof MonopolyGameScene scene && scene.getBoardView() != null) {
+            scene.getBoardView().setFastForward(fastForward);
+        }
+    }
+
+    private void setRollButtonEnabled(boolean enabled) {
+        if (activeView instanceof SnakeLadderGameScene scene) {
+            scene.setRollButtonEnabled(enabled);
+        } else if (activeView instanceof MonopolyGameScene scene) {
+            scene.setRollButtonEnabled(enabled);
+        }
     }
 
     /**
@@ -177,6 +177,7 @@ public class BoardJsonReaderWriter {
         Logger.debug("No action specified for tile " + id);
       }
     }
+    board.buildIndexes();
     Logger.info("Successfully finished reading and constructing board. Total tiles: " + board.getTiles().size());
     return board;
   }
@@ -1,19 +1,39 @@
 package edu.ntnu.idi.bidata.model;
 
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Represents the game board: manages tiles by their id,
  * knows its “start” square, and can compute move destinations
  * (including snakes/ladders).
+ *
+ * <p>Lookups by property name, distances along the next links and "next tile of type"
+ * queries are answered from indexes built once by {@link #buildIndexes()}. Board readers
+ * call it after linking the tiles; otherwise the indexes are built on first use and dropped
+ * again when a tile is added. Next-of-type tables are built the first time a type is asked for.</p>
+ *
+ * <p>The board compiled for landing resolution, {@link #getProgram()}, is kept the same way.</p>
  */
 public class Board {
   private final Map<Integer, Tile> tiles = new LinkedHashMap<>();
   private int maxId = 0;
 
+  private boolean indexed = false;
+  private final Map<String, Tile> tilesByName = new HashMap<>();
+  private final Map<Integer, Integer> pathPositions = new HashMap<>();
+  private final List<Tile> path = new ArrayList<>();
+  private final Map<Class<? extends TileAction>, Tile[]> nextOfType = new HashMap<>();
+  private boolean ring = false;
+  private volatile BoardProgram program;
+
   /**
    * Adds a tile to the board. ID must be unique.
    */
@@ -29,6 +49,8 @@ public class Board {
     if (id > maxId) {
       maxId = id;
     }
+    indexed = false;
+    program = null;
   }
 
   /**
@@ -57,4 +79,171 @@ public class Board {
     int firstId = tiles.keySet().stream().min(Integer::compareTo).get();
     return tiles.get(firstId);
   }
+
+  /**
+   * (Re)builds the lookup indexes from the current tiles, links and actions.
+   * Walks the next links once from the start tile, recording every tile's position on
+   * the path, and indexes every {@link PropertyAction} by name.
+   * Must be called again if links or actions change after the board has been queried.
+   */
+  public void buildIndexes() {
+    tilesByName.clear();
+    pathPositions.clear();
+    path.clear();
+    nextOfType.clear();
+    ring = false;
+    program = null;
+
+    for (Tile tile : tiles.values()) {
+      if (tile.getAction() instanceof PropertyAction property && property.getName() != null) {
+        tilesByName.putIfAbsent(property.getName(), tile);
+      }
+    }
+
+    if (!tiles.isEmpty()) {
+      Tile start = getStart();
+      Tile current = start;
+      int position = 0;
+      while (current != null && !pathPositions.containsKey(current.getId())) {
+        pathPositions.put(current.getId(), position++);
+        path.add(current);
+        current = current.getNext();
+      }
+      ring = current == start;
+    }
+    indexed = true;
+  }
+
+  /**
+   * Gets the board compiled into opcodes, which game services use to resolve landings.
+   * It is compiled on first use and dropped by {@link #addTile(Tile)} and {@link #buildIndexes()}.
+   *
+   * @return The compiled board.
+   */
+  public BoardProgram getProgram() {
+    BoardProgram compiled = program;
+    if (compiled == null) {
+      compiled = BoardProgram.compile(this);
+      program = compiled;
+    }
+    return compiled;
+  }
+
+  private void ensureIndexed() {
+    if (!indexed) {
+      buildIndexes();
+    }
+  }
+
+  /**
+   * Finds the tile holding the property with the given name.
+   *
+   * @param name The property name, e.g. "Illinois Avenue".
+   * @return The tile, or null if no property has that name.
+   */
+  public Tile getTileByName(String name) {
+    ensureIndexed();
+    return tilesByName.get(name);
+  }
+
+  /**
+   * Tells whether following the next links from the start tile leads back to it.
+   *
+   * @return true if the tiles form a ring (as on a Monopoly board).
+   */
+  public boolean isRing() {
+    ensureIndexed();
+    return ring;
+  }
+
+  /**
+   * Gets the number of tiles reachable from the start tile through the next links.
+   *
+   * @return The path length.
+   */
+  public int getPathLength() {
+    ensureIndexed();
+    return pathPositions.size();
+  }
+
+  /**
+   * Gets the position of a tile on the path from the start tile (the start tile is 0).
+   *
+   * @param tileId The tile id.
+   * @return The position on the path.
+   * @throws InvalidParameterException if the tile is not reachable from the start tile.
+   */
+  public int getPathPosition(int tileId) {
+    ensureIndexed();
+    Integer position = pathPositions.get(tileId);
+    if (position == null) {
+      throw new InvalidParameterException("Tile ID " + tileId + " is not on the board path");
+    }
+    return position;
+  }
+
+  /**
+   * Gets the number of steps to move from one tile to another.
+   * On a ring this is the forward distance (0 to size - 1). On an open path it is
+   * negative when the target lies behind the origin.
+   *
+   * @param fromId The id of the tile to move from.
+   * @param toId The id of the tile to move to.
+   * @return The signed number of steps, suitable for {@link Player#move(int)}.
+   * @throws InvalidParameterException if either tile is not on the board path.
+   */
+  public int getDistance(int fromId, int toId) {
+    int steps = getPathPosition(toId) - getPathPosition(fromId);
+    return ring ? Math.floorMod(steps, pathPositions.size()) : steps;
+  }
+
+  /**
+   * Checks whether moving forward from one tile to another passes over or lands on a third tile,
+   * e.g. whether an advance card takes a player past GO.
+   *
+   * @param fromId The id of the tile the move starts on (not counted as passed).
+   * @param toId The id of the tile the move ends on (counted as passed).
+   * @param tileId The id of the tile to check.
+   * @return true if {@code tileId} lies after {@code fromId} and no later than {@code toId}.
+   * @throws InvalidParameterException if any of the tiles is not on the board path.
+   */
+  public boolean passes(int fromId, int toId, int tileId) {
+    int distanceToTile = getDistance(fromId, tileId);
+    return distanceToTile > 0 && distanceToTile <= getDistance(fromId, toId);
+  }
+
+  /**
+   * Finds the first tile after the given one whose action is of the given type, following the
+   * next links and wrapping around on a ring. The tile itself is never returned unless it is the
+   * only match on a ring. The table for each type is built once on first use.
+   *
+   * @param fromId The id of the tile to search from.
+   * @param type The action type, e.g. {@code RailroadAction.class}.
+   * @return The next matching tile, or null if there is none ahead.
+   * @throws InvalidParameterException if the tile is not on the board path.
+   */
+  public Tile getNextTileOfType(int fromId, Class<? extends TileAction> type) {
+    int position = getPathPosition(fromId);
+    return nextOfType.computeIfAbsent(type, this::buildNextOfType)[position];
+  }
+
+  /**
+   * Builds the table mapping every path position to the next tile of the given type.
+   * Two backwards sweeps cover the wrap-around on a ring.
+   */
+  private Tile[] buildNextOfType(Class<? extends TileAction> type) {
+    int size = path.size();
+    Tile[] table = new Tile[size];
+    Tile found = null;
+    int sweeps = ring ? 2 : 1;
+    for (int sweep = 0; sweep < sweeps; sweep++) {
+      for (int i = size - 1; i >= 0; i--) {
+        table[i] = found;
+        if (type.isInstance(path.get(i).getAction())) {
+          found = path.get(i);
+        }
+      }
+    }
+    return table;
+  }
 }
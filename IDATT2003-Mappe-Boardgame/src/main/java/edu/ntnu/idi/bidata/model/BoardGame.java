@@ -12,7 +12,7 @@ import java.util.List;
 public class BoardGame {
   private Board board;
   private Dice dice;
-  private final List<Player> players = new ArrayList<>();
+  private PlayerRoster players = PlayerRoster.empty();
   private GameService service;
   private final List<BoardGameObserver> observers = new ArrayList<>();
   private boolean gameInitialized = false;
@@ -30,6 +30,15 @@ public class BoardGame {
     observers.add(observer);
   }
 
+  /**
+   * Removes an observer, so it is no longer notified of game events.
+   *
+   * @param observer The observer to remove. Does nothing if it was not added.
+   */
+  public void removeObserver(BoardGameObserver observer) {
+    observers.remove(observer);
+  }
+
   /**
    * Initializes the game. This method must be called after setting the board, dice, players, and game service.
    * It sets up the game through the game service and notifies observers that the game has started.
@@ -130,7 +139,7 @@ public class BoardGame {
    */
   public void addPlayer(Player player) {
     if (player == null) throw new InvalidParameterException("Player cannot be null");
-    players.add(player);
+    players = players.with(player);
   }
 
   /**
@@ -168,6 +177,16 @@ public class BoardGame {
     return new ArrayList<>(players); // Defensive copy
   }
 
+  /**
+   * Gets the players in the game as an immutable roster with a stable id per player.
+   * The roster is shared, not copied; adding a player replaces it with a new one.
+   *
+   * @return The roster.
+   */
+  public PlayerRoster getRoster() {
+    return players;
+  }
+
   /**
    * Gets the current player whose turn it is.
    * Delegated to the GameService.
@@ -196,7 +215,7 @@ public class BoardGame {
    */
   private void notifyGameStart() {
     for (var obs : observers) {
-      obs.onGameStart(getPlayers());
+      obs.onGameStart(players);
     }
   }
 
@@ -207,7 +226,7 @@ public class BoardGame {
    */
   private void notifyRoundPlayed(List<Integer> rolls) {
     for (var obs : observers) {
-      obs.onRoundPlayed(rolls, getPlayers());
+      obs.onRoundPlayed(rolls, players);
     }
   }
 }
\ No newline at end of file
@@ -0,0 +1,356 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.ChanceAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.CommunityChestAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.FreeParkingAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoToJailAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.JailAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.MonopolyRules;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.TaxAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.LadderAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SnakeAction;
+
+/**
+ * A board compiled into a flat opcode array: for every tile id, the kind of its action and two
+ * int operands. Landings are resolved by {@link #land(Tile, Player, TurnContext)}, a loop that
+ * switches on the opcode instead of calling {@link TileAction#perform} through the interface.
+ *
+ * <p>Snakes and ladders are compiled to a jump to the tile they lead to, so a chain of them is
+ * followed in the loop, and GO, tax, jail and free parking tiles are executed from their operands
+ * and messages. Actions with state of their own (properties, cards, Go To Jail, Schrödinger boxes)
+ * are still performed by their objects, each from a call site that only ever sees one class.
+ * Actions of any other class, including subclasses of the known ones, are compiled to
+ * {@link #OP_CUSTOM} and performed as before.</p>
+ *
+ * <p>The {@link TileAction} objects stay the model that boards are authored in and that the UI
+ * reads; the program is built from them by {@link Board#getProgram()} and must be rebuilt if
+ * tiles, links or actions change.</p>
+ */
+public final class BoardProgram {
+  /** No action, or no tile with this id. */
+  public static final int OP_NONE = 0;
+  /** Snake or ladder. Operands: the id of the tile it leads to, and the signed number of steps. */
+  public static final int OP_JUMP = 1;
+  /** Schrödinger box. No operands. */
+  public static final int OP_SCHRODINGER = 2;
+  /** GO. Operand: the reward. */
+  public static final int OP_GO = 3;
+  /** Tax. Operand: the amount. */
+  public static final int OP_TAX = 4;
+  /** Jail, when just visiting. No operands. */
+  public static final int OP_JAIL = 5;
+  /** Free parking. No operands. */
+  public static final int OP_FREE_PARKING = 6;
+  /** Street property. Operands: the cost and the rent. */
+  public static final int OP_PROPERTY = 7;
+  /** Railroad. Operands: the cost and the base rent. */
+  public static final int OP_RAILROAD = 8;
+  /** Utility. Operand: the cost. */
+  public static final int OP_UTILITY = 9;
+  /** Chance. No operands. */
+  public static final int OP_CHANCE = 10;
+  /** Community Chest. No operands. */
+  public static final int OP_COMMUNITY_CHEST = 11;
+  /** Go To Jail. Operand: the id of the jail tile. */
+  public static final int OP_GO_TO_JAIL = 12;
+  /** Any other action, performed through {@link TileAction#perform(Player, TurnContext)}. */
+  public static final int OP_CUSTOM = 13;
+
+  /** Ints per tile in the code array: the opcode and two operands. */
+  private static final int STRIDE = 3;
+
+  private final int[] code;
+  private final Tile[] tiles;
+  private final TileAction[] actions;
+  private final String[] messages;
+
+  private BoardProgram(int size) {
+    code = new int[size * STRIDE];
+    tiles = new Tile[size];
+    actions = new TileAction[size];
+    messages = new String[size];
+  }
+
+  /**
+   * Compiles a board. Use {@link Board#getProgram()}, which keeps the program until the board changes.
+   *
+   * @param board The board, with its tiles linked.
+   * @return The program.
+   */
+  static BoardProgram compile(Board board) {
+    int size = 0;
+    for (Tile tile : board.getTiles().values()) {
+      size = Math.max(size, tile.getId() + 1);
+    }
+    BoardProgram program = new BoardProgram(size);
+    for (Tile tile : board.getTiles().values()) {
+      program.compileTile(board, tile);
+    }
+    return program;
+  }
+
+  /**
+   * Gets the opcode an action is compiled to, without its operands.
+   * Snakes, ladders, GO, tax, jail and free parking are executed from the program, so only their
+   * exact classes get their own opcode and a subclass, which may override {@code perform}, is
+   * {@link #OP_CUSTOM}. The other actions are performed by their objects and classified by type.
+   *
+   * @param action The action, may be null.
+   * @return One of the {@code OP_} constants.
+   */
+  public static int opcodeOf(TileAction action) {
+    if (action == null) {
+      return OP_NONE;
+    }
+    Class<?> type = action.getClass();
+    if (type == LadderAction.class || type == SnakeAction.class) {
+      return OP_JUMP;
+    } else if (type == GoAction.class) {
+      return OP_GO;
+    } else if (type == TaxAction.class) {
+      return OP_TAX;
+    } else if (type == JailAction.class) {
+      return OP_JAIL;
+    } else if (type == FreeParkingAction.class) {
+      return OP_FREE_PARKING;
+    } else if (action instanceof SchrodingerBoxAction) {
+      return OP_SCHRODINGER;
+    } else if (action instanceof RailroadAction) {
+      return OP_RAILROAD;
+    } else if (action instanceof UtilityAction) {
+      return OP_UTILITY;
+    } else if (action instanceof PropertyAction) {
+      return OP_PROPERTY;
+    } else if (action instanceof ChanceAction) {
+      return OP_CHANCE;
+    } else if (action instanceof CommunityChestAction) {
+      return OP_COMMUNITY_CHEST;
+    } else if (action instanceof GoToJailAction) {
+      return OP_GO_TO_JAIL;
+    }
+    return OP_CUSTOM;
+  }
+
+  /**
+   * Compiles the action of one tile: its opcode, operands and message.
+   */
+  private void compileTile(Board board, Tile tile) {
+    int id = tile.getId();
+    TileAction action = tile.getAction();
+    tiles[id] = tile;
+    actions[id] = action;
+    int opcode = opcodeOf(action);
+    switch (opcode) {
+      case OP_JUMP -> {
+        if (action instanceof LadderAction ladder) {
+          compileJump(board, tile, ladder.getSteps(), ladder.getDescription());
+        } else {
+          SnakeAction snake = (SnakeAction) action;
+          compileJump(board, tile, -snake.getSteps(), snake.getDescription());
+        }
+      }
+      case OP_GO -> emit(id, opcode, ((GoAction) action).getReward(), 0);
+      case OP_TAX -> {
+        TaxAction tax = (TaxAction) action;
+        emit(id, opcode, tax.getTaxAmount(), 0);
+        messages[id] = tax.getDescription(); // The amount paid is only known on landing
+      }
+      case OP_JAIL -> {
+        emit(id, opcode, 0, 0);
+        messages[id] = ((JailAction) action).getDescription();
+      }
+      case OP_FREE_PARKING -> {
+        emit(id, opcode, 0, 0);
+        messages[id] = ((FreeParkingAction) action).getDescription();
+      }
+      case OP_PROPERTY, OP_RAILROAD, OP_UTILITY -> {
+        PropertyAction property = (PropertyAction) action;
+        emit(id, opcode, property.getCost(), property.getRent());
+      }
+      case OP_GO_TO_JAIL -> emit(id, opcode, ((GoToJailAction) action).getTargetId(), 0);
+      default -> emit(id, opcode, 0, 0);
+    }
+  }
+
+  /**
+   * Compiles a snake or ladder to the tile that {@link Player#move(int)} would end on,
+   * walking the links the same way and stopping at the end of the path. A jump that leads off
+   * the board is left to the action.
+   */
+  private void compileJump(Board board, Tile tile, int steps, String description) {
+    Tile target = tile;
+    for (int i = 0; i < Math.abs(steps); i++) {
+      Tile step = steps > 0 ? target.getNext() : target.getPrevious();
+      if (step == null) {
+        break;
+      }
+      target = step;
+    }
+    if (board.getTile(target.getId()) != target) {
+      emit(tile.getId(), OP_CUSTOM, 0, 0);
+      return;
+    }
+    emit(tile.getId(), OP_JUMP, target.getId(), steps);
+    messages[tile.getId()] = description;
+  }
+
+  private void emit(int id, int opcode, int first, int second) {
+    code[id * STRIDE] = opcode;
+    code[id * STRIDE + 1] = first;
+    code[id * STRIDE + 2] = second;
+  }
+
+  /**
+   * Gets the number of tile ids the program covers, one more than the highest id.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return tiles.length;
+  }
+
+  /**
+   * Tells whether a tile is one the program was compiled from, with the action it was compiled with.
+   * A tile whose action was replaced since is not, and performs its new action itself.
+   *
+   * @param tile The tile.
+   * @return true if the tile can be landed on through the program.
+   */
+  public boolean contains(Tile tile) {
+    int id = tile.getId();
+    return id < tiles.length && tiles[id] == tile && actions[id] == tile.getAction();
+  }
+
+  /**
+   * Gets the opcode of a tile.
+   *
+   * @param tileId The tile id.
+   * @return One of the {@code OP_} constants; {@link #OP_NONE} for ids not on the board.
+   */
+  public int getOpcode(int tileId) {
+    return tileId >= 0 && tileId < tiles.length ? code[tileId * STRIDE] : OP_NONE;
+  }
+
+  /**
+   * Gets the opcode of a tile. A tile the program does not cover, see {@link #contains(Tile)},
+   * is classified from its current action.
+   *
+   * @param tile The tile.
+   * @return One of the {@code OP_} constants.
+   */
+  public int getOpcode(Tile tile) {
+    return contains(tile) ? code[tile.getId() * STRIDE] : opcodeOf(tile.getAction());
+  }
+
+  /**
+   * Gets the first operand of a tile, e.g. the tile a snake or ladder leads to.
+   *
+   * @param tileId The tile id, on the board.
+   * @return The operand, see the {@code OP_} constants.
+   */
+  public int getOperand(int tileId) {
+    return code[tileId * STRIDE + 1];
+  }
+
+  /**
+   * Gets the second operand of a tile, e.g. the signed steps of a snake or ladder.
+   *
+   * @param tileId The tile id, on the board.
+   * @return The operand, see the {@code OP_} constants.
+   */
+  public int getSecondOperand(int tileId) {
+    return code[tileId * STRIDE + 2];
+  }
+
+  /**
+   * Gets the action a tile was compiled from, for the details that have no operand.
+   *
+   * @param tileId The tile id.
+   * @return The action, or null if the tile has none or is not on the board.
+   */
+  public TileAction getAction(int tileId) {
+    return tileId >= 0 && tileId < tiles.length ? actions[tileId] : null;
+  }
+
+  /**
+   * Resolves a player landing on a tile of the board: what {@link Tile#land(Player)} does by
+   * performing the tile's action, including the landings that action leads to. Snakes and
+   * ladders move the player and the loop continues on the tile they lead to.
+   *
+   * @param tile The tile landed on, for which {@link #contains(Tile)} must hold.
+   * @param player The player.
+   * @param context The turn the player lands in.
+   * @throws IllegalStateException if snakes and ladders lead around in a circle.
+   */
+  public void land(Tile tile, Player player, TurnContext context) {
+    int id = tile.getId();
+    for (int hops = 0; ; hops++) {
+      int pc = id * STRIDE;
+      switch (code[pc]) {
+        case OP_NONE -> {
+          return;
+        }
+        case OP_JUMP -> {
+          if (hops > tiles.length) {
+            throw new IllegalStateException("Snakes and ladders loop at tile " + id);
+          }
+          context.emit(messages[id]);
+          id = code[pc + 1];
+          player.setCurrentTile(tiles[id]);
+        }
+        case OP_GO -> {
+          player.increaseMoney(code[pc + 1]);
+          return;
+        }
+        case OP_TAX -> {
+          int paid = MonopolyRules.amountPaid(player.getMoney(), code[pc + 1]);
+          player.decreaseMoney(paid);
+          context.emit(messages[id] + " You paid " + paid + " in taxes.");
+          return;
+        }
+        case OP_JAIL, OP_FREE_PARKING -> {
+          context.emit(messages[id]);
+          return;
+        }
+        case OP_SCHRODINGER -> {
+          ((SchrodingerBoxAction) actions[id]).perform(player, context);
+          return;
+        }
+        case OP_PROPERTY -> {
+          ((PropertyAction) actions[id]).perform(player, context);
+          return;
+        }
+        case OP_RAILROAD -> {
+          ((RailroadAction) actions[id]).perform(player, context);
+          return;
+        }
+        case OP_UTILITY -> {
+          ((UtilityAction) actions[id]).perform(player, context);
+          return;
+        }
+        case OP_CHANCE -> {
+          ((ChanceAction) actions[id]).perform(player, context);
+          return;
+        }
+        case OP_COMMUNITY_CHEST -> {
+          ((CommunityChestAction) actions[id]).perform(player, context);
+          return;
+        }
+        case OP_GO_TO_JAIL -> {
+          ((GoToJailAction) actions[id]).perform(player, context);
+          return;
+        }
+        default -> {
+          actions[id].perform(player, context);
+          return;
+        }
+      }
+    }
+  }
+}
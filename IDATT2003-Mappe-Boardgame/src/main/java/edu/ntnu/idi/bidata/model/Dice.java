@@ -1,36 +1,110 @@
 package edu.ntnu.idi.bidata.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.util.AliasTable;
 
 /**
  * Aggregates multiple Die instances and rolls them together.
+ * The dice may have any number of sides and be loaded. The distribution of their sum is
+ * computed once, and unless the dice have too many combined outcomes, a roll draws the faces of
+ * all dice at once from a precomputed alias table instead of rolling every die.
  */
 public class Dice {
+  /** Largest number of face combinations drawn from one table; beyond it every die is rolled. */
+  static final int MAX_JOINT_OUTCOMES = 1 << 16;
+
   private final List<Die> dice;
+  private final DiceDistribution distribution;
+  private final AliasTable outcomes; // Null when every die is rolled on its own
+  private RandomGenerator random = new Random();
 
   /**
-   * Creates a collection of the given number of dice.
+   * Creates a collection of the given number of six-sided dice.
    * @param numberOfDice must be >0
    */
   public Dice(int numberOfDice) {
+    this(sixSided(numberOfDice));
+  }
+
+  /**
+   * Creates a collection of the given dice, e.g. of mixed sides or loaded ones.
+   * @param dice at least one die
+   */
+  public Dice(Die... dice) {
+    this(dice == null ? null : Arrays.asList(dice));
+  }
+
+  /**
+   * Creates a collection of the given dice, e.g. of mixed sides or loaded ones.
+   * @param dice at least one die
+   */
+  public Dice(List<Die> dice) {
+    if (dice == null || dice.isEmpty() || dice.contains(null)) {
+      throw new InvalidParameterException("Must create at least one die");
+    }
+    this.dice = new ArrayList<>(dice);
+    this.distribution = DiceDistribution.of(this.dice);
+    this.outcomes = jointOutcomes(this.dice);
+  }
+
+  private static List<Die> sixSided(int numberOfDice) {
     if (numberOfDice < 1) {
       throw new InvalidParameterException("Must create at least one die");
     }
-    dice = new ArrayList<>(numberOfDice);
+    List<Die> dice = new ArrayList<>(numberOfDice);
     for (int i = 0; i < numberOfDice; i++) {
       dice.add(new Die());
     }
+    return dice;
+  }
+
+  /**
+   * Builds the table of all face combinations, numbered with the first die as the lowest digit.
+   */
+  private static AliasTable jointOutcomes(List<Die> dice) {
+    long count = 1;
+    for (Die die : dice) {
+      count *= die.getSides();
+      if (count > MAX_JOINT_OUTCOMES) {
+        return null;
+      }
+    }
+    double[] weights = new double[(int) count];
+    for (int index = 0; index < weights.length; index++) {
+      int rest = index;
+      double weight = 1;
+      for (Die die : dice) {
+        weight *= die.getProbability(rest % die.getSides() + 1);
+        rest /= die.getSides();
+      }
+      weights[index] = weight;
+    }
+    return new AliasTable(weights);
   }
 
   /**
    * Rolls all dice and returns the sum of their face values.
    */
   public int rollDie() {
-    return dice.stream()
-        .mapToInt(Die::roll)
-        .sum();
+    if (outcomes == null) {
+      return dice.stream()
+          .mapToInt(Die::roll)
+          .sum();
+    }
+    int outcome = outcomes.sample(random);
+    int sum = 0;
+    for (Die die : dice) {
+      int face = outcome % die.getSides() + 1;
+      outcome /= die.getSides();
+      die.setValue(face);
+      sum += face;
+    }
+    return sum;
   }
 
   /**
@@ -42,5 +116,32 @@ public class Dice {
     }
     return dice.get(index).getValue();
   }
-}
 
+  /**
+   * Returns the number of dice.
+   */
+  public int getCount() {
+    return dice.size();
+  }
+
+  /**
+   * Returns the distribution of the sum of the dice, for solvers and odds shown to the players.
+   */
+  public DiceDistribution getDistribution() {
+    return distribution;
+  }
+
+  /**
+   * Sets the random number generator of the dice, e.g. a seeded one for a replayable game.
+   * @param random the generator, must not be null
+   */
+  public void setRandom(RandomGenerator random) {
+    if (random == null) {
+      throw new InvalidParameterException("Random number generator must not be null");
+    }
+    this.random = random;
+    for (Die die : dice) {
+      die.setRandom(random);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.util.AliasTable;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The probability of every sum of a set of dice, computed once by convolving the faces of the
+ * dice. Solvers read the exact probabilities from it, and {@link #sample(RandomGenerator)} draws
+ * a sum in constant time. Instances are immutable and may be shared between threads.
+ */
+public final class DiceDistribution {
+  private final int minSum;
+  private final double[] probabilities; // Indexed by sum - minSum
+  private final double mean;
+  private final AliasTable sums;
+
+  private DiceDistribution(int minSum, double[] probabilities) {
+    this.minSum = minSum;
+    this.probabilities = probabilities;
+    double total = 0;
+    for (int i = 0; i < probabilities.length; i++) {
+      total += (minSum + i) * probabilities[i];
+    }
+    this.mean = total;
+    this.sums = new AliasTable(probabilities);
+  }
+
+  /**
+   * Computes the distribution of the sum of the given dice.
+   *
+   * @param dice The dice, at least one.
+   * @return The distribution of their sum.
+   * @throws InvalidParameterException if there are no dice or one of them is null.
+   */
+  public static DiceDistribution of(List<Die> dice) {
+    if (dice == null || dice.isEmpty()) {
+      throw new InvalidParameterException("A distribution needs at least one die");
+    }
+    double[] current = {1.0}; // The empty sum is 0 for sure
+    int minSum = 0;
+    for (Die die : dice) {
+      if (die == null) {
+        throw new InvalidParameterException("Dice must not be null");
+      }
+      int sides = die.getSides();
+      double[] next = new double[current.length + sides - 1];
+      for (int i = 0; i < current.length; i++) {
+        if (current[i] == 0) continue;
+        for (int face = 1; face <= sides; face++) {
+          next[i + face - 1] += current[i] * die.getProbability(face);
+        }
+      }
+      current = next;
+      minSum++;
+    }
+    return new DiceDistribution(minSum, current);
+  }
+
+  /**
+   * Gets the smallest sum the dice can show.
+   *
+   * @return The number of dice, as every face is at least 1.
+   */
+  public int getMinSum() {
+    return minSum;
+  }
+
+  /**
+   * Gets the largest sum the dice can show.
+   *
+   * @return The sum of the sides of the dice.
+   */
+  public int getMaxSum() {
+    return minSum + probabilities.length - 1;
+  }
+
+  /**
+   * Gets the probability of rolling a sum.
+   *
+   * @param sum The sum.
+   * @return Its probability, 0 for sums outside {@link #getMinSum()} to {@link #getMaxSum()}.
+   */
+  public double getProbability(int sum) {
+    int index = sum - minSum;
+    return index >= 0 && index < probabilities.length ? probabilities[index] : 0;
+  }
+
+  /**
+   * Gets the expected sum.
+   *
+   * @return The mean of the distribution.
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Draws a sum.
+   *
+   * @param random The random number generator to draw with.
+   * @return A sum between {@link #getMinSum()} and {@link #getMaxSum()}.
+   */
+  public int sample(RandomGenerator random) {
+    return minSum + sums.sample(random);
+  }
+}
@@ -1,21 +1,71 @@
 package edu.ntnu.idi.bidata.model;
 
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.util.AliasTable;
+
+import java.util.Arrays;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents a single six‐sided die.
+ * Represents a single die with faces 1 to {@link #getSides()}, six by default.
+ * A die is fair unless it is created with {@link #loaded(double...)}, e.g. to test rare rolls.
  */
 public class Die {
-  private static final int SIDES = 6;
+  /** Number of sides of a die created without a side count. */
+  public static final int DEFAULT_SIDES = 6;
+
+  private final double[] probabilities; // Indexed by face - 1
+  private final AliasTable loadedFaces; // Null for a fair die
   private int lastRolledValue;
-  private final Random random = new Random();
+  private RandomGenerator random = new Random();
+
+  /**
+   * Creates a fair six-sided die.
+   */
+  public Die() {
+    this(DEFAULT_SIDES);
+  }
+
+  /**
+   * Creates a fair die.
+   * @param sides number of sides, must be >0
+   */
+  public Die(int sides) {
+    if (sides < 1) {
+      throw new InvalidParameterException("A die must have at least one side");
+    }
+    probabilities = new double[sides];
+    Arrays.fill(probabilities, 1.0 / sides);
+    loadedFaces = null;
+  }
+
+  private Die(double[] weights) {
+    loadedFaces = new AliasTable(weights);
+    double total = Arrays.stream(weights).sum();
+    probabilities = new double[weights.length];
+    for (int i = 0; i < weights.length; i++) {
+      probabilities[i] = weights[i] / total;
+    }
+  }
 
   /**
-   * Rolls this die, updates and returns the face value (1–6).
+   * Creates a loaded die whose faces come up in proportion to the given weights.
+   * @param weights weight of every face, starting with face 1; need not sum to 1
+   * @return the die, with as many sides as there are weights
+   * @throws InvalidParameterException if there are no weights, one is negative or all are 0
+   */
+  public static Die loaded(double... weights) {
+    return new Die(weights);
+  }
+
+  /**
+   * Rolls this die, updates and returns the face value (1 to the number of sides).
    * @return rolled value
    */
   public int roll() {
-    lastRolledValue = random.nextInt(SIDES) + 1;
+    int face = loadedFaces != null ? loadedFaces.sample(random) : random.nextInt(probabilities.length);
+    lastRolledValue = face + 1;
     return lastRolledValue;
   }
 
@@ -25,4 +75,43 @@ public class Die {
   public int getValue() {
     return lastRolledValue;
   }
+
+  /**
+   * Sets the face shown, for {@link Dice} that draw the faces of all dice at once.
+   */
+  void setValue(int value) {
+    lastRolledValue = value;
+  }
+
+  /**
+   * Returns the number of sides.
+   */
+  public int getSides() {
+    return probabilities.length;
+  }
+
+  /**
+   * Returns the probability of rolling a face, or 0 for a face the die does not have.
+   */
+  public double getProbability(int face) {
+    return face >= 1 && face <= probabilities.length ? probabilities[face - 1] : 0;
+  }
+
+  /**
+   * Returns whether every face is equally likely.
+   */
+  public boolean isFair() {
+    return loadedFaces == null;
+  }
+
+  /**
+   * Sets the random number generator, e.g. a seeded one for a replayable game.
+   * @param random the generator, must not be null
+   */
+  public void setRandom(RandomGenerator random) {
+    if (random == null) {
+      throw new InvalidParameterException("Random number generator must not be null");
+    }
+    this.random = random;
+  }
 }
@@ -0,0 +1,302 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.util.PersistentIntArray;
+
+/**
+ * An immutable snapshot of a Monopoly game, made for looking ahead: "what if I buy this?",
+ * or thousands of simulated futures per decision.
+ *
+ * <p>Players are numbered by seat and tiles by their position on the board ring, starting with
+ * tile 0. Every {@code with...} method returns a new state and leaves this one unchanged. The
+ * per-player and per-tile values are kept in {@link PersistentIntArray}s, so a changed copy shares
+ * everything except the path to the changed value with its original: branching off a state costs
+ * nothing and each change costs {@code O(log n)}, instead of a deep copy of the board, every
+ * property owner and every service map.</p>
+ *
+ * <p>The rules that move from one state to the next live in
+ * {@link edu.ntnu.idi.bidata.service.MonopolyStateService}.</p>
+ */
+public final class MonopolyState {
+  /** Owner value of a tile nobody owns. */
+  public static final int NO_OWNER = -1;
+
+  private final PersistentIntArray positions;
+  private final PersistentIntArray money;
+  private final PersistentIntArray jailTurns;
+  private final PersistentIntArray jailFreeCards;
+  private final PersistentIntArray owners;
+  private final PersistentIntArray deckPositions;
+  private final int currentPlayer;
+  private final int lastRoll;
+
+  private MonopolyState(PersistentIntArray positions, PersistentIntArray money, PersistentIntArray jailTurns,
+                        PersistentIntArray jailFreeCards, PersistentIntArray owners,
+                        PersistentIntArray deckPositions, int currentPlayer, int lastRoll) {
+    this.positions = positions;
+    this.money = money;
+    this.jailTurns = jailTurns;
+    this.jailFreeCards = jailFreeCards;
+    this.owners = owners;
+    this.deckPositions = deckPositions;
+    this.currentPlayer = currentPlayer;
+    this.lastRoll = lastRoll;
+  }
+
+  /**
+   * Creates the state at the start of a game: everyone on tile 0 with the same money,
+   * nothing owned, and the first seat to play.
+   *
+   * @param players The number of players, at least 1.
+   * @param tiles The number of tiles on the board ring, at least 1.
+   * @param decks The number of card decks.
+   * @param startingMoney The money every player starts with.
+   * @return The new state.
+   * @throws InvalidParameterException if any count is out of range.
+   */
+  public static MonopolyState initial(int players, int tiles, int decks, int startingMoney) {
+    if (players < 1 || tiles < 1 || decks < 0) {
+      throw new InvalidParameterException("A game needs at least one player and one tile");
+    }
+    return new MonopolyState(
+        PersistentIntArray.filled(players, 0),
+        PersistentIntArray.filled(players, startingMoney),
+        PersistentIntArray.filled(players, 0),
+        PersistentIntArray.filled(players, 0),
+        PersistentIntArray.filled(tiles, NO_OWNER),
+        PersistentIntArray.filled(decks, 0),
+        0, 0);
+  }
+
+  /**
+   * Gets the number of players.
+   *
+   * @return The number of seats.
+   */
+  public int getPlayerCount() {
+    return money.size();
+  }
+
+  /**
+   * Gets the number of tiles.
+   *
+   * @return The number of tiles on the board ring.
+   */
+  public int getTileCount() {
+    return owners.size();
+  }
+
+  /**
+   * Gets the tile a player stands on.
+   *
+   * @param player The seat.
+   * @return The position on the board ring.
+   */
+  public int getPosition(int player) {
+    return positions.get(player);
+  }
+
+  /**
+   * Gets the money of a player.
+   *
+   * @param player The seat.
+   * @return The money.
+   */
+  public int getMoney(int player) {
+    return money.get(player);
+  }
+
+  /**
+   * Gets the number of turns a player still has to sit in jail.
+   *
+   * @param player The seat.
+   * @return The turns left, 0 if the player is not in jail.
+   */
+  public int getJailTurns(int player) {
+    return jailTurns.get(player);
+  }
+
+  /**
+   * Gets the number of "Get Out of Jail Free" cards a player holds.
+   *
+   * @param player The seat.
+   * @return The number of cards.
+   */
+  public int getJailFreeCards(int player) {
+    return jailFreeCards.get(player);
+  }
+
+  /**
+   * Gets the owner of a tile.
+   *
+   * @param tile The position on the board ring.
+   * @return The seat of the owner, or {@link #NO_OWNER}.
+   */
+  public int getOwner(int tile) {
+    return owners.get(tile);
+  }
+
+  /**
+   * Gets the index of the next card to draw from a deck.
+   *
+   * @param deck The deck number.
+   * @return The position in the deck.
+   */
+  public int getDeckPosition(int deck) {
+    return deckPositions.get(deck);
+  }
+
+  /**
+   * Gets the seat whose turn it is.
+   *
+   * @return The current seat.
+   */
+  public int getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  /**
+   * Gets the dice roll of the last turn played.
+   *
+   * @return The roll, or 0 before the first turn.
+   */
+  public int getLastRoll() {
+    return lastRoll;
+  }
+
+  /**
+   * Gets a copy with a player moved to another tile.
+   *
+   * @param player The seat.
+   * @param tile The new position on the board ring.
+   * @return The changed state.
+   */
+  public MonopolyState withPosition(int player, int tile) {
+    if (tile < 0 || tile >= owners.size()) {
+      throw new InvalidParameterException("Tile " + tile + " is not on the board");
+    }
+    return new MonopolyState(positions.set(player, tile), money, jailTurns, jailFreeCards, owners,
+        deckPositions, currentPlayer, lastRoll);
+  }
+
+  /**
+   * Gets a copy with the money of a player changed.
+   *
+   * @param player The seat.
+   * @param amount The new money.
+   * @return The changed state.
+   */
+  public MonopolyState withMoney(int player, int amount) {
+    return new MonopolyState(positions, money.set(player, amount), jailTurns, jailFreeCards, owners,
+        deckPositions, currentPlayer, lastRoll);
+  }
+
+  /**
+   * Gets a copy with the jail turns of a player changed.
+   *
+   * @param player The seat.
+   * @param turns The turns left in jail, 0 to release the player.
+   * @return The changed state.
+   */
+  public MonopolyState withJailTurns(int player, int turns) {
+    return new MonopolyState(positions, money, jailTurns.set(player, turns), jailFreeCards, owners,
+        deckPositions, currentPlayer, lastRoll);
+  }
+
+  /**
+   * Gets a copy with the "Get Out of Jail Free" cards of a player changed.
+   *
+   * @param player The seat.
+   * @param cards The new number of cards.
+   * @return The changed state.
+   */
+  public MonopolyState withJailFreeCards(int player, int cards) {
+    return new MonopolyState(positions, money, jailTurns, jailFreeCards.set(player, cards), owners,
+        deckPositions, currentPlayer, lastRoll);
+  }
+
+  /**
+   * Gets a copy with the owner of a tile changed.
+   *
+   * @param tile The position on the board ring.
+   * @param player The seat of the new owner, or {@link #NO_OWNER}.
+   * @return The changed state.
+   */
+  public MonopolyState withOwner(int tile, int player) {
+    if (player < NO_OWNER || player >= money.size()) {
+      throw new InvalidParameterException("Owner " + player + " is not a player in this game");
+    }
+    return new MonopolyState(positions, money, jailTurns, jailFreeCards, owners.set(tile, player),
+        deckPositions, currentPlayer, lastRoll);
+  }
+
+  /**
+   * Gets a copy with the next card of a deck changed.
+   *
+   * @param deck The deck number.
+   * @param position The index of the next card to draw.
+   * @return The changed state.
+   */
+  public MonopolyState withDeckPosition(int deck, int position) {
+    return new MonopolyState(positions, money, jailTurns, jailFreeCards, owners,
+        deckPositions.set(deck, position), currentPlayer, lastRoll);
+  }
+
+  /**
+   * Gets a copy with another player to move.
+   *
+   * @param player The seat whose turn it is.
+   * @return The changed state.
+   */
+  public MonopolyState withCurrentPlayer(int player) {
+    if (player < 0 || player >= money.size()) {
+      throw new InvalidParameterException("Player " + player + " is not in this game");
+    }
+    return new MonopolyState(positions, money, jailTurns, jailFreeCards, owners,
+        deckPositions, player, lastRoll);
+  }
+
+  /**
+   * Gets a copy with the last dice roll changed.
+   *
+   * @param roll The roll.
+   * @return The changed state.
+   */
+  public MonopolyState withLastRoll(int roll) {
+    return new MonopolyState(positions, money, jailTurns, jailFreeCards, owners,
+        deckPositions, currentPlayer, roll);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof MonopolyState other
+        && currentPlayer == other.currentPlayer
+        && lastRoll == other.lastRoll
+        && positions.equals(other.positions)
+        && money.equals(other.money)
+        && jailTurns.equals(other.jailTurns)
+        && jailFreeCards.equals(other.jailFreeCards)
+        && owners.equals(other.owners)
+        && deckPositions.equals(other.deckPositions);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 31 * currentPlayer + lastRoll;
+    hash = 31 * hash + positions.hashCode();
+    hash = 31 * hash + money.hashCode();
+    hash = 31 * hash + jailTurns.hashCode();
+    hash = 31 * hash + jailFreeCards.hashCode();
+    hash = 31 * hash + owners.hashCode();
+    return 31 * hash + deckPositions.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "MonopolyState{current=" + currentPlayer + ", positions=" + positions + ", money=" + money
+        + ", jail=" + jailTurns + ", owners=" + owners + "}";
+  }
+}
@@ -1,6 +1,9 @@
 package edu.ntnu.idi.bidata.model;
 
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Represents a game player on the board.
@@ -10,6 +13,9 @@ public class Player {
   private Tile currentTile;
   private Integer money;
   private final String pieceIdentifier;
+  private int lastDiceRoll;
+  private final List<Consumer<Player>> moveListeners = new CopyOnWriteArrayList<>();
+  private final List<Consumer<Player>> moneyListeners = new CopyOnWriteArrayList<>();
 
   public static final String DEFAULT_PIECE_IDENTIFIER = "default_token";
 
@@ -60,6 +66,7 @@ public class Player {
       throw new InvalidParameterException("Tile must not be null");
     }
     this.currentTile = tile;
+    fireMoved();
   }
 
   public String getName() {
@@ -75,6 +82,7 @@ public class Player {
       throw new InvalidParameterException("Current tile must not be null");
     }
     this.currentTile = current;
+    fireMoved();
   }
 
   public String getPieceIdentifier() {
@@ -93,16 +101,81 @@ public class Player {
         currentTile = currentTile.getPrevious();
       }
     }
+    if (steps != 0) {
+      fireMoved();
+    }
     if (currentTile != null) {
       currentTile.land(this);
     }
   }
 
+  /**
+   * Moves the player straight to the given tile and triggers its action,
+   * the same way {@link #move(int)} does for the tile it ends on.
+   * @param target tile to move to, non-null
+   */
+  public void moveTo(Tile target) {
+    setCurrentTile(target);
+    currentTile.land(this);
+  }
+
+  /**
+   * Registers a listener that is told whenever this player's current tile is set or changed.
+   * The listener is called with the player, before the action of the new tile is performed.
+   * @param listener listener to add, non-null
+   */
+  public void addMoveListener(Consumer<Player> listener) {
+    if (listener == null) {
+      throw new InvalidParameterException("Listener must not be null");
+    }
+    moveListeners.add(listener);
+  }
+
+  /**
+   * Removes a listener added with {@link #addMoveListener(Consumer)}.
+   * @param listener listener to remove
+   */
+  public void removeMoveListener(Consumer<Player> listener) {
+    moveListeners.remove(listener);
+  }
+
+  private void fireMoved() {
+    for (Consumer<Player> listener : moveListeners) {
+      listener.accept(this);
+    }
+  }
+
+  /**
+   * Registers a listener that is told whenever this player's money is set or changed.
+   * @param listener listener to add, non-null
+   */
+  public void addMoneyListener(Consumer<Player> listener) {
+    if (listener == null) {
+      throw new InvalidParameterException("Listener must not be null");
+    }
+    moneyListeners.add(listener);
+  }
+
+  /**
+   * Removes a listener added with {@link #addMoneyListener(Consumer)}.
+   * @param listener listener to remove
+   */
+  public void removeMoneyListener(Consumer<Player> listener) {
+    moneyListeners.remove(listener);
+  }
+
+  private void fireMoneyChanged() {
+    for (Consumer<Player> listener : moneyListeners) {
+      listener.accept(this);
+    }
+  }
+
   public void setMoney(int money) {
     if (money < 0) {
       throw new InvalidParameterException("Money must not be negative");
     }
     this.money = money;
+    fireMoneyChanged();
   }
 
   public void increaseMoney(int amount) {
@@ -110,6 +183,7 @@ public class Player {
       this.money = 0;
     }
     this.money += amount;
+    fireMoneyChanged();
   }
 
   public void decreaseMoney(int amount) {
@@ -117,17 +191,25 @@ public class Player {
       throw new InvalidParameterException("Not enough money or money not initialized.");
     }
     this.money -= amount;
+    fireMoneyChanged();
   }
 
   public int getMoney() {
     return money != null ? money : 0;
   }
 
+  /**
+   * Returns the sum of the dice this player rolled on their last turn, 0 before the first roll.
+   */
   public int getLastDiceRoll() {
-    return 0;
+    return lastDiceRoll;
   }
 
-  public int getUtilitiesOwnedCount() {
-    return 0;
+  /**
+   * Records the sum of the dice this player rolled; set by {@link TurnContext#begin} at the start of a turn.
+   * @param lastDiceRoll the sum of the dice
+   */
+  public void setLastDiceRoll(int lastDiceRoll) {
+    this.lastDiceRoll = lastDiceRoll;
   }
 }
\ No newline at end of file
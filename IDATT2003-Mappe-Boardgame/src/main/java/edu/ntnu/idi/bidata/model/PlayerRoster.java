@@ -0,0 +1,117 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, indexed list of the players of a game.
+ *
+ * <p>Every player has a stable id: their index in the order they joined, from 0 to
+ * {@link #size()} - 1. Joining a game creates a new roster with {@link #with(Player)}, so the ids
+ * of the players already in it never change and a roster can be handed to services and observers
+ * without copying. {@link #indexOf(Object)} and {@link #contains(Object)} are O(1) lookups, which
+ * lets services keep per-player state in arrays indexed by the id.</p>
+ */
+public final class PlayerRoster extends AbstractList<Player> implements RandomAccess {
+  private static final PlayerRoster EMPTY = new PlayerRoster(new Player[0], new IdentityHashMap<>());
+
+  private final Player[] players;
+  private final Map<Player, Integer> ids; // Never changed once the roster is built
+
+  private PlayerRoster(Player[] players, Map<Player, Integer> ids) {
+    this.players = players;
+    this.ids = ids;
+  }
+
+  /**
+   * Gets the roster without players.
+   *
+   * @return The empty roster.
+   */
+  public static PlayerRoster empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a roster of the given players, in order.
+   *
+   * @param players The players.
+   * @return The roster, or the given list itself if it already is one.
+   * @throws InvalidParameterException if the list or one of the players is null.
+   */
+  public static PlayerRoster of(List<Player> players) {
+    if (players instanceof PlayerRoster roster) {
+      return roster;
+    }
+    if (players == null) {
+      throw new InvalidParameterException("Players must not be null");
+    }
+    Player[] copy = players.toArray(new Player[0]);
+    Map<Player, Integer> ids = new IdentityHashMap<>(copy.length);
+    for (int id = 0; id < copy.length; id++) {
+      if (copy[id] == null) {
+        throw new InvalidParameterException("Player cannot be null");
+      }
+      ids.putIfAbsent(copy[id], id);
+    }
+    return new PlayerRoster(copy, ids);
+  }
+
+  /**
+   * Creates a roster with a player added at the end, with the next free id.
+   *
+   * @param player The player who joins.
+   * @return The new roster; this one is unchanged.
+   * @throws InvalidParameterException if the player is null.
+   */
+  public PlayerRoster with(Player player) {
+    if (player == null) {
+      throw new InvalidParameterException("Player cannot be null");
+    }
+    Player[] joined = Arrays.copyOf(players, players.length + 1);
+    joined[players.length] = player;
+    Map<Player, Integer> joinedIds = new IdentityHashMap<>(ids);
+    joinedIds.putIfAbsent(player, players.length);
+    return new PlayerRoster(joined, joinedIds);
+  }
+
+  /**
+   * Gets the player with an id.
+   *
+   * @param id The id, from 0 to {@link #size()} - 1.
+   * @return The player.
+   * @throws IndexOutOfBoundsException if there is no player with that id.
+   */
+  @Override
+  public Player get(int id) {
+    return players[id];
+  }
+
+  @Override
+  public int size() {
+    return players.length;
+  }
+
+  /**
+   * Gets the id of a player.
+   *
+   * @param player The player.
+   * @return The id, or -1 if the player is not on the roster.
+   */
+  @Override
+  public int indexOf(Object player) {
+    Integer id = ids.get(player);
+    return id != null ? id : -1;
+  }
+
+  @Override
+  public boolean contains(Object player) {
+    return ids.containsKey(player);
+  }
+}
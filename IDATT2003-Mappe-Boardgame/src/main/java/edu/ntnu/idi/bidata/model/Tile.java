@@ -49,11 +49,24 @@ public class Tile {
   }
 
   /**
-   * Called when a player lands here: triggers the action if present.
+   * Called when a player lands here: triggers the action if present,
+   * within the turn bound to the calling thread's {@link TurnContext}.
    */
   public void land(Player player) {
-    if (action != null) {
-      action.perform(player);
+    land(player, TurnContext.current());
+  }
+
+  /**
+   * Called when a player lands here: triggers the action if present.
+   * During a game turn the landing is resolved by the board's compiled {@link BoardProgram}.
+   * @param context the turn the player lands in
+   */
+  public void land(Player player, TurnContext context) {
+    BoardProgram program = context.getProgram();
+    if (program != null && program.contains(this)) {
+      program.land(this, player, context);
+    } else if (action != null) {
+      action.perform(player, context);
     }
   }
 }
\ No newline at end of file
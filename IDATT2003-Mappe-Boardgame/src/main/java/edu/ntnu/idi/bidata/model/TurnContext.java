@@ -0,0 +1,215 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.service.GameService;
+import edu.ntnu.idi.bidata.service.MonopolyService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Everything a {@link edu.ntnu.idi.bidata.model.actions.TileAction} may need to know about the turn
+ * it is performed in: the player, the roll and the faces of the dice, the game and its service,
+ * a random number generator and a sink for messages meant for the players.
+ *
+ * <p>Contexts are pooled: every thread has exactly one, returned by {@link #current()}. A game
+ * service binds it with {@link #begin} when a turn starts and clears it with {@link #end()} when
+ * the turn is over, so landing on a tile allocates nothing and the actions do not have to look
+ * anything up in global state. Outside a turn the context is empty: no game, no service and a
+ * roll of 0.</p>
+ */
+public final class TurnContext {
+  private static final ThreadLocal<TurnContext> CONTEXTS = ThreadLocal.withInitial(TurnContext::new);
+  private static final Consumer<String> NO_SINK = message -> { }; // Turns played without a listener stay silent
+
+  private BoardGame game;
+  private BoardProgram program;
+  private GameService service;
+  private Player player;
+  private int roll;
+  private int[] faces = new int[2];
+  private int faceCount;
+  private RandomGenerator random;
+  private Consumer<String> eventSink = NO_SINK;
+
+  /**
+   * Creates an empty context. Games use the pooled one from {@link #current()}; a context of
+   * one's own is useful to perform actions outside a game, e.g. in tests.
+   */
+  public TurnContext() {
+  }
+
+  /**
+   * Gets the context of the calling thread.
+   *
+   * @return The thread's context, bound if a turn is being played on this thread.
+   */
+  public static TurnContext current() {
+    return CONTEXTS.get();
+  }
+
+  /**
+   * Binds the context to a turn that is about to be played.
+   *
+   * @param game The game, may be null.
+   * @param service The service playing the turn, may be null.
+   * @param player The player whose turn it is; their last dice roll is set to the roll.
+   * @param roll The sum of the dice.
+   * @param dice The dice that were rolled, for their faces; may be null.
+   * @return This context.
+   */
+  public TurnContext begin(BoardGame game, GameService service, Player player, int roll, Dice dice) {
+    this.game = game;
+    this.program = game != null && game.getBoard() != null ? game.getBoard().getProgram() : null;
+    this.service = service;
+    this.player = player;
+    this.roll = roll;
+    this.faceCount = dice != null ? dice.getCount() : 0;
+    if (faces.length < faceCount) {
+      faces = new int[faceCount];
+    }
+    for (int i = 0; i < faceCount; i++) {
+      faces[i] = dice.getDie(i);
+    }
+    if (player != null) {
+      player.setLastDiceRoll(roll);
+    }
+    return this;
+  }
+
+  /**
+   * Clears the per-turn data once the turn is over, so nothing of it is seen outside the turn.
+   * The random number generator and the event sink are kept.
+   */
+  public void end() {
+    game = null;
+    program = null;
+    service = null;
+    player = null;
+    roll = 0;
+    faceCount = 0;
+  }
+
+  /**
+   * Gets the game the turn is played in.
+   *
+   * @return The game, or null outside a turn.
+   */
+  public BoardGame getGame() {
+    return game;
+  }
+
+  /**
+   * Gets the board of the game.
+   *
+   * @return The board, or null if there is no game.
+   */
+  public Board getBoard() {
+    return game != null ? game.getBoard() : null;
+  }
+
+  /**
+   * Gets the compiled board that landings in this turn are resolved with.
+   *
+   * @return The board's program, or null if there is no game.
+   */
+  public BoardProgram getProgram() {
+    return program;
+  }
+
+  /**
+   * Gets the service playing the turn.
+   *
+   * @return The service, or null outside a turn.
+   */
+  public GameService getService() {
+    return service;
+  }
+
+  /**
+   * Gets the Monopoly service playing the turn.
+   *
+   * @return The service, or null if the turn is not played by a {@link MonopolyService}.
+   */
+  public MonopolyService getMonopolyService() {
+    return service instanceof MonopolyService monopolyService ? monopolyService : null;
+  }
+
+  /**
+   * Gets the player whose turn it is.
+   *
+   * @return The player, or null outside a turn.
+   */
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets the sum of the dice rolled this turn.
+   *
+   * @return The roll, or 0 outside a turn.
+   */
+  public int getRoll() {
+    return roll;
+  }
+
+  /**
+   * Gets the number of dice rolled this turn.
+   *
+   * @return The number of faces available from {@link #getFace(int)}.
+   */
+  public int getFaceCount() {
+    return faceCount;
+  }
+
+  /**
+   * Gets the face of one of the dice rolled this turn.
+   *
+   * @param index The die, from 0 to {@link #getFaceCount()} - 1.
+   * @return The face value.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public int getFace(int index) {
+    if (index < 0 || index >= faceCount) {
+      throw new IndexOutOfBoundsException("Die " + index + " out of bounds for " + faceCount + " dice");
+    }
+    return faces[index];
+  }
+
+  /**
+   * Gets the random number generator for actions that need chance.
+   *
+   * @return The generator set with {@link #setRandom(RandomGenerator)}, or the thread's own by default.
+   */
+  public RandomGenerator getRandom() {
+    return random != null ? random : ThreadLocalRandom.current();
+  }
+
+  /**
+   * Sets the random number generator, e.g. a seeded one for a replayable game.
+   *
+   * @param random The generator, or null for the thread's own.
+   */
+  public void setRandom(RandomGenerator random) {
+    this.random = random;
+  }
+
+  /**
+   * Sets where messages for the players go. The game controller sets a sink on its game thread;
+   * elsewhere, e.g. in simulations, they are dropped by default so turns spend no time on them.
+   *
+   * @param eventSink The sink, or null to drop the messages.
+   */
+  public void setEventSink(Consumer<String> eventSink) {
+    this.eventSink = eventSink != null ? eventSink : NO_SINK;
+  }
+
+  /**
+   * Tells the players what happened, e.g. the description of the tile landed on.
+   *
+   * @param message The message.
+   */
+  public void emit(String message) {
+    eventSink.accept(message);
+  }
+}
@@ -2,6 +2,7 @@ package edu.ntnu.idi.bidata.model.actions;
 
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 
 /**
  * Strategy interface for actions triggered when a player lands on a tile.
@@ -12,5 +13,14 @@ public interface TileAction {
    * @param player the player on which to perform the action
    */
   void perform(Player player);
-}
 
+  /**
+   * Perform this action on the given player, within the turn described by the context.
+   * Actions that need the roll, the game or its service override this instead of looking them up.
+   * @param player the player on which to perform the action
+   * @param context the turn the action is performed in
+   */
+  default void perform(Player player, TurnContext context) {
+    perform(player);
+  }
+}
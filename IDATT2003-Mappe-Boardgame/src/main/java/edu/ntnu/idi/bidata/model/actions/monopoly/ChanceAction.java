@@ -1,9 +1,9 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.model.actions.TileAction;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 
 /**
  * Implements the {@link TileAction} for a "Chance" space in Monopoly.
@@ -32,17 +32,29 @@ public class ChanceAction implements TileAction {
     }
 
     /**
-     * Performs the Chance action for the given player.
-     * This involves printing the action's description to the console and then
-     * instructing the {@link MonopolyService} to handle the drawing of a Chance card for the player.
-     * If the {@link MonopolyService} cannot be located, no card action will occur beyond the print.
+     * Performs the Chance action within the turn bound to the calling thread's {@link TurnContext}.
      *
      * @param player The {@link Player} who landed on the Chance tile.
+     * @see #perform(Player, TurnContext)
      */
     @Override
     public void perform(Player player) {
-        System.out.println(description);
-        MonopolyService service = ServiceLocator.getMonopolyService();
+        perform(player, TurnContext.current());
+    }
+
+    /**
+     * Performs the Chance action for the given player.
+     * This involves emitting the action's description to the context's event sink and then
+     * instructing the context's {@link MonopolyService} to handle the drawing of a Chance card for the player.
+     * If the turn is not played by a {@link MonopolyService}, no card action will occur beyond the message.
+     *
+     * @param player The {@link Player} who landed on the Chance tile.
+     * @param context The turn the player landed in.
+     */
+    @Override
+    public void perform(Player player, TurnContext context) {
+        context.emit(description);
+        MonopolyService service = context.getMonopolyService();
         if (service != null) {
             service.drawChanceCard(player);
         }
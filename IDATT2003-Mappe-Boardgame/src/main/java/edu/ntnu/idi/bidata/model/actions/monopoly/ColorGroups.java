@@ -0,0 +1,89 @@
+package edu.ntnu.idi.bidata.model.actions.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns property color group names as small integer ids.
+ * The standard Monopoly groups are registered up front in board order
+ * (Brown = 0 ... Dark Blue = 7), so their ids are stable and can be used directly as
+ * palette or array indexes. Any other group name gets the next free id the first time it is seen.
+ * Lookups ignore case and surrounding whitespace, and "Magenta" and "Blue" are accepted
+ * as aliases for "Pink" and "Dark Blue".
+ * This class is not meant to be instantiated.
+ */
+public final class ColorGroups {
+    /** Id returned for properties without a color group (railroads, utilities). */
+    public static final int NONE = -1;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final List<String> NAMES = new ArrayList<>();
+
+    static {
+        for (String name : List.of("Brown", "Light Blue", "Pink", "Orange",
+                "Red", "Yellow", "Green", "Dark Blue")) {
+            idOf(name);
+        }
+        IDS.put(normalize("Magenta"), idOf("Pink"));
+        IDS.put(normalize("Blue"), idOf("Dark Blue"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ColorGroups() { }
+
+    /**
+     * Gets the interned id of a color group, registering the name if it is new.
+     *
+     * @param name The color group name, e.g. "Light Blue". May be null.
+     * @return The group id, or {@link #NONE} if the name is null or blank.
+     */
+    public static int idOf(String name) {
+        if (name == null || name.isBlank()) {
+            return NONE;
+        }
+        String key = normalize(name);
+        Integer id = IDS.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (NAMES) {
+            return IDS.computeIfAbsent(key, k -> {
+                NAMES.add(name.trim());
+                return NAMES.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Gets the name a color group id was first registered with.
+     *
+     * @param id The group id.
+     * @return The group name, or null for {@link #NONE} or unknown ids.
+     */
+    public static String nameOf(int id) {
+        synchronized (NAMES) {
+            return id >= 0 && id < NAMES.size() ? NAMES.get(id) : null;
+        }
+    }
+
+    /**
+     * Gets the number of color groups registered so far.
+     * Every id returned by {@link #idOf(String)} is smaller than this value.
+     *
+     * @return The number of registered groups.
+     */
+    public static int count() {
+        synchronized (NAMES) {
+            return NAMES.size();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -35,4 +35,12 @@ public class FreeParkingAction implements TileAction {
         System.out.println(description);
     }
 
+    /**
+     * Gets the description of this free parking action.
+     *
+     * @return The description string.
+     */
+    public String getDescription() {
+        return description;
+    }
 }
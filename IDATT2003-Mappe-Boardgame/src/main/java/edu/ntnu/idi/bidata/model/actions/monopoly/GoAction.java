@@ -36,4 +36,13 @@ public class GoAction implements TileAction {
     public void perform(Player player) {
         player.increaseMoney(reward);
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the amount of money paid out by this GO tile.
+     *
+     * @return The reward amount.
+     */
+    public int getReward() {
+        return reward;
+    }
+}
@@ -1,11 +1,12 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.model.actions.TileAction;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 
 /**
  * Implements the {@link TileAction} for a "Go To Jail" space in Monopoly.
@@ -34,105 +35,102 @@ public class GoToJailAction implements TileAction {
     }
 
     /**
-     * Performs the Go To Jail action for the given player.
-     * This involves printing the action's description, finding the Jail tile on the board,
-     * moving the player to that Jail tile, and then notifying the {@link MonopolyService}
-     * that the player has been sent to jail.
-     * The method searches for the jail tile first by moving forward from the player's current position,
-     * and if not found, then by moving backward.
+     * Performs the Go To Jail action within the turn bound to the calling thread's {@link TurnContext}.
      *
      * @param player The {@link Player} who landed on the Go To Jail tile.
+     * @see #perform(Player, TurnContext)
      */
     @Override
     public void perform(Player player) {
-        System.out.println(description);
+        perform(player, TurnContext.current());
+    }
 
-        // Find jail tile by going backward/forward until we find the target ID
-        Tile current = player.getCurrentTile();
-        // First try to find jail by going forward
-        while (current != null && current.getId() != targetId) {
-            current = current.getNext();
-        }
+    /**
+     * Performs the Go To Jail action for the given player.
+     * This involves emitting the action's description, moving the player to the Jail tile,
+     * and then notifying the context's {@link MonopolyService} that the player has been sent to jail.
+     * When the {@link Board} is known, from the context's game or else from the service, the Jail
+     * tile is looked up by id and the player is moved there directly. Otherwise the tile is searched
+     * for along the next links, and then along the previous links.
+     *
+     * @param player The {@link Player} who landed on the Go To Jail tile.
+     * @param context The turn the player landed in.
+     */
+    @Override
+    public void perform(Player player, TurnContext context) {
+        context.emit(description);
 
-        // If not found, try backward
-        if (current == null || current.getId() != targetId) {
-            current = player.getCurrentTile();
-            while (current != null && current.getId() != targetId) {
-                current = current.getPrevious();
-            }
+        MonopolyService monopolyService = context.getMonopolyService();
+        Board board = context.getBoard();
+        if (board == null && monopolyService != null) {
+            board = monopolyService.getBoard();
         }
-
-        // If we found the jail tile, set player's position directly
-        if (current != null && current.getId() == targetId) {
-            // We need to use the move method to handle any potential jail actions
-            int stepsToJail = calculateSteps(player.getCurrentTile(), current);
-            player.move(stepsToJail);
-            MonopolyService monopolyService = getMonopolyService();
+        Tile jail = board != null ? board.getTile(targetId) : null;
+        if (jail != null) {
+            player.moveTo(jail);
             if (monopolyService != null) {
                 monopolyService.sendToJail(player);
             }
+            return;
+        }
+
+        // No board available: find the jail tile by walking the links
+        int steps = countSteps(player.getCurrentTile(), true);
+        if (steps < 0) {
+            int backwardSteps = countSteps(player.getCurrentTile(), false);
+            if (backwardSteps < 0) {
+                return; // Jail tile not reachable from here
+            }
+            steps = -backwardSteps;
+        }
+
+        // We need to use the move method to handle any potential jail actions
+        player.move(steps);
+        if (monopolyService != null) {
+            monopolyService.sendToJail(player);
         }
     }
 
     /**
-     * Calculates the number of steps (and direction) from a current tile to a target tile.
-     * It first attempts to find the target by moving forwards. If the target is found in the
-     * forward direction, a positive number of steps is returned.
-     * If not found by moving forwards (or if a safety limit of 40 steps is exceeded),
-     * it then calculates the steps by moving backwards (via {@link #calculateReverseSteps(Tile, Tile)})
-     * and returns this as a negative number.
+     * Counts the steps from a tile to the jail tile in one direction.
+     * The walk stops at the end of the path, or when it comes back to the tile it started from,
+     * so it terminates on rings of any size.
      *
-     * @param current The starting {@link Tile}.
-     * @param target The target {@link Tile} to reach.
-     * @return The number of steps to reach the target. Positive for forward, negative for backward.
-     *         Returns a large number of steps (positive or negative) if the target is not found within 40 steps
-     *         in either direction, effectively indicating the target is not reasonably reachable by this simple traversal.
+     * @param start The starting {@link Tile}.
+     * @param forward true to follow the next links, false to follow the previous links.
+     * @return The number of steps to the jail tile, or -1 if it cannot be reached in that direction.
      */
-    private int calculateSteps(Tile current, Tile target) {
-        // This is a simplified calculation to determine direction
-        // Check if we need to go forward or backward
-        Tile temp = current;
-        int forwardSteps = 0;
-        while (temp != null && temp.getId() != target.getId()) {
-            temp = temp.getNext();
-            forwardSteps++;
-            if (forwardSteps > 40) break; // Safety to prevent infinite loop
-        }
-
-        if (temp != null && temp.getId() == target.getId()) {
-            return forwardSteps;
-        } else {
-            return -calculateReverseSteps(current, target);
+    private int countSteps(Tile start, boolean forward) {
+        Tile current = start;
+        int steps = 0;
+        while (current != null) {
+            if (current.getId() == targetId) {
+                return steps;
+            }
+            current = forward ? current.getNext() : current.getPrevious();
+            steps++;
+            if (current == start) {
+                break;
+            }
         }
+        return -1;
     }
 
     /**
-     * Calculates the number of steps required to reach a target tile by moving backwards from a current tile.
-     * This method iterates backwards from the {@code current} tile using {@code getPrevious()} until the
-     * {@code target} tile is found or a maximum of 40 steps is taken (to prevent infinite loops on malformed boards).
+     * Gets the ID of the jail tile this action sends players to.
      *
-     * @param current The starting {@link Tile}.
-     * @param target The target {@link Tile} to reach by moving backwards.
-     * @return The number of backward steps to reach the target. Returns a number greater than 40 if the target
-     *         is not found within 40 backward steps.
+     * @return The target jail tile ID.
      */
-    private int calculateReverseSteps(Tile current, Tile target) {
-        Tile temp = current;
-        int backwardSteps = 0;
-        while (temp != null && temp.getId() != target.getId()) {
-            temp = temp.getPrevious();
-            backwardSteps++;
-            if (backwardSteps > 40) break; // Safety to prevent infinite loop
-        }
-        return backwardSteps;
+    public int getTargetId() {
+        return targetId;
     }
 
     /**
-     * Retrieves the {@link MonopolyService} instance from the {@link ServiceLocator}.
+     * Retrieves the {@link MonopolyService} playing the turn bound to the calling thread's {@link TurnContext}.
      *
-     * @return The {@link MonopolyService} instance, or {@code null} if it has not been registered.
+     * @return The {@link MonopolyService} instance, or {@code null} outside a Monopoly turn.
      */
     public MonopolyService getMonopolyService() {
-        return ServiceLocator.getMonopolyService();
+        return TurnContext.current().getMonopolyService();
     }
 }
\ No newline at end of file
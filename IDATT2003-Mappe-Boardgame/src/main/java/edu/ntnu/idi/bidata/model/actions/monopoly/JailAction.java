@@ -37,5 +37,12 @@ public class JailAction implements TileAction {
         System.out.println(description);
     }
 
+    /**
+     * Gets the description of this jail action.
+     *
+     * @return The description string.
+     */
+    public String getDescription() {
+        return description;
+    }
 }
-
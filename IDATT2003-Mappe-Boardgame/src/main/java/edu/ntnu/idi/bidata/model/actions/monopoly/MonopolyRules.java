@@ -0,0 +1,77 @@
+package edu.ntnu.idi.bidata.model.actions.monopoly;
+
+/**
+ * The Monopoly rules shared by the live game and the state engine: starting money, jail time,
+ * rents and what a player pays when they cannot afford a payment in full.
+ * {@link edu.ntnu.idi.bidata.service.MonopolyService}, the Monopoly tile actions and
+ * {@link edu.ntnu.idi.bidata.service.MonopolyStateService} all take their numbers from here, so
+ * a search on states plays by the same rules as the game on the board.
+ * This class is not meant to be instantiated.
+ */
+public final class MonopolyRules {
+    /** Money every player starts with. */
+    public static final int STARTING_MONEY = 1500;
+    /** Turns a player spends in jail, the last one of which they leave on. */
+    public static final int JAIL_TURNS = 3;
+    /** Rent of a railroad per railroad its owner has. */
+    public static final int RAILROAD_RENT = 25;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private MonopolyRules() { }
+
+    /**
+     * Gets the rent of a property, doubled when its owner has the full color group.
+     *
+     * @param rent The printed rent.
+     * @param fullColorGroup Whether the owner has every property of the color group.
+     * @return The rent.
+     */
+    public static int propertyRent(int rent, boolean fullColorGroup) {
+        return fullColorGroup ? rent * 2 : rent;
+    }
+
+    /**
+     * Gets the rent of a railroad.
+     *
+     * @param railroadsOwned The number of railroads its owner has.
+     * @return The rent.
+     */
+    public static int railroadRent(int railroadsOwned) {
+        return RAILROAD_RENT * railroadsOwned;
+    }
+
+    /**
+     * Gets the rent of a utility: 4 times the roll if its owner has one utility, 10 times if more.
+     *
+     * @param roll The roll that brought the player there.
+     * @param utilitiesOwned The number of utilities its owner has.
+     * @return The rent.
+     */
+    public static int utilityRent(int roll, int utilitiesOwned) {
+        return roll * (utilitiesOwned == 1 ? 4 : 10);
+    }
+
+    /**
+     * Gets what a player pays of an amount they owe, such as a tax: the amount if they can afford
+     * it, otherwise everything they have, which leaves them bankrupt.
+     *
+     * @param money The money of the player.
+     * @param amount The amount owed.
+     * @return The amount taken from the player.
+     */
+    public static int amountPaid(int money, int amount) {
+        return Math.min(money, amount);
+    }
+
+    /**
+     * Gets the jail turns left after a jailed player waits out a turn.
+     *
+     * @param jailTurns The jail turns left before the turn.
+     * @return The jail turns left after it; 0 means the player is released and moves this turn.
+     */
+    public static int jailTurnsAfterWaiting(int jailTurns) {
+        return jailTurns <= 1 ? 0 : jailTurns - 1;
+    }
+}
@@ -4,6 +4,10 @@ import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.actions.TileAction;
 import edu.ntnu.idi.bidata.util.Logger;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
 /**
  * Represents an ownable property on the Monopoly board.
  * This class implements {@link TileAction} and defines the behavior when a player lands on a property tile.
@@ -16,7 +20,9 @@ public class PropertyAction implements TileAction {
     private final int cost;
     private final int rent;
     private final String colorGroup; // Optional property group
+    private final int colorGroupId;
     private Player owner;
+    private final List<Consumer<PropertyAction>> ownerListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Constructs a new PropertyAction without a specified color group.
@@ -30,6 +36,7 @@ public class PropertyAction implements TileAction {
         this.cost = cost;
         this.rent = rent;
         this.colorGroup = null; // Default to null if no color group is provided
+        this.colorGroupId = ColorGroups.NONE;
     }
     
     /**
@@ -45,6 +52,7 @@ public class PropertyAction implements TileAction {
         this.cost = cost;
         this.rent = rent;
         this.colorGroup = colorGroup;
+        this.colorGroupId = ColorGroups.idOf(colorGroup);
     }
 
     /**
@@ -114,6 +122,15 @@ public class PropertyAction implements TileAction {
         return colorGroup;
     }
 
+    /**
+     * Gets the interned id of the property's color group.
+     *
+     * @return The id from {@link ColorGroups}, or {@link ColorGroups#NONE} if not part of a color group.
+     */
+    public int getColorGroupId() {
+        return colorGroupId;
+    }
+
     /**
      * Gets the current owner of the property.
      *
@@ -129,7 +146,33 @@ public class PropertyAction implements TileAction {
      * @param owner The {@link Player} to set as the new owner. Can be {@code null} to indicate the property is unowned.
      */
     public void setOwner(Player owner) {
+        if (this.owner == owner) {
+            return;
+        }
         this.owner = owner;
+        for (Consumer<PropertyAction> listener : ownerListeners) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Registers a listener that is told whenever the owner of this property changes.
+     *
+     * @param listener The listener, called with this property after the owner has been set.
+     */
+    public void addOwnerListener(Consumer<PropertyAction> listener) {
+        if (listener != null) {
+            ownerListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a listener added with {@link #addOwnerListener(Consumer)}.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeOwnerListener(Consumer<PropertyAction> listener) {
+        ownerListeners.remove(listener);
     }
 }
 
@@ -1,8 +1,8 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 
 /**
  * Represents a Railroad property action in a Monopoly-like game.
@@ -17,7 +17,7 @@ public class RailroadAction extends PropertyAction {
      * based on the total number of railroads owned by the proprietor.
      * For example, if a player owns 2 railroads, the rent might be 2 * BASE_RENT.
      */
-    private static final int BASE_RENT = 25;
+    private static final int BASE_RENT = MonopolyRules.RAILROAD_RENT;
 
     /**
      * Constructs a new RailroadAction.
@@ -34,36 +34,39 @@ public class RailroadAction extends PropertyAction {
     }
 
     /**
-     * Performs the action when a player lands on this railroad tile.
-     * This method contains logic that was intended to calculate and apply rent if the railroad is owned by another player.
-     * However, the primary interaction logic (purchase dialogs, full rent transaction) is generally expected
-     * to be handled by the {@link edu.ntnu.idi.bidata.ui.MonopolyGameScene} or {@link MonopolyService}.
-     *
-     * <p>Current behavior of this method if the railroad is owned by another player:
-     * <ol>
-     *   <li>Retrieves the {@link MonopolyService}.</li>
-     *   <li>Gets the count of railroads owned by the proprietor using {@code service.getRailroadsOwnedCount(getOwner())}.</li>
-     *   <li>Calculates {@code rentToPay = BASE_RENT * ownedCount}.</li>
-     * </ol>
-     * If the railroad is unowned, this method currently does nothing.
-     * If the railroad is owned by the current player, this method also does nothing.
+     * Performs the action within the turn bound to the calling thread's {@link TurnContext}.
      *
      * @param player The {@link Player} who landed on the railroad tile.
+     * @see #perform(Player, TurnContext)
      */
     @Override
     public void perform(Player player) {
+        perform(player, TurnContext.current());
+    }
 
-        if (getOwner() == null) {
-        } else if (!getOwner().equals(player)) {
-            // Property is owned by another player. Rent should be paid.
-            MonopolyService service = ServiceLocator.getMonopolyService();
-            if (service != null) {
-                int ownedCount = service.getRailroadsOwnedCount(getOwner());
-                int rentToPay = BASE_RENT * ownedCount; 
-
-                player.decreaseMoney(rentToPay - getRent()); // getRent() here is BASE_RENT (25)
-            } 
-        } 
+    /**
+     * Performs the action when a player lands on this railroad tile.
+     * The rent of a railroad is {@code BASE_RENT} times the number of railroads its owner has.
+     * The base rent of {@link #getRent()} is paid by the layer that handles property landings
+     * (the {@link edu.ntnu.idi.bidata.controller.GameController}), so this method pays the owner
+     * only the rest, {@code BASE_RENT * ownedCount - getRent()}, via {@link MonopolyService#payRent}.
+     * If the railroad is unowned or owned by the player, this method does nothing.
+     *
+     * @param player The {@link Player} who landed on the railroad tile.
+     * @param context The turn the player landed in.
+     */
+    @Override
+    public void perform(Player player, TurnContext context) {
+        if (getOwner() == null || getOwner().equals(player)) {
+            return;
+        }
+        MonopolyService service = context.getMonopolyService();
+        if (service != null) {
+            int ownedCount = service.getRailroadsOwnedCount(getOwner());
+            int surplus = MonopolyRules.railroadRent(ownedCount) - getRent(); // getRent() here is BASE_RENT (25)
+            if (surplus > 0) {
+                service.payRent(player, getOwner(), surplus);
+            }
+        }
     }
 }
-
@@ -26,14 +26,16 @@ public class TaxAction implements TileAction {
      * Performs the tax collection action for the given player.
      * This action deducts the specified {@code taxAmount} from the player's money
      * and prints a message to the console indicating the tax payment.
+     * A player who cannot afford the tax pays everything they have, see {@link MonopolyRules#amountPaid}.
      *
      * @param player The {@link Player} who landed on the tax tile.
      */
     @Override
     public void perform(Player player) {
         // Deduct the tax amount from the player's balance
-        player.decreaseMoney(taxAmount);
-        System.out.println(description + " You paid " + taxAmount + " in taxes.");
+        int paid = MonopolyRules.amountPaid(player.getMoney(), taxAmount);
+        player.decreaseMoney(paid);
+        System.out.println(description + " You paid " + paid + " in taxes.");
     }
 
     /**
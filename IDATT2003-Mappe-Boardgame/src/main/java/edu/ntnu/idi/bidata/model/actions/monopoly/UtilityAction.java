@@ -1,8 +1,8 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 import edu.ntnu.idi.bidata.util.Logger;
 
 /**
@@ -26,6 +26,17 @@ public class UtilityAction extends PropertyAction {
         super(name, cost, 0); // Base rent is 0, actual rent is dynamic.
     }
 
+    /**
+     * Performs the action within the turn bound to the calling thread's {@link TurnContext}.
+     *
+     * @param player The {@link Player} who landed on the utility tile.
+     * @see #perform(Player, TurnContext)
+     */
+    @Override
+    public void perform(Player player) {
+        perform(player, TurnContext.current());
+    }
+
     /**
      * Performs the action when a player lands on this utility tile.
      * <ul>
@@ -34,45 +45,33 @@ public class UtilityAction extends PropertyAction {
      *   <li>If the utility is owned by the current player, no action is taken.</li>
      *   <li>If the utility is owned by another player, rent is calculated and paid:
      *     <ol>
-     *       <li>The current player's last dice roll is retrieved using {@link Player#getLastDiceRoll()}. 
-     *           It is assumed this method is implemented and returns the correct sum of the dice for the turn.</li>
-     *       <li>The {@link MonopolyService} is used to determine the number of utilities the owner possesses.</li>
+     *       <li>The roll of the turn is taken from the context.</li>
+     *       <li>The context's {@link MonopolyService} is used to determine the number of utilities the owner possesses.</li>
      *       <li>A multiplier is determined: 4x if the owner has one utility, 10x if the owner has more than one (typically two).</li>
-     *       <li>The rent is calculated as {@code diceRoll * multiplier}.</li>
-     *       <li>The calculated rent is deducted from the current player's money and added to the owner's money.</li>
-     *       <li>Information about the transaction is logged.</li>
+     *       <li>The rent, {@code roll * multiplier}, is paid to the owner via {@link MonopolyService#payRent}.</li>
      *     </ol>
      *   </li>
      * </ul>
-     * This method directly handles the money transfer for rent.
      *
      * @param player The {@link Player} who landed on the utility tile.
+     * @param context The turn the player landed in.
      */
     @Override
-    public void perform(Player player) {
-        if (getOwner() == null) {
-            // Property is unowned. UI/Service layer would typically handle purchase option.
-            // Logger.info("Player " + player.getName() + " landed on unowned utility: " + getName());
-        } else if (!getOwner().equals(player)) {
-            // Property is owned by another player. Rent is due.
-            // Retrieve last roll from game context or Player
-            int roll = player.getLastDiceRoll(); // implement in Player or via context
-            MonopolyService service = ServiceLocator.getMonopolyService();
-            if (service != null) {
-                int owned = service.getUtilitiesOwnedCount(getOwner());
-                int multiplier = (owned == 1 ? 4 : 10); // If 1 utility owned, 4x roll. If >1 (i.e., 2), 10x roll.
-                int rentToPay = roll * multiplier;
-                player.decreaseMoney(rentToPay);
-                Logger.info("Utility action performed: " + getName() + ". " + owned + " utility/utilities owned by " + getOwner().getName());
-                Logger.info("Player " + player.getName() + " rolled " + roll + ". Rent to pay: " + rentToPay);
-                getOwner().increaseMoney(rentToPay);
-                Logger.info(player.getName() + " paid " + rentToPay + " to " + getOwner().getName());
-            } else {
-                Logger.warning("MonopolyService not available for UtilityAction on " + getName());
-            }
-        } else {
-            // Player landed on their own property.
-            // Logger.info("Player " + player.getName() + " landed on their own utility: " + getName());
+    public void perform(Player player, TurnContext context) {
+        if (getOwner() == null || getOwner().equals(player)) {
+            // Unowned (the UI/service layer offers it for purchase) or the player's own utility.
+            return;
+        }
+        MonopolyService service = context.getMonopolyService();
+        if (service == null) {
+            Logger.warning("MonopolyService not available for UtilityAction on " + getName());
+            return;
         }
+        int roll = context.getRoll();
+        int owned = service.getUtilitiesOwnedCount(getOwner());
+        int rentToPay = MonopolyRules.utilityRent(roll, owned); // If 1 utility owned, 4x roll. If >1 (i.e., 2), 10x roll.
+        Logger.info("Utility action performed: " + getName() + ". " + owned + " utility/utilities owned by " + getOwner().getName());
+        Logger.info("Player " + player.getName() + " rolled " + roll + ". Rent to pay: " + rentToPay);
+        service.payRent(player, getOwner(), rentToPay);
     }
-}
\ No newline at end of file
+}
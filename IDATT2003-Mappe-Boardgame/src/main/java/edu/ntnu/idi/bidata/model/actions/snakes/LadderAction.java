@@ -55,4 +55,13 @@ public class LadderAction implements TileAction {
   public int getSteps() {
     return steps;
   }
+
+  /**
+   * Gets the description of this ladder.
+   *
+   * @return The description string.
+   */
+  public String getDescription() {
+    return description;
+  }
 }
@@ -43,4 +43,13 @@ public class SnakeAction implements TileAction {
   public int getSteps() {
     return steps;
   }
+
+  /**
+   * Gets the description of this snake.
+   *
+   * @return The description string.
+   */
+  public String getDescription() {
+    return description;
+  }
 }
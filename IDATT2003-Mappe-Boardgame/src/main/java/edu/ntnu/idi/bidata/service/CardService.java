@@ -1,66 +1,222 @@
 package edu.ntnu.idi.bidata.service;
 
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
 import edu.ntnu.idi.bidata.model.Card;
-import edu.ntnu.idi.bidata.ui.monopoly.MonopolyGameScene;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * Manages decks of cards for a game.
- * Allows drawing cards from named decks and shuffles them upon initialization.
- * This service also interacts directly with the {@link MonopolyGameScene} to display drawn cards.
+ * Allows drawing cards from named decks, each in its own shuffled order.
+ * Every drawn card is handed to a draw listener, through which the controller shows it in the view.
+ *
+ * <p>The card lists handed to the service are never changed, so several games may share the decks
+ * read from one file. Every service instead keeps, per deck, a permutation of the card indexes
+ * shuffled from its seed and a cursor into it. Decks get ids in the alphabetical order of their
+ * names; drawing by id is a couple of array reads and allocates nothing.</p>
  */
 public class CardService {
-    private final Map<String, List<Card>> decks;
-    private final Map<String, Integer> currentIndexes = new HashMap<>();
+    private final String[] deckNames;
+    private final Map<String, Integer> deckIds = new HashMap<>();
+    private final Card[][] cards; // Shared definitions, in the order they were given
+    private final int[][] orders; // Draw order of every deck, as indexes into cards
+    private final int[] cursors;
+    private final SplittableRandom random;
+    private final long seed;
+    private final boolean reshuffleOnExhaust;
+    private Consumer<Card> drawListener = card -> { }; // Nobody listens by default
 
     /**
-     * Constructs a CardService with a set of named card decks.
-     * Each deck is shuffled upon creation of the service.
+     * Constructs a CardService with a set of named card decks, each shuffled with a random seed.
+     * When a deck runs out, it is drawn again in the same order.
      *
      * @param decks A map where keys are deck names (String) and values are lists of Cards (List&lt;Card&gt;).
-     *              The provided lists will be shuffled.
+     *              The provided lists are not changed.
      */
     public CardService(Map<String, List<Card>> decks) {
-        this.decks = decks;
+        this(decks, new Random().nextLong(), false);
+    }
+
+    /**
+     * Constructs a CardService whose decks are shuffled from the given seed, so the same seed
+     * draws the same cards.
+     *
+     * @param decks A map where keys are deck names (String) and values are lists of Cards (List&lt;Card&gt;).
+     *              The provided lists are not changed.
+     * @param seed The seed of the shuffles.
+     * @param reshuffleOnExhaust Whether a deck is shuffled anew when its last card has been drawn,
+     *                           instead of being drawn again in the same order.
+     */
+    public CardService(Map<String, List<Card>> decks, long seed, boolean reshuffleOnExhaust) {
+        Map<String, List<Card>> sorted = new TreeMap<>(decks);
+        this.deckNames = sorted.keySet().toArray(new String[0]);
+        this.cards = new Card[deckNames.length][];
+        this.orders = new int[deckNames.length][];
+        this.cursors = new int[deckNames.length];
+        this.random = new SplittableRandom(seed);
+        this.seed = seed;
+        this.reshuffleOnExhaust = reshuffleOnExhaust;
 
         // Initialize and shuffle decks
-        for (Map.Entry<String, List<Card>> entry : decks.entrySet()) {
-            Collections.shuffle(entry.getValue());
-            currentIndexes.put(entry.getKey(), 0);
+        for (int id = 0; id < deckNames.length; id++) {
+            List<Card> deck = sorted.get(deckNames[id]);
+            cards[id] = deck != null ? deck.toArray(new Card[0]) : new Card[0];
+            orders[id] = new int[cards[id].length];
+            for (int i = 0; i < orders[id].length; i++) {
+                orders[id][i] = i;
+            }
+            shuffle(orders[id]);
+            deckIds.put(deckNames[id], id);
+        }
+    }
+
+    private void shuffle(int[] order) {
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
         }
     }
 
+    /**
+     * Gets the id of a deck, for drawing without looking the name up every time.
+     *
+     * @param deckName The name of the deck.
+     * @return The id, or -1 if there is no deck with that name.
+     */
+    public int getDeckId(String deckName) {
+        Integer id = deckIds.get(deckName);
+        return id != null ? id : -1;
+    }
+
     /**
      * Draws a card from the specified deck.
-     * Cards are drawn sequentially, and the deck wraps around when the end is reached.
-     * After drawing a card, this method also triggers the UI to display the card image
-     * via a direct call to {@link MonopolyGameScene#displayCardImage(Card)}.
+     * Cards are drawn sequentially, and the deck wraps around (or is reshuffled, if the service was
+     * created to do so) when the end is reached.
+     * The drawn card is handed to the draw listener, see {@link #setDrawListener(Consumer)}.
      *
      * @param deckName The name of the deck to draw from.
      * @return The drawn {@link Card}.
      * @throws IllegalArgumentException if the deck name is not found or the deck is empty.
      */
     public Card drawCard(String deckName) {
-        List<Card> deck = decks.get(deckName);
-        if (deck == null || deck.isEmpty()) {
+        int id = getDeckId(deckName);
+        if (id < 0 || cards[id].length == 0) {
             throw new IllegalArgumentException("Deck not found: " + deckName);
         }
+        return drawCard(id);
+    }
 
-        int index = currentIndexes.getOrDefault(deckName, 0);
-        Card card = deck.get(index);
+    /**
+     * Draws a card from the deck with the given id, like {@link #drawCard(String)}.
+     *
+     * @param deckId The id of the deck, from {@link #getDeckId(String)}.
+     * @return The drawn {@link Card}.
+     * @throws IllegalArgumentException if there is no deck with that id or the deck is empty.
+     */
+    public Card drawCard(int deckId) {
+        if (deckId < 0 || deckId >= cards.length || cards[deckId].length == 0) {
+            throw new IllegalArgumentException("Deck not found: " + deckId);
+        }
+        int[] order = orders[deckId];
+        int index = cursors[deckId];
+        Card card = cards[deckId][order[index]];
 
-        // Move to next card or wrap around
-        index = (index + 1) % deck.size();
-        currentIndexes.put(deckName, index);
+        // Move to next card, and wrap around or reshuffle at the end
+        index++;
+        if (index == order.length) {
+            index = 0;
+            if (reshuffleOnExhaust) {
+                shuffle(order);
+            }
+        }
+        cursors[deckId] = index;
 
-        //Update the UI with the drawn card
-        MonopolyGameScene monopolyGameScene = MonopolyGameScene.getInstance();
-        monopolyGameScene.displayCardImage(card);
+        drawListener.accept(card);
 
         return card;
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets who is told about every drawn card, e.g. the controller showing it in the view.
+     * The listener is called on the thread that draws the card, normally the game thread.
+     *
+     * @param listener Takes the drawn card.
+     * @throws InvalidParameterException if the listener is null.
+     */
+    public void setDrawListener(Consumer<Card> listener) {
+        if (listener == null) {
+            throw new InvalidParameterException("Draw listener cannot be null");
+        }
+        this.drawListener = listener;
+    }
+
+    /**
+     * Gets the card that will be drawn next from a deck, without drawing it.
+     *
+     * @param deckId The id of the deck, from {@link #getDeckId(String)}.
+     * @return The next {@link Card}, or null if there is no deck with that id or the deck is empty.
+     */
+    public Card peekCard(int deckId) {
+        if (deckId < 0 || deckId >= cards.length || cards[deckId].length == 0) {
+            return null;
+        }
+        return cards[deckId][orders[deckId][cursors[deckId]]];
+    }
+
+    /**
+     * Gets the number of decks; their ids run from 0 to this number - 1.
+     *
+     * @return The number of decks.
+     */
+    public int getDeckCount() {
+        return cards.length;
+    }
+
+    /**
+     * Gets the decks, in their current draw order.
+     *
+     * @return A read-only copy of the decks keyed by deck name.
+     */
+    public Map<String, List<Card>> getDecks() {
+        Map<String, List<Card>> decks = new LinkedHashMap<>();
+        for (int id = 0; id < deckNames.length; id++) {
+            List<Card> deck = new ArrayList<>(orders[id].length);
+            for (int index : orders[id]) {
+                deck.add(cards[id][index]);
+            }
+            decks.put(deckNames[id], Collections.unmodifiableList(deck));
+        }
+        return Collections.unmodifiableMap(decks);
+    }
+
+    /**
+     * Gets the index of the next card that will be drawn from a deck.
+     *
+     * @param deckName The name of the deck.
+     * @return The index into the deck in draw order, or 0 if the deck is unknown.
+     */
+    public int getPosition(String deckName) {
+        int id = getDeckId(deckName);
+        return id >= 0 ? cursors[id] : 0;
+    }
+
+    /**
+     * Gets the seed the decks were shuffled from, to replay a game with the same cards.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
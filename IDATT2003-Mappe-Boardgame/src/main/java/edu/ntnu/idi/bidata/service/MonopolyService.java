@@ -1,9 +1,17 @@
 package edu.ntnu.idi.bidata.service;
 
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
 import edu.ntnu.idi.bidata.model.BoardGame;
 import edu.ntnu.idi.bidata.model.Card;
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.PlayerRoster;
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.TurnContext;
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.ColorGroups;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.MonopolyRules;
 import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
@@ -14,18 +22,34 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Monopoly-specific game logic implementing the {@link GameService} interface.
  * Manages player turns, jail status, property ownership, card drawing, and game state for Monopoly.
+ * The solvent players of the game set up last are kept up to date as their money changes, in an
+ * array indexed by their roster id, so checking whether the game is over is an O(1) read. A player
+ * who goes bankrupt leaves the game for good: they are removed from the {@link TurnScheduler},
+ * their properties return to the bank, and money they receive later is ignored.
  */
 public class MonopolyService implements GameService {
-    private int currentPlayerIndex = -1;
+    private TurnScheduler turns = new TurnScheduler(0);
     private final Map<Player, Integer> jailedPlayers = new HashMap<>();
     private final Map<Player, List<PropertyAction>> playerProperties = new HashMap<>();
     private CardService cardService;
     private final Map<Player, Integer> getOutOfJailFreeCards = new HashMap<>();
     private BoardGame game; // Storing game reference from setup
+    // Color group ownership: each property on the board gets one bit within its group
+    private final Map<PropertyAction, Integer> groupMemberBits = new HashMap<>();
+    private int[] groupFullMasks = new int[0];
+    private final Map<Player, int[]> groupOwnership = new HashMap<>();
+    private Predicate<Player> jailCardChooser = player -> true; // Jailed players use their card by default
+    private PlayerRoster trackedRoster = PlayerRoster.empty();
+    private boolean[] solvent = new boolean[0]; // Indexed by roster id
+    private int solventCount;
+    private long solventIdSum; // The id of the last solvent player once only one is left
+    private final Consumer<Player> solvencyTracker = this::trackSolvency;
 
     /**
      * Sets up the Monopoly game.
@@ -37,23 +61,33 @@ public class MonopolyService implements GameService {
      */
     @Override
     public void setup(BoardGame game) {
-        this.game = game; // Store the game instance
         if (game == null) {
             throw new InvalidParameterException("Game cannot be null in MonopolyService.setup");
         }
-        for (Player player : game.getPlayers()) {
-            player.setMoney(1500);
+        untrack();
+        this.game = game; // Store the game instance
+        trackedRoster = rosterOf(game);
+        solvent = new boolean[trackedRoster.size()];
+        turns = new TurnScheduler(trackedRoster.size());
+        for (Player player : trackedRoster) {
+            player.setMoney(MonopolyRules.STARTING_MONEY);
             player.setCurrentTile(game.getBoard().getTile(0)); // Use setCurrentTile
+            player.addMoneyListener(solvencyTracker);
+            trackSolvency(player);
         }
         playerProperties.clear();
         jailedPlayers.clear();
         getOutOfJailFreeCards.clear();
+        indexColorGroups(game.getBoard());
+    }
 
-        if (!game.getPlayers().isEmpty()) {
-            this.currentPlayerIndex = 0;
-        } else {
-            this.currentPlayerIndex = -1;
-        }
+    /**
+     * Gets the board of the game this service was set up with.
+     *
+     * @return The {@link Board}, or null if {@link #setup(BoardGame)} has not been called.
+     */
+    public Board getBoard() {
+        return game != null ? game.getBoard() : null;
     }
 
     /**
@@ -64,8 +98,10 @@ public class MonopolyService implements GameService {
      */
     @Override
     public Player getCurrentPlayer(BoardGame game) { // game param consistent with interface
-        if (this.currentPlayerIndex >= 0 && this.currentPlayerIndex < this.game.getPlayers().size()) {
-            return this.game.getPlayers().get(this.currentPlayerIndex);
+        PlayerRoster players = rosterOf(this.game);
+        int seat = turns.getCurrent();
+        if (seat >= 0 && seat < players.size()) {
+            return players.get(seat);
         }
         return null;
     }
@@ -73,33 +109,28 @@ public class MonopolyService implements GameService {
     /**
      * Plays a turn for the given player.
      * Handles dice rolling, player movement, jail logic (including using Get Out of Jail Free cards),
-     * and advancing to the next player.
+     * and advancing to the next player who is not bankrupt.
      *
      * @param game The {@link BoardGame} instance (parameter consistent with interface, though internal state is used).
      * @param player The {@link Player} whose turn it is.
-     * @return The total dice roll for the turn. Returns 0 if the player is in jail and cannot move.
-     * @throws IllegalArgumentException if the specified player is not in the game or it's not their turn according to this service.
+     * @return The total dice roll for the turn. Returns 0 if the player is in jail and cannot move; the dice are not rolled then.
+     * @throws IllegalArgumentException if the specified player is not in the game, is bankrupt, or it's not their turn according to this service.
      */
     @Override
     public int playTurn(BoardGame game, Player player) { // `game` param from interface
         // Ensure the 'player' passed is indeed the current one
-        if (this.game.getPlayers().isEmpty() || !player.equals(this.game.getPlayers().get(this.currentPlayerIndex))) {
-            int newIndex = this.game.getPlayers().indexOf(player);
-            if (newIndex == -1) {
+        int seat = rosterOf(this.game).indexOf(player);
+        if (seat < 0 || seat != turns.getCurrent()) {
+            if (!turns.isActive(seat)) {
                 throw new IllegalArgumentException("Player " + player.getName() + " is not in the game or not their turn according to MonopolyService.");
             }
-            this.currentPlayerIndex = newIndex; // Sync if controller is authoritative on who is passed
+            turns.setCurrent(seat); // Sync if controller is authoritative on who is passed
         }
 
-
-        // Roll the dice
-        int totalRoll = this.game.getDice().rollDie();
-        Logger.debug("Total roll: " + totalRoll);
-        // We do not include doubles checking
-
+        // Settle jail before rolling, so a player who stays in jail does not roll for nothing
         if (isInJail(player)) {
             // Check if player has Get Out of Jail Free card
-            if (hasGetOutOfJailFreeCard(player)) {
+            if (hasGetOutOfJailFreeCard(player) && jailCardChooser.test(player)) {
                 Logger.info(player.getName() + " uses Get Out of Jail Free card to get out of jail!");
                 // Use the card (decrease count by 1)
                 getOutOfJailFreeCards.put(player, getOutOfJailFreeCards.get(player) - 1);
@@ -112,15 +143,26 @@ public class MonopolyService implements GameService {
 
                 // If still in jail after handling, skip turn
                 if (isInJail(player)) {
-                    currentPlayerIndex = (currentPlayerIndex + 1) % this.game.getPlayers().size();
+                    turns.endTurn(seat);
                     return 0; // Player cannot move
                 }
             }
         }
 
-        player.move(totalRoll); // This should trigger tile actions
-        Logger.info(player.getName() + " (Money: $" + player.getMoney() + ") rolled " + totalRoll);
-        currentPlayerIndex = (currentPlayerIndex + 1) % this.game.getPlayers().size();
+        // Roll the dice
+        int totalRoll = this.game.getDice().rollDie();
+        Logger.debug("Total roll: " + totalRoll);
+        // We do not include doubles checking
+
+        // Bind the turn for the tile actions; cleared again once the turn is over
+        TurnContext context = TurnContext.current().begin(this.game, this, player, totalRoll, this.game.getDice());
+        try {
+            player.move(totalRoll); // This should trigger tile actions
+            Logger.info(player.getName() + " (Money: $" + player.getMoney() + ") rolled " + totalRoll);
+        } finally {
+            context.end();
+        }
+        turns.endTurn(seat); // Already passed on if the player went bankrupt during the turn
 
         return totalRoll; // Or return individual rolls if controller needs them
     }
@@ -134,10 +176,13 @@ public class MonopolyService implements GameService {
      */
     @Override
     public boolean isFinished(BoardGame game) {
+        if (isTracked(game)) {
+            return solventCount <= 1;
+        }
         // Count active (non-bankrupt) players
         int activePlayers = 0;
 
-        for (Player player : game.getPlayers()) {
+        for (Player player : rosterOf(game)) {
             if (player.getMoney() > 0) {
                 activePlayers++;
             }
@@ -157,8 +202,11 @@ public class MonopolyService implements GameService {
      */
     @Override
     public Player getWinner(BoardGame game) {
+        if (isTracked(game) && solventCount <= 1) {
+            return solventCount == 0 ? null : trackedRoster.get((int) solventIdSum);
+        }
         // Find the non-bankrupt player
-        for (Player player : game.getPlayers()) {
+        for (Player player : rosterOf(game)) {
             if (player.getMoney() > 0) {
                 return player;
             }
@@ -166,6 +214,63 @@ public class MonopolyService implements GameService {
         return null;
     }
 
+    private boolean isTracked(BoardGame game) {
+        return game != null && game == this.game && rosterOf(game).size() == trackedRoster.size();
+    }
+
+    private void trackSolvency(Player player) {
+        int id = trackedRoster.indexOf(player);
+        // Bankruptcy is final: money a bankrupt player receives later does not bring them back
+        if (id < 0 || !turns.isActive(id) || solvent[id] == player.getMoney() > 0) {
+            return;
+        }
+        solvent[id] = !solvent[id];
+        solventCount += solvent[id] ? 1 : -1;
+        solventIdSum += solvent[id] ? id : -id;
+        if (!solvent[id]) {
+            declareBankrupt(id, player);
+        }
+    }
+
+    /**
+     * Takes a bankrupt player out of the game: they get no more turns, and their properties and
+     * cards go back to the bank.
+     */
+    private void declareBankrupt(int id, Player player) {
+        turns.remove(id);
+        List<PropertyAction> properties = playerProperties.remove(player);
+        if (properties != null) {
+            for (PropertyAction property : properties) {
+                property.setOwner(null);
+            }
+        }
+        groupOwnership.remove(player);
+        jailedPlayers.remove(player);
+        getOutOfJailFreeCards.remove(player);
+        Logger.info(player.getName() + " is bankrupt and leaves the game.");
+    }
+
+    /**
+     * Gets the roster of a game, built from its player list if it does not keep one.
+     */
+    private static PlayerRoster rosterOf(BoardGame game) {
+        PlayerRoster roster = game.getRoster();
+        return roster != null ? roster : PlayerRoster.of(game.getPlayers());
+    }
+
+    /**
+     * Stops following the money of the players of the game set up before.
+     */
+    private void untrack() {
+        for (Player player : trackedRoster) {
+            player.removeMoneyListener(solvencyTracker);
+        }
+        trackedRoster = PlayerRoster.empty();
+        solvent = new boolean[0];
+        solventCount = 0;
+        solventIdSum = 0;
+    }
+
     /**
      * Sends a player to jail.
      * The player is typically jailed for 3 turns.
@@ -173,7 +278,7 @@ public class MonopolyService implements GameService {
      * @param player The {@link Player} to send to jail.
      */
     public void sendToJail(Player player) {
-        jailedPlayers.put(player, 3); // Standard is 3 turns in jail
+        jailedPlayers.put(player, MonopolyRules.JAIL_TURNS);
     }
 
     /**
@@ -186,6 +291,16 @@ public class MonopolyService implements GameService {
         return jailedPlayers.containsKey(player);
     }
 
+    /**
+     * Gets the number of turns a player still has to sit in jail.
+     *
+     * @param player The {@link Player} to check.
+     * @return The turns left, or 0 if the player is not in jail.
+     */
+    public int getJailTurnsLeft(Player player) {
+        return jailedPlayers.getOrDefault(player, 0);
+    }
+
     /**
      * Handles a turn for a player who is in jail.
      * Decrements the remaining jail turns. If turns run out, the player is released.
@@ -195,11 +310,11 @@ public class MonopolyService implements GameService {
      */
     public void handleJailTurn(Player player) {
         if (isInJail(player)) {
-            int remainingTurns = jailedPlayers.get(player);
-            if (remainingTurns <= 1) {
+            int remainingTurns = MonopolyRules.jailTurnsAfterWaiting(jailedPlayers.get(player));
+            if (remainingTurns == 0) {
                 jailedPlayers.remove(player);
             } else {
-                jailedPlayers.put(player, remainingTurns - 1);
+                jailedPlayers.put(player, remainingTurns);
             }
         }
     }
@@ -280,6 +395,69 @@ public class MonopolyService implements GameService {
      */
     public void addProperty(Player player, PropertyAction property) {
         playerProperties.computeIfAbsent(player, p -> new ArrayList<>()).add(property);
+        Integer bit = groupMemberBits.get(property);
+        if (bit != null) {
+            groupOwnership.computeIfAbsent(player, p -> new int[groupFullMasks.length])[property.getColorGroupId()] |= bit;
+        }
+    }
+
+    /**
+     * Assigns every color-grouped property on the board a bit within its group and records
+     * the mask of a complete group. Groups larger than 31 properties only track their first 31.
+     *
+     * @param board The {@link Board} to index. May be null, in which case no groups are tracked.
+     */
+    private void indexColorGroups(Board board) {
+        groupMemberBits.clear();
+        groupOwnership.clear();
+        groupFullMasks = new int[ColorGroups.count()];
+        if (board == null) {
+            return;
+        }
+        int[] memberCounts = new int[groupFullMasks.length];
+        for (Tile tile : board.getTiles().values()) {
+            if (tile.getAction() instanceof PropertyAction property) {
+                int groupId = property.getColorGroupId();
+                if (groupId >= 0 && groupId < groupFullMasks.length && memberCounts[groupId] < Integer.SIZE - 1) {
+                    int bit = 1 << memberCounts[groupId]++;
+                    groupMemberBits.put(property, bit);
+                    groupFullMasks[groupId] |= bit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a player owns every property of a color group on this board.
+     * Runs in constant time using the ownership bitmask kept up to date by {@link #addProperty}.
+     *
+     * @param player The {@link Player} to check.
+     * @param colorGroupId The group id from {@link ColorGroups}.
+     * @return true if the player owns the whole group.
+     */
+    public boolean ownsFullColorGroup(Player player, int colorGroupId) {
+        if (colorGroupId < 0 || colorGroupId >= groupFullMasks.length || groupFullMasks[colorGroupId] == 0) {
+            return false;
+        }
+        int[] owned = groupOwnership.get(player);
+        return owned != null && owned[colorGroupId] == groupFullMasks[colorGroupId];
+    }
+
+    /**
+     * Calculates the rent due for landing on an owned property.
+     * The base rent is doubled when the owner holds the complete color group.
+     * Railroads and utilities have no color group and keep their base rent here;
+     * their extra rent is handled by their own actions.
+     *
+     * @param property The {@link PropertyAction} landed on.
+     * @return The rent due, or 0 if the property is unowned.
+     */
+    public int getRentDue(PropertyAction property) {
+        Player owner = property.getOwner();
+        if (owner == null) {
+            return 0;
+        }
+        return MonopolyRules.propertyRent(property.getRent(), ownsFullColorGroup(owner, property.getColorGroupId()));
     }
 
     /**
@@ -318,6 +496,29 @@ public class MonopolyService implements GameService {
         this.cardService = cardService;
     }
 
+    /**
+     * Gets the card service used for Chance and Community Chest.
+     *
+     * @return The {@link CardService}, or null if none has been set.
+     */
+    public CardService getCardService() {
+        return cardService;
+    }
+
+    /**
+     * Sets who decides whether a jailed player holding a "Get Out of Jail Free" card uses it.
+     * The chooser is asked at the start of the player's turn in jail; by default every card is used.
+     *
+     * @param chooser Answers true if the player uses a card now, false to keep it and sit out the turn.
+     * @throws InvalidParameterException if the chooser is null.
+     */
+    public void setJailCardChooser(Predicate<Player> chooser) {
+        if (chooser == null) {
+            throw new InvalidParameterException("Jail card chooser cannot be null");
+        }
+        this.jailCardChooser = chooser;
+    }
+
     /**
      * Draws a Chance card for the player and executes its action.
      *
@@ -361,6 +562,16 @@ public class MonopolyService implements GameService {
         return getOutOfJailFreeCards.getOrDefault(player, 0) > 0;
     }
 
+    /**
+     * Gets the number of "Get Out of Jail Free" cards a player holds.
+     *
+     * @param player The {@link Player} to check.
+     * @return The number of cards.
+     */
+    public int getGetOutOfJailFreeCardCount(Player player) {
+        return getOutOfJailFreeCards.getOrDefault(player, 0);
+    }
+
     /**
      * Executes the action associated with a drawn card.
      * Handles various card types like movement, payments, receiving money, and jail-related actions.
@@ -379,15 +590,22 @@ public class MonopolyService implements GameService {
                 Logger.info(player.getName() + " advances to GO and collects $200");
                 break;
             case "AdvanceToIllinoisAve":
-                // Find Illinois Avenue position
-               game.getBoard().getTiles().forEach((key,tile) -> {
-                   if (tile.getAction() instanceof PropertyAction pa) {
-                       if (pa.getName().equals("Illinois Avenue")) {
-                           player.setCurrentTile(tile);
-                           Logger.info(player.getName() + " advanced to Illinois Avenue");
-                       }
-                   }
-               });
+                advanceToProperty(player, "Illinois Avenue");
+                break;
+            case "AdvanceToBoardwalk":
+                advanceToProperty(player, "Boardwalk");
+                break;
+            case "AdvanceToProperty":
+                advanceToProperty(player, card.getStringProperty("target", ""));
+                break;
+            case "AdvanceToRailroad":
+                advanceToProperty(player, card.getStringProperty("target", "Reading Railroad"));
+                break;
+            case "AdvanceToNearestRailroad":
+                advanceToNearest(player, RailroadAction.class, "railroad");
+                break;
+            case "AdvanceToUtility":
+                advanceToNearest(player, UtilityAction.class, "utility");
                 break;
             case "GoBack":
                 int spaces = card.getIntProperty("spaces", 3);
@@ -461,6 +679,62 @@ public class MonopolyService implements GameService {
 
     }
 
+    /**
+     * Moves a player to the property with the given name, using the board's name index.
+     *
+     * @param player The {@link Player} to move.
+     * @param propertyName The name of the target property.
+     */
+    private void advanceToProperty(Player player, String propertyName) {
+        Tile target = game.getBoard().getTileByName(propertyName);
+        if (target == null) {
+            Logger.warning("Advance card target not found on this board: " + propertyName);
+            return;
+        }
+        advanceTo(player, target);
+        Logger.info(player.getName() + " advanced to " + propertyName);
+    }
+
+    /**
+     * Moves a player forward to the nearest tile with the given action type,
+     * using the board's precomputed next-of-type table.
+     *
+     * @param player The {@link Player} to move.
+     * @param type The action type to look for.
+     * @param label A readable name for the type, used in log messages.
+     */
+    private void advanceToNearest(Player player, Class<? extends TileAction> type, String label) {
+        Tile from = player.getCurrentTile();
+        Tile target = from != null ? game.getBoard().getNextTileOfType(from.getId(), type) : null;
+        if (target == null) {
+            Logger.warning("No " + label + " ahead of " + player.getName() + " on this board");
+            return;
+        }
+        advanceTo(player, target);
+        Logger.info(player.getName() + " advanced to the nearest " + label);
+    }
+
+    /**
+     * Places a player on the target tile, paying the GO reward if the forward move
+     * from the player's current tile passes GO.
+     *
+     * @param player The {@link Player} to move.
+     * @param target The {@link Tile} to place the player on.
+     */
+    private void advanceTo(Player player, Tile target) {
+        Board board = game.getBoard();
+        Tile from = player.getCurrentTile();
+        if (from != null && board.isRing()) {
+            Tile go = board.getNextTileOfType(from.getId(), GoAction.class);
+            if (go != null && go != target && board.passes(from.getId(), target.getId(), go.getId())) {
+                int reward = ((GoAction) go.getAction()).getReward();
+                player.increaseMoney(reward);
+                Logger.info(player.getName() + " passed GO and collects $" + reward);
+            }
+        }
+        player.setCurrentTile(target);
+    }
+
     /**
      * Handles special card actions where a player pays or collects money from all other players.
      * For example, "Chairman of the Board" or "Grand Opera Night".
@@ -471,7 +745,7 @@ public class MonopolyService implements GameService {
      * @return The total amount paid by or collected from other players.
      */
     private int handleCardRentActionSpecialCase(Player player, int amountPerPlayer, int totalAccumulated) {
-        for (Player otherPlayer : game.getPlayers()) {
+        for (Player otherPlayer : rosterOf(game)) {
             if (!otherPlayer.equals(player)) {
                 if (otherPlayer.getMoney() >= amountPerPlayer) {
                     otherPlayer.decreaseMoney(amountPerPlayer);
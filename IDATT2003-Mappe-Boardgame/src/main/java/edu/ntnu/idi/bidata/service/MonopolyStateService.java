@@ -0,0 +1,599 @@
+package edu.ntnu.idi.bidata.service;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.BoardGame;
+import edu.ntnu.idi.bidata.model.Card;
+import edu.ntnu.idi.bidata.model.MonopolyState;
+import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.ChanceAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.CommunityChestAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoToJailAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.MonopolyRules;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.TaxAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plays Monopoly turns on immutable {@link MonopolyState}s instead of on the live board and players.
+ * Every method returns a new state and leaves its argument unchanged, so a search can branch off
+ * any state as often as it likes: try buying and not buying, or every possible dice roll.
+ *
+ * <p>The rules follow {@link MonopolyService} and the Monopoly tile actions, and take their numbers
+ * from {@link MonopolyRules} like they do: jail with "Get Out of Jail Free" cards, GO paid when
+ * landed on, taxes, Go To Jail, Chance and Community Chest cards drawn in deck order, and rents.
+ * Railroad rent is paid in the same two parts as in the live game. A player who cannot pay a tax
+ * or rent in full pays what they have and goes bankrupt: their properties and cards go back to
+ * the bank and they get no more turns, as in the {@link TurnScheduler} of the live game.</p>
+ *
+ * <p>The board is compiled into arrays once, in the constructor, and shared by all states.</p>
+ */
+public class MonopolyStateService {
+    /** Deck number of the Chance deck. */
+    public static final int CHANCE_DECK = 0;
+    /** Deck number of the Community Chest deck. */
+    public static final int COMMUNITY_CHEST_DECK = 1;
+    /** Money every player starts with, as in {@link MonopolyService#setup(BoardGame)}. */
+    public static final int STARTING_MONEY = MonopolyRules.STARTING_MONEY;
+
+    private static final int MAX_CHAINED_MOVES = 4; // GoBack cards can land on other card tiles
+
+    private static final byte KIND_PLAIN = 0;
+    private static final byte KIND_GO = 1;
+    private static final byte KIND_PROPERTY = 2;
+    private static final byte KIND_RAILROAD = 3;
+    private static final byte KIND_UTILITY = 4;
+    private static final byte KIND_TAX = 5;
+    private static final byte KIND_GO_TO_JAIL = 6;
+    private static final byte KIND_CHANCE = 7;
+    private static final byte KIND_COMMUNITY_CHEST = 8;
+
+    private final Tile[] tiles;
+    private final byte[] kinds;
+    private final int[] amounts;       // Cost of properties, tax of tax tiles, reward of GO
+    private final int[] rents;
+    private final int[] jailTargets;
+    private final int[][] groupMembers; // Per tile, the tiles of its color group; null if none
+    private final int[] railroads;
+    private final int[] utilities;
+    private final Map<Integer, Integer> indexById = new HashMap<>();
+    private final Map<String, Integer> indexByName = new HashMap<>();
+    private final List<List<Card>> decks;
+
+    /**
+     * Compiles a Monopoly board and its card decks.
+     *
+     * @param board The board. Its tiles must form a ring through the next links, starting at tile 0.
+     * @param decks The card decks keyed by deck name ("chance", "communityChest"), in draw order.
+     *              May be null or empty, in which case card tiles do nothing.
+     * @throws InvalidParameterException if the board is null or not a ring.
+     */
+    public MonopolyStateService(Board board, Map<String, List<Card>> decks) {
+        if (board == null || board.getTile(0) == null) {
+            throw new InvalidParameterException("Board must not be null and must have a tile 0");
+        }
+        List<Tile> ring = new ArrayList<>();
+        Tile start = board.getTile(0);
+        Tile current = start;
+        do {
+            ring.add(current);
+            current = current.getNext();
+        } while (current != null && current != start && ring.size() <= board.getTiles().size());
+        if (current != start) {
+            throw new InvalidParameterException("Board tiles must form a closed ring to be played on states");
+        }
+
+        int size = ring.size();
+        tiles = ring.toArray(new Tile[0]);
+        kinds = new byte[size];
+        amounts = new int[size];
+        rents = new int[size];
+        jailTargets = new int[size];
+        groupMembers = new int[size][];
+        List<Integer> railroadList = new ArrayList<>();
+        List<Integer> utilityList = new ArrayList<>();
+        Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            indexById.put(tiles[i].getId(), i);
+        }
+        for (int i = 0; i < size; i++) {
+            TileAction action = tiles[i].getAction();
+            if (action instanceof RailroadAction railroad) {
+                kinds[i] = KIND_RAILROAD;
+                amounts[i] = railroad.getCost();
+                railroadList.add(i);
+            } else if (action instanceof UtilityAction utility) {
+                kinds[i] = KIND_UTILITY;
+                amounts[i] = utility.getCost();
+                utilityList.add(i);
+            } else if (action instanceof PropertyAction property) {
+                kinds[i] = KIND_PROPERTY;
+                amounts[i] = property.getCost();
+                rents[i] = property.getRent();
+                if (property.getColorGroupId() >= 0) {
+                    groups.computeIfAbsent(property.getColorGroupId(), g -> new ArrayList<>()).add(i);
+                }
+            } else if (action instanceof GoAction go) {
+                kinds[i] = KIND_GO;
+                amounts[i] = go.getReward();
+            } else if (action instanceof TaxAction tax) {
+                kinds[i] = KIND_TAX;
+                amounts[i] = tax.getTaxAmount();
+            } else if (action instanceof GoToJailAction goToJail) {
+                kinds[i] = KIND_GO_TO_JAIL;
+                jailTargets[i] = indexById.getOrDefault(goToJail.getTargetId(), i);
+            } else if (action instanceof ChanceAction) {
+                kinds[i] = KIND_CHANCE;
+            } else if (action instanceof CommunityChestAction) {
+                kinds[i] = KIND_COMMUNITY_CHEST;
+            }
+            if (action instanceof PropertyAction property) {
+                indexByName.put(property.getName(), i);
+            }
+        }
+        for (List<Integer> members : groups.values()) {
+            int[] group = members.stream().mapToInt(Integer::intValue).toArray();
+            for (int tile : group) {
+                groupMembers[tile] = group;
+            }
+        }
+        railroads = railroadList.stream().mapToInt(Integer::intValue).toArray();
+        utilities = utilityList.stream().mapToInt(Integer::intValue).toArray();
+
+        Map<String, List<Card>> deckMap = decks == null ? Map.of() : decks;
+        this.decks = List.of(
+            List.copyOf(deckMap.getOrDefault("chance", List.of())),
+            List.copyOf(deckMap.getOrDefault("communityChest", List.of())));
+    }
+
+    /**
+     * Creates the state at the start of a game, as {@link MonopolyService#setup(BoardGame)} leaves it.
+     *
+     * @param players The number of players.
+     * @return The initial state.
+     * @throws InvalidParameterException if there are no players.
+     */
+    public MonopolyState initialState(int players) {
+        return MonopolyState.initial(players, tiles.length, decks.size(), STARTING_MONEY);
+    }
+
+    /**
+     * Takes a snapshot of a live game, so what-if questions can be asked about it without touching it.
+     *
+     * @param game The game. Its board must be the one this service was made for.
+     * @param service The service running the game, for jail and card state.
+     * @param cardService The card service of the game, for the deck positions; may be null.
+     * @return The snapshot.
+     * @throws InvalidParameterException if the game has no players or a player is off the board.
+     */
+    public MonopolyState capture(BoardGame game, MonopolyService service, CardService cardService) {
+        List<Player> players = game.getPlayers();
+        MonopolyState state = initialState(players.size());
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            Integer position = player.getCurrentTile() != null ? indexById.get(player.getCurrentTile().getId()) : null;
+            if (position == null) {
+                throw new InvalidParameterException("Player " + player.getName() + " is not on the board");
+            }
+            state = state.withPosition(seat, position)
+                .withMoney(seat, player.getMoney())
+                .withJailTurns(seat, service.getJailTurnsLeft(player))
+                .withJailFreeCards(seat, service.getGetOutOfJailFreeCardCount(player));
+        }
+        for (int tile = 0; tile < tiles.length; tile++) {
+            if (tiles[tile].getAction() instanceof PropertyAction property && property.getOwner() != null) {
+                state = state.withOwner(tile, players.indexOf(property.getOwner()));
+            }
+        }
+        if (cardService != null) {
+            state = state.withDeckPosition(CHANCE_DECK, cardService.getPosition("chance"))
+                .withDeckPosition(COMMUNITY_CHEST_DECK, cardService.getPosition("communityChest"));
+        }
+        Player current = service.getCurrentPlayer(game);
+        return current != null ? state.withCurrentPlayer(players.indexOf(current)) : state;
+    }
+
+    /**
+     * Gets the tile at a position on the board ring.
+     *
+     * @param position The position.
+     * @return The tile.
+     */
+    public Tile getTile(int position) {
+        return tiles[position];
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @param state The state.
+     * @return The current seat.
+     */
+    public int getCurrentPlayer(MonopolyState state) {
+        return state.getCurrentPlayer();
+    }
+
+    /**
+     * Plays a turn for the current player with the given roll, like {@link MonopolyService#playTurn}
+     * followed by the action of the tile landed on, and moves on to the next seat.
+     * Buying is not part of a turn; see {@link #purchaseProperty(MonopolyState, int)}.
+     *
+     * @param state The state before the turn.
+     * @param roll The sum of the dice.
+     * @return The state after the turn.
+     */
+    public MonopolyState playTurn(MonopolyState state, int roll) {
+        return playTurn(state, roll, true);
+    }
+
+    /**
+     * Plays a turn like {@link #playTurn(MonopolyState, int)}, but lets a jailed player with a
+     * "Get Out of Jail Free" card choose whether to use it.
+     *
+     * @param state The state before the turn.
+     * @param roll The sum of the dice.
+     * @param useJailCard Whether a jailed player uses a card, if they hold one.
+     * @return The state after the turn.
+     */
+    public MonopolyState playTurn(MonopolyState state, int roll, boolean useJailCard) {
+        int player = state.getCurrentPlayer();
+        state = state.withLastRoll(roll);
+
+        int jailTurns = state.getJailTurns(player);
+        if (jailTurns > 0) {
+            if (useJailCard && state.getJailFreeCards(player) > 0) {
+                state = state.withJailFreeCards(player, state.getJailFreeCards(player) - 1).withJailTurns(player, 0);
+            } else {
+                state = state.withJailTurns(player, MonopolyRules.jailTurnsAfterWaiting(jailTurns));
+                if (state.getJailTurns(player) > 0) {
+                    return state.withCurrentPlayer(nextActiveSeat(state, player));
+                }
+                // Last turn in jail: released and moves
+            }
+        }
+
+        state = move(state, player, roll, 0);
+        return state.withCurrentPlayer(nextActiveSeat(state, player));
+    }
+
+    /**
+     * Gets the seat that plays after a seat, skipping bankrupt players like the {@link TurnScheduler}
+     * of the live game does.
+     *
+     * @return The next seat with money left, or the given seat if nobody else has any.
+     */
+    private static int nextActiveSeat(MonopolyState state, int seat) {
+        int players = state.getPlayerCount();
+        for (int step = 1; step < players; step++) {
+            int next = (seat + step) % players;
+            if (state.getMoney(next) > 0) {
+                return next;
+            }
+        }
+        return seat;
+    }
+
+    /**
+     * Buys the tile a player stands on, like {@link MonopolyService#purchaseProperty}.
+     *
+     * @param state The state.
+     * @param player The seat of the buyer.
+     * @return The state after the purchase, or the same state if the tile is not an unowned
+     *         property the player can afford.
+     */
+    public MonopolyState purchaseProperty(MonopolyState state, int player) {
+        if (!canPurchase(state, player)) {
+            return state;
+        }
+        int tile = state.getPosition(player);
+        return state.withMoney(player, state.getMoney(player) - amounts[tile]).withOwner(tile, player);
+    }
+
+    /**
+     * Tells whether a player stands on an unowned property they can afford.
+     *
+     * @param state The state.
+     * @param player The seat.
+     * @return true if {@link #purchaseProperty(MonopolyState, int)} would buy the tile.
+     */
+    public boolean canPurchase(MonopolyState state, int player) {
+        int tile = state.getPosition(player);
+        return isProperty(tile) && state.getOwner(tile) == MonopolyState.NO_OWNER
+            && state.getMoney(player) >= amounts[tile];
+    }
+
+    /**
+     * Tells whether a tile can be owned.
+     *
+     * @param tile The position on the board ring.
+     * @return true for properties, railroads and utilities.
+     */
+    public boolean isProperty(int tile) {
+        return kinds[tile] == KIND_PROPERTY || kinds[tile] == KIND_RAILROAD || kinds[tile] == KIND_UTILITY;
+    }
+
+    /**
+     * Gets the price of a tile.
+     *
+     * @param tile The position on the board ring.
+     * @return The cost of a property, railroad or utility, or 0 for tiles that cannot be owned.
+     */
+    public int getPrice(int tile) {
+        return isProperty(tile) ? amounts[tile] : 0;
+    }
+
+    /**
+     * Gets what a player is worth: their money plus the price of everything they own.
+     *
+     * @param state The state.
+     * @param player The seat.
+     * @return The net worth.
+     */
+    public int getNetWorth(MonopolyState state, int player) {
+        int worth = state.getMoney(player);
+        for (int tile = 0; tile < tiles.length; tile++) {
+            if (state.getOwner(tile) == player) {
+                worth += amounts[tile];
+            }
+        }
+        return worth;
+    }
+
+    /**
+     * Gets the rent a player would pay for landing on a tile, given the last roll of the state.
+     *
+     * @param state The state.
+     * @param tile The position on the board ring.
+     * @return The rent, or 0 if the tile is unowned or not a property.
+     */
+    public int getRentDue(MonopolyState state, int tile) {
+        int owner = state.getOwner(tile);
+        if (owner == MonopolyState.NO_OWNER) {
+            return 0;
+        }
+        return switch (kinds[tile]) {
+            case KIND_PROPERTY -> MonopolyRules.propertyRent(rents[tile], ownsFullColorGroup(state, owner, tile));
+            case KIND_RAILROAD -> MonopolyRules.railroadRent(countOwned(state, owner, railroads));
+            case KIND_UTILITY -> MonopolyRules.utilityRent(state.getLastRoll(), countOwned(state, owner, utilities));
+            default -> 0;
+        };
+    }
+
+    /**
+     * Checks if the game is over, like {@link MonopolyService#isFinished}: at most one player has money left.
+     *
+     * @param state The state.
+     * @return true if the game has finished.
+     */
+    public boolean isFinished(MonopolyState state) {
+        int active = 0;
+        for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+            if (state.getMoney(seat) > 0) {
+                active++;
+            }
+        }
+        return active <= 1;
+    }
+
+    /**
+     * Gets the winner, like {@link MonopolyService#getWinner}: the first player with money left.
+     *
+     * @param state The state.
+     * @return The seat of the winner, or -1 if nobody has money left.
+     */
+    public int getWinner(MonopolyState state) {
+        for (int seat = 0; seat < state.getPlayerCount(); seat++) {
+            if (state.getMoney(seat) > 0) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    private MonopolyState move(MonopolyState state, int player, int steps, int depth) {
+        int position = Math.floorMod(state.getPosition(player) + steps, tiles.length);
+        return land(state.withPosition(player, position), player, depth);
+    }
+
+    /**
+     * Applies the action of the tile the player now stands on.
+     */
+    private MonopolyState land(MonopolyState state, int player, int depth) {
+        int tile = state.getPosition(player);
+        switch (kinds[tile]) {
+            case KIND_GO:
+                return state.withMoney(player, state.getMoney(player) + amounts[tile]);
+            case KIND_TAX:
+                return pay(state, player, -1, amounts[tile]);
+            case KIND_GO_TO_JAIL:
+                return state.withPosition(player, jailTargets[tile]).withJailTurns(player, MonopolyRules.JAIL_TURNS);
+            case KIND_CHANCE:
+                return drawCard(state, player, CHANCE_DECK, depth);
+            case KIND_COMMUNITY_CHEST:
+                return drawCard(state, player, COMMUNITY_CHEST_DECK, depth);
+            case KIND_PROPERTY:
+            case KIND_RAILROAD:
+            case KIND_UTILITY:
+                int owner = state.getOwner(tile);
+                if (owner == MonopolyState.NO_OWNER || owner == player) {
+                    return state;
+                }
+                if (kinds[tile] == KIND_RAILROAD) {
+                    // The railroad action charges the rent above the base rent, then the base rent
+                    // is charged like that of any property
+                    state = pay(state, player, owner, getRentDue(state, tile) - MonopolyRules.RAILROAD_RENT);
+                    return pay(state, player, owner, MonopolyRules.RAILROAD_RENT);
+                }
+                return pay(state, player, owner, getRentDue(state, tile));
+            default:
+                return state;
+        }
+    }
+
+    /**
+     * Moves money from a player to another player, or to the bank if {@code payee} is -1.
+     * A player who cannot pay in full loses everything they have and the payee gets nothing,
+     * as in {@link MonopolyService#payRent}.
+     */
+    private MonopolyState pay(MonopolyState state, int payer, int payee, int amount) {
+        int money = state.getMoney(payer);
+        int paid = MonopolyRules.amountPaid(money, amount);
+        state = takeMoney(state, payer, paid);
+        return payee < 0 || paid < amount ? state : state.withMoney(payee, state.getMoney(payee) + paid);
+    }
+
+    /**
+     * Takes money from a player. A player left with nothing is bankrupt for good, as in
+     * {@link MonopolyService}: their properties go back to the bank and they lose their jail state.
+     */
+    private MonopolyState takeMoney(MonopolyState state, int player, int amount) {
+        int before = state.getMoney(player);
+        state = state.withMoney(player, before - amount);
+        if (before <= 0 || before - amount > 0) {
+            return state;
+        }
+        for (int tile = 0; tile < tiles.length; tile++) {
+            if (state.getOwner(tile) == player) {
+                state = state.withOwner(tile, MonopolyState.NO_OWNER);
+            }
+        }
+        return state.withJailTurns(player, 0).withJailFreeCards(player, 0);
+    }
+
+    private MonopolyState drawCard(MonopolyState state, int player, int deckNumber, int depth) {
+        List<Card> deck = decks.get(deckNumber);
+        if (deck.isEmpty()) {
+            return state;
+        }
+        int position = state.getDeckPosition(deckNumber);
+        Card card = deck.get(position);
+        state = state.withDeckPosition(deckNumber, (position + 1) % deck.size());
+        return executeCard(state, player, card, depth);
+    }
+
+    /**
+     * Applies a card the same way {@code MonopolyService.executeCardAction} does.
+     */
+    private MonopolyState executeCard(MonopolyState state, int player, Card card, int depth) {
+        switch (card.getType()) {
+            case "AdvanceToGo":
+                return state.withPosition(player, 0).withMoney(player, state.getMoney(player) + 200);
+            case "AdvanceToIllinoisAve":
+                return advanceTo(state, player, indexByName.get("Illinois Avenue"));
+            case "AdvanceToBoardwalk":
+                return advanceTo(state, player, indexByName.get("Boardwalk"));
+            case "AdvanceToProperty":
+                return advanceTo(state, player, indexByName.get(card.getStringProperty("target", "")));
+            case "AdvanceToRailroad":
+                return advanceTo(state, player, indexByName.get(card.getStringProperty("target", "Reading Railroad")));
+            case "AdvanceToNearestRailroad":
+                return advanceTo(state, player, nextOfKind(state.getPosition(player), KIND_RAILROAD));
+            case "AdvanceToUtility":
+                return advanceTo(state, player, nextOfKind(state.getPosition(player), KIND_UTILITY));
+            case "GoBack":
+                if (depth >= MAX_CHAINED_MOVES) {
+                    return state;
+                }
+                return move(state, player, -card.getIntProperty("spaces", 3), depth + 1);
+            case "GetOutOfJailFree":
+                return state.withJailFreeCards(player, state.getJailFreeCards(player) + 1);
+            case "GoToJail":
+                return state.withJailTurns(player, MonopolyRules.JAIL_TURNS);
+            case "PayTax":
+            case "PayPoorTax":
+            case "HospitalFees":
+            case "SchoolFees":
+            case "DoctorFees":
+                int amount = card.getIntProperty("amount", 0);
+                return state.getMoney(player) >= amount ? takeMoney(state, player, amount) : state;
+            case "BankPaysYou":
+            case "BankErrorInYourFavor":
+            case "BuildingLoanMatures":
+            case "CrosswordCompetition":
+            case "SaleOfStock":
+            case "HolidayFundMatures":
+            case "IncomeTaxRefund":
+            case "LifeInsuranceMatures":
+            case "ReceiveConsultancyFee":
+            case "BeautyContest":
+                return state.withMoney(player, state.getMoney(player) + card.getIntProperty("amount", 0));
+            case "ChairmanOfBoard":
+                return collectFromOthers(state, player, card.getIntProperty("amount", 50));
+            case "GrandOperaNight":
+            case "ItsYourBirthday":
+                return collectFromOthers(state, player, card.getIntProperty("amount", 10));
+            default:
+                return state;
+        }
+    }
+
+    /**
+     * Places a player on a tile without landing on it, paying GO if the way there passes it.
+     */
+    private MonopolyState advanceTo(MonopolyState state, int player, Integer target) {
+        if (target == null) {
+            return state;
+        }
+        int from = state.getPosition(player);
+        int go = nextOfKind(from, KIND_GO);
+        int distanceToTarget = Math.floorMod(target - from, tiles.length);
+        int distanceToGo = go < 0 ? -1 : Math.floorMod(go - from, tiles.length);
+        if (go >= 0 && go != target && distanceToGo > 0 && distanceToGo <= distanceToTarget) {
+            state = state.withMoney(player, state.getMoney(player) + amounts[go]);
+        }
+        return state.withPosition(player, target);
+    }
+
+    private MonopolyState collectFromOthers(MonopolyState state, int player, int amountPerPlayer) {
+        int collected = 0;
+        for (int other = 0; other < state.getPlayerCount(); other++) {
+            if (other == player) continue;
+            int paid = MonopolyRules.amountPaid(state.getMoney(other), amountPerPlayer);
+            collected += paid;
+            state = takeMoney(state, other, paid);
+        }
+        return state.withMoney(player, state.getMoney(player) + collected);
+    }
+
+    private int nextOfKind(int from, byte kind) {
+        for (int step = 1; step <= tiles.length; step++) {
+            int tile = (from + step) % tiles.length;
+            if (kinds[tile] == kind) {
+                return tile;
+            }
+        }
+        return -1;
+    }
+
+    private boolean ownsFullColorGroup(MonopolyState state, int owner, int tile) {
+        int[] group = groupMembers[tile];
+        if (group == null) {
+            return false;
+        }
+        for (int member : group) {
+            if (state.getOwner(member) != owner) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int countOwned(MonopolyState state, int owner, int[] candidates) {
+        int count = 0;
+        for (int tile : candidates) {
+            if (state.getOwner(tile) == owner) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
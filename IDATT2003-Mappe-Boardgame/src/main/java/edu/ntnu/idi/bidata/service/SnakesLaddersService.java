@@ -2,14 +2,29 @@ package edu.ntnu.idi.bidata.service;
 
 import edu.ntnu.idi.bidata.model.BoardGame;
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.PlayerRoster;
 import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.TurnContext;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Implements the {@link GameService} interface for a Snakes and Ladders game.
  * Manages player turns, game setup, and determines the game's finished state and winner.
+ *
+ * <p>For the game it was set up with, the service keeps the players on the last tile up to date
+ * as they move, so {@link #isFinished(BoardGame)} and {@link #getWinner(BoardGame)} are O(1)
+ * reads however many players there are. Other games, or a game whose players were changed after
+ * setup, are checked by looking at every player.</p>
  */
 public class SnakesLaddersService implements GameService {
-  private int currentPlayerIndex = -1; // Index in the game.getPlayers() list
+  private TurnScheduler turns = new TurnScheduler(0); // Seats are ids in the roster of the game
+  private BoardGame trackedGame; // The game set up last
+  private PlayerRoster trackedRoster = PlayerRoster.empty();
+  private final Set<Player> playersAtEnd = new LinkedHashSet<>(); // In the order they arrived
+  private final Consumer<Player> positionTracker = this::trackPosition;
 
   /**
    * Sets up the Snakes and Ladders game.
@@ -19,15 +34,19 @@ public class SnakesLaddersService implements GameService {
    */
   @Override
   public void setup(BoardGame game) {
+    untrack();
     Tile start = game.getBoard().getStart();
-    for (Player p : game.getPlayers()) {
+    PlayerRoster players = rosterOf(game);
+    for (Player p : players) {
       p.setCurrentTile(start); // Use setCurrentTile for clarity if Player has it
     }
-    if (!game.getPlayers().isEmpty()) {
-      this.currentPlayerIndex = 0; // First player starts
-    } else {
-      this.currentPlayerIndex = -1;
+    trackedGame = game;
+    trackedRoster = players;
+    for (Player p : players) {
+      p.addMoveListener(positionTracker);
+      trackPosition(p);
     }
+    turns = new TurnScheduler(players.size()); // First player starts
   }
 
   /**
@@ -38,8 +57,10 @@ public class SnakesLaddersService implements GameService {
    */
   @Override
   public Player getCurrentPlayer(BoardGame game) {
-    if (this.currentPlayerIndex >= 0 && this.currentPlayerIndex < game.getPlayers().size()) {
-      return game.getPlayers().get(this.currentPlayerIndex);
+    PlayerRoster players = rosterOf(game);
+    int seat = turns.getCurrent();
+    if (seat >= 0 && seat < players.size()) {
+      return players.get(seat);
     }
     return null;
   }
@@ -57,21 +78,29 @@ public class SnakesLaddersService implements GameService {
   @Override
   public int playTurn(BoardGame game, Player player) {
     // Ensure the player passed IS the current player according to our index
-    if (game.getPlayers().isEmpty() || !player.equals(game.getPlayers().get(this.currentPlayerIndex))) {
-      // Or, if you trust the controller, find the index of 'player' and set it.
-      int newIndex = game.getPlayers().indexOf(player);
-      if (newIndex == -1) {
+    int seat = rosterOf(game).indexOf(player);
+    if (seat < 0 || seat != turns.getCurrent()) {
+      // Or, if you trust the controller, give the turn to 'player'.
+      if (!turns.isActive(seat)) {
         throw new IllegalArgumentException("Player " + player.getName() + " is not in the game or not their turn.");
       }
-      this.currentPlayerIndex = newIndex;
+      turns.setCurrent(seat);
     }
 
     int roll = game.getDice().rollDie();
-    player.move(roll); // Player.move handles tile actions internally
+    TurnContext context = TurnContext.current().begin(game, this, player, roll, game.getDice());
+    try {
+      player.move(roll); // Player.move handles tile actions internally
+    } finally {
+      context.end();
+    }
+    if (isTracked(game)) {
+      trackPosition(player); // Only the mover changes position in a turn; catches moves not reported to listeners
+    }
 
     // Advance to the next player for the *next* turn
-    if (!isFinished(game) && !game.getPlayers().isEmpty()) {
-      this.currentPlayerIndex = (this.currentPlayerIndex + 1) % game.getPlayers().size();
+    if (!isFinished(game)) {
+      turns.endTurn(seat);
     }
     return roll;
   }
@@ -85,7 +114,10 @@ public class SnakesLaddersService implements GameService {
    */
   @Override
   public boolean isFinished(BoardGame game) {
-    return game.getPlayers().stream()
+    if (isTracked(game)) {
+      return !playersAtEnd.isEmpty();
+    }
+    return rosterOf(game).stream()
             .anyMatch(p -> p.getCurrentTile().getNext() == null); // Assuming getNext being null means end
   }
 
@@ -98,9 +130,45 @@ public class SnakesLaddersService implements GameService {
    */
   @Override
   public Player getWinner(BoardGame game) {
-    return game.getPlayers().stream()
+    if (isTracked(game)) {
+      return playersAtEnd.isEmpty() ? null : playersAtEnd.iterator().next();
+    }
+    return rosterOf(game).stream()
             .filter(p -> p.getCurrentTile().getNext() == null)
             .findFirst()
             .orElse(null);
   }
-}
\ No newline at end of file
+
+  private boolean isTracked(BoardGame game) {
+    return game == trackedGame && rosterOf(game).size() == trackedRoster.size();
+  }
+
+  /**
+   * Gets the roster of a game, built from its player list if it does not keep one.
+   */
+  private static PlayerRoster rosterOf(BoardGame game) {
+    PlayerRoster roster = game.getRoster();
+    return roster != null ? roster : PlayerRoster.of(game.getPlayers());
+  }
+
+  private void trackPosition(Player player) {
+    Tile tile = player.getCurrentTile();
+    if (tile != null && tile.getNext() == null) {
+      playersAtEnd.add(player);
+    } else {
+      playersAtEnd.remove(player);
+    }
+  }
+
+  /**
+   * Stops following the players of the game set up before, so a new game starts with a clean slate.
+   */
+  private void untrack() {
+    for (Player p : trackedRoster) {
+      p.removeMoveListener(positionTracker);
+    }
+    trackedGame = null;
+    trackedRoster = PlayerRoster.empty();
+    playersAtEnd.clear();
+  }
+}
@@ -0,0 +1,116 @@
+package edu.ntnu.idi.bidata.service;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+
+/**
+ * Keeps the turn order of the players still in a game, for the {@link GameService} implementations.
+ *
+ * <p>Players are known by their seat, their id in the roster of the game. The active seats form a
+ * circular doubly linked list kept in two arrays, so finding the next player and removing a player,
+ * e.g. on bankruptcy, are O(1) and players who left the game are never looked at again.</p>
+ *
+ * <p>A turn ends with {@link #endTurn(int)} for the seat that played it. If that player was removed
+ * during their own turn, the turn already passed to the next player when they were removed, so it
+ * is not passed on a second time.</p>
+ */
+public final class TurnScheduler {
+    private final int[] next;
+    private final int[] previous;
+    private final boolean[] active;
+    private int activeCount;
+    private int current;
+
+    /**
+     * Creates a scheduler where every seat takes part, starting with seat 0.
+     *
+     * @param seats The number of players.
+     * @throws InvalidParameterException if the number is negative.
+     */
+    public TurnScheduler(int seats) {
+        if (seats < 0) {
+            throw new InvalidParameterException("Number of seats cannot be negative");
+        }
+        this.next = new int[seats];
+        this.previous = new int[seats];
+        this.active = new boolean[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            next[seat] = (seat + 1) % seats;
+            previous[seat] = (seat + seats - 1) % seats;
+            active[seat] = true;
+        }
+        this.activeCount = seats;
+        this.current = seats > 0 ? 0 : -1;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     *
+     * @return The seat, or -1 if no player is left.
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gives the turn to a seat, e.g. when the controller decides who plays.
+     *
+     * @param seat The seat.
+     * @throws IllegalArgumentException if the seat does not take part in the game (anymore).
+     */
+    public void setCurrent(int seat) {
+        if (!isActive(seat)) {
+            throw new IllegalArgumentException("Seat " + seat + " is not in the turn order");
+        }
+        current = seat;
+    }
+
+    /**
+     * Checks whether a seat still takes part in the game.
+     *
+     * @param seat The seat.
+     * @return true if the seat is in the turn order, false if it left or does not exist.
+     */
+    public boolean isActive(int seat) {
+        return seat >= 0 && seat < active.length && active[seat];
+    }
+
+    /**
+     * Gets the number of seats still taking part in the game.
+     *
+     * @return The number of active seats.
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Passes the turn on from a seat that has just played to the next active seat.
+     * Does nothing if the turn was already passed on, because the seat was removed during its turn.
+     *
+     * @param seat The seat that played.
+     */
+    public void endTurn(int seat) {
+        if (seat == current && current >= 0) {
+            current = next[current];
+        }
+    }
+
+    /**
+     * Takes a seat out of the turn order for good. If it was the seat's turn, the turn passes to
+     * the next active seat.
+     *
+     * @param seat The seat.
+     */
+    public void remove(int seat) {
+        if (!isActive(seat)) {
+            return;
+        }
+        active[seat] = false;
+        activeCount--;
+        next[previous[seat]] = next[seat];
+        previous[next[seat]] = previous[seat];
+        if (seat == current) {
+            current = activeCount > 0 ? next[seat] : -1;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package edu.ntnu.idi.bidata.ui;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.util.Logger;
+import javafx.scene.image.Image;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Application-wide cache of decoded images, keyed by resource path and requested size.
+ * Images are kept in least-recently-used order and evicted once their estimated size
+ * (4 bytes per pixel) exceeds the byte budget. Decoding can be done on the calling thread
+ * with {@link #get(String, double, double)} or on a background thread with
+ * {@link #getAsync(String, double, double)}; a decode that is already running is shared
+ * rather than started again. Paths are classpath resources, with or without a leading "/".
+ * This class is not meant to be instantiated.
+ */
+public final class ImageCache {
+  /** Default byte budget for cached images (64 MB). */
+  public static final long DEFAULT_BYTE_BUDGET = 64L * 1024 * 1024;
+
+  private record Key(String path, double width, double height) { }
+
+  private static final Map<Key, Image> CACHE = new LinkedHashMap<>(64, 0.75f, true);
+  private static final Map<Key, CompletableFuture<Image>> IN_FLIGHT = new ConcurrentHashMap<>();
+  private static final ExecutorService DECODER = Executors.newFixedThreadPool(
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)), runnable -> {
+        Thread thread = new Thread(runnable, "image-decoder");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private static long byteBudget = DEFAULT_BYTE_BUDGET;
+  private static long cachedBytes = 0;
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private ImageCache() { }
+
+  /**
+   * Gets an image at its natural size, decoding it on the calling thread if it is not cached.
+   *
+   * @param path The resource path, e.g. "/images/chance_icon.png".
+   * @return The image, or null if the resource could not be loaded.
+   */
+  public static Image get(String path) {
+    return get(path, 0, 0);
+  }
+
+  /**
+   * Gets an image scaled to fit the requested size (preserving its ratio, with smooth scaling),
+   * decoding it on the calling thread if it is not cached. If a background decode of the same
+   * image is running, its result is awaited instead.
+   *
+   * @param path The resource path.
+   * @param width The requested width, or 0 for the natural width.
+   * @param height The requested height, or 0 for the natural height.
+   * @return The image, or null if the resource could not be loaded.
+   */
+  public static Image get(String path, double width, double height) {
+    Key key = keyOf(path, width, height);
+    Image image = lookup(key);
+    if (image != null) {
+      return image;
+    }
+    CompletableFuture<Image> running = IN_FLIGHT.get(key);
+    if (running != null) {
+      return running.join();
+    }
+    return store(key, decode(key));
+  }
+
+  /**
+   * Gets an image scaled to fit the requested size, decoding it on a background thread
+   * if it is not cached. The returned future completes with null if the resource could not
+   * be loaded; callers on the JavaFX thread should hand the result back with
+   * {@code Platform.runLater} before touching the scene graph.
+   *
+   * @param path The resource path.
+   * @param width The requested width, or 0 for the natural width.
+   * @param height The requested height, or 0 for the natural height.
+   * @return A future completing with the image.
+   */
+  public static CompletableFuture<Image> getAsync(String path, double width, double height) {
+    Key key = keyOf(path, width, height);
+    Image image = lookup(key);
+    if (image != null) {
+      return CompletableFuture.completedFuture(image);
+    }
+    CompletableFuture<Image> future = IN_FLIGHT.computeIfAbsent(key,
+        k -> CompletableFuture.supplyAsync(() -> store(k, decode(k)), DECODER));
+    future.whenComplete((result, error) -> IN_FLIGHT.remove(key, future));
+    return future;
+  }
+
+  /**
+   * Starts decoding images in the background so later calls find them in the cache.
+   *
+   * @param paths The resource paths to load at their natural size.
+   */
+  public static void prefetch(String... paths) {
+    for (String path : paths) {
+      getAsync(path, 0, 0);
+    }
+  }
+
+  /**
+   * Sets the byte budget, evicting least recently used images if the cache is over it.
+   *
+   * @param bytes The new budget in bytes; must be positive.
+   * @throws InvalidParameterException if the budget is not positive.
+   */
+  public static synchronized void setByteBudget(long bytes) {
+    if (bytes <= 0) {
+      throw new InvalidParameterException("Byte budget must be positive");
+    }
+    byteBudget = bytes;
+    evict();
+  }
+
+  /**
+   * Gets the estimated number of bytes held by the cached images.
+   *
+   * @return The cached bytes.
+   */
+  public static synchronized long getCachedBytes() {
+    return cachedBytes;
+  }
+
+  /**
+   * Gets the number of cached images.
+   *
+   * @return The number of images.
+   */
+  public static synchronized int size() {
+    return CACHE.size();
+  }
+
+  /**
+   * Removes every image from the cache.
+   */
+  public static synchronized void clear() {
+    CACHE.clear();
+    cachedBytes = 0;
+  }
+
+  private static Key keyOf(String path, double width, double height) {
+    if (path == null || path.isBlank()) {
+      throw new InvalidParameterException("Image path must not be empty");
+    }
+    String normalized = path.startsWith("/") ? path : "/" + path;
+    return new Key(normalized, Math.max(0, width), Math.max(0, height));
+  }
+
+  private static synchronized Image lookup(Key key) {
+    return CACHE.get(key);
+  }
+
+  private static synchronized Image store(Key key, Image image) {
+    if (image == null) {
+      return null;
+    }
+    Image previous = CACHE.put(key, image);
+    if (previous != null) {
+      cachedBytes -= bytesOf(previous);
+    }
+    cachedBytes += bytesOf(image);
+    evict();
+    return image;
+  }
+
+  private static void evict() {
+    Iterator<Image> eldest = CACHE.values().iterator();
+    // Always keep the most recently used image, even if it is larger than the budget on its own
+    while (cachedBytes > byteBudget && CACHE.size() > 1) {
+      cachedBytes -= bytesOf(eldest.next());
+      eldest.remove();
+    }
+  }
+
+  private static long bytesOf(Image image) {
+    return (long) image.getWidth() * (long) image.getHeight() * 4;
+  }
+
+  private static Image decode(Key key) {
+    try (InputStream is = ImageCache.class.getResourceAsStream(key.path())) {
+      if (is == null) {
+        Logger.error("Cannot load image resource from path: " + key.path());
+        return null;
+      }
+      Image image = new Image(is, key.width(), key.height(), true, true);
+      if (image.isError()) {
+        Logger.error("Failed to decode image: " + key.path(), image.getException());
+        return null;
+      }
+      return image;
+    } catch (Exception e) {
+      Logger.error("Failed to load image resource from path: " + key.path(), e);
+      return null;
+    }
+  }
+}
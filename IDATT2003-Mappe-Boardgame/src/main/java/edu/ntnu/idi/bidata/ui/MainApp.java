@@ -9,7 +9,6 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import edu.ntnu.idi.bidata.app.GameVariant;
 import edu.ntnu.idi.bidata.factory.GameFactory;
-import edu.ntnu.idi.bidata.model.BoardGame;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,7 +59,7 @@ public class MainApp extends Application {
 
             String gameSceneKey = (selectedVariant == GameVariant.SNAKES_LADDERS) ? "slGame" : "monoGame";
             sceneManager.clear(gameSceneKey);
-            sceneManager.show(gameSceneKey);
+            sceneManager.showWhenReady(gameSceneKey);
         };
 
         Runnable homeAction = () -> {
@@ -93,7 +92,7 @@ public class MainApp extends Application {
                 this.currentSnakesLaddersTheme = theme;
                 this.selectedVariant = GameVariant.SNAKES_LADDERS; // Ensure variant is set
                 System.out.println("Starting S&L game. Player Details: " + details + ". Selected Theme: " + theme);
-                sceneManager.show("slGame");
+                sceneManager.showWhenReady("slGame");
             };
             return new SnakeLadderPlayerSetupScene(
                 primaryStage,
@@ -108,7 +107,7 @@ public class MainApp extends Application {
             Consumer<List<String>> onStartMono = names -> {
                 this.lastMonopolyPlayerNames = names;
                 this.selectedVariant = GameVariant.MINI_MONOPOLY; // Ensure variant is set
-                sceneManager.show("monoGame");
+                sceneManager.showWhenReady("monoGame");
             };
             return new MonopolyPlayerSetupScene(
                 primaryStage,
@@ -119,19 +118,22 @@ public class MainApp extends Application {
 
 
         // 4a) Snakes & Ladders game scene registration
+        // The game model is created off the FX thread; the scene is built on it
         sceneManager.register("slGame", () -> {
-            if (lastSlPlayerSetupDetails == null || lastSlPlayerSetupDetails.isEmpty()) {
+            List<PlayerSetupData> details = lastSlPlayerSetupDetails;
+            if (details == null || details.isEmpty()) {
+                return null;
+            }
+            return GameFactory.createSnakesLaddersGameWithDetails(details, this.currentSnakesLaddersTheme);
+        }, gameModel -> {
+            if (gameModel == null) {
                 System.err.println("Error: Attempting to start S&L game without player details.");
                 sceneManager.show("slSetup");
                 throw new IllegalStateException("Cannot create S&L game scene without player details. Redirecting.");
             }
 
-            // Create the game model and controller
-            BoardGame gameModel = GameFactory.createSnakesLaddersGameWithDetails(
-                lastSlPlayerSetupDetails,
-                this.currentSnakesLaddersTheme
-            );
-            GameController controller = new GameController(gameModel);
+            // Create the controller
+            GameController controller = GameController.withGameThread(gameModel);
 
             SnakeLadderGameScene snakeLadderGameScene = new SnakeLadderGameScene(
                 primaryStage,
@@ -149,13 +151,18 @@ public class MainApp extends Application {
 
         // 4b) Monopoly game scene registration
         sceneManager.register("monoGame", () -> {
-            if (lastMonopolyPlayerNames == null || lastMonopolyPlayerNames.isEmpty()) {
+            List<String> names = lastMonopolyPlayerNames;
+            if (names == null || names.isEmpty()) {
+                return null;
+            }
+            return GameFactory.createGame(names, GameVariant.MINI_MONOPOLY);
+        }, gameModel -> {
+            if (gameModel == null) {
                 System.err.println("Error: Attempting to start Monopoly game without player names.");
                 sceneManager.show("monoSetup");
                 throw new IllegalStateException("Cannot create Monopoly game scene without player names. Redirecting.");
             }
-            BoardGame gameModel = GameFactory.createGame(lastMonopolyPlayerNames, GameVariant.MINI_MONOPOLY);
-            GameController controller = new GameController(gameModel);
+            GameController controller = GameController.withGameThread(gameModel);
 
             MonopolyGameScene monopolyGameScene = new MonopolyGameScene(
                 primaryStage,
@@ -173,6 +180,8 @@ public class MainApp extends Application {
         sceneManager.show("selection");
         primaryStage.setTitle("Board Game Suite");
         primaryStage.show();
+        // Build the setup screens while the user is looking at the selection screen
+        sceneManager.prewarm("slSetup", "monoSetup");
     }
 
     private String getSetupKey(GameVariant variant) {
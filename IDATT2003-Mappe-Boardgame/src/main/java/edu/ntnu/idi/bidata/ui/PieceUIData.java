@@ -2,18 +2,17 @@ package edu.ntnu.idi.bidata.ui;
 
 import edu.ntnu.idi.bidata.util.Logger;
 import javafx.scene.image.Image;
-import java.io.InputStream;
 import java.util.Objects;
 
 /**
  * Represents UI data for a player piece, including its identifier and image path.
- * This class is responsible for loading and providing the piece's image at different sizes.
+ * This class is responsible for providing the piece's image at different sizes;
+ * every size is decoded once and kept in the shared {@link ImageCache}.
  * It also provides methods for comparison and string representation.
  */
 public class PieceUIData {
   private final String identifier;
   private final String imagePath;
-  private Image image; // Cached image
 
   // Standard size for piece images on the board/UI
   private static final double DEFAULT_IMAGE_SIZE = 30; // Example: For SnakeLadderBoardView
@@ -49,21 +48,11 @@ public class PieceUIData {
    * @return The Image object, or null if an error occurs during loading.
    */
   public Image getImage(double requestedSize) {
-    if (this.image != null && this.image.getWidth() == requestedSize && this.image.getHeight() == requestedSize) {
-      return this.image;
+    Image image = ImageCache.get(this.imagePath, requestedSize, requestedSize); // Preserve ratio, smooth scaling
+    if (image == null) {
+      Logger.error("Error loading piece image: " + this.imagePath + " for size " + requestedSize);
     }
-    try {
-      InputStream is = PieceUIData.class.getResourceAsStream(this.imagePath);
-      if (is == null && !this.imagePath.startsWith("/")) {
-        is = PieceUIData.class.getResourceAsStream("/" + this.imagePath);
-      }
-      Objects.requireNonNull(is, "Cannot load image resource: " + this.imagePath);
-      this.image = new Image(is, requestedSize, requestedSize, true, true); // Preserve ratio, smooth scaling
-    } catch (Exception e) {
-      Logger.error("Error loading piece image: " + this.imagePath + " for size " + requestedSize, e);
-      return null;
-    }
-    return this.image;
+    return image;
   }
 
   /**
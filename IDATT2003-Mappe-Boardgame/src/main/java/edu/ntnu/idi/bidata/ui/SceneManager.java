@@ -1,26 +1,67 @@
 package edu.ntnu.idi.bidata.ui;
 
+import edu.ntnu.idi.bidata.util.Logger;
 import javafx.animation.FadeTransition;
+import javafx.application.Platform;
 // import javafx.scene.Parent; // No longer needed here for onShow/onHide
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Centralized manager for JavaFX scenes. This singleton class handles the registration,
  * loading, caching, and display of scenes, along with transitions between them.
  * It uses {@link ControlledScene} instances to manage individual scenes and their lifecycles.
+ *
+ * <p>A scene can be registered in two phases: a preparer that builds the model and other data
+ * off the FX thread, and a builder that creates the nodes on the FX thread. {@link #prewarm(String...)}
+ * runs both ahead of time so a later {@link #show(String)} finds the scene in the cache.
+ * At most {@link #DEFAULT_MAX_CACHED_SCENES} scenes are cached by default; the least recently
+ * shown scene that is not on screen is evicted first. Prepare, build and show times are logged
+ * and kept per key, see {@link #getTimings(String)}.</p>
  */
 public class SceneManager {
+  /** Default number of scenes kept in the cache. */
+  public static final int DEFAULT_MAX_CACHED_SCENES = 5;
+
+  /**
+   * Time spent preparing, building and showing a scene, in milliseconds.
+   * Each value is the most recent measurement of that phase; a scene shown from the cache
+   * keeps the prepare and build times of the run that created it.
+   *
+   * @param prepareMillis Time spent in the preparer, off the FX thread.
+   * @param buildMillis Time spent building the scene on the FX thread.
+   * @param showMillis Time spent in {@link #show(String, boolean)}, including any waiting and building.
+   */
+  public record Timings(double prepareMillis, double buildMillis, double showMillis) { }
+
+  private record Loader(Supplier<Object> preparer, Function<Object, ControlledScene> builder) { }
+
+  private record Prepared(Object data, double millis) { }
+
   private static SceneManager instance;
   private Stage primaryStage;
-  private final Map<String, Supplier<ControlledScene>> loaders = new HashMap<>();
-  private final Map<String, ControlledScene> cache = new HashMap<>();
+  private final Map<String, Loader> loaders = new HashMap<>();
+  private final Map<String, ControlledScene> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, CompletableFuture<Prepared>> pending = new HashMap<>();
+  private final Map<String, Timings> timings = new HashMap<>();
+  private final ExecutorService preparers = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "scene-prewarm");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private int maxCachedScenes = DEFAULT_MAX_CACHED_SCENES;
   private String currentKey;
   private ControlledScene currentController;
 
@@ -61,27 +102,109 @@ public class SceneManager {
    * @throws IllegalArgumentException if the key or loader is null or the key is blank.
    */
   public void register(String key, Supplier<ControlledScene> loader) {
-    if (key == null || key.isBlank() || loader == null) {
+    if (loader == null) {
+      throw new IllegalArgumentException("Key and loader must not be null or blank.");
+    }
+    register(key, () -> null, ignored -> loader.get());
+  }
+
+  /**
+   * Registers a scene that is created in two phases. The preparer does the work that does not
+   * touch the scene graph (loading boards, creating the game model, decoding images) and may run
+   * on a background thread; the builder turns its result into a {@link ControlledScene} and always
+   * runs on the FX thread.
+   *
+   * @param key      A unique string identifier for the scene/controller.
+   * @param preparer Produces the data the scene is built from. Must not touch live scenes.
+   * @param builder  Constructs the {@link ControlledScene} from the prepared data.
+   * @param <T>      The type of the prepared data.
+   * @throws IllegalArgumentException if the key, preparer or builder is null or the key is blank.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void register(String key, Supplier<T> preparer, Function<T, ControlledScene> builder) {
+    if (key == null || key.isBlank() || preparer == null || builder == null) {
       throw new IllegalArgumentException("Key and loader must not be null or blank.");
     }
-    loaders.put(key, loader);
+    loaders.put(key, new Loader((Supplier<Object>) preparer, (Function<Object, ControlledScene>) builder));
   }
 
   /**
-   * Clears a specific scene and its controller from the cache.
+   * Sets how many scenes are kept in the cache. The scene on screen is never evicted.
+   *
+   * @param maxCachedScenes The maximum number of cached scenes; must be at least 1.
+   * @throws IllegalArgumentException if the value is less than 1.
+   */
+  public void setMaxCachedScenes(int maxCachedScenes) {
+    if (maxCachedScenes < 1) {
+      throw new IllegalArgumentException("At least one scene must be cached.");
+    }
+    this.maxCachedScenes = maxCachedScenes;
+    evictOverflow();
+  }
+
+  /**
+   * Clears a specific scene and its controller from the cache, disposes them, and forgets any pre-warm in progress.
    * If the cleared scene is currently active, the current scene and controller references are nullified.
    *
    * @param key The key of the scene to clear from the cache. If null, the method does nothing.
    */
   public void clear(String key) {
     if (key == null) return;
-    cache.remove(key);
+    ControlledScene cleared = cache.remove(key);
+    pending.remove(key);
+    if (cleared != null) {
+      cleared.dispose();
+    }
     if (key.equals(currentKey)) {
       currentKey = null;
       currentController = null;
     }
   }
 
+  /**
+   * Prepares and builds scenes ahead of time. The preparer of each scene runs on a background
+   * thread, and the scene is then built on the FX thread and put in the cache. Scenes that are
+   * already cached or being pre-warmed are skipped. Must be called on the FX thread.
+   *
+   * @param keys The keys of the scenes to pre-warm.
+   * @throws IllegalArgumentException if no scene is registered with one of the keys.
+   */
+  public void prewarm(String... keys) {
+    for (String key : keys) {
+      startPreparing(key);
+    }
+  }
+
+  /**
+   * Shows a scene once it has been prepared in the background, keeping the FX thread free
+   * meanwhile. Must be called on the FX thread.
+   *
+   * @param key The key of the scene to show.
+   * @return A future that completes after the scene has been shown.
+   * @throws IllegalArgumentException if no scene is registered with the given key.
+   */
+  public CompletableFuture<Void> showWhenReady(String key) {
+    if (cache.containsKey(key)) {
+      show(key);
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Prepared> prepared = startPreparing(key);
+    CompletableFuture<Void> shown = new CompletableFuture<>();
+    prepared.whenComplete((result, error) -> Platform.runLater(() -> {
+      if (error != null) {
+        shown.completeExceptionally(error);
+        return;
+      }
+      try {
+        show(key);
+        shown.complete(null);
+      } catch (RuntimeException e) {
+        shown.completeExceptionally(e);
+      }
+    }));
+    return shown;
+  }
+
   /**
    * Shows the scene associated with the given key, using a default transition.
    * This is a convenience method for {@link #show(String, boolean)} with useTransition set to true.
@@ -97,6 +220,7 @@ public class SceneManager {
   /**
    * Shows the scene associated with the given key, with an option to use a transition effect.
    * It loads the scene if not already cached, calls lifecycle methods on controllers, and sets the scene on the primary stage.
+   * If the scene is being pre-warmed, this waits for its preparer instead of running it again.
    *
    * @param key The key of the scene to show.
    * @param useTransition If true, a fade transition is applied; otherwise, the scene is shown immediately.
@@ -108,24 +232,18 @@ public class SceneManager {
       throw new IllegalStateException("SceneManager not initialized. Call initialize() first.");
     }
     Objects.requireNonNull(key, "Scene key cannot be null.");
+    long start = System.nanoTime();
 
-    Supplier<ControlledScene> loader = loaders.get(key);
-    if (loader == null) {
-      throw new IllegalArgumentException("No scene controller registered with key: " + key);
+    ControlledScene nextController = cache.get(key);
+    if (nextController == null) {
+      Loader loader = loaderFor(key);
+      CompletableFuture<Prepared> running = pending.remove(key);
+      Prepared prepared = running != null ? running.join() : prepare(loader);
+      recordPrepare(key, prepared);
+      nextController = build(key, loader, prepared.data());
+      cache.put(key, nextController);
     }
 
-    ControlledScene nextController = cache.computeIfAbsent(key, k -> {
-      ControlledScene newController = loader.get();
-      if (newController == null || newController.getScene() == null) {
-        throw new IllegalStateException(
-            "Loader for key '" + k + "' returned null controller or controller with null scene.");
-      }
-      if (newController.getScene().getRoot() == null) {
-        throw new IllegalStateException("Scene for key '" + k + "' (from " + newController.getClass().getSimpleName() + ") has a null root node.");
-      }
-      return newController;
-    });
-
     Scene nextScene = nextController.getScene(); // Get Scene from controller
 
     // Notify old controller
@@ -151,6 +269,101 @@ public class SceneManager {
     primaryStage.setScene(nextScene);
     currentKey = key;
     currentController = nextController;
+    evictOverflow();
+
+    Timings last = timings.getOrDefault(key, new Timings(0, 0, 0));
+    timings.put(key, new Timings(last.prepareMillis(), last.buildMillis(), millisSince(start)));
+    Logger.debug(String.format("SceneManager: showed '%s' in %.1f ms", key, millisSince(start)));
+  }
+
+  /**
+   * Gets the time spent preparing, building and showing a scene the last time each happened.
+   *
+   * @param key The key of the scene.
+   * @return The timings, or null if the scene has not been prepared or shown yet.
+   */
+  public Timings getTimings(String key) {
+    return timings.get(key);
+  }
+
+  private Loader loaderFor(String key) {
+    Loader loader = loaders.get(key);
+    if (loader == null) {
+      throw new IllegalArgumentException("No scene controller registered with key: " + key);
+    }
+    return loader;
+  }
+
+  private CompletableFuture<Prepared> startPreparing(String key) {
+    Loader loader = loaderFor(key);
+    CompletableFuture<Prepared> running = pending.get(key);
+    if (running != null || cache.containsKey(key)) {
+      return running != null ? running : CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Prepared> prepared = CompletableFuture.supplyAsync(() -> prepare(loader), preparers);
+    pending.put(key, prepared);
+    prepared.whenComplete((result, error) -> Platform.runLater(() -> {
+      if (pending.get(key) != prepared) {
+        return; // Shown, cleared or restarted in the meantime
+      }
+      pending.remove(key);
+      if (error != null) {
+        Logger.error("SceneManager: failed to pre-warm '" + key + "'", error);
+        return;
+      }
+      try {
+        recordPrepare(key, result);
+        cache.put(key, build(key, loader, result.data()));
+        evictOverflow();
+      } catch (RuntimeException e) {
+        Logger.error("SceneManager: failed to pre-warm '" + key + "'", e);
+      }
+    }));
+    return prepared;
+  }
+
+  private ControlledScene build(String key, Loader loader, Object data) {
+    long buildStart = System.nanoTime();
+    ControlledScene newController = loader.builder().apply(data);
+    if (newController == null || newController.getScene() == null) {
+      throw new IllegalStateException(
+          "Loader for key '" + key + "' returned null controller or controller with null scene.");
+    }
+    if (newController.getScene().getRoot() == null) {
+      throw new IllegalStateException("Scene for key '" + key + "' (from " + newController.getClass().getSimpleName() + ") has a null root node.");
+    }
+    double buildMillis = millisSince(buildStart);
+    Timings last = timings.getOrDefault(key, new Timings(0, 0, 0));
+    timings.put(key, new Timings(last.prepareMillis(), buildMillis, 0));
+    Logger.debug(String.format("SceneManager: built '%s' in %.1f ms", key, buildMillis));
+    return newController;
+  }
+
+  private static Prepared prepare(Loader loader) {
+    long prepareStart = System.nanoTime();
+    Object data = loader.preparer().get();
+    return new Prepared(data, millisSince(prepareStart));
+  }
+
+  private void recordPrepare(String key, Prepared prepared) {
+    timings.put(key, new Timings(prepared.millis(), 0, 0));
+    Logger.debug(String.format("SceneManager: prepared '%s' in %.1f ms", key, prepared.millis()));
+  }
+
+  private void evictOverflow() {
+    Iterator<Map.Entry<String, ControlledScene>> eldest = cache.entrySet().iterator();
+    while (cache.size() > maxCachedScenes && eldest.hasNext()) {
+      Map.Entry<String, ControlledScene> entry = eldest.next();
+      if (!entry.getKey().equals(currentKey)) {
+        eldest.remove();
+        entry.getValue().dispose();
+        Logger.debug("SceneManager: evicted '" + entry.getKey() + "' from the scene cache");
+      }
+    }
+  }
+
+  private static double millisSince(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000.0;
   }
 
   /**
@@ -165,7 +378,7 @@ public class SceneManager {
   /**
    * Interface for scene controllers managed by SceneManager.
    * Implementing classes must provide a {@link Scene} and can optionally override
-   * {@code onShow()} and {@code onHide()} for lifecycle management.
+   * {@code onShow()}, {@code onHide()} and {@code dispose()} for lifecycle management.
    */
   public interface ControlledScene {
     /**
@@ -186,5 +399,11 @@ public class SceneManager {
      * Default implementation does nothing.
      */
     default void onHide() {}
+    /**
+     * Called when the scene is dropped from the cache, i.e. evicted or cleared, and will not be
+     * shown again. Should release what the scene holds, such as its controller's threads.
+     * Default implementation does nothing.
+     */
+    default void dispose() {}
   }
 }
\ No newline at end of file
@@ -12,7 +12,6 @@ import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
-import java.io.InputStream;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -146,13 +145,10 @@ public class SelectionScene implements SceneManager.ControlledScene {
 
   private Image loadImage(String resourcePath) {
     String correctedPath = resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath;
-    InputStream is = getClass().getResourceAsStream(correctedPath);
-    if (is == null) {
-      is = getClass().getClassLoader().getResourceAsStream(resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath);
-    }
-    Objects.requireNonNull(is, "Cannot load image resource from path: " + resourcePath +
+    Image image = ImageCache.get(correctedPath);
+    Objects.requireNonNull(image, "Cannot load image resource from path: " + resourcePath +
         ". Corrected attempted path: " + correctedPath +
         ". Ensure the image is in '/resources" + correctedPath + "' and the path is correct from classpath root.");
-    return new Image(is);
+    return image;
   }
 }
\ No newline at end of file
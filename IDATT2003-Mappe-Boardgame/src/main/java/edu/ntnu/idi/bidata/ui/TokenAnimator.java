@@ -0,0 +1,247 @@
+package edu.ntnu.idi.bidata.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Moves player tokens smoothly along their tile path, driven by a single {@link AnimationTimer}
+ * shared by every token on a board view.
+ *
+ * <p>Each token has at most one track: a list of waypoints it walks through at a fixed speed.
+ * A new move for a token that is still moving is appended to its track instead of starting a
+ * second animation, and the whole remaining track is sped up so it never takes longer than
+ * {@link #MAX_MOVE_MILLIS}. Each frame updates tokens until the frame budget is used up; tokens
+ * left over catch up on a later frame since progress is based on elapsed time. In fast-forward
+ * mode no animation is done at all and tokens are placed on their target directly.</p>
+ *
+ * <p>All methods must be called on the JavaFX Application Thread.</p>
+ */
+public class TokenAnimator {
+  /** Time a token takes to move from one tile to the next. */
+  public static final double STEP_MILLIS = 120;
+  /** Upper bound for the time a token takes to finish its track. */
+  public static final double MAX_MOVE_MILLIS = 1200;
+  /** Default time a frame may spend updating tokens. */
+  public static final long DEFAULT_FRAME_BUDGET_NANOS = 2_000_000;
+
+  private final BiConsumer<Node, Point2D> positioner;
+  private final Function<Node, Point2D> locator;
+  private final Map<Node, Track> tracks = new LinkedHashMap<>();
+  private final AnimationTimer timer;
+  private long frameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+  private boolean fastForward = false;
+  private boolean running = false;
+
+  /**
+   * The remaining path of one token. {@code points.get(0)} is where the current segment started,
+   * and {@code progress} counts the segments done so far, including the fraction of the current one.
+   */
+  private static final class Track {
+    private final List<Point2D> points = new ArrayList<>();
+    private double progress;
+    private double segmentMillis;
+    private long lastUpdateNanos = -1;
+
+    private Point2D target() {
+      return points.get(points.size() - 1);
+    }
+
+    private Point2D position() {
+      int segment = (int) progress;
+      if (segment >= points.size() - 1) {
+        return target();
+      }
+      Point2D from = points.get(segment);
+      Point2D to = points.get(segment + 1);
+      return from.interpolate(to, progress - segment);
+    }
+
+    private void retime() {
+      int segments = Math.max(1, points.size() - 1);
+      segmentMillis = Math.min(STEP_MILLIS, MAX_MOVE_MILLIS / segments);
+    }
+  }
+
+  /**
+   * Creates an animator for the tokens of one board view.
+   *
+   * @param positioner Places a token with its center on the given point.
+   * @param locator Gets the current center of a token.
+   */
+  public TokenAnimator(BiConsumer<Node, Point2D> positioner, Function<Node, Point2D> locator) {
+    this.positioner = positioner;
+    this.locator = locator;
+    this.timer = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        step(now);
+      }
+    };
+  }
+
+  /**
+   * Moves a token through the given waypoints, ending on the last one. If the token is already
+   * moving, the waypoints are added to the end of its current track.
+   *
+   * @param token The token to move.
+   * @param waypoints The centers to pass through, in order. Ignored if empty.
+   */
+  public void animate(Node token, List<Point2D> waypoints) {
+    if (token == null || waypoints == null || waypoints.isEmpty()) {
+      return;
+    }
+    if (fastForward) {
+      place(token, waypoints.get(waypoints.size() - 1));
+      return;
+    }
+
+    Track track = tracks.get(token);
+    if (track == null) {
+      track = new Track();
+      track.points.add(locator.apply(token));
+      tracks.put(token, track);
+    } else {
+      // Coalesce: restart the track from where the token is now, keeping the points still ahead
+      Point2D current = track.position();
+      List<Point2D> ahead = new ArrayList<>(track.points.subList(
+          Math.min((int) track.progress + 1, track.points.size()), track.points.size()));
+      track.points.clear();
+      track.points.add(current);
+      track.points.addAll(ahead);
+      track.progress = 0;
+    }
+    for (Point2D point : waypoints) {
+      if (!point.equals(track.target())) {
+        track.points.add(point);
+      }
+    }
+    track.retime();
+    start();
+  }
+
+  /**
+   * Puts a token on the given point. If the token is moving, the end of its track is changed to
+   * that point instead, so a token shifted to make room for another still finishes its move.
+   *
+   * @param token The token to place.
+   * @param center The new center of the token.
+   */
+  public void place(Node token, Point2D center) {
+    if (token == null || center == null) {
+      return;
+    }
+    Track track = tracks.get(token);
+    if (track != null && !fastForward) {
+      track.points.set(track.points.size() - 1, center);
+      return;
+    }
+    tracks.remove(token);
+    positioner.accept(token, center);
+  }
+
+  /**
+   * Turns fast-forward mode on or off. Turning it on puts every moving token on its target
+   * right away and stops the timer.
+   *
+   * @param fastForward true to skip all animation.
+   */
+  public void setFastForward(boolean fastForward) {
+    this.fastForward = fastForward;
+    if (fastForward) {
+      finishAll();
+    }
+  }
+
+  /**
+   * Tells whether fast-forward mode is on.
+   *
+   * @return true if animation is skipped.
+   */
+  public boolean isFastForward() {
+    return fastForward;
+  }
+
+  /**
+   * Sets how long one frame may spend updating tokens.
+   *
+   * @param nanos The budget in nanoseconds; at least one token is updated per frame regardless.
+   */
+  public void setFrameBudgetNanos(long nanos) {
+    this.frameBudgetNanos = Math.max(0, nanos);
+  }
+
+  /**
+   * Tells whether any token is still moving.
+   *
+   * @return true while at least one track is unfinished.
+   */
+  public boolean isAnimating() {
+    return !tracks.isEmpty();
+  }
+
+  /**
+   * Puts every moving token on its target and stops animating.
+   */
+  public void finishAll() {
+    for (Map.Entry<Node, Track> entry : tracks.entrySet()) {
+      positioner.accept(entry.getKey(), entry.getValue().target());
+    }
+    tracks.clear();
+    stop();
+  }
+
+  private void step(long now) {
+    long frameStart = System.nanoTime();
+    List<Node> updated = new ArrayList<>();
+    Iterator<Map.Entry<Node, Track>> it = tracks.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Node, Track> entry = it.next();
+      Track track = entry.getValue();
+      if (track.lastUpdateNanos < 0) {
+        track.lastUpdateNanos = now;
+      }
+      track.progress += (now - track.lastUpdateNanos) / 1_000_000.0 / track.segmentMillis;
+      track.lastUpdateNanos = now;
+      positioner.accept(entry.getKey(), track.position());
+
+      if (track.progress >= track.points.size() - 1) {
+        it.remove();
+      } else {
+        updated.add(entry.getKey());
+      }
+      if (System.nanoTime() - frameStart > frameBudgetNanos) {
+        break; // Out of time; the rest catch up next frame
+      }
+    }
+    // Move the tokens updated this frame to the back, so the others go first next frame
+    for (Node token : updated) {
+      tracks.put(token, tracks.remove(token));
+    }
+    if (tracks.isEmpty()) {
+      stop();
+    }
+  }
+
+  private void start() {
+    if (!running) {
+      running = true;
+      timer.start();
+    }
+  }
+
+  private void stop() {
+    if (running) {
+      running = false;
+      timer.stop();
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package edu.ntnu.idi.bidata.ui.monopoly;
+
+import edu.ntnu.idi.bidata.model.Card;
+import edu.ntnu.idi.bidata.service.CardService;
+import edu.ntnu.idi.bidata.util.Logger;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Builds the visual of the card that will be drawn next from every deck, on a background thread,
+ * so a drawn card can be shown without decoding its art or laying out its node first.
+ *
+ * <p>The deck order is fixed once a {@link CardService} has shuffled, so the next card of a deck is
+ * known before it is drawn. After every reveal, {@link #prefetchNext()} looks at the next card of
+ * every deck and starts building the ones not yet prepared; {@link #take(Card)} hands out the
+ * prepared node when that card is drawn. The nodes are not part of a scene while they are built,
+ * so building them off the JavaFX Application Thread is safe. An instance is used from the JavaFX
+ * Application Thread only.</p>
+ */
+final class CardPrefetcher {
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "card-prefetcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CardService cardService;
+    private final Function<Card, Node> visuals;
+    private final Card[] preparedCards; // Indexed by deck id
+    private final List<CompletableFuture<Node>> preparedNodes; // Indexed by deck id, null when nothing is prepared
+
+    /**
+     * Creates a prefetcher for the decks of a card service.
+     *
+     * @param cardService The service whose decks are followed.
+     * @param visuals Builds the node showing a card; called on a background thread.
+     */
+    CardPrefetcher(CardService cardService, Function<Card, Node> visuals) {
+        this.cardService = cardService;
+        this.visuals = visuals;
+        this.preparedCards = new Card[cardService.getDeckCount()];
+        this.preparedNodes = new ArrayList<>(Collections.nCopies(cardService.getDeckCount(), null));
+    }
+
+    /**
+     * Starts building the visual of the next card of every deck that does not have it prepared yet.
+     * Visuals prepared for cards that are no longer next, e.g. drawn while nothing was shown, are dropped.
+     */
+    void prefetchNext() {
+        for (int deck = 0; deck < preparedCards.length; deck++) {
+            Card next = cardService.peekCard(deck);
+            if (next == null || next == preparedCards[deck]) {
+                continue;
+            }
+            preparedCards[deck] = next;
+            preparedNodes.set(deck, CompletableFuture.supplyAsync(() -> visuals.apply(next), BUILDER));
+        }
+    }
+
+    /**
+     * Takes the prepared visual of a card that was just drawn, waiting for it if it is still being built.
+     *
+     * @param card The drawn card.
+     * @return The node, or null if the card was not prepared or building it failed.
+     */
+    Node take(Card card) {
+        for (int deck = 0; deck < preparedCards.length; deck++) {
+            if (preparedCards[deck] == card) {
+                CompletableFuture<Node> node = preparedNodes.get(deck);
+                preparedCards[deck] = null;
+                preparedNodes.set(deck, null);
+                try {
+                    return node.join();
+                } catch (RuntimeException e) {
+                    Logger.warning("Could not prepare the card visual in the background.", e);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
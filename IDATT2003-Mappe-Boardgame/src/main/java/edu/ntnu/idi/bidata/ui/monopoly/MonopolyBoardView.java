@@ -1,12 +1,13 @@
 package edu.ntnu.idi.bidata.ui.monopoly;
 
+import edu.ntnu.idi.bidata.model.Board;
 import edu.ntnu.idi.bidata.model.BoardGame;
+import edu.ntnu.idi.bidata.model.BoardProgram;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.Tile;
-import edu.ntnu.idi.bidata.model.actions.monopoly.ChanceAction;
-import edu.ntnu.idi.bidata.model.actions.monopoly.CommunityChestAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.TaxAction;
+import edu.ntnu.idi.bidata.ui.TokenAnimator;
 import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
@@ -20,13 +21,26 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Inner class for rendering the Monopoly board.
  * This class is responsible for the visual representation of the game board,
  * including tiles, player tokens, and property ownership indicators.
+ *
+ * <p>The view listens for owner changes on every property and for moves of every player, and
+ * only records what changed in a set of dirty tiles and a set of dirty players. {@link #refresh()}
+ * then restyles the dirty tiles and re-lays out the tokens on the tiles that dirty players left
+ * or entered, so a refresh with nothing changed does no work. Tokens that moved walk to their
+ * new tile through a {@link TokenAnimator}.</p>
  */
 public class MonopolyBoardView extends Pane {
     public static final double SIZE = 800;
@@ -53,6 +67,27 @@ public class MonopolyBoardView extends Pane {
     private int cellsPerSideGrid;
     private double cellSize;
 
+    // Changes reported by the model since the last refresh; listeners may run off the FX thread
+    private final Set<Integer> dirtyTiles = ConcurrentHashMap.newKeySet();
+    private final Set<Player> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    // Where each token was last drawn, and which tokens were drawn on each tile, in arrival order
+    private final Map<Player, Integer> tokenTileIds = new HashMap<>();
+    private final Map<Integer, List<Player>> tokensOnTile = new HashMap<>();
+
+    private final Consumer<Player> moveListener = dirtyPlayers::add;
+    private final Consumer<PropertyAction> ownerListener = this::onOwnerChanged;
+    private final Map<PropertyAction, Integer> subscribedProperties = new HashMap<>();
+    private final Set<Player> subscribedPlayers = new HashSet<>();
+
+    private static final int MAX_WALKED_STEPS = 12; // Longer moves (cards, jail) go straight to the target
+    private final TokenAnimator tokenAnimator = new TokenAnimator(
+            (node, center) -> {
+                Circle token = (Circle) node;
+                token.setCenterX(center.getX());
+                token.setCenterY(center.getY());
+            },
+            node -> new Point2D(((Circle) node).getCenterX(), ((Circle) node).getCenterY()));
+
     /**
      * Constructs a MonopolyBoardView.
      * Initializes the board layout, visuals, and player tokens.
@@ -72,9 +107,88 @@ public class MonopolyBoardView extends Pane {
         initializeBoardLayout();
         initializeBoardVisuals();
         initializePlayerTokenVisuals(); // Create player tokens on board
+        subscribeToProperties();
+        markAllDirty();
         refresh();
     }
 
+    private void subscribeToProperties() {
+        if (game.getBoard() == null) return;
+        for (Tile tile : game.getBoard().getTiles().values()) {
+            if (tile.getAction() instanceof PropertyAction pa && !subscribedProperties.containsKey(pa)) {
+                subscribedProperties.put(pa, tile.getId());
+                pa.addOwnerListener(ownerListener);
+            }
+        }
+    }
+
+    private void subscribeToPlayer(Player player) {
+        if (subscribedPlayers.add(player)) {
+            player.addMoveListener(moveListener);
+        }
+    }
+
+    private void onOwnerChanged(PropertyAction property) {
+        Integer tileId = subscribedProperties.get(property);
+        if (tileId != null) {
+            dirtyTiles.add(tileId);
+        }
+    }
+
+    /**
+     * Marks a tile so its ownership indicator is redrawn on the next {@link #refresh()}.
+     * Owner changes are picked up automatically; this is for changes the view is not told about.
+     *
+     * @param tileId The id of the tile to redraw.
+     */
+    public void markTileDirty(int tileId) {
+        dirtyTiles.add(tileId);
+    }
+
+    /**
+     * Marks a player so their token is repositioned on the next {@link #refresh()}.
+     * Moves are picked up automatically; this is for changes the view is not told about.
+     *
+     * @param player The player whose token should be repositioned.
+     */
+    public void markPlayerDirty(Player player) {
+        if (player != null) {
+            dirtyPlayers.add(player);
+        }
+    }
+
+    /**
+     * Marks every property tile and every player as dirty, so the next {@link #refresh()}
+     * redraws the whole board.
+     */
+    public void markAllDirty() {
+        dirtyTiles.addAll(subscribedProperties.values());
+        if (game.getPlayers() != null) {
+            dirtyPlayers.addAll(game.getPlayers());
+        }
+    }
+
+    /**
+     * Turns animation of token moves off (fast-forward) or back on.
+     *
+     * @param fastForward true to place tokens on their new tile immediately.
+     */
+    public void setFastForward(boolean fastForward) {
+        tokenAnimator.setFastForward(fastForward);
+    }
+
+    /**
+     * Stops listening to the players and properties of the game.
+     * Called by {@link MonopolyGameScene#dispose()} when the scene is discarded while the game objects live on.
+     */
+    public void dispose() {
+        subscribedProperties.keySet().forEach(pa -> pa.removeOwnerListener(ownerListener));
+        subscribedProperties.clear();
+        subscribedPlayers.forEach(player -> player.removeMoveListener(moveListener));
+        subscribedPlayers.clear();
+        tokenAnimator.finishAll();
+    }
+
     private void initializeBoardLayout() {
         int tileCount = (game.getBoard() != null && game.getBoard().getTiles() != null) ? game.getBoard().getTiles().size() : 0;
         if (tileCount == 0) {
@@ -197,7 +311,8 @@ public class MonopolyBoardView extends Pane {
     }
 
     private Rectangle createColorBar(PropertyAction pa, Point2D tileCenterPos, int tileId) {
-        int colorGroupIndex = getColorGroupIndex(pa.getColorGroup());
+        // Standard groups have fixed ids 0-7 in ColorGroups, matching the palette order
+        int colorGroupIndex = Math.max(0, pa.getColorGroupId());
         Color propertyColor = propertyColors[colorGroupIndex % propertyColors.length];
 
         double barThicknessRatio = 0.22; // Bar takes ~22% of cell's dimension perpendicular to bar
@@ -267,16 +382,21 @@ public class MonopolyBoardView extends Pane {
             // This method creates a single text block (name + optional price).
             // To match the image for complex corners, you'd need a more advanced approach,
             // potentially returning multiple groups or custom nodes for those specific tiles.
-        } else if (tile.getAction() instanceof PropertyAction pa) {
-            nameStr = pa.getName();
-            priceStr = "$" + pa.getCost();
-        } else if (tile.getAction() instanceof ChanceAction) {
-            nameStr = "Chance";
-        } else if (tile.getAction() instanceof CommunityChestAction) {
-            nameStr = "Community Chest";
-        } else if (tile.getAction() instanceof TaxAction ta) {
-            nameStr = ta.getDescription();
-            priceStr = "$" + ta.getTaxAmount();
+        } else {
+            BoardProgram program = game.getBoard().getProgram();
+            switch (program.getOpcode(tile)) {
+                case BoardProgram.OP_PROPERTY, BoardProgram.OP_RAILROAD, BoardProgram.OP_UTILITY -> {
+                    nameStr = ((PropertyAction) tile.getAction()).getName();
+                    priceStr = "$" + ((PropertyAction) tile.getAction()).getCost();
+                }
+                case BoardProgram.OP_CHANCE -> nameStr = "Chance";
+                case BoardProgram.OP_COMMUNITY_CHEST -> nameStr = "Community Chest";
+                case BoardProgram.OP_TAX -> {
+                    nameStr = ((TaxAction) tile.getAction()).getDescription();
+                    priceStr = "$" + ((TaxAction) tile.getAction()).getTaxAmount();
+                }
+                default -> { }
+            }
         }
 
         Text nameTextNode = new Text(nameStr);
@@ -368,24 +488,6 @@ public class MonopolyBoardView extends Pane {
         return rotationAngle;
     }
 
-    private int getColorGroupIndex(String colorGroup) {
-        if (colorGroup == null) return 0;
-        return switch (colorGroup.toLowerCase()) { // Use toLowerCase for robustness
-            case "brown" -> 0;
-            case "light blue" -> 1;
-            case "pink", "magenta" -> 2; // Added magenta as common alias
-            case "orange" -> 3;
-            case "red" -> 4;
-            case "yellow" -> 5;
-            case "green" -> 6;
-            case "dark blue", "blue" -> 7; // Added blue
-            default -> {
-                System.err.println("MonopolyBoardView: Unknown color group '" + colorGroup + "'. Defaulting to Brown.");
-                yield 0;
-            }
-        };
-    }
-
     /**
      * Retrieves the color for a player's token.
      * This color is sourced from the player's token UI element in the side panel if available.
@@ -411,17 +513,27 @@ public class MonopolyBoardView extends Pane {
      */
     public void updatePlayerTokenColors() {
         if (game == null || game.getPlayers() == null) return;
+        boolean colorChanged = false;
         for(Player player : game.getPlayers()){
             Circle tokenOnBoard = playerTokensOnBoard.get(player);
             if(tokenOnBoard != null){
-                tokenOnBoard.setFill(getPlayerColorFromSidePanel(player));
+                Color color = getPlayerColorFromSidePanel(player);
+                if (!color.equals(tokenOnBoard.getFill())) {
+                    tokenOnBoard.setFill(color);
+                    colorChanged = true;
+                }
             } else { // Player token not on board, might be new player
                 Circle newToken = createTokenForPlayer(player);
                 playerTokensOnBoard.put(player, newToken);
                 getChildren().add(newToken);
-                // Position will be updated in refresh()
+                subscribeToPlayer(player);
+                dirtyPlayers.add(player); // Position will be updated in refresh()
             }
         }
+        if (colorChanged) {
+            // Ownership strokes use the player colors as well
+            dirtyTiles.addAll(subscribedProperties.values());
+        }
     }
 
     private Circle createTokenForPlayer(Player player) {
@@ -438,81 +550,139 @@ public class MonopolyBoardView extends Pane {
         // Remove old player token Circle nodes from the scene graph
         getChildren().removeIf(node -> node.getUserData() instanceof Player && node instanceof Circle);
         playerTokensOnBoard.clear(); // Clear the map
+        tokenTileIds.clear();
+        tokensOnTile.clear();
 
         if (game == null || game.getPlayers() == null) return;
         for (Player player : game.getPlayers()) {
             Circle token = createTokenForPlayer(player);
             playerTokensOnBoard.put(player, token);
             getChildren().add(token);
+            subscribeToPlayer(player);
         }
     }
 
     /**
-     * Refreshes the entire board view.
-     * This method updates the visual state of tiles (e.g., ownership indicators)
-     * and repositions player tokens based on their current tile and the presence of other tokens
-     * on the same tile to avoid overlap.
+     * Brings the board view up to date with the changes recorded since the last refresh.
+     * Dirty tiles get their ownership indicator redrawn. Each dirty player whose tile changed is
+     * moved from the token list of the old tile to that of the new one, and only those two tiles
+     * have their tokens laid out again to avoid overlap.
      */
     public void refresh() {
         // Update tile ownership visuals
-        for (int tileId = 0; tileId < game.getBoard().getTiles().size(); tileId++) {
-            Tile tile = game.getBoard().getTile(tileId);
-            Rectangle tileRect = tileRects.get(tileId);
-            if (tileRect == null || tile == null) continue;
-
-            if (tile.getAction() instanceof PropertyAction pa) {
-                if (pa.getOwner() != null) {
-                    tileRect.setStroke(getPlayerColorFromSidePanel(pa.getOwner()));
-                    tileRect.setStrokeWidth(2.5); // Thicker stroke for owned
-                } else {
-                    tileRect.setStroke(Color.DARKSLATEGRAY);
-                    tileRect.setStrokeWidth(1);
-                }
+        for (Iterator<Integer> it = dirtyTiles.iterator(); it.hasNext(); ) {
+            int tileId = it.next();
+            it.remove();
+            restyleTile(tileId);
+        }
+
+        // Update token bookkeeping for players that moved
+        Set<Integer> tilesToLayout = new HashSet<>();
+        Map<Player, Integer> movedFrom = new HashMap<>();
+        for (Iterator<Player> it = dirtyPlayers.iterator(); it.hasNext(); ) {
+            Player player = it.next();
+            it.remove();
+            Integer oldTileId = tokenTileIds.get(player);
+            Integer newTileId = player.getCurrentTile() != null ? player.getCurrentTile().getId() : null;
+            if (oldTileId != null && oldTileId.equals(newTileId)) continue;
+
+            if (oldTileId != null) {
+                tokensOnTile.get(oldTileId).remove(player);
+                tilesToLayout.add(oldTileId);
+                movedFrom.put(player, oldTileId);
+            }
+            if (newTileId != null) {
+                tokenTileIds.put(player, newTileId);
+                tokensOnTile.computeIfAbsent(newTileId, id -> new ArrayList<>()).add(player);
+                tilesToLayout.add(newTileId);
+            } else {
+                tokenTileIds.remove(player);
             }
         }
 
-        // Update player token positions
-        Map<Integer, Integer> playersOnTileCount = new HashMap<>();
-        for (Player player : game.getPlayers()) {
-            if (player.getCurrentTile() != null) {
-                int tileId = player.getCurrentTile().getId();
-                playersOnTileCount.put(tileId, playersOnTileCount.getOrDefault(tileId, 0) + 1);
+        // Update player token positions on the affected tiles
+        for (int tileId : tilesToLayout) {
+            layoutTokensOnTile(tileId, movedFrom);
+        }
+    }
+
+    private void restyleTile(int tileId) {
+        Tile tile = game.getBoard().getTile(tileId);
+        Rectangle tileRect = tileRects.get(tileId);
+        if (tileRect == null || tile == null) return;
+
+        if (tile.getAction() instanceof PropertyAction pa) {
+            if (pa.getOwner() != null) {
+                tileRect.setStroke(getPlayerColorFromSidePanel(pa.getOwner()));
+                tileRect.setStrokeWidth(2.5); // Thicker stroke for owned
+            } else {
+                tileRect.setStroke(Color.DARKSLATEGRAY);
+                tileRect.setStrokeWidth(1);
             }
         }
+    }
 
-        Map<Integer, Integer> currentPlayerIndexOnTile = new HashMap<>();
-        for (Player player : game.getPlayers()) {
-            if (player.getCurrentTile() == null) continue;
-            int tileId = player.getCurrentTile().getId();
-            Point2D tileCenterPos = tileCenterPositions.get(tileId);
+    private void layoutTokensOnTile(int tileId, Map<Player, Integer> movedFrom) {
+        List<Player> playersOnTile = tokensOnTile.get(tileId);
+        Point2D tileCenterPos = tileCenterPositions.get(tileId);
+        if (playersOnTile == null || tileCenterPos == null) return;
+
+        int totalOnThisTile = playersOnTile.size();
+        for (int playerIdxOnTile = 0; playerIdxOnTile < totalOnThisTile; playerIdxOnTile++) {
+            Player player = playersOnTile.get(playerIdxOnTile);
             Circle token = playerTokensOnBoard.get(player);
+            if (token == null) {
+                System.err.println("MonopolyBoardView: Token for player " + player.getName() + " not found during refresh.");
+                continue;
+            }
 
-            if (tileCenterPos != null && token != null) {
-                int totalOnThisTile = playersOnTileCount.get(tileId);
-                int playerIdxOnTile = currentPlayerIndexOnTile.getOrDefault(tileId, 0);
-                currentPlayerIndexOnTile.put(tileId, playerIdxOnTile + 1);
-
-                double offsetX = 0;
-                double offsetY = 0;
-                double offsetStep = TOKEN_RADIUS * 1.5;
-
-                if (totalOnThisTile > 1) {
-                    // Simple grid layout (2xN)
-                    int col = playerIdxOnTile % 2; // 0 or 1
-                    int row = playerIdxOnTile / 2; // 0, 1, 2...
-                    offsetX = (col - 0.5) * offsetStep;
-                    offsetY = (row - ( (double)(totalOnThisTile-1)/2.0 ) /2.0 ) * offsetStep ; // Center rows vertically
-                    if (totalOnThisTile > 6) { // Jitter for many players
-                        offsetX = (Math.random() - 0.5) * cellSize * 0.15;
-                        offsetY = (Math.random() - 0.5) * cellSize * 0.15;
-                    }
+            double offsetX = 0;
+            double offsetY = 0;
+            double offsetStep = TOKEN_RADIUS * 1.5;
+
+            if (totalOnThisTile > 1) {
+                // Simple grid layout (2xN)
+                int col = playerIdxOnTile % 2; // 0 or 1
+                int row = playerIdxOnTile / 2; // 0, 1, 2...
+                offsetX = (col - 0.5) * offsetStep;
+                offsetY = (row - ( (double)(totalOnThisTile-1)/2.0 ) /2.0 ) * offsetStep ; // Center rows vertically
+                if (totalOnThisTile > 6) { // Jitter for many players
+                    offsetX = (Math.random() - 0.5) * cellSize * 0.15;
+                    offsetY = (Math.random() - 0.5) * cellSize * 0.15;
                 }
-                token.setCenterX(tileCenterPos.getX() + offsetX);
-                token.setCenterY(tileCenterPos.getY() + offsetY);
-                token.toFront();
-            } else if (token == null) {
-                System.err.println("MonopolyBoardView: Token for player " + player.getName() + " not found during refresh.");
+            }
+            Point2D target = new Point2D(tileCenterPos.getX() + offsetX, tileCenterPos.getY() + offsetY);
+            Integer fromTileId = movedFrom.get(player);
+            if (fromTileId != null) {
+                List<Point2D> waypoints = walkedTileCenters(fromTileId, tileId);
+                waypoints.add(target);
+                tokenAnimator.animate(token, waypoints);
+            } else {
+                tokenAnimator.place(token, target);
+            }
+            token.toFront();
+        }
+    }
+
+    /**
+     * Gets the centers of the tiles a token passes over when walking forward from one tile to
+     * another, excluding both ends. Moves longer than a dice roll are not walked.
+     */
+    private List<Point2D> walkedTileCenters(int fromTileId, int toTileId) {
+        List<Point2D> centers = new ArrayList<>();
+        Board board = game.getBoard();
+        if (!board.isRing()) return centers;
+        int steps = board.getDistance(fromTileId, toTileId);
+        if (steps > MAX_WALKED_STEPS) return centers;
+
+        Tile tile = board.getTile(fromTileId);
+        for (int i = 1; i < steps && tile != null; i++) {
+            tile = tile.getNext();
+            Point2D center = tile != null ? tileCenterPositions.get(tile.getId()) : null;
+            if (center != null) {
+                centers.add(center);
             }
         }
+        return centers;
     }
-}
\ No newline at end of file
+}
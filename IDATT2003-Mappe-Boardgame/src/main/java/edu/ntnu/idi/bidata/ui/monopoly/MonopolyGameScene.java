@@ -5,8 +5,11 @@ import edu.ntnu.idi.bidata.model.BoardGame;
 import edu.ntnu.idi.bidata.model.Card;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.service.CardService;
+import edu.ntnu.idi.bidata.ui.ImageCache;
 import edu.ntnu.idi.bidata.ui.SceneManager;
 import edu.ntnu.idi.bidata.ui.SceneManager.ControlledScene;
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -30,7 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MonopolyGameScene displays a Monopoly board game interface.
@@ -39,6 +42,9 @@ import java.util.Optional;
  * specific to the Monopoly game, then delegating game logic to the {@link GameController}.
  */
 public class MonopolyGameScene implements ControlledScene {
+    private static final String CHANCE_ICON = "/images/chance_icon.png";
+    private static final String COMMUNITY_CHEST_ICON = "/images/community_chest_icon.png";
+
     private final GameController controller;
     private final BoardGame gameModel;
     private final MonopolyBoardView boardView;
@@ -47,6 +53,7 @@ public class MonopolyGameScene implements ControlledScene {
     private final Map<Player, Label> playerMoneyLabels = new HashMap<>(); // Added for Monopoly
     private final Map<Player, Circle> playerTokenUIs = new HashMap<>(); // Tokens in the side panel
     private final Scene scene;
+    private final CardPrefetcher cardPrefetcher; // Null when the game has no cards
     private Label diceLabel;
     private Button rollButton;
 
@@ -75,7 +82,9 @@ public class MonopolyGameScene implements ControlledScene {
         BorderPane root = new BorderPane();
         root.setStyle("-fx-background-color: #335c33;"); // Dark green background
         // Set up the background image
-        Image bgImg = new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("images/monopoly_bg.jpg")));
+        Image bgImg = Objects.requireNonNull(ImageCache.get("/images/monopoly_bg.jpg"));
+        // Decode the card icons in the background so the first card dialog does not wait for them
+        ImageCache.prefetch(CHANCE_ICON, COMMUNITY_CHEST_ICON);
         ImageView bgView = new ImageView(bgImg);
         bgView.setPreserveRatio(true);
         root.getChildren().add(bgView);
@@ -99,6 +108,13 @@ public class MonopolyGameScene implements ControlledScene {
         scene.getStylesheets().add(
                 Objects.requireNonNull(getClass().getClassLoader().getResource("css/monopoly.css")).toExternalForm()
         );
+
+        // Prepare the first card of every deck, so the first reveal is instant as well
+        CardService cardService = gameController != null ? gameController.getCardService() : null;
+        cardPrefetcher = cardService != null ? new CardPrefetcher(cardService, MonopolyGameScene::buildCardVisual) : null;
+        if (cardPrefetcher != null) {
+            cardPrefetcher.prefetchNext();
+        }
     }
 
     /**
@@ -142,6 +158,16 @@ public class MonopolyGameScene implements ControlledScene {
      */
     public Parent getRoot() { return scene.getRoot(); } // For SceneManager
 
+    /**
+     * Disposes the controller of the game and stops the board view listening to the players and
+     * properties when the scene is dropped by the SceneManager.
+     */
+    @Override
+    public void dispose() {
+        controller.dispose();
+        boardView.dispose();
+    }
+
     /**
      * Gets the MonopolyBoardView associated with this game scene.
      *
@@ -407,12 +433,14 @@ public class MonopolyGameScene implements ControlledScene {
 
     /**
      * Shows a dialog asking the player if they want to purchase a property.
+     * The dialog does not block; the answer is delivered through the returned future
+     * once the dialog is closed. Must be called on the JavaFX Application Thread.
      *
      * @param player The player who landed on the property.
      * @param propertyAction The action associated with the property, containing its details.
-     * @return True if the player chooses to buy the property, false otherwise.
+     * @return A future completing with true if the player chooses to buy the property, false otherwise.
      */
-    public boolean showPropertyPurchaseDialog(Player player, PropertyAction propertyAction) {
+    public CompletableFuture<Boolean> promptPropertyPurchase(Player player, PropertyAction propertyAction) {
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle("Property Available");
         alert.setHeaderText("Buy Property: " + propertyAction.getName() + " (" + propertyAction.getColorGroup() + ")");
@@ -425,8 +453,10 @@ public class MonopolyGameScene implements ControlledScene {
         ButtonType passButton = ButtonType.CANCEL;
         alert.getButtonTypes().setAll(buyButton, passButton);
 
-        Optional<ButtonType> result = alert.showAndWait();
-        return result.isPresent() && result.get() == buyButton;
+        CompletableFuture<Boolean> answer = new CompletableFuture<>();
+        alert.setOnHidden(e -> answer.complete(alert.getResult() == buyButton));
+        alert.show();
+        return answer;
     }
 
     /**
@@ -442,16 +472,25 @@ public class MonopolyGameScene implements ControlledScene {
         alert.setTitle(title);
         alert.setHeaderText(header);
         alert.setContentText(content);
-        alert.showAndWait();
+        alert.show(); // Non-blocking, so the turn can carry on while the message is read
     }
 
     /**
      * Displays a card (Chance or Community Chest) in a styled popup dialog.
      * The dialog shows the card type, an icon, and the card's description.
+     * The controller passes drawn cards on from the game thread; a call from any thread other than
+     * the JavaFX Application Thread is handed over to it. Nothing is shown while the game is auto-playing.
      *
      * @param card The {@link Card} object to display.
      */
     public void displayCardImage(Card card) {
+        if (controller != null && controller.isAutoPlaying()) {
+            return;
+        }
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> displayCardImage(card));
+            return;
+        }
         // Create a custom alert dialog
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         String cardTypeName = card.getType().contains("Chance") ? "Chance" : "Community Chest";
@@ -459,6 +498,44 @@ public class MonopolyGameScene implements ControlledScene {
         alert.setHeaderText(null);    // Remove default header text area
         alert.setGraphic(null);       // Remove the default "i" icon <--- KEY CHANGE HERE
 
+        // Use the visual prepared in the background while the card was still in the deck
+        Node cardBox = cardPrefetcher != null ? cardPrefetcher.take(card) : null;
+        if (cardBox == null) {
+            cardBox = buildCardVisual(card);
+        }
+
+        // Set the card as the content of the alert
+        DialogPane dialogPane = alert.getDialogPane();
+        dialogPane.setContent(cardBox);
+
+        // Style the dialog pane itself (the area around your cardBox)
+        // This light gray makes the ivory cardBox "pop" more.
+        // Remove or change this if you prefer the default OS/theme dialog background.
+        dialogPane.setStyle("-fx-background-color: #F0F0F0;");
+
+        // Optional: If you want a completely transparent window with only the card floating
+        // (this will remove window decorations like title bar and close buttons):
+        // alert.initStyle(StageStyle.TRANSPARENT);
+        // dialogPane.getScene().setFill(Color.TRANSPARENT);
+        // dialogPane.setStyle("-fx-background-color: transparent;"); // Make dialog pane background transparent too
+
+        // Show the dialog without waiting, so the game thread is never held up by it
+        alert.show();
+
+        if (cardPrefetcher != null) {
+            cardPrefetcher.prefetchNext();
+        }
+    }
+
+    /**
+     * Builds the node showing a card: its deck, icon and description on an ivory card.
+     * The node is not attached to a scene, so this may run on any thread.
+     *
+     * @param card The card.
+     * @return The card node.
+     */
+    private static VBox buildCardVisual(Card card) {
+        String cardTypeName = card.getType().contains("Chance") ? "Chance" : "Community Chest";
         // --- Create the card UI ---
         VBox cardBox = getCardBox();
 
@@ -469,15 +546,14 @@ public class MonopolyGameScene implements ControlledScene {
         titleLabel.setTextFill(Color.BLACK);
 
         // --- Card Image ---
-        String imagePath = cardTypeName.equals("Chance") ?
-                "/images/chance_icon.png" : "/images/community_chest_icon.png";
+        String imagePath = cardTypeName.equals("Chance") ? CHANCE_ICON : COMMUNITY_CHEST_ICON;
 
         Node imageDisplayNode;
 
         try {
-            Image image = new Image(getClass().getResourceAsStream(imagePath)); //this might be null, but it won't.
-            if (image.isError()) {
-                throw new NullPointerException("Image loaded with error: " + imagePath + (image.getException() != null ? " - " + image.getException().getMessage() : ""));
+            Image image = ImageCache.get(imagePath); // Decoded once, then shared by every card dialog
+            if (image == null) {
+                throw new NullPointerException("Image could not be loaded: " + imagePath);
             }
             ImageView cardImageView = new ImageView(image);
             cardImageView.setFitHeight(80);
@@ -505,24 +581,7 @@ public class MonopolyGameScene implements ControlledScene {
 
         // Add all elements to the card box
         cardBox.getChildren().addAll(titleLabel, imageDisplayNode, descLabel);
-
-        // Set the card as the content of the alert
-        DialogPane dialogPane = alert.getDialogPane();
-        dialogPane.setContent(cardBox);
-
-        // Style the dialog pane itself (the area around your cardBox)
-        // This light gray makes the ivory cardBox "pop" more.
-        // Remove or change this if you prefer the default OS/theme dialog background.
-        dialogPane.setStyle("-fx-background-color: #F0F0F0;");
-
-        // Optional: If you want a completely transparent window with only the card floating
-        // (this will remove window decorations like title bar and close buttons):
-        // alert.initStyle(StageStyle.TRANSPARENT);
-        // dialogPane.getScene().setFill(Color.TRANSPARENT);
-        // dialogPane.setStyle("-fx-background-color: transparent;"); // Make dialog pane background transparent too
-
-        // Show the dialog and wait
-        alert.showAndWait();
+        return cardBox;
     }
 
     private static VBox getCardBox() {
@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.ui.monopoly;
 
+import edu.ntnu.idi.bidata.ui.ImageCache;
 import edu.ntnu.idi.bidata.ui.SceneManager.ControlledScene;
 import edu.ntnu.idi.bidata.ui.UiStyles;
 import javafx.geometry.Insets;
@@ -15,7 +16,6 @@ import javafx.scene.layout.*;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -138,15 +138,11 @@ public class MonopolyPlayerSetupScene implements ControlledScene {
   private Image loadImage(String resourcePath) {
     // More robust image loading
     String correctedPath = resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath;
-    InputStream is = getClass().getResourceAsStream(correctedPath);
+    Image image = ImageCache.get(correctedPath);
 
-    if (is == null) {
-      is = getClass().getClassLoader().getResourceAsStream(resourcePath.startsWith("/") ? resourcePath.substring(1) : resourcePath);
-    }
-
-    Objects.requireNonNull(is, "Cannot load image resource from path: " + resourcePath +
+    Objects.requireNonNull(image, "Cannot load image resource from path: " + resourcePath +
         ". Corrected attempted path: " + correctedPath +
         ". Please ensure the image is in the correct resources folder and the path is correct (e.g., '/images/your_image.png').");
-    return new Image(is);
+    return image;
   }
 }
\ No newline at end of file
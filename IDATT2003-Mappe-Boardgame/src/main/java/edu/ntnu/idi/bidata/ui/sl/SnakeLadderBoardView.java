@@ -1,53 +1,83 @@
 package edu.ntnu.idi.bidata.ui.sl;
 
 import edu.ntnu.idi.bidata.model.BoardGame;
+import edu.ntnu.idi.bidata.model.BoardProgram;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.Tile;
-import edu.ntnu.idi.bidata.model.actions.TileAction;
-import edu.ntnu.idi.bidata.model.actions.snakes.LadderAction;
-import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
-import edu.ntnu.idi.bidata.model.actions.snakes.SnakeAction;
+import edu.ntnu.idi.bidata.ui.ImageCache;
 import edu.ntnu.idi.bidata.ui.PieceUIData;
+import edu.ntnu.idi.bidata.ui.TokenAnimator;
 import edu.ntnu.idi.bidata.util.Logger;
-import java.io.InputStream;
 import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
 import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseButton;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.CubicCurveTo;
-import javafx.scene.shape.Line;
-import javafx.scene.shape.MoveTo;
-import javafx.scene.shape.Path;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import javafx.scene.transform.Affine;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Represents the visual display of a Snakes and Ladders game board.
  * This class is responsible for drawing the board tiles, snakes, ladders,
  * and player tokens based on the current game state and selected theme.
  * It extends {@link Pane} and manages all visual elements within it.
+ *
+ * <p>The board is shown through a fixed-size viewport that can be zoomed with the mouse wheel
+ * (or a pinch) and panned by dragging; a double-click fits the whole board again. Tiles, numbers,
+ * snakes and ladders are not nodes: they are drawn into a single viewport-sized {@link Canvas},
+ * and only the tiles and jumps inside the viewport are drawn. Jumps are looked up in a grid of
+ * chunks built once, so memory and redraw time depend on the viewport, not on the number of tiles.
+ * Redraws caused by several pan or zoom events are coalesced into one per layout pulse.</p>
+ *
+ * <p>The level of detail drops as tiles get smaller on screen: first the tile numbers go, then
+ * the textures, snake heads and ladder rungs, and in the overview the board is filled with a
+ * single color and jumps are left out. Only the player tokens are live nodes; they walk to
+ * their new tile through a {@link TokenAnimator} and keep the same on-screen size at any zoom.</p>
  */
 public class SnakeLadderBoardView extends Pane {
-  private static final double SIZE = 800; // Board size
+  private static final double SIZE = 800; // Viewport size
   private static final double TOKEN_SIZE = 30; // Desired player token image size on board
+  private static final double MIN_TOKEN_SIZE = 12; // Smallest on-screen token size
+  private static final double MAX_CELL_PX = 160; // Zooming stops when a tile is this large on screen
+  private static final double FULL_DETAIL_CELL_PX = 80; // Line widths are scaled down below this tile size
+  private static final double NUMBER_MIN_CELL_PX = 24; // Tile numbers are drawn from this tile size
+  private static final double TEXTURE_MIN_CELL_PX = 12; // Textures and jump details are drawn from this size
+  private static final double OVERVIEW_MAX_CELL_PX = 4; // Below this size tiles are not drawn one by one
+  private static final int CHUNK_TILES = 8; // Jump index chunks are CHUNK_TILES x CHUNK_TILES tiles
 
   private final BoardGame game;
-  private final Map<Integer, Point2D> tilePositions = new HashMap<>();
   private final Map<Player, ImageView> playerTokenViews = new HashMap<>(); // Changed from Circle
   private final SnakeLadderPlayerSetupScene.Theme theme;
+  private final Map<Player, Integer> tokenTileIds = new HashMap<>(); // Tile each token was last sent to
+  private static final int MAX_WALKED_STEPS = 12; // Longer moves (snakes, ladders) go straight to the target
+  private final TokenAnimator tokenAnimator = new TokenAnimator(
+      (node, center) -> {
+        ImageView token = (ImageView) node;
+        token.setX(center.getX() - token.getFitWidth() / 2);
+        token.setY(center.getY() - token.getFitHeight() / 2);
+      },
+      node -> {
+        ImageView token = (ImageView) node;
+        return new Point2D(token.getX() + token.getFitWidth() / 2, token.getY() + token.getFitHeight() / 2);
+      });
 
   private static final String EGYPT_TILE_LIGHT = "/images/sl-tile-light.png";
   private static final String EGYPT_TILE_DARK = "/images/sl-tile-dark.png";
@@ -56,6 +86,27 @@ public class SnakeLadderBoardView extends Pane {
   private static final String SCHRODINGER_BOX_TILE_IMG = "/images/schrodinger_box_tile.png"; // New Image Path
 
   private Image lightTileImg, darkTileImg, schrodingerBoxImg;
+  private BoardProgram program;
+  private final Canvas boardLayer = new Canvas(SIZE, SIZE); // Visible part of the board, redrawn on pan and zoom
+  private final Group tokenLayer = new Group(); // Tokens in board coordinates
+  private final Affine boardToView = new Affine();
+
+  /** A snake or ladder, with the bounds of its two tile centers in board coordinates. */
+  private record Jump(int fromTileId, int toTileId, boolean ladder,
+                      double minX, double minY, double maxX, double maxY) { }
+
+  private int tileCount;
+  private int columns = 1;
+  private int rows = 1;
+  private double cellSize = SIZE; // Tile size in board coordinates, where the whole board fits SIZE
+  private int chunkColumns = 1;
+  private List<List<Jump>> jumpChunks = new ArrayList<>();
+
+  private double zoom = 1;
+  private double offsetX = 0; // Top left corner of the viewport in zoomed board pixels
+  private double offsetY = 0;
+  private double dragX, dragY;
+  private boolean viewportDirty = true;
 
   /**
    * Constructs a new SnakeLadderBoardView.
@@ -67,25 +118,20 @@ public class SnakeLadderBoardView extends Pane {
     this.game = game;
     this.theme = boardTheme;
     setPrefSize(SIZE, SIZE);
+    setMinSize(SIZE, SIZE);
+    setMaxSize(SIZE, SIZE);
+    setClip(new Rectangle(SIZE, SIZE));
+    tokenLayer.getTransforms().add(boardToView);
+    getChildren().addAll(boardLayer, tokenLayer); // Tokens are always on top of the board layer
 
     loadThemeAndSpecialTileImages();
     initializeBoardVisuals();
-    drawSnakesAndLadders();
+    installViewportHandlers();
   }
 
   private Image loadImageFromResources(String path) {
-    // Centralized image loading helper
-    try {
-      InputStream is = getClass().getResourceAsStream(path);
-      if (is == null && !path.startsWith("/")) {
-        is = getClass().getResourceAsStream("/" + path);
-      }
-      Objects.requireNonNull(is, "Cannot load image resource from path: " + path);
-      return new Image(is);
-    } catch (Exception e) {
-      Logger.error("Failed to load image resource from path: " + path, e);
-      return null;
-    }
+    // Decoded once per application run; errors are logged by the cache
+    return ImageCache.get(path);
   }
 
 
@@ -110,38 +156,81 @@ public class SnakeLadderBoardView extends Pane {
     }
   }
 
+  /**
+   * Works out the board layout and indexes the snakes and ladders by chunk.
+   * Nothing is drawn here; the visible part of the board is drawn on the next layout pass.
+   */
   private void initializeBoardVisuals() {
-    getChildren().clear(); // Clear previous visuals if any (e.g., if re-initializing)
-    tilePositions.clear();
+    tileCount = 0;
+    jumpChunks = new ArrayList<>();
 
     if (game.getBoard() == null || game.getBoard().getTiles().isEmpty()) {
       System.err.println("SnakeLadderBoardView: Board model or tiles are not initialized.");
+      requestRedraw();
       return;
     }
 
-    int tileCount = game.getBoard().getTiles().size();
-    int boardSize = (int) Math.sqrt(tileCount);
-    if (boardSize * boardSize != tileCount && tileCount > 0) {
-      Logger.error("SnakeLadderBoardView: Tile count " + tileCount + " is not a perfect square. Board layout might be approximate.");
-      boardSize = (int)Math.ceil(Math.sqrt(tileCount));
+    tileCount = game.getBoard().getTiles().size();
+    columns = (int) Math.ceil(Math.sqrt(tileCount));
+    rows = (int) Math.ceil(tileCount / (double) columns);
+    if (columns * rows != tileCount || columns != rows) {
+      Logger.info("SnakeLadderBoardView: " + tileCount + " tiles laid out as " + columns + " x " + rows + ".");
     }
-    if (boardSize == 0 && tileCount > 0) boardSize = 1; // Handle single tile case or very small boards
-    if (tileCount == 0) return; // No tiles to draw
+    cellSize = SIZE / Math.max(columns, rows);
+    indexJumps();
+    resetView();
+  }
 
-    double cellSize = SIZE / boardSize;
+  private void indexJumps() {
+    chunkColumns = (columns + CHUNK_TILES - 1) / CHUNK_TILES;
+    int chunkRows = (rows + CHUNK_TILES - 1) / CHUNK_TILES;
+    double chunkSize = CHUNK_TILES * cellSize;
+    jumpChunks = new ArrayList<>(chunkColumns * chunkRows);
+    for (int i = 0; i < chunkColumns * chunkRows; i++) {
+      jumpChunks.add(new ArrayList<>(0));
+    }
 
-    // Draw tiles first
-    for (Tile tile : game.getBoard().getTiles().values()) {
-      int id = tile.getId();
-      Point2D tileCenterPos = calculateTilePosition(id, boardSize, cellSize); // Gets center of tile
-      tilePositions.put(id, tileCenterPos);
+    program = game.getBoard().getProgram();
+    for (int fromTileId = 0; fromTileId < program.size(); fromTileId++) {
+      if (program.getOpcode(fromTileId) != BoardProgram.OP_JUMP) continue;
+      Jump jump = jumpOf(fromTileId, program.getOperand(fromTileId), program.getSecondOperand(fromTileId) > 0);
+      if (jump == null) continue;
+
+      int firstChunkCol = (int) (jump.minX() / chunkSize);
+      int lastChunkCol = Math.min(chunkColumns - 1, (int) (jump.maxX() / chunkSize));
+      int firstChunkRow = (int) (jump.minY() / chunkSize);
+      int lastChunkRow = Math.min(chunkRows - 1, (int) (jump.maxY() / chunkSize));
+      for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+        for (int chunkCol = firstChunkCol; chunkCol <= lastChunkCol; chunkCol++) {
+          jumpChunks.get(chunkRow * chunkColumns + chunkCol).add(jump);
+        }
+      }
+    }
+  }
+
+  private Jump jumpOf(int fromTileId, int toTileId, boolean ladder) {
+    Point2D start = tileCenter(fromTileId);
+    Point2D end = tileCenter(toTileId);
+    if (start == null || end == null) {
+      return null;
+    }
+    // Widen by half a tile so snake curves and snake heads near the edge are not cut off
+    double margin = cellSize / 2;
+    return new Jump(fromTileId, toTileId, ladder,
+        Math.max(0, Math.min(start.getX(), end.getX()) - margin),
+        Math.max(0, Math.min(start.getY(), end.getY()) - margin),
+        Math.max(start.getX(), end.getX()) + margin,
+        Math.max(start.getY(), end.getY()) + margin);
+  }
 
-      Rectangle bg = createTileBackgroundRectangle(tile, tileCenterPos.getX() - cellSize / 2, tileCenterPos.getY() - cellSize / 2, cellSize);
-      Text num = createTileNumber(id, tileCenterPos.getX(), tileCenterPos.getY());
-      getChildren().addAll(bg, num);
+  /**
+   * Gets the center of a tile in board coordinates, or null if the board has no such tile.
+   */
+  private Point2D tileCenter(int id) {
+    if (id < 0 || id >= tileCount) {
+      return null;
     }
-    
-    drawSnakesAndLadders();
+    return calculateTilePosition(id, columns, cellSize);
   }
 
   private Point2D calculateTilePosition(int id, int boardSize, double cellSize) {
@@ -157,7 +246,7 @@ public class SnakeLadderBoardView extends Pane {
 
     // Convert to UI coordinates where (0,0) is top-left
     // UI row increases downwards, UI col increases to the right
-    int uiVisualRow = boardSize - 1 - logicalRow;
+    int uiVisualRow = rows - 1 - logicalRow;
 
     double centerX = logicalCol * cellSize + cellSize / 2;
     double centerY = uiVisualRow * cellSize + cellSize / 2;
@@ -165,160 +254,334 @@ public class SnakeLadderBoardView extends Pane {
     return new Point2D(centerX, centerY);
   }
 
-  private Rectangle createTileBackgroundRectangle(Tile tile, double x, double y, double size) {
-    Rectangle bg = new Rectangle(x, y, size, size);
+  private void installViewportHandlers() {
+    setOnScroll(event -> {
+      if (event.getDeltaY() != 0) {
+        zoomAt(event.getX(), event.getY(), Math.pow(1.0015, event.getDeltaY()));
+      }
+      event.consume();
+    });
+    setOnZoom(event -> {
+      zoomAt(event.getX(), event.getY(), event.getZoomFactor());
+      event.consume();
+    });
+    setOnMousePressed(event -> {
+      dragX = event.getX();
+      dragY = event.getY();
+    });
+    setOnMouseDragged(event -> {
+      panBy(dragX - event.getX(), dragY - event.getY());
+      dragX = event.getX();
+      dragY = event.getY();
+    });
+    setOnMouseClicked(event -> {
+      if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+        resetView();
+      }
+    });
+  }
+
+  /**
+   * Zooms the viewport, keeping the board point under the given viewport point in place.
+   * The zoom is limited so the whole board fits at the lowest zoom and a tile is at most
+   * {@value #MAX_CELL_PX} pixels at the highest.
+   *
+   * @param viewX The x coordinate to zoom around, in viewport pixels.
+   * @param viewY The y coordinate to zoom around, in viewport pixels.
+   * @param factor The zoom factor, e.g. 2 to zoom in twice as far.
+   */
+  public void zoomAt(double viewX, double viewY, double factor) {
+    double newZoom = Math.max(1, Math.min(getMaxZoom(), zoom * factor));
+    if (newZoom == zoom) return;
+    double boardX = (offsetX + viewX) / zoom;
+    double boardY = (offsetY + viewY) / zoom;
+    zoom = newZoom;
+    setOffset(boardX * zoom - viewX, boardY * zoom - viewY);
+  }
+
+  /**
+   * Moves the viewport over the board. The board cannot be dragged out of view.
+   *
+   * @param dx Pixels to move right.
+   * @param dy Pixels to move down.
+   */
+  public void panBy(double dx, double dy) {
+    setOffset(offsetX + dx, offsetY + dy);
+  }
+
+  /**
+   * Centers the viewport on a tile, as far as the board edges allow.
+   *
+   * @param tileId The id of the tile to show.
+   */
+  public void centerOn(int tileId) {
+    Point2D center = tileCenter(tileId);
+    if (center != null) {
+      setOffset(center.getX() * zoom - SIZE / 2, center.getY() * zoom - SIZE / 2);
+    }
+  }
+
+  /**
+   * Zooms out so the whole board fits the viewport.
+   */
+  public void resetView() {
+    zoom = 1;
+    setOffset(0, 0);
+  }
+
+  /**
+   * Gets the current zoom; 1 means the whole board fits the viewport.
+   *
+   * @return The zoom factor.
+   */
+  public double getZoom() {
+    return zoom;
+  }
+
+  private double getMaxZoom() {
+    return Math.max(1, MAX_CELL_PX / cellSize);
+  }
+
+  private void setOffset(double x, double y) {
+    double maxX = Math.max(0, columns * cellSize * zoom - SIZE);
+    double maxY = Math.max(0, rows * cellSize * zoom - SIZE);
+    offsetX = Math.max(0, Math.min(maxX, x));
+    offsetY = Math.max(0, Math.min(maxY, y));
+    boardToView.setToTransform(zoom, 0, -offsetX, 0, zoom, -offsetY);
+    updateTokenScale();
+    requestRedraw();
+  }
+
+  private void requestRedraw() {
+    viewportDirty = true;
+    requestLayout();
+  }
+
+  @Override
+  protected void layoutChildren() {
+    super.layoutChildren();
+    if (viewportDirty) {
+      viewportDirty = false;
+      drawViewport();
+    }
+  }
+
+  /**
+   * Draws the tiles and jumps inside the viewport at the level of detail the zoom allows.
+   */
+  private void drawViewport() {
+    GraphicsContext gc = boardLayer.getGraphicsContext2D();
+    gc.clearRect(0, 0, SIZE, SIZE);
+    if (tileCount == 0) return; // No tiles to draw
+
+    double cellPx = cellSize * zoom;
+    int firstCol = (int) Math.max(0, Math.floor(offsetX / cellPx));
+    int lastCol = (int) Math.min(columns - 1, Math.floor((offsetX + SIZE) / cellPx));
+    int firstRow = (int) Math.max(0, Math.floor(offsetY / cellPx));
+    int lastRow = (int) Math.min(rows - 1, Math.floor((offsetY + SIZE) / cellPx));
+
+    if (cellPx < OVERVIEW_MAX_CELL_PX) {
+      drawOverview(gc, cellPx);
+      return;
+    }
+
+    boolean textured = cellPx >= TEXTURE_MIN_CELL_PX;
+    boolean numbered = cellPx >= NUMBER_MIN_CELL_PX;
+    gc.setFont(Font.font(Math.max(8, Math.min(28, cellPx * 0.175))));
+    gc.setTextAlign(TextAlignment.CENTER);
+    gc.setTextBaseline(VPos.CENTER);
+    for (int uiRow = firstRow; uiRow <= lastRow; uiRow++) {
+      int logicalRow = rows - 1 - uiRow;
+      for (int col = firstCol; col <= lastCol; col++) {
+        int id = logicalRow * columns + (logicalRow % 2 == 0 ? col : columns - 1 - col);
+        Tile tile = id < tileCount ? game.getBoard().getTile(id) : null;
+        if (tile == null) continue;
+        double x = col * cellPx - offsetX;
+        double y = uiRow * cellPx - offsetY;
+
+        drawTileBackground(gc, tile, x, y, cellPx, textured);
+        if (numbered) {
+          drawTileNumber(gc, id, x + cellPx / 2, y + cellPx / 2);
+        }
+      }
+    }
+
+    drawSnakesAndLadders(gc, firstCol / CHUNK_TILES, lastCol / CHUNK_TILES,
+        firstRow / CHUNK_TILES, lastRow / CHUNK_TILES, cellPx, textured);
+  }
+
+  /**
+   * Fills the visible part of the board with one color, the mix of the light and dark tiles,
+   * instead of drawing tiles too small to tell apart.
+   */
+  private void drawOverview(GraphicsContext gc, double cellPx) {
+    double width = Math.min(SIZE, columns * cellPx - offsetX);
+    double height = Math.min(SIZE, rows * cellPx - offsetY);
+    gc.setFill(Color.LIGHTYELLOW.interpolate(Color.LIGHTGOLDENRODYELLOW, 0.5));
+    gc.fillRect(0, 0, width, height);
+    gc.setStroke(Color.DARKGRAY);
+    gc.setLineWidth(1);
+    gc.strokeRect(-offsetX, -offsetY, columns * cellPx, rows * cellPx);
+  }
+
+  private void drawTileBackground(GraphicsContext gc, Tile tile, double x, double y, double size, boolean textured) {
     // 1. Check for specific action tile images &
     // 2. If no specific action image, use theme-based alternating pattern
-    Image tileImageToUse = getImage(tile);
+    Image tileImageToUse = textured ? getImage(tile) : null;
 
     // 3. Apply image or fallback color
     if (tileImageToUse != null) {
-      // Using 0,0,1,1,true for ImagePattern means the image will scale to fill the rectangle
-      ImagePattern pattern = new ImagePattern(tileImageToUse, 0, 0, 1, 1, true);
-      bg.setFill(pattern);
+      // The image is scaled to fill the tile
+      gc.drawImage(tileImageToUse, x, y, size, size);
     } else {
-      // Fallback if any image is null (e.g. schrodingerBoxImg was null)
-      int id = tile.getId();
-      int boardDimension = (int) Math.sqrt(game.getBoard().getTiles().size());
-      if (boardDimension == 0) boardDimension = 1;
-      int row = id / boardDimension;
-      int colInRow = id % boardDimension;
-      int actualCol = (row % 2 == 0) ? colInRow : (boardDimension - 1 - colInRow);
-      bg.setFill(((row + actualCol) % 2 == 0) ? Color.LIGHTYELLOW : Color.LIGHTGOLDENRODYELLOW); // Fallback colors
+      // Fallback if any image is null (e.g. schrodingerBoxImg was null), or too small for textures
+      if (isSchrodingerBox(tile)) {
+        gc.setFill(Color.MEDIUMPURPLE);
+      } else {
+        gc.setFill(isLightTile(tile.getId()) ? Color.LIGHTYELLOW : Color.LIGHTGOLDENRODYELLOW); // Fallback colors
+      }
+      gc.fillRect(x, y, size, size);
     }
 
-    bg.setStroke(Color.DARKGRAY);
-    bg.setStrokeWidth(1);
-    return bg;
+    if (textured) {
+      gc.setStroke(Color.DARKGRAY);
+      gc.setLineWidth(1);
+      gc.strokeRect(x, y, size, size);
+    }
   }
 
   private Image getImage(Tile tile) {
     Image tileImageToUse = null;
-    TileAction action = tile.getAction();
 
-    if (action instanceof SchrodingerBoxAction) {
+    if (isSchrodingerBox(tile)) {
       tileImageToUse = schrodingerBoxImg;
     }
 
     if (tileImageToUse == null) {
-      int id = tile.getId();
-      int boardDimension = (int) Math.sqrt(game.getBoard().getTiles().size());
-      if (boardDimension == 0) boardDimension = 1;
-      int row = id / boardDimension;
-      int colInRow = id % boardDimension;
-      int actualCol = (row % 2 == 0) ? colInRow : (boardDimension - 1 - colInRow);
-      boolean isLight = (row + actualCol) % 2 == 0;
-      tileImageToUse = isLight ? lightTileImg : darkTileImg;
+      tileImageToUse = isLightTile(tile.getId()) ? lightTileImg : darkTileImg;
     }
     return tileImageToUse;
   }
 
-  private Text createTileNumber(int id, double centerX, double centerY) {
-    Text num = new Text(String.valueOf(id + 1)); // Display 1-indexed numbers
-    num.setFont(Font.font(14));
-    num.setFill(Color.DARKSLATEGRAY);
+  /**
+   * Tells from the board's compiled program whether a tile holds a Schrödinger box.
+   */
+  private boolean isSchrodingerBox(Tile tile) {
+    int opcode = program != null ? program.getOpcode(tile) : BoardProgram.opcodeOf(tile.getAction());
+    return opcode == BoardProgram.OP_SCHRODINGER;
+  }
 
-    // Adjust to center text within the tile based on its bounds
-    num.setX(centerX - num.getLayoutBounds().getWidth() / 2);
-    num.setY(centerY + num.getLayoutBounds().getHeight() / 4);
-    return num;
+  private boolean isLightTile(int id) {
+    int row = id / columns;
+    int colInRow = id % columns;
+    int actualCol = (row % 2 == 0) ? colInRow : (columns - 1 - colInRow);
+    return (row + actualCol) % 2 == 0;
   }
 
-  private void drawSnakesAndLadders() {
-    game.getBoard().getTiles().values().stream()
-        .filter(tile -> tile.getAction() != null)
-        .forEach(tile -> {
-          int fromTileId = tile.getId();
-          if (tile.getAction() instanceof LadderAction action) {
-            int toTileId = fromTileId + action.getSteps();
-            drawLadder(fromTileId, toTileId);
-          } else if (tile.getAction() instanceof SnakeAction action) {
-            int toTileId = fromTileId - action.getSteps();
-            drawSnake(fromTileId, toTileId);
-          }
-        });
+  private void drawTileNumber(GraphicsContext gc, int id, double centerX, double centerY) {
+    gc.setFill(Color.DARKSLATEGRAY);
+    gc.fillText(String.valueOf(id + 1), centerX, centerY); // Display 1-indexed numbers, centered in the tile
   }
 
-  private void drawLadder(int fromTileId, int toTileId) {
-    if (!tilePositions.containsKey(fromTileId) || !tilePositions.containsKey(toTileId)) {
-      return;
+  private void drawSnakesAndLadders(GraphicsContext gc, int firstChunkCol, int lastChunkCol,
+                                    int firstChunkRow, int lastChunkRow, double cellPx, boolean detailed) {
+    // A jump crossing several visible chunks is drawn once
+    Set<Jump> visible = new LinkedHashSet<>();
+    for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+      for (int chunkCol = firstChunkCol; chunkCol <= lastChunkCol; chunkCol++) {
+        visible.addAll(jumpChunks.get(chunkRow * chunkColumns + chunkCol));
+      }
     }
-    Point2D start = tilePositions.get(fromTileId);
-    Point2D end = tilePositions.get(toTileId);
-    Group ladder = createLadderVisual(start, end);
-    getChildren().add(ladder);
+    double scale = Math.min(1, cellPx / FULL_DETAIL_CELL_PX);
+    for (Jump jump : visible) {
+      Point2D start = toView(tileCenter(jump.fromTileId()));
+      Point2D end = toView(tileCenter(jump.toTileId()));
+      if (jump.ladder()) {
+        drawLadder(gc, start, end, scale, detailed);
+      } else {
+        drawSnake(gc, start, end, scale, detailed);
+      }
+    }
+  }
+
+  private Point2D toView(Point2D boardPoint) {
+    return new Point2D(boardPoint.getX() * zoom - offsetX, boardPoint.getY() * zoom - offsetY);
   }
 
-  private Group createLadderVisual(Point2D start, Point2D end) {
-    Group ladder = new Group();
+  private void drawLadder(GraphicsContext gc, Point2D start, Point2D end, double scale, boolean detailed) {
     double x1 = start.getX(), y1 = start.getY();
     double x2 = end.getX(), y2 = end.getY();
     double dx = x2 - x1, dy = y2 - y1;
     double length = Math.hypot(dx, dy);
-    double railOffset = 10;
+    if (length == 0) return;
+    double railOffset = 10 * scale;
     double ux = -dy/length * railOffset;
     double uy = dx/length * railOffset;
 
-    Line leftRail = new Line(x1 - ux, y1 - uy, x2 - ux, y2 - uy);
-    Line rightRail = new Line(x1 + ux, y1 + uy, x2 + ux, y2 + uy);
-    leftRail.setStroke(Color.GOLD);
-    rightRail.setStroke(Color.GOLD);
-    leftRail.setStrokeWidth(5);
-    rightRail.setStrokeWidth(5);
-    ladder.getChildren().addAll(leftRail, rightRail);
+    gc.setLineCap(StrokeLineCap.SQUARE);
+    gc.setStroke(Color.GOLD);
+    gc.setLineWidth(Math.max(1, 5 * scale));
+    gc.strokeLine(x1 - ux, y1 - uy, x2 - ux, y2 - uy);
+    gc.strokeLine(x1 + ux, y1 + uy, x2 + ux, y2 + uy);
+    if (!detailed) return;
 
-    int rungCount = (int)(length / 40) + 3;
+    gc.setStroke(Color.GOLDENROD);
+    gc.setLineWidth(Math.max(1, 4 * scale));
+    int rungCount = (int)(length / (40 * scale)) + 3;
     for (int i = 0; i <= rungCount; i++) {
       double fraction = i / (double)rungCount;
       double rx = x1 + dx * fraction;
       double ry = y1 + dy * fraction;
-      Line rung = new Line(rx - ux, ry - uy, rx + ux, ry + uy);
-      rung.setStroke(Color.GOLDENROD);
-      rung.setStrokeWidth(4);
-      ladder.getChildren().add(rung);
-    }
-    return ladder;
-  }
-
-  private void drawSnake(int fromTileId, int toTileId) {
-    if (!tilePositions.containsKey(fromTileId) || !tilePositions.containsKey(toTileId)) {
-      return;
+      gc.strokeLine(rx - ux, ry - uy, rx + ux, ry + uy);
     }
-    Point2D start = tilePositions.get(fromTileId);
-    Point2D end = tilePositions.get(toTileId);
-    Group snake = createSnakeVisual(start, end);
-    getChildren().add(snake);
   }
 
-  private Group createSnakeVisual(Point2D start, Point2D end) {
-    Group snakeGroup = new Group();
+  private void drawSnake(GraphicsContext gc, Point2D start, Point2D end, double scale, boolean detailed) {
     double x1 = start.getX(), y1 = start.getY();
     double x2 = end.getX(), y2 = end.getY();
     double midX = (x1 + x2) / 2;
     double controlDistance = Math.hypot(x2 - x1, y2 - y1) * 0.3;
 
-    Path snakePath = new Path();
-    snakePath.setStrokeWidth(8);
-    snakePath.setStroke(Color.SADDLEBROWN);
-    snakePath.setStrokeLineCap(StrokeLineCap.ROUND);
-    snakePath.setStrokeLineJoin(StrokeLineJoin.ROUND);
-    snakePath.setFill(null);
-    snakePath.getElements().add(new MoveTo(x1, y1));
+    gc.setLineWidth(Math.max(1, 8 * scale));
+    gc.setStroke(Color.SADDLEBROWN);
+    gc.setLineCap(StrokeLineCap.ROUND);
+    gc.setLineJoin(StrokeLineJoin.ROUND);
     double quarter = (y2 - y1) / 4;
-    snakePath.getElements().add(new CubicCurveTo(midX + controlDistance, y1, midX - controlDistance, y1 + quarter, midX, y1 + quarter * 2));
-    snakePath.getElements().add(new CubicCurveTo(midX + controlDistance, y1 + quarter * 3, midX - controlDistance, y2, x2, y2));
-
-    Circle head = new Circle(x1, y1, 12, Color.GOLDENROD);
-    head.setStroke(Color.SADDLEBROWN);
-    head.setStrokeWidth(3);
-    double eyeOffset = 4;
-    Circle leftEye = new Circle(x1 - eyeOffset, y1 - eyeOffset, 3, Color.WHITE);
-    Circle rightEye = new Circle(x1 + eyeOffset, y1 - eyeOffset, 3, Color.WHITE);
-    Circle leftPupil = new Circle(x1 - eyeOffset, y1 - eyeOffset, 1.5, Color.BLACK);
-    Circle rightPupil = new Circle(x1 + eyeOffset, y1 - eyeOffset, 1.5, Color.BLACK);
-    Circle tail = new Circle(x2, y2, 4, Color.SADDLEBROWN);
-    snakeGroup.getChildren().addAll(snakePath, tail, head, leftEye, rightEye, leftPupil, rightPupil);
-    return snakeGroup;
+    gc.beginPath();
+    gc.moveTo(x1, y1);
+    gc.bezierCurveTo(midX + controlDistance, y1, midX - controlDistance, y1 + quarter, midX, y1 + quarter * 2);
+    gc.bezierCurveTo(midX + controlDistance, y1 + quarter * 3, midX - controlDistance, y2, x2, y2);
+    gc.stroke();
+    if (!detailed) return;
+
+    double headRadius = 12 * scale;
+    fillCircle(gc, x2, y2, 4 * scale, Color.SADDLEBROWN); // Tail
+    fillCircle(gc, x1, y1, headRadius, Color.GOLDENROD); // Head
+    gc.setLineWidth(Math.max(1, 3 * scale));
+    gc.strokeOval(x1 - headRadius, y1 - headRadius, headRadius * 2, headRadius * 2);
+    double eyeOffset = 4 * scale;
+    fillCircle(gc, x1 - eyeOffset, y1 - eyeOffset, 3 * scale, Color.WHITE);
+    fillCircle(gc, x1 + eyeOffset, y1 - eyeOffset, 3 * scale, Color.WHITE);
+    fillCircle(gc, x1 - eyeOffset, y1 - eyeOffset, 1.5 * scale, Color.BLACK);
+    fillCircle(gc, x1 + eyeOffset, y1 - eyeOffset, 1.5 * scale, Color.BLACK);
+  }
+
+  private static void fillCircle(GraphicsContext gc, double centerX, double centerY, double radius, Color color) {
+    gc.setFill(color);
+    gc.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+  }
+
+  /**
+   * Scales the tokens against the zoom, so they keep a readable on-screen size: up to
+   * {@value #TOKEN_SIZE} pixels, but smaller on tiny tiles.
+   */
+  private void updateTokenScale() {
+    double onScreen = Math.max(MIN_TOKEN_SIZE, Math.min(TOKEN_SIZE, cellSize * zoom * 0.6));
+    double tokenScale = onScreen / TOKEN_SIZE / zoom;
+    for (ImageView tokenView : playerTokenViews.values()) {
+      tokenView.setScaleX(tokenScale);
+      tokenView.setScaleY(tokenScale);
+    }
   }
 
   /**
@@ -329,8 +592,10 @@ public class SnakeLadderBoardView extends Pane {
    * If called again, it will first remove existing token views before recreating them.
    */
   public void initializePlayerTokenVisuals() {
-    playerTokenViews.values().forEach(getChildren()::remove); // Remove old ImageViews if any
+    tokenAnimator.finishAll();
+    playerTokenViews.values().forEach(tokenLayer.getChildren()::remove); // Remove old ImageViews if any
     playerTokenViews.clear();
+    tokenTileIds.clear();
 
     if (game.getPlayers() == null) return;
 
@@ -361,19 +626,21 @@ public class SnakeLadderBoardView extends Pane {
       tokenView.setEffect(shadow);
 
       playerTokenViews.put(player, tokenView);
-      if (!getChildren().contains(tokenView)) {
-        getChildren().add(tokenView);
+      if (!tokenLayer.getChildren().contains(tokenView)) {
+        tokenLayer.getChildren().add(tokenView);
       }
     }
+    updateTokenScale();
     refresh();
   }
 
   /**
    * Refreshes the positions of all player tokens on the board according to their
-   * current tile in the game model. If player tokens have not been initialized yet
+   * current tile in the game model. Tokens whose tile changed since the last refresh are
+   * animated there; others are left where they are. If player tokens have not been initialized yet
    * (e.g., if players were added to the game after the view was created),
    * this method will first call {@link #initializePlayerTokenVisuals()}.
-   * It ensures that tokens are drawn on top of other board elements.
+   * Tokens are always drawn on top of the board layer.
    */
   public void refresh() {
     // Check if tokens need to be initialized (e.g., if view was created before players were fully set up)
@@ -388,16 +655,48 @@ public class SnakeLadderBoardView extends Pane {
       if (player.getCurrentTile() == null) continue;
 
       int tileId = player.getCurrentTile().getId();
-      Point2D tileCenterPosition = tilePositions.get(tileId); // This is the CENTER of the tile
+      Point2D tileCenterPosition = tileCenter(tileId); // This is the CENTER of the tile, in board coordinates
 
       if (tileCenterPosition != null && playerTokenViews.containsKey(player)) {
         ImageView tokenView = playerTokenViews.get(player);
+        Integer fromTileId = tokenTileIds.put(player, tileId);
 
         // Position ImageView so its center aligns with the tile's center
-        tokenView.setX(tileCenterPosition.getX() - tokenView.getFitWidth() / 2);
-        tokenView.setY(tileCenterPosition.getY() - tokenView.getFitHeight() / 2);
-        tokenView.toFront(); // Ensure player tokens are drawn on top of tiles and lines
+        if (fromTileId == null) {
+          tokenAnimator.place(tokenView, tileCenterPosition);
+        } else if (fromTileId != tileId) {
+          List<Point2D> waypoints = walkedTileCenters(fromTileId, tileId);
+          waypoints.add(tileCenterPosition);
+          tokenAnimator.animate(tokenView, waypoints);
+        }
+      }
+    }
+  }
+
+  /**
+   * Turns animation of token moves off (fast-forward) or back on.
+   *
+   * @param fastForward true to place tokens on their new tile immediately.
+   */
+  public void setFastForward(boolean fastForward) {
+    tokenAnimator.setFastForward(fastForward);
+  }
+
+  /**
+   * Gets the centers of the tiles between two tiles, excluding both ends, for a token walking
+   * one tile at a time. Moves longer than a dice roll are not walked.
+   */
+  private List<Point2D> walkedTileCenters(int fromTileId, int toTileId) {
+    List<Point2D> centers = new ArrayList<>();
+    int steps = Math.abs(toTileId - fromTileId);
+    if (steps > MAX_WALKED_STEPS) return centers;
+    int direction = Integer.signum(toTileId - fromTileId);
+    for (int id = fromTileId + direction; id != toTileId; id += direction) {
+      Point2D center = tileCenter(id);
+      if (center != null) {
+        centers.add(center);
       }
     }
+    return centers;
   }
 }
\ No newline at end of file
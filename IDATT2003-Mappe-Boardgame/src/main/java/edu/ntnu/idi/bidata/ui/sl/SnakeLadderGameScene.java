@@ -4,6 +4,7 @@ import edu.ntnu.idi.bidata.controller.GameController;
 import edu.ntnu.idi.bidata.model.BoardGame;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import edu.ntnu.idi.bidata.ui.ImageCache;
 import edu.ntnu.idi.bidata.ui.PieceUIData;
 import edu.ntnu.idi.bidata.ui.SceneManager.ControlledScene;
 import javafx.beans.value.ChangeListener;
@@ -20,6 +21,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
 import javafx.scene.text.FontWeight;
 
 import java.util.HashMap;
@@ -52,6 +54,7 @@ public class SnakeLadderGameScene implements ControlledScene {
   private Button schrodingerObserveButton;
   private Button schrodingerIgnoreButton;
   private VBox schrodingerChoiceBox;
+  private Label schrodingerHintLabel;
   private Label gameMessageLabel; // For general game messages
 
   private static final String EGYPT_GAME_BG = "/images/sl_game_background.jpg";
@@ -79,7 +82,7 @@ public class SnakeLadderGameScene implements ControlledScene {
     BorderPane root = new BorderPane();
     String bgPath = (this.theme == SnakeLadderPlayerSetupScene.Theme.JUNGLE) ? JUNGLE_GAME_BG : EGYPT_GAME_BG;
     try {
-      Image bgImg = new Image(Objects.requireNonNull(getClass().getResourceAsStream(bgPath),"Bg image not found"));
+      Image bgImg = Objects.requireNonNull(ImageCache.get(bgPath),"Bg image not found");
       BackgroundImage bg = new BackgroundImage(bgImg, BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT,
           BackgroundPosition.CENTER, new BackgroundSize(1.0,1.0,true,true,false,true));
       root.setBackground(new Background(bg));
@@ -128,6 +131,14 @@ public class SnakeLadderGameScene implements ControlledScene {
    */
   public Scene getScene() { return scene; }
 
+  /**
+   * Disposes the controller of the game when the scene is dropped by the SceneManager.
+   */
+  @Override
+  public void dispose() {
+    controller.dispose();
+  }
+
   /**
    * Gets the {@link SnakeLadderBoardView} associated with this game scene.
    *
@@ -197,7 +208,12 @@ public class SnakeLadderGameScene implements ControlledScene {
     schrodingerIgnoreButton.setTooltip(new Tooltip("Leave the box untouched and end your special action."));
     schrodingerIgnoreButton.setOnAction(e -> controller.handleIgnoreSchrodingerBoxRequest());
 
-    schrodingerChoiceBox = new VBox(10, new Label("A Choice Awaits!"), schrodingerObserveButton, schrodingerIgnoreButton);
+    schrodingerHintLabel = new Label();
+    schrodingerHintLabel.setWrapText(true);
+    schrodingerHintLabel.setFont(Font.font("Serif", FontPosture.ITALIC, 12));
+    showSchrodingerHint(null);
+
+    schrodingerChoiceBox = new VBox(10, new Label("A Choice Awaits!"), schrodingerHintLabel, schrodingerObserveButton, schrodingerIgnoreButton);
     schrodingerChoiceBox.setAlignment(Pos.CENTER);
     schrodingerChoiceBox.setPadding(new Insets(10));
     schrodingerChoiceBox.setStyle("-fx-background-color: rgba(211, 211, 211, 0.9); -fx-background-radius: 8px; -fx-border-color: #808080; -fx-border-width: 1px;");
@@ -379,6 +395,20 @@ public class SnakeLadderGameScene implements ControlledScene {
     }
   }
 
+  /**
+   * Shows a hint about which Schrödinger choice is better below the choice title.
+   *
+   * @param hint The hint text, or null to hide the hint.
+   */
+  public void showSchrodingerHint(String hint) {
+    if (schrodingerHintLabel != null) {
+      boolean show = hint != null && !hint.isBlank();
+      schrodingerHintLabel.setText(show ? hint : "");
+      schrodingerHintLabel.setManaged(show);
+      schrodingerHintLabel.setVisible(show);
+    }
+  }
+
   /**
    * Hides the Schrödinger choice UI elements from the side panel.
    * This is called after a player makes a choice or if the choice is no longer relevant.
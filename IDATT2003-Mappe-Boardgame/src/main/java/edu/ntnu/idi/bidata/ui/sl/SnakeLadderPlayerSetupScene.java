@@ -4,6 +4,7 @@ import edu.ntnu.idi.bidata.controller.PlayerSetupController;
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
 import edu.ntnu.idi.bidata.model.Player;
 
+import edu.ntnu.idi.bidata.ui.ImageCache;
 import edu.ntnu.idi.bidata.ui.PieceUIData;
 import edu.ntnu.idi.bidata.ui.PlayerSetupData;
 import edu.ntnu.idi.bidata.ui.SceneManager.ControlledScene;
@@ -30,7 +31,6 @@ import javafx.stage.Stage;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -218,16 +218,8 @@ public class SnakeLadderPlayerSetupScene implements ControlledScene {
 
   private Image loadImage(String path) {
     try {
-      InputStream is = getClass().getResourceAsStream(path);
-
-      // The following tries to be robust.
-      if (is == null && path.startsWith("/")) {
-        is = getClass().getResourceAsStream(path.substring(1));
-      } else if (is == null && !path.startsWith("/")) {
-        is = getClass().getResourceAsStream("/" + path);
-      }
-      Objects.requireNonNull(is, "Cannot load image resource from path: " + path);
-      return new Image(is);
+      // Shared cache, so switching themes back and forth does not decode again
+      return Objects.requireNonNull(ImageCache.get(path), "Cannot load image resource from path: " + path);
     } catch (NullPointerException e) {
       Logger.error("Image resource not found at path: " + path + ". Check if the path is correct and the resource exists.");
       throw new RuntimeException("Failed to load critical image: " + path, e);
@@ -0,0 +1,102 @@
+package edu.ntnu.idi.bidata.util;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples from a fixed discrete distribution in constant time with Vose's alias method.
+ *
+ * <p>The table has one column per outcome, every column holding probability {@code 1/n}. A
+ * column is split between its own outcome and at most one other, its alias, so a sample picks a
+ * column uniformly and then one of its two outcomes with a single comparison. Building the table
+ * takes {@code O(n)}; it is immutable afterwards and may be shared between threads.</p>
+ */
+public final class AliasTable {
+  private final double[] thresholds; // Share of each column that belongs to its own outcome
+  private final int[] aliases;
+
+  /**
+   * Creates a table for the given weights. The weights need not sum to 1.
+   *
+   * @param weights The weight of every outcome, indexed by the outcome.
+   * @throws InvalidParameterException if there are no weights, a weight is negative or not
+   *                                   finite, or all weights are 0.
+   */
+  public AliasTable(double... weights) {
+    if (weights == null || weights.length == 0) {
+      throw new InvalidParameterException("An alias table needs at least one weight");
+    }
+    int n = weights.length;
+    double total = 0;
+    for (double weight : weights) {
+      if (!(weight >= 0) || Double.isInfinite(weight)) {
+        throw new InvalidParameterException("Weights must be finite and non-negative, got " + weight);
+      }
+      total += weight;
+    }
+    if (total <= 0) {
+      throw new InvalidParameterException("At least one weight must be positive");
+    }
+
+    thresholds = new double[n];
+    aliases = new int[n];
+    double[] scaled = new double[n];
+    int[] small = new int[n];
+    int[] large = new int[n];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < n; i++) {
+      scaled[i] = weights[i] * n / total;
+      if (scaled[i] < 1) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      int less = small[--smallCount];
+      int more = large[--largeCount];
+      thresholds[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] = scaled[more] + scaled[less] - 1;
+      if (scaled[more] < 1) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    // What is left is 1 up to rounding errors
+    while (largeCount > 0) {
+      int column = large[--largeCount];
+      thresholds[column] = 1;
+      aliases[column] = column;
+    }
+    while (smallCount > 0) {
+      int column = small[--smallCount];
+      thresholds[column] = 1;
+      aliases[column] = column;
+    }
+  }
+
+  /**
+   * Gets the number of outcomes.
+   *
+   * @return The number of weights the table was built from.
+   */
+  public int size() {
+    return thresholds.length;
+  }
+
+  /**
+   * Draws an outcome.
+   *
+   * @param random The random number generator to draw with.
+   * @return The outcome, from 0 to {@link #size()} - 1, with a probability proportional to its weight.
+   */
+  public int sample(RandomGenerator random) {
+    double point = random.nextDouble() * thresholds.length;
+    int column = Math.min((int) point, thresholds.length - 1);
+    return point - column < thresholds[column] ? column : aliases[column];
+  }
+}
@@ -48,4 +48,16 @@ public final class JsonUtils {
       throw new JsonParseException("Failed to parse JSON: " + e.getMessage(), e);
     }
   }
+
+  /**
+   * Serializes a JSON tree to pretty-printed text.
+   * @param element the JSON tree to write
+   * @return the JSON text
+   */
+  public static String toJson(JsonElement element) {
+    if (element == null) {
+      throw new JsonParseException("Element cannot be null");
+    }
+    return GSON.toJson(element);
+  }
 }
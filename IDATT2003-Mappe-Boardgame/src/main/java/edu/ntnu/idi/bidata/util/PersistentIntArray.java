@@ -0,0 +1,181 @@
+package edu.ntnu.idi.bidata.util;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+
+import java.util.Arrays;
+
+/**
+ * An immutable array of ints that is cheap to copy with one element changed.
+ *
+ * <p>The values are stored in a tree with {@value #WIDTH} children per node and the values
+ * themselves in the leaves. {@link #set(int, int)} copies only the nodes on the path from the root
+ * to the changed leaf, {@code O(log n)} of them, and shares every other node with the original.
+ * Keeping an old version around is therefore free: it is never changed, so any number of
+ * versions can branch off it, on any thread, without copying the whole array.</p>
+ */
+public final class PersistentIntArray {
+  private static final int BITS = 4;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+  private static final PersistentIntArray EMPTY = new PersistentIntArray(0, 0, new int[0]);
+
+  private final int size;
+  private final int shift; // Bits below the root level; 0 when the root is a leaf
+  private final Object root; // int[] for a leaf, Object[] for an inner node
+
+  private PersistentIntArray(int size, int shift, Object root) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+  }
+
+  /**
+   * Creates an array holding a copy of the given values.
+   *
+   * @param values The values.
+   * @return The array.
+   * @throws InvalidParameterException if values is null.
+   */
+  public static PersistentIntArray of(int... values) {
+    if (values == null) {
+      throw new InvalidParameterException("Values must not be null");
+    }
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    int shift = 0;
+    while ((long) WIDTH << shift < values.length) {
+      shift += BITS;
+    }
+    return new PersistentIntArray(values.length, shift, build(values, 0, shift));
+  }
+
+  /**
+   * Creates an array with every element set to the same value.
+   *
+   * @param size The number of elements.
+   * @param value The value of every element.
+   * @return The array.
+   * @throws InvalidParameterException if size is negative.
+   */
+  public static PersistentIntArray filled(int size, int value) {
+    if (size < 0) {
+      throw new InvalidParameterException("Size must not be negative");
+    }
+    int[] values = new int[size];
+    Arrays.fill(values, value);
+    return of(values);
+  }
+
+  private static Object build(int[] values, int offset, int shift) {
+    if (shift == 0) {
+      return Arrays.copyOfRange(values, offset, Math.min(values.length, offset + WIDTH));
+    }
+    int span = 1 << shift;
+    int children = Math.min(WIDTH, (values.length - offset + span - 1) / span);
+    Object[] node = new Object[children];
+    for (int i = 0; i < children; i++) {
+      node[i] = build(values, offset + i * span, shift - BITS);
+    }
+    return node;
+  }
+
+  /**
+   * Gets the number of elements.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets an element.
+   *
+   * @param index The index, from 0 to {@link #size()} - 1.
+   * @return The value at the index.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public int get(int index) {
+    checkIndex(index);
+    Object node = root;
+    for (int level = shift; level > 0; level -= BITS) {
+      node = ((Object[]) node)[(index >>> level) & MASK];
+    }
+    return ((int[]) node)[index & MASK];
+  }
+
+  /**
+   * Gets a copy with one element changed. The original is left as it is.
+   *
+   * @param index The index, from 0 to {@link #size()} - 1.
+   * @param value The new value.
+   * @return The changed copy, or this array if the element already has the value.
+   * @throws IndexOutOfBoundsException if the index is out of range.
+   */
+  public PersistentIntArray set(int index, int value) {
+    if (get(index) == value) {
+      return this;
+    }
+    return new PersistentIntArray(size, shift, set(root, shift, index, value));
+  }
+
+  private static Object set(Object node, int level, int index, int value) {
+    if (level == 0) {
+      int[] leaf = ((int[]) node).clone();
+      leaf[index & MASK] = value;
+      return leaf;
+    }
+    Object[] inner = ((Object[]) node).clone();
+    int slot = (index >>> level) & MASK;
+    inner[slot] = set(inner[slot], level - BITS, index, value);
+    return inner;
+  }
+
+  /**
+   * Gets a copy of the elements as a plain array.
+   *
+   * @return A new array with the values.
+   */
+  public int[] toArray() {
+    int[] values = new int[size];
+    copyInto(root, shift, values, 0);
+    return values;
+  }
+
+  private static int copyInto(Object node, int level, int[] target, int offset) {
+    if (level == 0) {
+      int[] leaf = (int[]) node;
+      System.arraycopy(leaf, 0, target, offset, leaf.length);
+      return offset + leaf.length;
+    }
+    for (Object child : (Object[]) node) {
+      offset = copyInto(child, level - BITS, target, offset);
+    }
+    return offset;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof PersistentIntArray other && size == other.size && Arrays.equals(toArray(), other.toArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
@@ -0,0 +1,109 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.Card;
+import edu.ntnu.idi.bidata.model.Tile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonopolyLandingAnalyzerTest {
+
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = BoardFactory.createFromJson("/data/boards/mini_monopoly.json", GameVariant.MINI_MONOPOLY, null);
+  }
+
+  @Test
+  @DisplayName("analyze should give the same counts regardless of thread count")
+  void testAnalyze_DeterministicAcrossThreads() {
+    LandingReport single = MonopolyLandingAnalyzer.analyze(board, Map.of(), 200, 50, 7L, 1);
+    LandingReport parallel = MonopolyLandingAnalyzer.analyze(board, Map.of(), 200, 50, 7L, 4);
+
+    assertEquals(single.getLandingCounts(), parallel.getLandingCounts(),
+        "Merged counters should not depend on how games are split over threads.");
+  }
+
+  @Test
+  @DisplayName("Go To Jail tile should send landings to the jail tile")
+  void testAnalyze_GoToJailRedirectsToJail() {
+    LandingReport report = MonopolyLandingAnalyzer.analyze(board, Map.of(), 500, 100, 1L, 2);
+
+    assertTrue(report.getLandings(24) > 0, "Go To Jail tile should be landed on.");
+    assertTrue(report.getLandings(8) > report.getLandings(24),
+        "Jail should collect its own landings plus every Go To Jail landing.");
+    assertEquals(500L * 100, report.getTotalTurns());
+    assertEquals(7.0, report.getMeanRoll(), 0.1);
+  }
+
+  @Test
+  @DisplayName("Movement cards should move the token to their target")
+  void testAnalyze_CardMovement() {
+    Card advanceToGo = new Card(1, "AdvanceToGo", "Advance to Go", null);
+    Map<String, List<Card>> decks = Map.of(
+        "chance", List.of(advanceToGo),
+        "communityChest", List.of(advanceToGo));
+
+    LandingReport withCards = MonopolyLandingAnalyzer.analyze(board, decks, 300, 100, 3L, 2);
+    LandingReport withoutCards = MonopolyLandingAnalyzer.analyze(board, Map.of(), 300, 100, 3L, 2);
+
+    assertTrue(withCards.getLandings(0) > withoutCards.getLandings(0) * 2,
+        "Every card tile landing should also count as a landing on GO.");
+  }
+
+  @Test
+  @DisplayName("Property and color group stats should cover every property")
+  void testAnalyze_PropertyAndGroupStats() {
+    LandingReport report = MonopolyLandingAnalyzer.analyze(board, Map.of(), 200, 100, 5L, 2);
+
+    List<LandingReport.PropertyStats> properties = report.getPropertyStats();
+    assertEquals(22, properties.size(), "Mini Monopoly has 16 streets, 4 railroads and 2 utilities.");
+    for (LandingReport.PropertyStats stats : properties) {
+      assertTrue(stats.landingProbability() > 0, stats.name() + " should be landed on.");
+      assertEquals(stats.cost() / stats.expectedRentPerTurn(), stats.paybackTurns(), 1e-9);
+    }
+
+    LandingReport.ColorGroupStats brown = report.getColorGroupStats().stream()
+        .filter(g -> g.colorGroup().equals("Brown")).findFirst().orElseThrow();
+    assertEquals(2, brown.propertyCount());
+    assertEquals(120, brown.totalCost());
+
+    assertTrue(report.getColorGroupStats().stream()
+        .anyMatch(g -> g.colorGroup().equals(LandingReport.RAILROAD_GROUP) && g.propertyCount() == 4));
+  }
+
+  @Test
+  @DisplayName("analyze should reject invalid arguments")
+  void testAnalyze_InvalidArguments() {
+    assertThrows(InvalidParameterException.class,
+        () -> MonopolyLandingAnalyzer.analyze(null, Map.of(), 1, 1, 0L, 1));
+    assertThrows(InvalidParameterException.class,
+        () -> MonopolyLandingAnalyzer.analyze(board, Map.of(), 0, 1, 0L, 1));
+    assertThrows(InvalidParameterException.class,
+        () -> MonopolyLandingAnalyzer.analyze(board, Map.of(), 1, 1, 0L, 0));
+  }
+
+  @Test
+  @DisplayName("analyze should reject boards that do not form a ring")
+  void testAnalyze_OpenBoard() {
+    Board line = new Board();
+    Tile first = new Tile(0);
+    Tile second = new Tile(1);
+    first.setNext(second);
+    line.addTile(first);
+    line.addTile(second);
+
+    assertThrows(InvalidParameterException.class,
+        () -> MonopolyLandingAnalyzer.analyze(line, Map.of(), 1, 1, 0L, 1));
+  }
+}
@@ -0,0 +1,126 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.model.MonopolyState;
+import edu.ntnu.idi.bidata.service.MonopolyStateService;
+import edu.ntnu.idi.bidata.util.Logger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonopolyMctsBotTest {
+
+  private static final long BUDGET_NANOS = 50_000_000;
+
+  private MonopolyStateService rules;
+
+  @BeforeEach
+  void setUp() {
+    rules = new MonopolyStateService(
+        BoardFactory.createFromJson("/data/boards/mini_monopoly.json", GameVariant.MINI_MONOPOLY, null), Map.of());
+  }
+
+  @Test
+  @DisplayName("Bot should not spend its last dollar on a property")
+  void testDecidePurchase_RefusesToGoBankrupt() {
+    MonopolyState state = rules.initialState(2).withPosition(0, 28).withMoney(0, 300).withCurrentPlayer(1);
+    MonopolyMctsBot bot = new MonopolyMctsBot(rules, BUDGET_NANOS, 2, 1L);
+
+    MonopolyMctsBot.Decision decision = bot.decidePurchase(state, 0);
+
+    assertFalse(decision.answer(), "Buying Pacific Avenue with exactly $300 leaves the player bankrupt.");
+    assertEquals(0.0, decision.yesValue());
+    assertTrue(decision.noValue() > 0.0);
+  }
+
+  @Test
+  @DisplayName("Bot should pick the answer whose playouts score better")
+  void testDecidePurchase_FollowsPlayoutValues() {
+    MonopolyState state = rules.initialState(2).withPosition(0, 20).withCurrentPlayer(1);
+    MonopolyMctsBot bot = new MonopolyMctsBot(rules, 4 * BUDGET_NANOS, 2, 2L);
+
+    MonopolyMctsBot.Decision decision = bot.decidePurchase(state, 0);
+
+    assertEquals(decision.yesValue() > decision.noValue(), decision.answer(), decision.toString());
+    assertTrue(decision.playouts() > 100, "Both answers should have been tried many times.");
+  }
+
+  @Test
+  @DisplayName("Bot should not search when there is nothing to decide")
+  void testDecide_NothingToDecide() {
+    MonopolyMctsBot bot = new MonopolyMctsBot(rules, BUDGET_NANOS, 1, 3L);
+    MonopolyState state = rules.initialState(2);
+
+    assertEquals(0, bot.decidePurchase(state, 0).playouts(), "GO cannot be bought.");
+    assertEquals(0, bot.decideJailCard(state, 0).playouts(), "Player 0 is not in jail.");
+
+    MonopolyState jailed = state.withPosition(0, 8).withJailTurns(0, 3).withJailFreeCards(0, 1);
+    assertTrue(bot.decideJailCard(jailed, 0).playouts() >= 2, "Both answers get at least one playout.");
+  }
+
+  @Test
+  @DisplayName("Benchmark: playouts per second on one and on all processors")
+  void testBenchmark_PlayoutsPerSecond() {
+    MonopolyState state = rules.initialState(4).withPosition(0, 12).withCurrentPlayer(1);
+    int processors = Runtime.getRuntime().availableProcessors();
+
+    MonopolyMctsBot.Decision single = new MonopolyMctsBot(rules, BUDGET_NANOS, 1, 4L).decidePurchase(state, 0);
+    MonopolyMctsBot.Decision parallel = new MonopolyMctsBot(rules, BUDGET_NANOS, processors, 4L).decidePurchase(state, 0);
+    Logger.info(String.format("MCTS bot: %.0f playouts/s on 1 thread, %.0f playouts/s on %d threads.",
+        single.playoutsPerSecond(), parallel.playoutsPerSecond(), processors));
+
+    assertTrue(single.playouts() >= 2);
+    assertTrue(parallel.playouts() >= 2 * processors);
+    assertTrue(single.elapsedNanos() >= BUDGET_NANOS, "The search should use its whole budget.");
+    assertTrue(parallel.elapsedNanos() < 20 * BUDGET_NANOS, "The search should stop soon after its budget.");
+  }
+
+  @Test
+  @DisplayName("Should reject invalid arguments")
+  void testInvalidArguments() {
+    assertThrows(InvalidParameterException.class, () -> new MonopolyMctsBot(null));
+    assertThrows(InvalidParameterException.class, () -> new MonopolyMctsBot(rules, 0, 1, 0L));
+    assertThrows(InvalidParameterException.class, () -> new MonopolyMctsBot(rules, BUDGET_NANOS, 0, 0L));
+
+    MonopolyMctsBot bot = new MonopolyMctsBot(rules, BUDGET_NANOS, 1, 0L);
+    assertThrows(InvalidParameterException.class, () -> bot.decidePurchase(rules.initialState(2), 2));
+    assertThrows(InvalidParameterException.class, () -> bot.decideJailCard(null, 0));
+  }
+
+  @Test
+  @DisplayName("A decision should keep to a budget of its own")
+  void testDecidePurchase_OwnBudget() {
+    MonopolyState state = rules.initialState(2).withPosition(0, 18).withCurrentPlayer(1);
+    MonopolyMctsBot bot = new MonopolyMctsBot(rules, 1_000 * BUDGET_NANOS, 1, 6L);
+
+    MonopolyMctsBot.Decision decision = bot.decidePurchase(state, 0, BUDGET_NANOS);
+
+    assertTrue(decision.playouts() >= 2, "Every answer gets at least one playout.");
+    assertTrue(decision.elapsedNanos() < 20 * BUDGET_NANOS, "The search should stop soon after the given budget.");
+    assertThrows(InvalidParameterException.class, () -> bot.decidePurchase(state, 0, 0));
+    assertThrows(InvalidParameterException.class, () -> bot.decideJailCard(state, 0, -1));
+  }
+
+  @Test
+  @DisplayName("Should reuse its workers for every decision and refuse to decide once closed")
+  void testClose() {
+    MonopolyState state = rules.initialState(2).withPosition(0, 18);
+    try (MonopolyMctsBot bot = new MonopolyMctsBot(rules, BUDGET_NANOS, 2, 5L)) {
+      bot.decidePurchase(state, 0);
+      long workers = Thread.getAllStackTraces().keySet().stream()
+          .filter(thread -> thread.getName().startsWith("mcts-worker-")).count();
+      bot.decidePurchase(state, 0);
+      assertEquals(workers, Thread.getAllStackTraces().keySet().stream()
+          .filter(thread -> thread.getName().startsWith("mcts-worker-")).count(), "No new threads per decision");
+
+      bot.close();
+      assertThrows(IllegalStateException.class, () -> bot.decidePurchase(state, 0));
+    }
+  }
+}
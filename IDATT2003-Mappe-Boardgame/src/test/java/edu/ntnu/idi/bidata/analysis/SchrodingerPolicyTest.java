@@ -0,0 +1,116 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.Dice;
+import edu.ntnu.idi.bidata.model.DiceDistribution;
+import edu.ntnu.idi.bidata.model.Die;
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchrodingerPolicyTest {
+
+  private static int[] straight(int size) {
+    int[] jumps = new int[size];
+    for (int i = 0; i < size; i++) {
+      jumps[i] = i;
+    }
+    return jumps;
+  }
+
+  @Test
+  @DisplayName("A box near the start should be opened and a box near the finish ignored")
+  void testMinimizeTurns_DependsOnDistance() {
+    boolean[] boxes = new boolean[60];
+    boxes[3] = true;
+    boxes[55] = true;
+
+    SchrodingerPolicy policy = SchrodingerPolicy.solve(straight(60), boxes, SchrodingerPolicy.Objective.MIN_EXPECTED_TURNS, 0);
+
+    assertTrue(policy.shouldObserve(3));
+    assertFalse(policy.shouldObserve(55));
+    assertTrue(policy.getObserveValue(3) < policy.getIgnoreValue(3));
+    assertFalse(policy.shouldObserve(10), "Tiles without a box have nothing to observe.");
+    assertTrue(Double.isNaN(policy.getObserveValue(10)));
+  }
+
+  @Test
+  @DisplayName("The optimal policy should be at least as good as always or never observing")
+  void testMinimizeTurns_BeatsFixedStrategies() {
+    Board board = BoardFactory.createFromJson("/data/boards/snakes_and_ladders.json", GameVariant.SNAKES_LADDERS, null);
+
+    SchrodingerPolicy policy = SchrodingerPolicy.minimizeTurns(board);
+    double never = SnakesLaddersSolver.solve(board, 0).expectedTurns();
+    double always = SnakesLaddersSolver.solve(board, 1).expectedTurns();
+
+    assertTrue(policy.getStartValue() <= Math.min(never, always) + 1e-9);
+    for (Tile tile : board.getTiles().values()) {
+      assertEquals(tile.getAction() instanceof SchrodingerBoxAction, policy.hasBox(tile.getId()));
+    }
+  }
+
+  @Test
+  @DisplayName("Following a policy that observes every box should match the solver with observe probability 1")
+  void testMinimizeTurns_MatchesSolver() {
+    boolean[] boxes = new boolean[50];
+    boxes[2] = true;
+    boxes[5] = true;
+
+    SchrodingerPolicy policy = SchrodingerPolicy.solve(straight(50), boxes, SchrodingerPolicy.Objective.MIN_EXPECTED_TURNS, 0);
+
+    assertTrue(policy.shouldObserve(2) && policy.shouldObserve(5));
+    assertEquals(SnakesLaddersSolver.solve(straight(50), boxes, 1).expectedTurns(), policy.getStartValue(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("More opponents should make opening boxes worth it more often")
+  void testMaximizeWinProbability_MoreOpponentsMoreRisk() {
+    boolean[] boxes = new boolean[80];
+    for (int i = 4; i < 79; i += 3) {
+      boxes[i] = true;
+    }
+    int[] jumps = straight(80);
+
+    SchrodingerPolicy one = SchrodingerPolicy.solve(jumps, boxes, SchrodingerPolicy.Objective.MAX_WIN_PROBABILITY, 1);
+    SchrodingerPolicy many = SchrodingerPolicy.solve(jumps, boxes, SchrodingerPolicy.Objective.MAX_WIN_PROBABILITY, 8);
+
+    int observedByOne = 0;
+    int observedByMany = 0;
+    for (int i = 0; i < boxes.length; i++) {
+      if (one.shouldObserve(i)) observedByOne++;
+      if (many.shouldObserve(i)) observedByMany++;
+    }
+    assertTrue(observedByMany > observedByOne);
+    assertTrue(many.getStartValue() > 0 && many.getStartValue() < one.getStartValue());
+    assertEquals(8, many.getOpponents());
+  }
+
+  @Test
+  @DisplayName("Other dice should be solved with their own distribution")
+  void testSolve_OtherDice() {
+    boolean[] boxes = new boolean[10];
+    boxes[1] = true;
+    DiceDistribution oneSided = new Dice(new Die(1)).getDistribution();
+
+    SchrodingerPolicy policy = SchrodingerPolicy.solve(straight(10), boxes, oneSided, SchrodingerPolicy.Objective.MIN_EXPECTED_TURNS, 0);
+
+    assertTrue(policy.shouldObserve(1));
+    assertEquals(8.0, policy.getIgnoreValue(1), 1e-9, "A die that always shows 1 moves one tile a turn.");
+    assertEquals(2.0, policy.getStartValue(), 1e-9, "One turn to the box, then half a chance to finish every two turns.");
+    assertThrows(InvalidParameterException.class,
+        () -> SchrodingerPolicy.solve(straight(10), boxes, null, SchrodingerPolicy.Objective.MIN_EXPECTED_TURNS, 0));
+  }
+
+  @Test
+  @DisplayName("Win probability needs at least one opponent")
+  void testMaximizeWinProbability_NoOpponentsThrows() {
+    assertThrows(InvalidParameterException.class,
+        () -> SchrodingerPolicy.solve(straight(20), new boolean[20], SchrodingerPolicy.Objective.MAX_WIN_PROBABILITY, 0));
+  }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.file.BoardJsonReaderWriter;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.actions.snakes.LadderAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SnakeAction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnakesLaddersBoardGeneratorTest {
+
+  private static final SnakesLaddersBoardGenerator.Spec SPEC =
+      new SnakesLaddersBoardGenerator.Spec(100, 8, 8, 3, 0.5);
+  private static final SnakesLaddersBoardGenerator.Targets TARGETS =
+      new SnakesLaddersBoardGenerator.Targets(22, 180, 2, 0.02);
+
+  @Test
+  @DisplayName("Generated JSON should load as a board with the requested items and the reported metrics")
+  void testGenerate_LoadableBoard() {
+    SnakesLaddersBoardGenerator.Result result = SnakesLaddersBoardGenerator.generate(SPEC, TARGETS, 5L, 100, 2);
+    Board board = BoardJsonReaderWriter.read(new StringReader(result.json()), GameVariant.SNAKES_LADDERS);
+
+    int ladders = 0;
+    int snakes = 0;
+    int boxes = 0;
+    for (Tile tile : board.getTiles().values()) {
+      if (tile.getAction() instanceof LadderAction) ladders++;
+      if (tile.getAction() instanceof SnakeAction) snakes++;
+      if (tile.getAction() instanceof SchrodingerBoxAction) boxes++;
+    }
+    assertEquals(100, board.getTiles().size());
+    assertEquals(8, ladders);
+    assertEquals(8, snakes);
+    assertEquals(3, boxes);
+    assertEquals(result.metrics(), SnakesLaddersSolver.solve(board, 0.5));
+    assertTrue(result.metrics().maxChainLength() <= 2);
+  }
+
+  @Test
+  @DisplayName("Reachable targets should be met")
+  void testGenerate_MeetsTargets() {
+    SnakesLaddersBoardGenerator.Result result = SnakesLaddersBoardGenerator.generate(SPEC, TARGETS, 5L, 100, 2);
+
+    assertTrue(result.targetsMet(), "Expected the targets to be met but got " + result.metrics());
+    assertTrue(TARGETS.isMetBy(result.metrics()));
+  }
+
+  @Test
+  @DisplayName("generate should give the same board regardless of thread count")
+  void testGenerate_DeterministicAcrossThreads() {
+    SnakesLaddersBoardGenerator.Targets strict = new SnakesLaddersBoardGenerator.Targets(25, 200, 1, 0.001);
+
+    SnakesLaddersBoardGenerator.Result single = SnakesLaddersBoardGenerator.generate(SPEC, strict, 9L, 10, 1);
+    SnakesLaddersBoardGenerator.Result parallel = SnakesLaddersBoardGenerator.generate(SPEC, strict, 9L, 10, 4);
+
+    assertEquals(single.json(), parallel.json());
+    assertEquals(single.evaluations(), parallel.evaluations());
+    assertEquals(single.evaluations() + single.cacheHits(),
+        1 + (long) single.generations() * SnakesLaddersBoardGenerator.CANDIDATES_PER_GENERATION);
+  }
+
+  @Test
+  @DisplayName("A spec with more items than the board can hold should be rejected")
+  void testSpec_TooManyItems() {
+    assertThrows(InvalidParameterException.class,
+        () -> new SnakesLaddersBoardGenerator.Spec(20, 5, 5, 0, 0));
+  }
+}
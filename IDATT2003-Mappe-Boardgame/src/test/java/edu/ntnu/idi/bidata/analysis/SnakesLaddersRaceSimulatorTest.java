@@ -0,0 +1,124 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.BoardGame;
+import edu.ntnu.idi.bidata.model.Dice;
+import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.service.SnakesLaddersService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnakesLaddersRaceSimulatorTest {
+
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = BoardFactory.createFromJson("/data/boards/snakes_and_ladders.json", GameVariant.SNAKES_LADDERS, null);
+  }
+
+  @Test
+  @DisplayName("simulate should give the same results regardless of thread count")
+  void testSimulate_DeterministicAcrossThreads() {
+    RaceReport single = SnakesLaddersRaceSimulator.simulate(board, null, 3, 5000, 7L, 1);
+    RaceReport parallel = SnakesLaddersRaceSimulator.simulate(board, null, 3, 5000, 7L, 4);
+
+    for (int seat = 0; seat < 3; seat++) {
+      assertEquals(single.getWins(seat), parallel.getWins(seat));
+    }
+    assertEquals(single.getMeanTurns(), parallel.getMeanTurns());
+    assertEquals(single.getLongestGame(), parallel.getLongestGame());
+  }
+
+  @Test
+  @DisplayName("A single player should match the exact expected game length")
+  void testSimulate_MatchesSolver() {
+    RaceReport report = SnakesLaddersRaceSimulator.simulate(board, null, 1, 200_000, 3L, 2);
+    double expected = SnakesLaddersSolver.solve(board, 0).expectedTurns();
+
+    assertEquals(200_000, report.getWins(0) + report.getUnfinishedGames());
+    assertEquals(0, report.getUnfinishedGames());
+    assertEquals(expected, report.getMeanTurns(), expected * 0.01);
+    assertEquals(report.getMeanRounds(), report.getMeanTurns(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("Results should agree with games played through SnakesLaddersService")
+  void testSimulate_MatchesService() {
+    int games = 3000;
+    long firstSeatWins = 0;
+    long totalTurns = 0;
+    for (int game = 0; game < games; game++) {
+      BoardGame boardGame = new BoardGame();
+      boardGame.setBoard(board);
+      boardGame.setDice(new Dice(2));
+      boardGame.setGameService(new SnakesLaddersService());
+      Player first = new Player("A", board.getStart());
+      boardGame.addPlayer(first);
+      boardGame.addPlayer(new Player("B", board.getStart()));
+      boardGame.init();
+      while (!boardGame.isFinished()) {
+        boardGame.playTurn(boardGame.getCurrentPlayer());
+        totalTurns++;
+      }
+      if (boardGame.getWinner() == first) {
+        firstSeatWins++;
+      }
+    }
+
+    RaceReport scalar = SnakesLaddersRaceSimulator.simulate(board, null, 2, 200_000, 5L, 2, false);
+    RaceReport vector = SnakesLaddersRaceSimulator.simulate(board, null, 2, 200_000, 5L, 2, true);
+
+    for (RaceReport report : new RaceReport[] {scalar, vector}) {
+      assertEquals((double) firstSeatWins / games, report.getWinRate(0), 0.04);
+      assertEquals((double) totalTurns / games, report.getMeanTurns(), report.getMeanTurns() * 0.05);
+      assertTrue(report.getWinRate(0) > report.getWinRate(1), "Rolling first should be an advantage.");
+    }
+  }
+
+  @Test
+  @DisplayName("The vector and scalar kernels should give the same results for the same seed")
+  void testSimulate_VectorMatchesScalar() {
+    assertTrue(SnakesLaddersRaceSimulator.isVectorAvailable(), "The build adds jdk.incubator.vector.");
+    SchrodingerPolicy policy = SchrodingerPolicy.minimizeTurns(board);
+
+    for (SchrodingerPolicy each : new SchrodingerPolicy[] {null, policy}) {
+      // Not a multiple of the batch size or lane count, so the kernel's tail is exercised
+      RaceReport scalar = SnakesLaddersRaceSimulator.simulate(board, each, 3, 5001, 11L, 2, false);
+      RaceReport vector = SnakesLaddersRaceSimulator.simulate(board, each, 3, 5001, 11L, 2, true);
+
+      for (int seat = 0; seat < 3; seat++) {
+        assertEquals(scalar.getWins(seat), vector.getWins(seat));
+      }
+      assertEquals(scalar.getUnfinishedGames(), vector.getUnfinishedGames());
+      assertEquals(scalar.getMeanRounds(), vector.getMeanRounds());
+      assertEquals(scalar.getMeanTurns(), vector.getMeanTurns());
+      assertEquals(scalar.getLongestGame(), vector.getLongestGame());
+    }
+  }
+
+  @Test
+  @DisplayName("Observing boxes near the start should shorten the games")
+  void testSimulate_WithPolicy() {
+    SchrodingerPolicy policy = SchrodingerPolicy.minimizeTurns(board);
+
+    RaceReport ignoring = SnakesLaddersRaceSimulator.simulate(board, null, 1, 100_000, 1L, 2);
+    RaceReport following = SnakesLaddersRaceSimulator.simulate(board, policy, 1, 100_000, 1L, 2);
+
+    assertEquals(policy.getStartValue(), following.getMeanTurns(), policy.getStartValue() * 0.02);
+    assertTrue(following.getMeanTurns() <= ignoring.getMeanTurns() * 1.01);
+  }
+
+  @Test
+  @DisplayName("simulate should reject invalid arguments")
+  void testSimulate_InvalidArguments() {
+    assertThrows(InvalidParameterException.class, () -> SnakesLaddersRaceSimulator.simulate(board, 0, 10, 1L));
+    assertThrows(InvalidParameterException.class, () -> SnakesLaddersRaceSimulator.simulate(board, 2, 0, 1L));
+  }
+}
@@ -0,0 +1,105 @@
+package edu.ntnu.idi.bidata.analysis;
+
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.Dice;
+import edu.ntnu.idi.bidata.model.Die;
+import edu.ntnu.idi.bidata.model.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnakesLaddersSolverTest {
+
+  @Test
+  @DisplayName("Other dice should be solved with their own distribution")
+  void testSolve_OtherDice() {
+    int[] jumps = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+    BoardMetrics oneSided = SnakesLaddersSolver.solve(jumps, new boolean[10], new Dice(new Die(1)).getDistribution(), 0);
+    BoardMetrics coin = SnakesLaddersSolver.solve(jumps, new boolean[10], new Dice(new Die(2)).getDistribution(), 0);
+
+    assertEquals(9.0, oneSided.expectedTurns(), 1e-9, "A die that always shows 1 moves one tile a turn.");
+    assertEquals(0.0, oneSided.turnsVariance(), 1e-9);
+    assertTrue(coin.expectedTurns() > 9.0 / 1.5 && coin.expectedTurns() < 9.0, coin.toString());
+    assertThrows(InvalidParameterException.class, () -> SnakesLaddersSolver.solve(jumps, new boolean[10], null, 0));
+  }
+
+  @Test
+  @DisplayName("A board shorter than the smallest roll should always take one turn")
+  void testSolve_ShortBoard() {
+    BoardMetrics metrics = SnakesLaddersSolver.solve(new int[] {0, 1}, new boolean[2], 0);
+
+    assertEquals(1.0, metrics.expectedTurns(), 1e-9);
+    assertEquals(0.0, metrics.turnsVariance(), 1e-9);
+    assertEquals(0, metrics.maxChainLength());
+  }
+
+  @Test
+  @DisplayName("Snakes and ladders that loop should be rejected")
+  void testChainLengths_LoopThrows() {
+    int[] jumps = {0, 3, 2, 1, 4};
+
+    assertThrows(InvalidParameterException.class, () -> SnakesLaddersSolver.chainLengths(jumps));
+  }
+
+  @Test
+  @DisplayName("Chained jumps should be counted")
+  void testChainLengths_CountsChain() {
+    int[] jumps = {0, 3, 2, 5, 4, 5, 6};
+
+    assertArrayEquals(new int[] {0, 2, 0, 1, 0, 0, 0}, SnakesLaddersSolver.chainLengths(jumps));
+  }
+
+  @Test
+  @DisplayName("Always observing a box next to the start should still end every game")
+  void testSolve_ObservedBoxes() {
+    boolean[] boxes = new boolean[30];
+    boxes[2] = true;
+    int[] jumps = new int[30];
+    for (int i = 0; i < jumps.length; i++) {
+      jumps[i] = i;
+    }
+
+    BoardMetrics ignored = SnakesLaddersSolver.solve(jumps, boxes, 0);
+    BoardMetrics observed = SnakesLaddersSolver.solve(jumps, boxes, 1);
+
+    assertTrue(observed.isFinite());
+    assertTrue(observed.expectedTurns() < ignored.expectedTurns(),
+        "A box that often sends the token to the end should shorten the game.");
+  }
+
+  @Test
+  @DisplayName("Solver should agree with games played through Player.move on the bundled board")
+  void testSolve_MatchesSimulation() {
+    Board board = BoardFactory.createFromJson("/data/boards/snakes_and_ladders.json", GameVariant.SNAKES_LADDERS, null);
+    BoardMetrics metrics = SnakesLaddersSolver.solve(board, 0);
+
+    SplittableRandom random = new SplittableRandom(11L);
+    int games = 20_000;
+    double sum = 0;
+    double sumSquares = 0;
+    Player player = new Player("Sim", board.getStart());
+    for (int game = 0; game < games; game++) {
+      player.setCurrentTile(board.getStart());
+      int turns = 0;
+      while (player.getCurrentTile().getNext() != null) {
+        player.move(random.nextInt(1, 7) + random.nextInt(1, 7));
+        turns++;
+      }
+      sum += turns;
+      sumSquares += (double) turns * turns;
+    }
+    double mean = sum / games;
+    double variance = sumSquares / games - mean * mean;
+
+    assertTrue(metrics.isFinite());
+    assertEquals(metrics.expectedTurns(), mean, metrics.expectedTurns() * 0.03);
+    assertEquals(metrics.turnsVariance(), variance, metrics.turnsVariance() * 0.1);
+  }
+}
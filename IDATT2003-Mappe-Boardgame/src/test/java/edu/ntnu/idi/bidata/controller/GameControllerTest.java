@@ -1,5 +1,7 @@
 package edu.ntnu.idi.bidata.controller;
 
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.factory.GameFactory;
 import edu.ntnu.idi.bidata.model.*;
 import edu.ntnu.idi.bidata.model.actions.monopoly.*;
 import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
@@ -17,8 +19,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -83,6 +88,7 @@ class GameControllerTest {
   @AfterEach
   void tearDown() {
     ServiceLocator.setMonopolyService(null);
+    TurnContext.current().setEventSink(null);
     System.setOut(originalOut);
     System.setErr(originalErr);
 
@@ -275,7 +281,7 @@ class GameControllerTest {
   @DisplayName("handleLandedOnProperty: unowned, player can afford, chooses not to buy")
   void testHandleLandedOnProperty_Unowned_CanAfford_NoBuy() {
     setupForHandleLandedOnProperty();
-    when(mockMonopolyScene.showPropertyPurchaseDialog(mockPlayer1, mockPropertyAction)).thenReturn(false); // Chooses not to buy
+    when(mockMonopolyScene.promptPropertyPurchase(mockPlayer1, mockPropertyAction)).thenReturn(CompletableFuture.completedFuture(false)); // Chooses not to buy
 
     when(mockPropertyAction.getOwner()).thenReturn(null);
     when(mockPropertyAction.getName()).thenReturn("AffordableProp");
@@ -291,7 +297,7 @@ class GameControllerTest {
   @DisplayName("handleLandedOnProperty: unowned, player can afford, buys, purchase succeeds")
   void testHandleLandedOnProperty_Unowned_CanAfford_Buys_Success() {
     setupForHandleLandedOnProperty();
-    when(mockMonopolyScene.showPropertyPurchaseDialog(mockPlayer1, mockPropertyAction)).thenReturn(true);
+    when(mockMonopolyScene.promptPropertyPurchase(mockPlayer1, mockPropertyAction)).thenReturn(CompletableFuture.completedFuture(true));
     when(mockMonopolyService.purchaseProperty(mockPlayer1, mockPropertyAction)).thenReturn(true);
 
     when(mockPropertyAction.getOwner()).thenReturn(null);
@@ -308,7 +314,7 @@ class GameControllerTest {
   @DisplayName("handleLandedOnProperty: unowned, player can afford, buys, purchase fails")
   void testHandleLandedOnProperty_Unowned_CanAfford_Buys_Fails() {
     setupForHandleLandedOnProperty();
-    when(mockMonopolyScene.showPropertyPurchaseDialog(mockPlayer1, mockPropertyAction)).thenReturn(true);
+    when(mockMonopolyScene.promptPropertyPurchase(mockPlayer1, mockPropertyAction)).thenReturn(CompletableFuture.completedFuture(true));
     when(mockMonopolyService.purchaseProperty(mockPlayer1, mockPropertyAction)).thenReturn(false);
 
     when(mockPropertyAction.getOwner()).thenReturn(null);
@@ -330,7 +336,7 @@ class GameControllerTest {
     when(mockPropertyAction.getOwner()).thenReturn(mockPlayer2);
     when(mockPlayer2.getName()).thenReturn("OwnerPlayer2"); // For log message
     when(mockPropertyAction.getName()).thenReturn("RentedProp");
-    when(mockPropertyAction.getRent()).thenReturn(20);
+    when(mockMonopolyService.getRentDue(mockPropertyAction)).thenReturn(20);
 
     gameController.onRoundPlayed(List.of(3), List.of(mockPlayer1, mockPlayer2)); // P1 lands
     verify(mockMonopolyService).payRent(mockPlayer1, mockPlayer2, 20);
@@ -346,7 +352,7 @@ class GameControllerTest {
     when(mockPropertyAction.getOwner()).thenReturn(mockPlayer2);
     when(mockPlayer2.getName()).thenReturn("OwnerPlayer2");
     when(mockPropertyAction.getName()).thenReturn("CostlyRentedProp");
-    when(mockPropertyAction.getRent()).thenReturn(500);
+    when(mockMonopolyService.getRentDue(mockPropertyAction)).thenReturn(500);
 
     gameController.onRoundPlayed(List.of(3), List.of(mockPlayer1, mockPlayer2)); // P1 lands
     verify(mockMonopolyService).payRent(mockPlayer1, mockPlayer2, 500);
@@ -365,4 +371,154 @@ class GameControllerTest {
     verify(mockMonopolyService, never()).purchaseProperty(any(), any());
     assertTrue(getOut().contains("Player PlayerOne landed on their own property: MyOwnProp"), "Actual out: " + getOut());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("playAutoTurns plays a whole game and updates the view once per batch")
+  void testPlayAutoTurns_PlaysToGameOverWithOneViewUpdate() {
+    BoardGame game = GameFactory.createGame(
+        List.of("Alice", "Bob"), GameVariant.SNAKES_LADDERS);
+    GameController controller = new GameController(game);
+    controller.setActiveView(mockSlScene);
+    controller.startGame();
+    clearInvocations(mockSlScene, mockSlScene.getBoardView());
+
+    int turns = controller.playAutoTurns(Long.MAX_VALUE);
+
+    assertTrue(game.isFinished(), "Auto-play with an unlimited budget should finish the game.");
+    assertTrue(turns > 1);
+    verify(mockSlScene.getBoardView(), times(1)).refresh();
+    verify(mockSlScene, times(1)).updatePlayerStatusDisplay();
+    verify(mockSlScene, never()).showSchrodingerChoice(any(), any());
+    verify(mockSlScene).displayGameOver(game.getWinner());
+    assertFalse(controller.isAutoPlaying());
+  }
+
+  @Test
+  @DisplayName("playAutoTurns buys affordable properties without showing dialogs")
+  void testPlayAutoTurns_BuysPropertyWithoutDialog() {
+    when(mockGameModel.isFinished()).thenReturn(false);
+    when(mockPlayer1.getCurrentTile()).thenReturn(mockTile);
+    when(mockTile.getAction()).thenReturn(mockPropertyAction);
+    when(mockPropertyAction.getOwner()).thenReturn(null);
+    when(mockPropertyAction.getCost()).thenReturn(100);
+    when(mockPlayer1.getMoney()).thenReturn(500);
+    doAnswer(invocation -> {
+      gameController.onRoundPlayed(List.of(4), List.of(mockPlayer1));
+      return null;
+    }).when(mockGameModel).playTurn(mockPlayer1);
+    gameController.setActiveView(mockMonopolyScene);
+    gameController.onGameStart(List.of(mockPlayer1));
+
+    assertEquals(1, gameController.playAutoTurns(0));
+    verify(mockMonopolyService).purchaseProperty(mockPlayer1, mockPropertyAction);
+    verify(mockMonopolyScene, never()).promptPropertyPurchase(any(), any());
+    verify(mockMonopolyScene).updateDiceLabel("4");
+  }
+
+  @Test
+  @DisplayName("handleRollDiceRequest plays the turn on the game executor and ignores rolls until it is done")
+  void testHandleRollDiceRequest_RunsTurnOnGameExecutor() {
+    Queue<Runnable> gameTasks = new ArrayDeque<>();
+    Queue<Runnable> uiTasks = new ArrayDeque<>();
+    GameController controller = new GameController(mockGameModel, gameTasks::add, uiTasks::add);
+    gameTasks.poll().run(); // Installs the turn message sink on the game thread
+    when(mockGameModel.isFinished()).thenReturn(false);
+    when(mockTile.getAction()).thenReturn(null);
+    doAnswer(invocation -> {
+      controller.onRoundPlayed(List.of(3), List.of(mockPlayer1));
+      return null;
+    }).when(mockGameModel).playTurn(mockPlayer1);
+    controller.setActiveView(mockSlScene);
+    controller.onGameStart(List.of(mockPlayer1));
+    uiTasks.forEach(Runnable::run);
+    uiTasks.clear();
+    clearInvocations(mockSlScene);
+
+    controller.handleRollDiceRequest();
+    controller.handleRollDiceRequest(); // Turn still in progress
+    verify(mockGameModel, never()).playTurn(any());
+    assertEquals(1, gameTasks.size());
+    assertTrue(getErr().contains("The previous turn is still being played."), "Actual logs: " + getErr());
+
+    gameTasks.poll().run();
+    verify(mockGameModel).playTurn(mockPlayer1);
+    verify(mockSlScene, never()).updateDiceLabel(any());
+
+    uiTasks.forEach(Runnable::run);
+    verify(mockSlScene).updateDiceLabel("3");
+    verify(mockSlScene).highlightCurrentPlayer(mockPlayer1);
+
+    controller.handleRollDiceRequest(); // Accepted again once the turn is finalized
+    assertEquals(1, gameTasks.size());
+  }
+
+  @Test
+  @DisplayName("dispose stops observing the game once queued turns are done and drops later view updates")
+  void testDispose() {
+    Queue<Runnable> gameTasks = new ArrayDeque<>();
+    Queue<Runnable> uiTasks = new ArrayDeque<>();
+    GameController controller = new GameController(mockGameModel, gameTasks::add, uiTasks::add);
+    gameTasks.poll().run(); // Installs the turn message sink on the game thread
+    controller.setActiveView(mockSlScene);
+
+    controller.dispose();
+    controller.dispose(); // Does nothing the second time
+    assertEquals(1, gameTasks.size());
+    verify(mockGameModel, never()).removeObserver(any());
+    gameTasks.poll().run();
+    verify(mockGameModel).removeObserver(controller);
+
+    controller.onGameStart(List.of(mockPlayer1));
+    assertTrue(uiTasks.isEmpty());
+    assertNull(controller.getMonopolyBot());
+  }
+
+  @Test
+  @DisplayName("Messages of tile actions on the game thread should be logged and shown until the controller is disposed")
+  void testTurnMessages_ShownOnGameThread() {
+    Queue<Runnable> uiTasks = new ArrayDeque<>();
+    GameController controller = new GameController(mockGameModel, Runnable::run, uiTasks::add);
+    controller.setActiveView(mockSlScene);
+
+    TurnContext.current().emit("Slid down a snake.");
+    uiTasks.forEach(Runnable::run);
+
+    verify(mockSlScene).showGameMessage("Slid down a snake.");
+    assertTrue(getOut().contains("Slid down a snake."), "Actual logs: " + getOut());
+
+    controller.dispose();
+    TurnContext.current().emit("After dispose.");
+    assertFalse(getOut().contains("After dispose."), "Actual logs: " + getOut());
+  }
+
+  @Test
+  @DisplayName("Property purchase continues on the game executor once the prompt is answered")
+  void testHandleLandedOnProperty_WaitsForAsyncPrompt() {
+    Queue<Runnable> gameTasks = new ArrayDeque<>();
+    GameController controller = new GameController(mockGameModel, gameTasks::add, Runnable::run);
+    gameTasks.poll().run(); // Installs the turn message sink on the game thread
+    CompletableFuture<Boolean> answer = new CompletableFuture<>();
+    when(mockGameModel.isFinished()).thenReturn(false);
+    when(mockTile.getAction()).thenReturn(mockPropertyAction);
+    when(mockPropertyAction.getOwner()).thenReturn(null);
+    when(mockPropertyAction.getCost()).thenReturn(100);
+    when(mockPropertyAction.getName()).thenReturn("Boardwalk");
+    when(mockPlayer1.getMoney()).thenReturn(500);
+    when(mockMonopolyScene.promptPropertyPurchase(mockPlayer1, mockPropertyAction)).thenReturn(answer);
+    when(mockMonopolyService.purchaseProperty(mockPlayer1, mockPropertyAction)).thenReturn(true);
+    controller.setActiveView(mockMonopolyScene);
+    controller.onGameStart(List.of(mockPlayer1));
+
+    controller.onRoundPlayed(List.of(5), List.of(mockPlayer1));
+    verify(mockMonopolyScene).promptPropertyPurchase(mockPlayer1, mockPropertyAction);
+    assertTrue(gameTasks.isEmpty(), "Nothing should run before the player answers.");
+
+    answer.complete(true);
+    verify(mockMonopolyService, never()).purchaseProperty(any(), any());
+    while (!gameTasks.isEmpty()) {
+      gameTasks.poll().run();
+    }
+    verify(mockMonopolyService).purchaseProperty(mockPlayer1, mockPropertyAction);
+    verify(mockMonopolyScene).updateDiceLabel("5");
+  }
+}
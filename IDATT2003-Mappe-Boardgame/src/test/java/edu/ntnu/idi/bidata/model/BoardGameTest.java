@@ -59,6 +59,17 @@ class BoardGameTest {
     assertEquals("Observer cannot be null", e.getMessage());
   }
 
+  @Test
+  @DisplayName("removeObserver should stop notifying the observer")
+  void testRemoveObserver() {
+    boardGame.addObserver(mockObserver1);
+    boardGame.addObserver(mockObserver2);
+    boardGame.removeObserver(mockObserver1);
+    boardGame.init();
+    verify(mockObserver1, never()).onGameStart(anyList());
+    verify(mockObserver2).onGameStart(anyList());
+  }
+
 
   @Test
   @DisplayName("init should throw IllegalStateException if board is not set")
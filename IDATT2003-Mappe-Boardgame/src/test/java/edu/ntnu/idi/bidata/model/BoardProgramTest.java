@@ -0,0 +1,219 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.ChanceAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.TaxAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.LadderAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SchrodingerBoxAction;
+import edu.ntnu.idi.bidata.model.actions.snakes.SnakeAction;
+import edu.ntnu.idi.bidata.service.MonopolyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardProgramTest {
+
+  private Board board;
+  private Tile[] tiles;
+  private BoardGame game;
+  private List<String> events;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board();
+    tiles = new Tile[20];
+    for (int i = 0; i < tiles.length; i++) {
+      tiles[i] = new Tile(i);
+      board.addTile(tiles[i]);
+    }
+    for (int i = 0; i + 1 < tiles.length; i++) {
+      tiles[i].setNext(tiles[i + 1]);
+      tiles[i + 1].setPrevious(tiles[i]);
+    }
+    game = new BoardGame();
+    game.setBoard(board);
+    events = new ArrayList<>();
+    TurnContext.current().setEventSink(events::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TurnContext.current().end();
+    TurnContext.current().setEventSink(null);
+  }
+
+  @Test
+  @DisplayName("Tiles should be compiled to their opcode and operands")
+  void testCompile_OpcodesAndOperands() {
+    tiles[2].setAction(new LadderAction("Up", 5));
+    tiles[9].setAction(new SnakeAction("Down", 4));
+    tiles[17].setAction(new LadderAction("Off the end", 10));
+    tiles[3].setAction(new TaxAction("Income Tax.", 200));
+    tiles[4].setAction(new RailroadAction("Reading Railroad", 200, 25));
+    tiles[5].setAction(new SchrodingerBoxAction());
+    tiles[6].setAction(new TileAction() {
+      @Override
+      public void perform(Player player) {
+      }
+    });
+
+    BoardProgram program = board.getProgram();
+
+    assertEquals(tiles.length, program.size());
+    assertEquals(BoardProgram.OP_NONE, program.getOpcode(0));
+    assertEquals(BoardProgram.OP_JUMP, program.getOpcode(2));
+    assertEquals(7, program.getOperand(2));
+    assertEquals(5, program.getSecondOperand(2));
+    assertEquals(5, program.getOperand(9));
+    assertEquals(-4, program.getSecondOperand(9));
+    assertEquals(19, program.getOperand(17), "A ladder past the end stops on the last tile, like Player.move.");
+    assertEquals(BoardProgram.OP_TAX, program.getOpcode(3));
+    assertEquals(200, program.getOperand(3));
+    assertEquals(BoardProgram.OP_RAILROAD, program.getOpcode(4));
+    assertEquals(200, program.getOperand(4));
+    assertEquals(25, program.getSecondOperand(4));
+    assertEquals(BoardProgram.OP_SCHRODINGER, program.getOpcode(5));
+    assertEquals(BoardProgram.OP_CUSTOM, program.getOpcode(6));
+    assertEquals(BoardProgram.OP_NONE, program.getOpcode(99), "Ids off the board have no action.");
+    assertSame(tiles[4].getAction(), program.getAction(4));
+  }
+
+  @Test
+  @DisplayName("Subclasses of the inlined actions should stay custom, other kinds keep their kind")
+  void testOpcodeOf_Subclasses() {
+    assertEquals(BoardProgram.OP_CUSTOM, BoardProgram.opcodeOf(new GoAction("GO", 200) {
+      @Override
+      public void perform(Player player) {
+      }
+    }));
+    assertEquals(BoardProgram.OP_PROPERTY, BoardProgram.opcodeOf(mock(PropertyAction.class)));
+    assertEquals(BoardProgram.OP_CHANCE, BoardProgram.opcodeOf(new ChanceAction("Chance")));
+    assertEquals(BoardProgram.OP_NONE, BoardProgram.opcodeOf(null));
+  }
+
+  @Test
+  @DisplayName("Landing should follow chains of snakes and ladders in one loop")
+  void testLand_FollowsJumpChain() {
+    tiles[3].setAction(new LadderAction("Climb to 10", 7));
+    tiles[10].setAction(new SnakeAction("Slide to 6", 4));
+    tiles[6].setAction(new GoAction("Bonus", 50));
+    Player player = new Player("Alice", tiles[0], null, 0);
+    List<Integer> visited = new ArrayList<>();
+    player.addMoveListener(p -> visited.add(p.getCurrentTile().getId()));
+
+    TurnContext.current().begin(game, null, player, 3, null);
+    player.move(3);
+
+    assertEquals(tiles[6], player.getCurrentTile());
+    assertEquals(50, player.getMoney());
+    assertEquals(List.of(3, 10, 6), visited, "Every hop should be seen by the move listeners.");
+    assertEquals(List.of("Climb to 10", "Slide to 6"), events);
+  }
+
+  @Test
+  @DisplayName("Landing through the program should match performing the actions directly")
+  void testLand_MatchesDirectPerform() {
+    tiles[3].setAction(new TaxAction("Income Tax.", 200));
+    tiles[4].setAction(new GoAction("GO", 200));
+    Player compiled = new Player("Compiled", tiles[0], null, 1000);
+    Player direct = new Player("Direct", tiles[0], null, 1000);
+
+    TurnContext.current().begin(game, null, compiled, 3, null);
+    compiled.move(3);
+    compiled.move(1);
+    TurnContext.current().end();
+    direct.move(3);
+    direct.move(1);
+
+    assertEquals(direct.getMoney(), compiled.getMoney());
+    assertEquals(direct.getCurrentTile(), compiled.getCurrentTile());
+    assertEquals(List.of("Income Tax. You paid 200 in taxes."), events);
+  }
+
+  @Test
+  @DisplayName("A tax the player cannot afford should take what they have, as TaxAction does")
+  void testLand_UnaffordableTax() {
+    tiles[3].setAction(new TaxAction("Income Tax.", 200));
+    Player compiled = new Player("Compiled", tiles[0], null, 100);
+    Player direct = new Player("Direct", tiles[0], null, 100);
+
+    TurnContext.current().begin(game, null, compiled, 3, null);
+    assertDoesNotThrow(() -> compiled.move(3));
+    TurnContext.current().end();
+    direct.move(3);
+
+    assertEquals(0, compiled.getMoney());
+    assertEquals(direct.getMoney(), compiled.getMoney());
+    assertEquals(List.of("Income Tax. You paid 100 in taxes."), events);
+  }
+
+  @Test
+  @DisplayName("Stateful and custom actions should still be performed by their objects")
+  void testLand_DelegatesToActions() {
+    PropertyAction property = mock(PropertyAction.class);
+    TileAction custom = mock(TileAction.class);
+    tiles[2].setAction(property);
+    tiles[3].setAction(custom);
+    Player player = new Player("Bob", tiles[0]);
+    MonopolyService service = mock(MonopolyService.class);
+
+    TurnContext context = TurnContext.current().begin(game, service, player, 2, null);
+    player.move(2);
+    player.move(1);
+
+    verify(property).perform(player, context);
+    verify(custom).perform(player, context);
+  }
+
+  @Test
+  @DisplayName("A tile whose action was replaced should perform its new action")
+  void testLand_ReplacedAction() {
+    tiles[2].setAction(new GoAction("Old", 100));
+    board.getProgram();
+    tiles[2].setAction(new GoAction("New", 7));
+    Player player = new Player("Carol", tiles[0], null, 0);
+
+    TurnContext.current().begin(game, null, player, 2, null);
+    player.move(2);
+
+    assertEquals(7, player.getMoney());
+    assertFalse(board.getProgram().contains(tiles[2]));
+  }
+
+  @Test
+  @DisplayName("Snakes and ladders that loop should be reported instead of looping forever")
+  void testLand_JumpLoop() {
+    tiles[2].setAction(new LadderAction("Up", 3));
+    tiles[5].setAction(new SnakeAction("Down", 3));
+    Player player = new Player("Dave", tiles[0]);
+
+    TurnContext.current().begin(game, null, player, 2, null);
+
+    assertThrows(IllegalStateException.class, () -> player.move(2));
+  }
+
+  @Test
+  @DisplayName("The board should keep its program until a tile is added or the indexes are rebuilt")
+  void testGetProgram_Cached() {
+    BoardProgram program = board.getProgram();
+    assertSame(program, board.getProgram());
+
+    board.buildIndexes();
+    BoardProgram rebuilt = board.getProgram();
+    assertNotSame(program, rebuilt);
+
+    board.addTile(new Tile(40));
+    assertNotSame(rebuilt, board.getProgram());
+    assertEquals(41, board.getProgram().size());
+  }
+}
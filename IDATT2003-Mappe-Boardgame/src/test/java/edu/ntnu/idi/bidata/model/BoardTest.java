@@ -1,6 +1,9 @@
 package edu.ntnu.idi.bidata.model;
 
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -95,4 +98,109 @@ class BoardTest {
     Exception exception = assertThrows(IllegalStateException.class, () -> board.getStart());
     assertEquals("Board is empty; no start tile", exception.getMessage());
   }
-}
\ No newline at end of file
+
+  private Board createRing(int size) {
+    Board ring = new Board();
+    Tile[] ringTiles = new Tile[size];
+    for (int i = 0; i < size; i++) {
+      ringTiles[i] = new Tile(i);
+      ring.addTile(ringTiles[i]);
+    }
+    for (int i = 0; i < size; i++) {
+      ringTiles[i].setNext(ringTiles[(i + 1) % size]);
+      ringTiles[(i + 1) % size].setPrevious(ringTiles[i]);
+    }
+    return ring;
+  }
+
+  @Test
+  @DisplayName("getTileByName should find property tiles by name")
+  void testGetTileByName() {
+    Tile illinois = new Tile(3);
+    illinois.setAction(new PropertyAction("Illinois Avenue", 240, 20, "Red"));
+    board.addTile(new Tile(1));
+    board.addTile(illinois);
+
+    assertEquals(illinois, board.getTileByName("Illinois Avenue"));
+    assertNull(board.getTileByName("Boardwalk"), "Unknown names should return null.");
+  }
+
+  @Test
+  @DisplayName("getDistance should wrap around on rings larger than 40 tiles")
+  void testGetDistance_LargeRing() {
+    Board ring = createRing(60);
+
+    assertTrue(ring.isRing());
+    assertEquals(60, ring.getPathLength());
+    assertEquals(50, ring.getDistance(5, 55));
+    assertEquals(10, ring.getDistance(55, 5), "Distance on a ring should always be forward.");
+    assertEquals(0, ring.getDistance(7, 7));
+  }
+
+  @Test
+  @DisplayName("getDistance should be negative backwards on an open path")
+  void testGetDistance_OpenPath() {
+    Tile a = new Tile(0);
+    Tile b = new Tile(1);
+    Tile c = new Tile(2);
+    a.setNext(b);
+    b.setNext(c);
+    board.addTile(a);
+    board.addTile(b);
+    board.addTile(c);
+
+    assertFalse(board.isRing());
+    assertEquals(2, board.getDistance(0, 2));
+    assertEquals(-2, board.getDistance(2, 0));
+  }
+
+  @Test
+  @DisplayName("getPathPosition should reject tiles that are not on the path")
+  void testGetPathPosition_Unreachable() {
+    board.addTile(new Tile(0));
+    board.addTile(new Tile(5));
+
+    assertEquals(0, board.getPathPosition(0));
+    Exception exception = assertThrows(InvalidParameterException.class, () -> board.getPathPosition(5));
+    assertEquals("Tile ID 5 is not on the board path", exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("addTile should invalidate the indexes")
+  void testAddTile_RebuildsIndexes() {
+    board.addTile(new Tile(0));
+    assertNull(board.getTileByName("Boardwalk"));
+
+    Tile boardwalk = new Tile(1);
+    boardwalk.setAction(new PropertyAction("Boardwalk", 400, 50, "Blue"));
+    board.addTile(boardwalk);
+
+    assertEquals(boardwalk, board.getTileByName("Boardwalk"));
+  }
+
+  @Test
+  @DisplayName("getNextTileOfType should find the next matching tile and wrap around")
+  void testGetNextTileOfType() {
+    Board ring = createRing(10);
+    ring.getTile(3).setAction(new RailroadAction("Reading Railroad", 200, 25));
+    ring.getTile(7).setAction(new RailroadAction("Short Line", 200, 25));
+    ring.buildIndexes();
+
+    assertEquals(ring.getTile(3), ring.getNextTileOfType(0, RailroadAction.class));
+    assertEquals(ring.getTile(7), ring.getNextTileOfType(3, RailroadAction.class),
+        "The tile itself should not count as the next one.");
+    assertEquals(ring.getTile(3), ring.getNextTileOfType(8, RailroadAction.class), "Search should wrap past the end.");
+    assertNull(ring.getNextTileOfType(0, UtilityAction.class), "No tile of the type should give null.");
+  }
+
+  @Test
+  @DisplayName("passes should detect moves that pass or end on a tile")
+  void testPasses() {
+    Board ring = createRing(10);
+
+    assertTrue(ring.passes(8, 2, 0), "Moving from 8 to 2 passes tile 0.");
+    assertTrue(ring.passes(8, 0, 0), "Ending on the tile counts as passing it.");
+    assertFalse(ring.passes(0, 5, 0), "Starting on the tile does not count.");
+    assertFalse(ring.passes(2, 5, 0));
+  }
+}
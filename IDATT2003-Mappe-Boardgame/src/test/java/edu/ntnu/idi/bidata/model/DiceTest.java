@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DiceTest {
@@ -87,4 +89,78 @@ class DiceTest {
     Exception exception = assertThrows(InvalidParameterException.class, () -> dice.getDie(2));
     assertEquals("Die index out of range: 2", exception.getMessage());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("Distribution of two six-sided dice should be the triangle from 2 to 12")
+  void testGetDistribution_TwoSixSided() {
+    DiceDistribution distribution = new Dice(2).getDistribution();
+
+    assertEquals(2, distribution.getMinSum());
+    assertEquals(12, distribution.getMaxSum());
+    assertEquals(1.0 / 36, distribution.getProbability(2), 1e-12);
+    assertEquals(6.0 / 36, distribution.getProbability(7), 1e-12);
+    assertEquals(1.0 / 36, distribution.getProbability(12), 1e-12);
+    assertEquals(0, distribution.getProbability(13));
+    assertEquals(7, distribution.getMean(), 1e-12);
+  }
+
+  @Test
+  @DisplayName("Mixed and loaded dice should have the distribution of their faces")
+  void testGetDistribution_MixedAndLoaded() {
+    Die coin = new Die(2);
+    Die loaded = Die.loaded(0, 0, 1, 0, 0, 3);
+    DiceDistribution distribution = new Dice(coin, loaded).getDistribution();
+
+    assertEquals(2, coin.getSides());
+    assertFalse(loaded.isFair());
+    assertEquals(0.75, loaded.getProbability(6), 1e-12);
+    assertEquals(0, distribution.getProbability(3), "The loaded die never shows 1 or 2.");
+    assertEquals(0.125, distribution.getProbability(4), 1e-12);
+    assertEquals(0.375, distribution.getProbability(8), 1e-12);
+    assertEquals(1.5 + 5.25, distribution.getMean(), 1e-12);
+  }
+
+  @Test
+  @DisplayName("rollDie should draw sums with the precomputed probabilities and set every face")
+  void testRollDie_MatchesDistribution() {
+    Dice dice = new Dice(new Die(4), Die.loaded(1, 2, 3), new Die());
+    dice.setRandom(new Random(7));
+    DiceDistribution distribution = dice.getDistribution();
+    int rolls = 200_000;
+    int[] counts = new int[distribution.getMaxSum() + 1];
+
+    for (int i = 0; i < rolls; i++) {
+      int sum = dice.rollDie();
+      assertEquals(sum, dice.getDie(0) + dice.getDie(1) + dice.getDie(2), "The faces should add up to the sum.");
+      assertTrue(dice.getDie(0) >= 1 && dice.getDie(0) <= 4);
+      counts[sum]++;
+    }
+    for (int sum = distribution.getMinSum(); sum <= distribution.getMaxSum(); sum++) {
+      assertEquals(distribution.getProbability(sum), (double) counts[sum] / rolls, 0.005, "Sum " + sum);
+    }
+  }
+
+  @Test
+  @DisplayName("Dice with too many combined faces should roll every die on its own")
+  void testRollDie_ManyFaces() {
+    Dice dice = new Dice(new Die(300), new Die(300));
+    dice.setRandom(new Random(3));
+
+    for (int i = 0; i < 100; i++) {
+      int sum = dice.rollDie();
+      assertEquals(sum, dice.getDie(0) + dice.getDie(1));
+      assertTrue(sum >= 2 && sum <= 600);
+    }
+    assertEquals(301, dice.getDistribution().getMean(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("Constructors should reject missing and invalid dice")
+  void testConstructor_InvalidDice() {
+    assertThrows(InvalidParameterException.class, () -> new Dice(new Die[0]));
+    assertThrows(InvalidParameterException.class, () -> new Dice(new Die(), null));
+    assertThrows(InvalidParameterException.class, () -> new Die(0));
+    assertThrows(InvalidParameterException.class, () -> Die.loaded(0, 0));
+    assertThrows(InvalidParameterException.class, () -> Die.loaded(1, -1));
+  }
+}
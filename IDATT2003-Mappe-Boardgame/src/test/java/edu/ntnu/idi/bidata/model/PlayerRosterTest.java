@@ -0,0 +1,93 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.service.GameService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PlayerRosterTest {
+
+  private final Player alice = Mockito.mock(Player.class);
+  private final Player bob = Mockito.mock(Player.class);
+  private final Player carol = Mockito.mock(Player.class);
+
+  @Test
+  @DisplayName("Players keep their ids when others join")
+  void testWith_StableIds() {
+    PlayerRoster first = PlayerRoster.empty().with(alice).with(bob);
+    PlayerRoster second = first.with(carol);
+
+    assertEquals(2, first.size());
+    assertEquals(3, second.size());
+    assertSame(alice, second.get(0));
+    assertSame(bob, second.get(1));
+    assertSame(carol, second.get(2));
+    assertEquals(1, first.indexOf(bob));
+    assertEquals(1, second.indexOf(bob));
+    assertEquals(2, second.indexOf(carol));
+    assertEquals(-1, first.indexOf(carol));
+    assertFalse(first.contains(carol));
+    assertTrue(second.contains(carol));
+  }
+
+  @Test
+  @DisplayName("of should copy a list and return a roster unchanged")
+  void testOf() {
+    List<Player> players = new ArrayList<>(List.of(alice, bob));
+    PlayerRoster roster = PlayerRoster.of(players);
+    players.add(carol);
+
+    assertEquals(List.of(alice, bob), roster);
+    assertSame(roster, PlayerRoster.of(roster));
+    assertEquals(-1, roster.indexOf("not a player"));
+  }
+
+  @Test
+  @DisplayName("The roster cannot be changed")
+  void testImmutable() {
+    PlayerRoster roster = PlayerRoster.empty().with(alice);
+    assertThrows(UnsupportedOperationException.class, () -> roster.add(bob));
+    assertThrows(UnsupportedOperationException.class, () -> roster.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> roster.set(0, bob));
+    assertTrue(PlayerRoster.empty().isEmpty());
+  }
+
+  @Test
+  @DisplayName("Null lists and players are rejected")
+  void testNulls() {
+    assertThrows(InvalidParameterException.class, () -> PlayerRoster.empty().with(null));
+    assertThrows(InvalidParameterException.class, () -> PlayerRoster.of(null));
+    assertThrows(InvalidParameterException.class, () -> PlayerRoster.of(Arrays.asList(alice, null)));
+  }
+
+  @Test
+  @DisplayName("BoardGame shares its roster with observers without copying")
+  void testBoardGameRoster() {
+    BoardGame game = new BoardGame();
+    game.addPlayer(alice);
+    PlayerRoster before = game.getRoster();
+    game.addPlayer(bob);
+    PlayerRoster roster = game.getRoster();
+
+    assertEquals(1, before.size());
+    assertSame(roster, game.getRoster());
+    assertEquals(1, roster.indexOf(bob));
+    assertEquals(roster, game.getPlayers());
+
+    BoardGameObserver observer = Mockito.mock(BoardGameObserver.class);
+    game.addObserver(observer);
+    game.setBoard(Mockito.mock(Board.class));
+    game.setDice(Mockito.mock(Dice.class));
+    game.setGameService(Mockito.mock(GameService.class));
+    game.init();
+    verify(observer).onGameStart(same(roster));
+  }
+}
@@ -12,6 +12,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -262,6 +266,27 @@ class PlayerTest {
       assertSame(mockNextTile1, player.getCurrentTile());
       verify(mockNextTile1).land(player); // Crucial verification: land was called on the destination.
     }
+
+    @Test
+    @DisplayName("move and setCurrentTile notify move listeners until removed")
+    void testMove_notifiesMoveListeners() {
+      when(mockStartTile.getNext()).thenReturn(mockNextTile1);
+      List<Player> moved = new ArrayList<>();
+      Consumer<Player> listener = moved::add;
+      player.addMoveListener(listener);
+
+      player.move(0);
+      assertTrue(moved.isEmpty(), "Standing still should not notify listeners.");
+
+      player.move(1);
+      player.setCurrentTile(mockStartTile);
+      assertEquals(2, moved.size());
+      assertSame(player, moved.get(0));
+
+      player.removeMoveListener(listener);
+      player.move(1);
+      assertEquals(2, moved.size(), "Removed listener should not be notified.");
+    }
   }
 
 
@@ -391,6 +416,25 @@ class PlayerTest {
       assertEquals(110, player.getMoney(), "Current impl subtracts negative amount.");
       // Consider if this should throw an exception for negative amounts
     }
+
+    @Test
+    @DisplayName("Money changes notify money listeners until removed")
+    void testMoney_notifiesMoneyListeners() {
+      List<Integer> seen = new ArrayList<>();
+      Consumer<Player> listener = p -> seen.add(p.getMoney());
+      player.addMoneyListener(listener);
+
+      player.setMoney(100);
+      player.increaseMoney(50);
+      player.decreaseMoney(30);
+      assertThrows(InvalidParameterException.class, () -> player.decreaseMoney(500));
+      assertEquals(List.of(100, 150, 120), seen, "A failed payment should not notify listeners.");
+
+      player.removeMoneyListener(listener);
+      player.setMoney(0);
+      assertEquals(3, seen.size(), "Removed listener should not be notified.");
+      assertThrows(InvalidParameterException.class, () -> player.addMoneyListener(null));
+    }
   }
 
   @Nested
@@ -403,15 +447,16 @@ class PlayerTest {
     }
 
     @Test
-    @DisplayName("getLastDiceRoll currently returns 0")
+    @DisplayName("getLastDiceRoll returns 0 before the first roll")
     void testGetLastDiceRoll() {
       assertEquals(0, player.getLastDiceRoll());
     }
 
     @Test
-    @DisplayName("getUtilitiesOwnedCount currently returns 0")
-    void testGetUtilitiesOwnedCount() {
-      assertEquals(0, player.getUtilitiesOwnedCount());
+    @DisplayName("getLastDiceRoll returns the roll set last")
+    void testSetLastDiceRoll() {
+      player.setLastDiceRoll(7);
+      assertEquals(7, player.getLastDiceRoll());
     }
   }
 
@@ -122,8 +122,8 @@ class TileTest {
       tile.setAction(mockAction);
       tile.land(mockPlayer);
 
-      // Verify that mockAction.perform(mockPlayer) was called exactly once
-      verify(mockAction, times(1)).perform(mockPlayer);
+      // Verify that mockAction.perform(mockPlayer, context) was called exactly once
+      verify(mockAction, times(1)).perform(mockPlayer, TurnContext.current());
     }
 
     @Test
@@ -133,7 +133,7 @@ class TileTest {
       Player specificPlayer = mock(Player.class); // Use a fresh mock if needed for clarity
       tile.land(specificPlayer);
 
-      verify(mockAction).perform(specificPlayer); // Verifies perform was called with specificPlayer
+      verify(mockAction).perform(specificPlayer, TurnContext.current()); // Verifies perform was called with specificPlayer
     }
 
     @Test
@@ -142,7 +142,17 @@ class TileTest {
       tile.setAction(mockAction);
       tile.land(null); // Passing null as player
 
-      verify(mockAction, times(1)).perform(null);
+      verify(mockAction, times(1)).perform(null, TurnContext.current());
+    }
+
+    @Test
+    @DisplayName("land() with a context should pass that context to action.perform()")
+    void testLand_withContext_passesContextToActionPerform() {
+      tile.setAction(mockAction);
+      TurnContext context = new TurnContext();
+      tile.land(mockPlayer, context);
+
+      verify(mockAction).perform(mockPlayer, context);
     }
   }
 }
\ No newline at end of file
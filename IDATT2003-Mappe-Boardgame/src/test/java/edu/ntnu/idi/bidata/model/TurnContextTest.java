@@ -0,0 +1,140 @@
+package edu.ntnu.idi.bidata.model;
+
+import edu.ntnu.idi.bidata.service.MonopolyService;
+import edu.ntnu.idi.bidata.service.SnakesLaddersService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TurnContextTest {
+
+  @AfterEach
+  void tearDown() {
+    TurnContext.current().end();
+    TurnContext.current().setRandom(null);
+    TurnContext.current().setEventSink(null);
+  }
+
+  @Test
+  @DisplayName("current() should return the same pooled context on a thread")
+  void testCurrent_IsPooledPerThread() throws InterruptedException {
+    TurnContext mine = TurnContext.current();
+    assertSame(mine, TurnContext.current());
+
+    AtomicReference<TurnContext> other = new AtomicReference<>();
+    Thread thread = new Thread(() -> other.set(TurnContext.current()));
+    thread.start();
+    thread.join();
+    assertNotNull(other.get());
+    assertNotSame(mine, other.get(), "Every thread should have its own context.");
+  }
+
+  @Test
+  @DisplayName("begin() should bind the turn and end() should clear it")
+  void testBeginAndEnd() {
+    Tile start = new Tile(0);
+    Board board = new Board();
+    board.addTile(start);
+    BoardGame game = new BoardGame();
+    game.setBoard(board);
+    game.setDice(new Dice(2));
+    Player player = new Player("Alice", start);
+    MonopolyService service = mock(MonopolyService.class);
+    game.getDice().rollDie();
+
+    TurnContext context = new TurnContext().begin(game, service, player, 9, game.getDice());
+
+    assertSame(game, context.getGame());
+    assertSame(board, context.getBoard());
+    assertSame(service, context.getMonopolyService());
+    assertSame(player, context.getPlayer());
+    assertEquals(9, context.getRoll());
+    assertEquals(9, player.getLastDiceRoll(), "The player should remember the roll.");
+    assertEquals(2, context.getFaceCount());
+    assertEquals(game.getDice().getDie(0), context.getFace(0));
+    assertEquals(game.getDice().getDie(1), context.getFace(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> context.getFace(2));
+
+    context.end();
+    assertNull(context.getGame());
+    assertNull(context.getBoard());
+    assertNull(context.getService());
+    assertNull(context.getPlayer());
+    assertEquals(0, context.getRoll());
+    assertEquals(0, context.getFaceCount());
+  }
+
+  @Test
+  @DisplayName("getMonopolyService() should be null for other games")
+  void testGetMonopolyService_OtherService() {
+    TurnContext context = new TurnContext().begin(null, new SnakesLaddersService(), null, 3, null);
+
+    assertNotNull(context.getService());
+    assertNull(context.getMonopolyService());
+  }
+
+  @Test
+  @DisplayName("emit() should go to the event sink and setRandom() should replace the generator")
+  void testEventSinkAndRandom() {
+    TurnContext context = new TurnContext();
+    List<String> events = new ArrayList<>();
+    context.setEventSink(events::add);
+    context.emit("Go to Jail");
+    assertEquals(List.of("Go to Jail"), events);
+
+    assertNotNull(context.getRandom());
+    context.setRandom(new Random(42));
+    assertEquals(new Random(42).nextInt(100), context.getRandom().nextInt(100));
+  }
+
+  @Test
+  @DisplayName("emit() should print nothing without an event sink")
+  void testEmit_WithoutSinkIsSilent() {
+    PrintStream originalOut = System.out;
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(out));
+    try {
+      TurnContext context = new TurnContext();
+      context.emit("Go to Jail");
+      context.setEventSink(null);
+      context.emit("Go to Jail");
+    } finally {
+      System.setOut(originalOut);
+    }
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  @DisplayName("Tile.land() should perform the action within the thread's current turn")
+  void testLand_UsesCurrentContext() {
+    Tile tile = new Tile(1);
+    AtomicReference<Integer> seenRoll = new AtomicReference<>();
+    tile.setAction(new edu.ntnu.idi.bidata.model.actions.TileAction() {
+      @Override
+      public void perform(Player player) {
+        fail("The context-aware perform should be called.");
+      }
+
+      @Override
+      public void perform(Player player, TurnContext context) {
+        seenRoll.set(context.getRoll());
+      }
+    });
+    Player player = new Player("Bob", tile);
+
+    TurnContext.current().begin(null, null, player, 11, null);
+    tile.land(player);
+
+    assertEquals(11, seenRoll.get());
+  }
+}
@@ -0,0 +1,52 @@
+package edu.ntnu.idi.bidata.model.actions.monopoly;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColorGroupsTest {
+
+  @Test
+  @DisplayName("Standard groups should have fixed ids in board order")
+  void testStandardGroupIds() {
+    assertEquals(0, ColorGroups.idOf("Brown"));
+    assertEquals(1, ColorGroups.idOf("Light Blue"));
+    assertEquals(6, ColorGroups.idOf("Green"));
+    assertEquals(7, ColorGroups.idOf("Dark Blue"));
+  }
+
+  @Test
+  @DisplayName("idOf should ignore case and whitespace and accept aliases")
+  void testIdOf_NormalizesNames() {
+    assertEquals(ColorGroups.idOf("Light Blue"), ColorGroups.idOf("  light blue "));
+    assertEquals(ColorGroups.idOf("Pink"), ColorGroups.idOf("Magenta"));
+    assertEquals(ColorGroups.idOf("Dark Blue"), ColorGroups.idOf("Blue"));
+  }
+
+  @Test
+  @DisplayName("idOf should return NONE for missing names")
+  void testIdOf_NullOrBlank() {
+    assertEquals(ColorGroups.NONE, ColorGroups.idOf(null));
+    assertEquals(ColorGroups.NONE, ColorGroups.idOf("  "));
+  }
+
+  @Test
+  @DisplayName("Unknown groups should be interned once with a new id")
+  void testIdOf_NewGroup() {
+    int id = ColorGroups.idOf("Silver");
+
+    assertTrue(id >= 8, "Custom groups should come after the standard ones.");
+    assertEquals(id, ColorGroups.idOf("SILVER"));
+    assertEquals("Silver", ColorGroups.nameOf(id));
+    assertTrue(id < ColorGroups.count());
+    assertNull(ColorGroups.nameOf(ColorGroups.NONE));
+  }
+
+  @Test
+  @DisplayName("PropertyAction should carry the interned group id")
+  void testPropertyActionGroupId() {
+    assertEquals(ColorGroups.idOf("Red"), new PropertyAction("Illinois Avenue", 240, 20, "Red").getColorGroupId());
+    assertEquals(ColorGroups.NONE, new PropertyAction("Reading Railroad", 200, 25).getColorGroupId());
+  }
+}
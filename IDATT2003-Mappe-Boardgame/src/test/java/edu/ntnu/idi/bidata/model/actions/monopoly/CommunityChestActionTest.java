@@ -1,38 +1,29 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class CommunityChestActionTest {
 
-  private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
-  private final PrintStream originalOut = System.out;
+  private final List<String> events = new ArrayList<>();
 
   private Player mockPlayer;
   private MonopolyService mockMonopolyService;
 
   @BeforeEach
   void setUp() {
-    System.setOut(new PrintStream(outContent));
     mockPlayer = mock(Player.class);
     mockMonopolyService = mock(MonopolyService.class);
-    ServiceLocator.setMonopolyService(mockMonopolyService);
-  }
-
-  @AfterEach
-  void restoreStreams() {
-    System.setOut(originalOut);
   }
 
   @Test
@@ -43,28 +34,27 @@ class CommunityChestActionTest {
   }
 
   @Test
-  @DisplayName("perform should print description and call service.drawCommunityChestCard")
+  @DisplayName("perform should emit description and call service.drawCommunityChestCard")
   void testPerform_ServiceAvailable() {
     CommunityChestAction action = new CommunityChestAction("Draw a Community Chest card.");
-    action.perform(mockPlayer);
+    TurnContext context = new TurnContext().begin(null, mockMonopolyService, mockPlayer, 7, null);
+    context.setEventSink(events::add);
+    action.perform(mockPlayer, context);
 
-    String consoleOutput = outContent.toString();
-    assertTrue(consoleOutput.contains("Draw a Community Chest card."),
-        "Console output mismatch. Actual: " + consoleOutput);
+    assertEquals(List.of("Draw a Community Chest card."), events);
     verify(mockMonopolyService).drawCommunityChestCard(mockPlayer);
   }
 
   @Test
-  @DisplayName("perform should print description and handle null service gracefully")
+  @DisplayName("perform should emit description and handle null service gracefully")
   void testPerform_NullService() {
-    ServiceLocator.setMonopolyService(null); // Simulate service not being set
     CommunityChestAction action = new CommunityChestAction("Community Chest - No Service");
 
-    assertDoesNotThrow(() -> action.perform(mockPlayer));
+    TurnContext context = new TurnContext();
+    context.setEventSink(events::add);
+    assertDoesNotThrow(() -> action.perform(mockPlayer, context));
 
-    String consoleOutput = outContent.toString();
-    assertTrue(consoleOutput.contains("Community Chest - No Service"),
-        "Console output mismatch. Actual: " + consoleOutput);
+    assertEquals(List.of("Community Chest - No Service"), events);
 
     verify(mockMonopolyService, never()).drawCommunityChestCard(mockPlayer);
   }
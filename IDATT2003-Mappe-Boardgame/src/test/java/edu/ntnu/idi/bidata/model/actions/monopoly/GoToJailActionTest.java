@@ -1,10 +1,11 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.model.Board;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,12 +23,14 @@ class GoToJailActionTest {
 
   private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
   private final PrintStream originalOut = System.out;
+  private final List<String> events = new ArrayList<>();
 
   private Player mockPlayer;
   private Tile mockCurrentTile;
   private Tile mockJailTile;
   private Tile mockIntermediateTile1;
   private MonopolyService mockMonopolyService;
+  private TurnContext context;
 
   @BeforeEach
   void setUp() {
@@ -38,7 +43,8 @@ class GoToJailActionTest {
     mockMonopolyService = mock(MonopolyService.class);
 
     when(mockPlayer.getCurrentTile()).thenReturn(mockCurrentTile);
-    ServiceLocator.setMonopolyService(mockMonopolyService);
+    context = new TurnContext().begin(null, mockMonopolyService, mockPlayer, 7, null);
+    context.setEventSink(events::add);
   }
 
   @AfterEach
@@ -79,10 +85,10 @@ class GoToJailActionTest {
     when(mockJailTile.getId()).thenReturn(jailId); // Jail found
 
     GoToJailAction action = new GoToJailAction("Go Directly to Jail", jailId);
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, context);
 
     verify(mockMonopolyService).sendToJail(mockPlayer);
-    assertTrue(outContent.toString().contains("Go Directly to Jail"));
+    assertEquals(List.of("Go Directly to Jail"), events);
   }
 
   @Test
@@ -99,12 +105,12 @@ class GoToJailActionTest {
     when(mockCurrentTile.getNext()).thenReturn(null); // Or a long path that doesn't find jail quickly
 
     GoToJailAction action = new GoToJailAction("Oops, Jail Time!", jailId);
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, context);
 
     // Expected steps: from 5 to 2 via 4 => (4-5) + (2-4) -> simplified to -2 direct steps
     verify(mockPlayer).move(-2);
     verify(mockMonopolyService).sendToJail(mockPlayer);
-    assertTrue(outContent.toString().contains("Oops, Jail Time!"));
+    assertEquals(List.of("Oops, Jail Time!"), events);
   }
 
   @Test
@@ -138,11 +144,11 @@ class GoToJailActionTest {
 
     GoToJailAction action = new GoToJailAction("Lost way to Jail", jailId);
 
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, context);
 
     verify(mockPlayer, never()).move(anyInt());
     verify(mockMonopolyService, never()).sendToJail(mockPlayer);
-    assertTrue(outContent.toString().contains("Lost way to Jail"));
+    assertEquals(List.of("Lost way to Jail"), events);
   }
 
   @Test
@@ -152,17 +158,17 @@ class GoToJailActionTest {
     when(mockCurrentTile.getId()).thenReturn(jailId); // Player is already on jail tile
 
     GoToJailAction action = new GoToJailAction("Already at Jail", jailId);
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, context);
 
     verify(mockPlayer).move(0); // Moves 0 steps
     verify(mockMonopolyService).sendToJail(mockPlayer);
-    assertTrue(outContent.toString().contains("Already at Jail"));
+    assertEquals(List.of("Already at Jail"), events);
   }
 
   @Test
-  @DisplayName("perform should handle null monopoly service from ServiceLocator")
+  @DisplayName("perform should handle a turn without a monopoly service")
   void testPerform_NullMonopolyService() {
-    ServiceLocator.setMonopolyService(null); // Set service to null
+    context.end(); // No service bound
 
     int jailId = 10;
     when(mockCurrentTile.getId()).thenReturn(5);
@@ -171,10 +177,31 @@ class GoToJailActionTest {
 
     GoToJailAction action = new GoToJailAction("Go to Jail, no service", jailId);
     // Should not throw NPE, but service call won't happen
-    assertDoesNotThrow(() -> action.perform(mockPlayer));
+    assertDoesNotThrow(() -> action.perform(mockPlayer, context));
 
     verify(mockPlayer).move(1);
     // mockMonopolyService is null, so sendToJail on it won't be verified (it would NPE if called)
-    assertTrue(outContent.toString().contains("Go to Jail, no service"));
+    assertEquals(List.of("Go to Jail, no service"), events);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("perform should move player straight to jail when the board is known")
+  void testPerform_UsesBoardIndex() {
+    Board board = new Board();
+    Tile[] tiles = new Tile[60];
+    for (int i = 0; i < tiles.length; i++) {
+      tiles[i] = new Tile(i);
+      board.addTile(tiles[i]);
+    }
+    for (int i = 0; i < tiles.length; i++) {
+      tiles[i].setNext(tiles[(i + 1) % tiles.length]);
+    }
+    when(mockMonopolyService.getBoard()).thenReturn(board);
+
+    Player player = new Player("Prisoner", tiles[55]);
+    new GoToJailAction("Go to Jail", 8).perform(player, context);
+
+    assertEquals(tiles[8], player.getCurrentTile(), "Jail more than 40 steps ahead should still be reached.");
+    verify(mockMonopolyService).sendToJail(player);
+  }
+}
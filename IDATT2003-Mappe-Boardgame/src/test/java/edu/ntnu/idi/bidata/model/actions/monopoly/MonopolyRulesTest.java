@@ -0,0 +1,34 @@
+package edu.ntnu.idi.bidata.model.actions.monopoly;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonopolyRulesTest {
+
+  @Test
+  @DisplayName("Rents should follow the color group, railroad and utility rules")
+  void testRents() {
+    assertEquals(12, MonopolyRules.propertyRent(12, false));
+    assertEquals(24, MonopolyRules.propertyRent(12, true));
+    assertEquals(25, MonopolyRules.railroadRent(1));
+    assertEquals(100, MonopolyRules.railroadRent(4));
+    assertEquals(28, MonopolyRules.utilityRent(7, 1));
+    assertEquals(70, MonopolyRules.utilityRent(7, 2));
+  }
+
+  @Test
+  @DisplayName("A player should pay what they have when they cannot afford the amount")
+  void testAmountPaid() {
+    assertEquals(200, MonopolyRules.amountPaid(500, 200));
+    assertEquals(120, MonopolyRules.amountPaid(120, 200));
+  }
+
+  @Test
+  @DisplayName("Jail turns should count down to release")
+  void testJailTurnsAfterWaiting() {
+    assertEquals(2, MonopolyRules.jailTurnsAfterWaiting(MonopolyRules.JAIL_TURNS));
+    assertEquals(0, MonopolyRules.jailTurnsAfterWaiting(1));
+  }
+}
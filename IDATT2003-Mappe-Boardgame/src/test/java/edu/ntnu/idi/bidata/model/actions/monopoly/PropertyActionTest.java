@@ -52,6 +52,21 @@ class PropertyActionTest {
     assertNull(action.getOwner(), "Owner should be nullable.");
   }
 
+  @Test
+  @DisplayName("setOwner should notify owner listeners only when the owner changes")
+  void testSetOwner_NotifiesListeners() {
+    PropertyAction action = new PropertyAction("Test Property", 100, 10);
+    int[] calls = {0};
+    action.addOwnerListener(p -> calls[0]++);
+
+    action.setOwner(mockOwner);
+    action.setOwner(mockOwner);
+    assertEquals(1, calls[0], "Setting the same owner again should not notify.");
+
+    action.setOwner(null);
+    assertEquals(2, calls[0]);
+  }
+
   @Test
   @DisplayName("perform should currently do nothing (logic commented out or handled by UI)")
   void testPerform_CurrentImplementation() {
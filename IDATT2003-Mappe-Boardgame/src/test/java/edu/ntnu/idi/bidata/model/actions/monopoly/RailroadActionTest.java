@@ -1,8 +1,8 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,8 +22,10 @@ class RailroadActionTest {
     mockPlayer = mock(Player.class);
     mockOwner = mock(Player.class); // mockOwner and mockPlayer are distinct mock instances
     mockMonopolyService = mock(MonopolyService.class);
+  }
 
-    ServiceLocator.setMonopolyService(mockMonopolyService);
+  private TurnContext turn() {
+    return new TurnContext().begin(null, mockMonopolyService, mockPlayer, 7, null);
   }
 
   @Test
@@ -39,7 +41,7 @@ class RailroadActionTest {
   void testPerform_NoOwner() {
     RailroadAction action = new RailroadAction("Unowned RR", 200, 25);
     action.setOwner(null);
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, turn());
     verify(mockMonopolyService, never()).getRailroadsOwnedCount(any());
   }
 
@@ -48,21 +50,35 @@ class RailroadActionTest {
   void testPerform_PlayerIsOwner() {
     RailroadAction action = new RailroadAction("Player's RR", 200, 25);
     action.setOwner(mockPlayer);
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, turn());
     verify(mockMonopolyService, never()).getRailroadsOwnedCount(any());
   }
 
   @Test
-  @DisplayName("perform should calculate rent if owned by another (payment logic commented out)")
+  @DisplayName("perform should pay the owner the rent above the base rent if owned by another")
   void testPerform_OwnedByAnother() {
     RailroadAction action = new RailroadAction("Opponent's RR", 200, 25);
     action.setOwner(mockOwner);
 
     when(mockMonopolyService.getRailroadsOwnedCount(mockOwner)).thenReturn(2);
 
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, turn());
 
     verify(mockMonopolyService).getRailroadsOwnedCount(mockOwner);
+    verify(mockMonopolyService).payRent(mockPlayer, mockOwner, 25); // 2 * 25, minus the base rent
+  }
+
+  @Test
+  @DisplayName("perform should pay nothing extra if the owner has a single railroad")
+  void testPerform_OwnedByAnother_SingleRailroad() {
+    RailroadAction action = new RailroadAction("Opponent's RR", 200, 25);
+    action.setOwner(mockOwner);
+
+    when(mockMonopolyService.getRailroadsOwnedCount(mockOwner)).thenReturn(1);
+
+    action.perform(mockPlayer, turn());
+
+    verify(mockMonopolyService, never()).payRent(any(), any(), anyInt());
   }
 
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import java.io.PrintStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class TaxActionTest {
 
@@ -43,6 +44,7 @@ class TaxActionTest {
   @DisplayName("perform should call player.decreaseMoney and print message")
   void testPerform() {
     TaxAction action = new TaxAction("Luxury Tax", 75);
+    when(mockPlayer.getMoney()).thenReturn(100);
     action.perform(mockPlayer);
 
     verify(mockPlayer).decreaseMoney(75);
@@ -51,6 +53,16 @@ class TaxActionTest {
         "Console output mismatch. Actual: " + consoleOutput);
   }
 
+  @Test
+  @DisplayName("perform should take everything from a player who cannot afford the tax")
+  void testPerform_CannotAfford() {
+    TaxAction action = new TaxAction("Income Tax", 200);
+    when(mockPlayer.getMoney()).thenReturn(120);
+    action.perform(mockPlayer);
+
+    verify(mockPlayer).decreaseMoney(120);
+  }
+
   @Test
   @DisplayName("Getters should return correct values")
   void testGetters() {
@@ -1,8 +1,8 @@
 package edu.ntnu.idi.bidata.model.actions.monopoly;
 
 import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.TurnContext;
 import edu.ntnu.idi.bidata.service.MonopolyService;
-import edu.ntnu.idi.bidata.service.ServiceLocator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,8 +21,10 @@ class UtilityActionTest {
     mockPlayer = mock(Player.class);
     mockOwner = mock(Player.class);
     mockMonopolyService = mock(MonopolyService.class);
+  }
 
-    ServiceLocator.setMonopolyService(mockMonopolyService);
+  private TurnContext turn(int roll) {
+    return new TurnContext().begin(null, mockMonopolyService, mockPlayer, roll, null);
   }
 
   @Test
@@ -39,9 +41,9 @@ class UtilityActionTest {
   void testPerform_NoOwner() {
     UtilityAction action = new UtilityAction("Unowned Utility", 150);
     action.setOwner(null);
-    action.perform(mockPlayer);
-    verify(mockPlayer, never()).getLastDiceRoll();
+    action.perform(mockPlayer, turn(7));
     verify(mockMonopolyService, never()).getUtilitiesOwnedCount(any());
+    verify(mockMonopolyService, never()).payRent(any(), any(), anyInt());
   }
 
   @Test
@@ -49,9 +51,9 @@ class UtilityActionTest {
   void testPerform_PlayerIsOwner() {
     UtilityAction action = new UtilityAction("Player's Utility", 150);
     action.setOwner(mockPlayer);
-    action.perform(mockPlayer);
-    verify(mockPlayer, never()).getLastDiceRoll();
+    action.perform(mockPlayer, turn(7));
     verify(mockMonopolyService, never()).getUtilitiesOwnedCount(any());
+    verify(mockMonopolyService, never()).payRent(any(), any(), anyInt());
   }
 
   @Test
@@ -60,17 +62,12 @@ class UtilityActionTest {
     UtilityAction action = new UtilityAction("Electric Company", 150);
     action.setOwner(mockOwner);
 
-    when(mockPlayer.getLastDiceRoll()).thenReturn(7);
     when(mockMonopolyService.getUtilitiesOwnedCount(mockOwner)).thenReturn(1);
 
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, turn(7));
 
-    verify(mockPlayer).getLastDiceRoll();
     verify(mockMonopolyService).getUtilitiesOwnedCount(mockOwner);
-    // int rentToPay = 7 * 4 = 28;
-    // Payment logic is commented out in SUT
-    // verify(mockPlayer).decreaseMoney(28);
-    // verify(mockOwner).increaseMoney(28);
+    verify(mockMonopolyService).payRent(mockPlayer, mockOwner, 28); // 7 * 4
   }
 
   @Test
@@ -79,12 +76,22 @@ class UtilityActionTest {
     UtilityAction action = new UtilityAction("Electric Company", 150);
     action.setOwner(mockOwner);
 
-    when(mockPlayer.getLastDiceRoll()).thenReturn(5);
     when(mockMonopolyService.getUtilitiesOwnedCount(mockOwner)).thenReturn(2); // Owner has 2 utilities
 
-    action.perform(mockPlayer);
+    action.perform(mockPlayer, turn(5));
 
-    verify(mockPlayer).getLastDiceRoll();
     verify(mockMonopolyService).getUtilitiesOwnedCount(mockOwner);
+    verify(mockMonopolyService).payRent(mockPlayer, mockOwner, 50); // 5 * 10
+  }
+
+  @Test
+  @DisplayName("perform without a bound turn should not charge anything")
+  void testPerform_OutsideTurn() {
+    UtilityAction action = new UtilityAction("Electric Company", 150);
+    action.setOwner(mockOwner);
+
+    action.perform(mockPlayer);
+
+    verify(mockMonopolyService, never()).payRent(any(), any(), anyInt());
   }
 }
\ No newline at end of file
@@ -1,22 +1,21 @@
 package edu.ntnu.idi.bidata.service;
 
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
 import edu.ntnu.idi.bidata.model.Card;
-import edu.ntnu.idi.bidata.ui.monopoly.MonopolyGameScene;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +24,6 @@ class CardServiceTest {
     private CardService cardService;
     private Card card1, card2, card3;
     private Map<String, List<Card>> decks;
-    private MonopolyGameScene mockGameScene;
 
     @BeforeEach
     void setUp() {
@@ -38,64 +36,52 @@ class CardServiceTest {
         decks = new HashMap<>();
         decks.put("chance", Arrays.asList(card1, card2, card3));
         decks.put("community", Arrays.asList(card3, card2, card1));
-
-        // Mock MonopolyGameScene.getInstance()
-        mockGameScene = mock(MonopolyGameScene.class);
     }
 
     @Test
     @DisplayName("Constructor should initialize and shuffle decks")
     void constructorShouldInitializeAndShuffleDecks() {
-        try (MockedStatic<MonopolyGameScene> mockedStatic = Mockito.mockStatic(MonopolyGameScene.class)) {
-            mockedStatic.when(MonopolyGameScene::getInstance).thenReturn(mockGameScene);
-
-            cardService = new CardService(decks);
-
-            // Verify by drawing all cards from each deck
-            List<Card> chanceCards = Arrays.asList(
-                    cardService.drawCard("chance"),
-                    cardService.drawCard("chance"),
-                    cardService.drawCard("chance")
-            );
-
-            List<Card> communityCards = Arrays.asList(
-                    cardService.drawCard("community"),
-                    cardService.drawCard("community"),
-                    cardService.drawCard("community")
-            );
-
-            // Verify all cards are present in each deck (regardless of order)
-            assertTrue(chanceCards.contains(card1));
-            assertTrue(chanceCards.contains(card2));
-            assertTrue(chanceCards.contains(card3));
-
-            assertTrue(communityCards.contains(card1));
-            assertTrue(communityCards.contains(card2));
-            assertTrue(communityCards.contains(card3));
-        }
+        cardService = new CardService(decks);
+
+        // Verify by drawing all cards from each deck
+        List<Card> chanceCards = Arrays.asList(
+                cardService.drawCard("chance"),
+                cardService.drawCard("chance"),
+                cardService.drawCard("chance")
+        );
+
+        List<Card> communityCards = Arrays.asList(
+                cardService.drawCard("community"),
+                cardService.drawCard("community"),
+                cardService.drawCard("community")
+        );
+
+        // Verify all cards are present in each deck (regardless of order)
+        assertTrue(chanceCards.contains(card1));
+        assertTrue(chanceCards.contains(card2));
+        assertTrue(chanceCards.contains(card3));
+
+        assertTrue(communityCards.contains(card1));
+        assertTrue(communityCards.contains(card2));
+        assertTrue(communityCards.contains(card3));
     }
 
     @Test
     @DisplayName("drawCard should draw cards in sequence and wrap around")
     void drawCardShouldDrawCardsInSequenceAndWrapAround() {
-        try (MockedStatic<MonopolyGameScene> mockedStatic = Mockito.mockStatic(MonopolyGameScene.class)) {
-            mockedStatic.when(MonopolyGameScene::getInstance).thenReturn(mockGameScene);
-
-            // Create service with non-shuffled decks for predictable order
-            decks = new HashMap<>();
-            decks.put("test", Arrays.asList(card1, card2, card3));
-            cardService = new CardService(decks);
-
-            // First complete cycle
-            Card drawn1 = cardService.drawCard("test");
-            Card drawn2 = cardService.drawCard("test");
+        // Create service with non-shuffled decks for predictable order
+        decks = new HashMap<>();
+        decks.put("test", Arrays.asList(card1, card2, card3));
+        cardService = new CardService(decks);
+        List<Card> shown = new ArrayList<>();
+        cardService.setDrawListener(shown::add);
 
+        // First complete cycle
+        Card drawn1 = cardService.drawCard("test");
+        Card drawn2 = cardService.drawCard("test");
 
-            // Verify UI was updated
-            verify(mockGameScene, times(2)).displayCardImage(any(Card.class));
-            verify(mockGameScene).displayCardImage(drawn1);
-            verify(mockGameScene).displayCardImage(drawn2);
-        }
+        // Verify the listener was told about every draw
+        assertEquals(List.of(drawn1, drawn2), shown);
     }
 
     @Test
@@ -126,16 +112,93 @@ class CardServiceTest {
     }
 
     @Test
-    @DisplayName("drawCard should update UI through MonopolyGameScene")
-    void drawCardShouldUpdateUI() {
-        try (MockedStatic<MonopolyGameScene> mockedStatic = Mockito.mockStatic(MonopolyGameScene.class)) {
-            mockedStatic.when(MonopolyGameScene::getInstance).thenReturn(mockGameScene);
+    @DisplayName("drawCard should hand the drawn card to the draw listener")
+    void drawCardShouldNotifyDrawListener() {
+        cardService = new CardService(decks);
+        Card drawnCard = cardService.drawCard("chance"); // Nobody listens yet
+        Consumer<Card> listener = mock();
+        cardService.setDrawListener(listener);
+        Card nextCard = cardService.drawCard("chance");
+
+        // Verify the listener only got the card drawn after it was set
+        verify(listener).accept(nextCard);
+        verify(listener, never()).accept(drawnCard);
+        assertThrows(InvalidParameterException.class, () -> cardService.setDrawListener(null));
+    }
 
-            cardService = new CardService(decks);
-            Card drawnCard = cardService.drawCard("chance");
+    @Test
+    @DisplayName("Services should not change the shared card lists or each other's order")
+    void servicesShouldNotShareOrMutateDecks() {
+        List<Card> shared = List.of(card1, card2, card3);
+        Map<String, List<Card>> sharedDecks = Map.of("chance", shared);
+
+        CardService first = new CardService(sharedDecks, 1L, false);
+        List<Card> firstOrder = first.getDecks().get("chance");
+        CardService second = new CardService(sharedDecks, 2L, false);
+        second.drawCard("chance");
+
+        assertEquals(List.of(card1, card2, card3), shared);
+        assertEquals(firstOrder, first.getDecks().get("chance"));
+        assertEquals(0, first.getPosition("chance"));
+        assertEquals(1, second.getPosition("chance"));
+    }
+
+    @Test
+    @DisplayName("The same seed should draw the same cards, by name or by deck id")
+    void sameSeedShouldDrawSameCards() {
+        CardService byName = new CardService(decks, 42L, true);
+        CardService byId = new CardService(decks, 42L, true);
+        int chance = byId.getDeckId("chance");
+
+        assertEquals(42L, byName.getSeed());
+        assertEquals(-1, byId.getDeckId("nonexistent"));
+        for (int i = 0; i < 12; i++) {
+            assertSame(byName.drawCard("chance"), byId.drawCard(chance), "Draw " + i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> byId.drawCard(-1));
+    }
+
+    @Test
+    @DisplayName("A deck should be reshuffled after its last card only when asked to")
+    void exhaustedDeckShouldWrapOrReshuffle() {
+        List<Card> many = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            many.add(new Card(i, "Card " + i, "path/to/image.png", null));
+        }
+        CardService wrapping = new CardService(Map.of("deck", many), 5L, false);
+        CardService reshuffling = new CardService(Map.of("deck", many), 5L, true);
+
+        List<Card> wrapFirst = drawAll(wrapping, many.size());
+        List<Card> wrapSecond = drawAll(wrapping, many.size());
+        List<Card> shuffleFirst = drawAll(reshuffling, many.size());
+        List<Card> shuffleSecond = drawAll(reshuffling, many.size());
+
+        assertEquals(wrapFirst, wrapSecond);
+        assertEquals(wrapFirst, shuffleFirst, "Both start from the same seeded order.");
+        assertNotEquals(shuffleFirst, shuffleSecond);
+        assertTrue(shuffleSecond.containsAll(many), "A reshuffled deck still holds every card once.");
+    }
+
+    @Test
+    @DisplayName("peekCard should show the next card of a deck without drawing it")
+    void peekCardShouldShowNextCardWithoutDrawing() {
+        cardService = new CardService(decks, 9L, false);
+        int chance = cardService.getDeckId("chance");
+
+        assertEquals(2, cardService.getDeckCount());
+        for (int i = 0; i < 4; i++) {
+            Card next = cardService.peekCard(chance);
+            assertSame(next, cardService.peekCard(chance));
+            assertSame(next, cardService.drawCard(chance));
+        }
+        assertNull(cardService.peekCard(5));
+    }
 
-            // Verify the UI was updated with the drawn card
-            verify(mockGameScene).displayCardImage(drawnCard);
+    private static List<Card> drawAll(CardService service, int count) {
+        List<Card> drawn = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            drawn.add(service.drawCard("deck"));
         }
+        return drawn;
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import edu.ntnu.idi.bidata.model.Dice;
 import edu.ntnu.idi.bidata.model.Player;
 import edu.ntnu.idi.bidata.model.Tile;
 import edu.ntnu.idi.bidata.model.actions.TileAction;
+import edu.ntnu.idi.bidata.model.actions.monopoly.ColorGroups;
+import edu.ntnu.idi.bidata.model.actions.monopoly.GoAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.RailroadAction;
 import edu.ntnu.idi.bidata.model.actions.monopoly.UtilityAction;
@@ -24,10 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -212,6 +211,26 @@ class MonopolyServiceTest {
         assertFalse(monopolyService.hasGetOutOfJailFreeCard(player1));
     }
 
+    @Test
+    void playTurn_playerInJail_chooserKeepsCard_staysInJail() {
+        players.add(player1);
+        players.add(player2);
+        monopolyService.setup(game);
+        monopolyService.setJailCardChooser(player -> false);
+
+        monopolyService.sendToJail(player1);
+        monopolyService.giveGetOutOfJailFreeCard(player1);
+        lenient().when(player1.getName()).thenReturn("Player1");
+
+        int roll = monopolyService.playTurn(game, player1);
+
+        assertEquals(0, roll);
+        verify(player1, never()).move(anyInt());
+        assertEquals(2, monopolyService.getJailTurnsLeft(player1));
+        assertEquals(1, monopolyService.getGetOutOfJailFreeCardCount(player1));
+        assertThrows(InvalidParameterException.class, () -> monopolyService.setJailCardChooser(null));
+    }
+
     @Test
     void playTurn_playerInJail_noCard_handlesJailTurn_stillInJail() {
         players.add(player1);
@@ -226,10 +245,54 @@ class MonopolyServiceTest {
 
         assertEquals(0, roll); // Did not move
         verify(player1, never()).move(anyInt());
+        verify(dice, never()).rollDie(); // No roll is wasted on a player who stays in jail
         assertTrue(monopolyService.isInJail(player1)); // Still in jail, turns decremented
         assertEquals(player2, monopolyService.getCurrentPlayer(this.game)); // Turn advanced
     }
 
+    @Test
+    void playTurn_bankruptPlayers_leaveTurnOrder() {
+        Player alice = new Player("Alice", tile0);
+        Player bob = new Player("Bob", tile0);
+        Player carol = new Player("Carol", tile0);
+        players.addAll(List.of(alice, bob, carol));
+        monopolyService.setup(game);
+
+        alice.decreaseMoney(alice.getMoney());
+        assertEquals(bob, monopolyService.getCurrentPlayer(game), "The turn passes on from a player who goes bankrupt.");
+
+        carol.decreaseMoney(carol.getMoney());
+        assertThrows(IllegalArgumentException.class, () -> monopolyService.playTurn(game, carol));
+
+        monopolyService.sendToJail(bob);
+        assertEquals(0, monopolyService.playTurn(game, bob));
+        assertEquals(bob, monopolyService.getCurrentPlayer(game), "Bankrupt players are skipped.");
+
+        carol.increaseMoney(100);
+        assertEquals(bob, monopolyService.getCurrentPlayer(game), "Bankruptcy is final for the turn order.");
+        assertTrue(monopolyService.isFinished(game));
+        assertEquals(bob, monopolyService.getWinner(game));
+    }
+
+    @Test
+    void bankruptPlayer_returnsPropertiesToBank() {
+        Player alice = new Player("Alice", tile0);
+        Player bob = new Player("Bob", tile0);
+        players.addAll(List.of(alice, bob));
+        monopolyService.setup(game);
+        PropertyAction property = new PropertyAction("Park Place", 350, 35);
+        monopolyService.purchaseProperty(alice, property);
+        monopolyService.giveGetOutOfJailFreeCard(alice);
+
+        alice.decreaseMoney(alice.getMoney());
+
+        assertNull(property.getOwner());
+        assertEquals(0, monopolyService.getGetOutOfJailFreeCardCount(alice));
+        alice.increaseMoney(500);
+        assertTrue(monopolyService.isFinished(game));
+        assertEquals(bob, monopolyService.getWinner(game));
+    }
+
     @Test
     void playTurn_playerInJail_noCard_lastJailTurn_getsOutAndMoves() {
         players.add(player1);
@@ -316,6 +379,29 @@ class MonopolyServiceTest {
         assertEquals(player1, monopolyService.getWinner(game));
     }
 
+    @Test
+    void isFinished_trackedGame_followsMoneyOfRealPlayers() {
+        Player alice = new Player("Alice", tile0);
+        Player bob = new Player("Bob", tile0);
+        Player carol = new Player("Carol", tile0);
+        players.addAll(List.of(alice, bob, carol));
+        monopolyService.setup(game);
+
+        assertFalse(monopolyService.isFinished(game));
+        monopolyService.payRent(alice, carol, 2000);
+        assertFalse(monopolyService.isFinished(game));
+        bob.decreaseMoney(bob.getMoney());
+        assertTrue(monopolyService.isFinished(game));
+        assertEquals(carol, monopolyService.getWinner(game));
+
+        bob.increaseMoney(10);
+        assertTrue(monopolyService.isFinished(game), "Bankruptcy is final.");
+        assertEquals(carol, monopolyService.getWinner(game));
+
+        players.remove(bob);
+        assertTrue(monopolyService.isFinished(game), "A changed player list is counted again.");
+    }
+
     @Test
     void getWinner_noPlayers_returnsNull() {
         // 'players' is empty
@@ -547,6 +633,38 @@ class MonopolyServiceTest {
         assertEquals(2, monopolyService.getUtilitiesOwnedCount(player1));
     }
 
+    @Test
+    void ownsFullColorGroup_andRentDue_doubleRentForCompleteGroup() {
+        Board groupBoard = new Board();
+        PropertyAction mediterranean = new PropertyAction("Mediterranean Avenue", 60, 2, "Brown");
+        PropertyAction baltic = new PropertyAction("Baltic Avenue", 60, 4, "Brown");
+        PropertyAction oriental = new PropertyAction("Oriental Avenue", 100, 6, "Light Blue");
+        PropertyAction[] actions = {mediterranean, baltic, oriental};
+        for (int i = 0; i < actions.length; i++) {
+            Tile tile = new Tile(i + 1);
+            tile.setAction(actions[i]);
+            groupBoard.addTile(tile);
+        }
+        when(game.getBoard()).thenReturn(groupBoard);
+        monopolyService.setup(game);
+
+        int brown = ColorGroups.idOf("Brown");
+        mediterranean.setOwner(player1);
+        monopolyService.addProperty(player1, mediterranean);
+        assertFalse(monopolyService.ownsFullColorGroup(player1, brown));
+        assertEquals(2, monopolyService.getRentDue(mediterranean));
+
+        baltic.setOwner(player1);
+        monopolyService.addProperty(player1, baltic);
+        assertTrue(monopolyService.ownsFullColorGroup(player1, brown));
+        assertFalse(monopolyService.ownsFullColorGroup(player2, brown));
+        assertEquals(4, monopolyService.getRentDue(mediterranean));
+        assertEquals(8, monopolyService.getRentDue(baltic));
+
+        assertFalse(monopolyService.ownsFullColorGroup(player1, oriental.getColorGroupId()));
+        assertEquals(0, monopolyService.getRentDue(oriental), "Unowned property should have no rent due.");
+    }
+
     @Test
     void setCardService_thenDrawCard() {
         monopolyService.setCardService(cardService);
@@ -637,14 +755,12 @@ class MonopolyServiceTest {
         setupForCardExecutionTest();
         when(card.getType()).thenReturn("AdvanceToIllinoisAve");
 
-        Map<Integer, Tile> tilesMap = new HashMap<>();
-        Tile illinoisTile = mock(Tile.class);
-        PropertyAction illinoisProp = mock(PropertyAction.class);
-        when(illinoisProp.getName()).thenReturn("Illinois Avenue");
-        when(illinoisTile.getAction()).thenReturn(illinoisProp);
-        tilesMap.put(24, illinoisTile);
+        Board indexedBoard = new Board();
+        Tile illinoisTile = new Tile(24);
+        illinoisTile.setAction(new PropertyAction("Illinois Avenue", 240, 20, "Red"));
+        indexedBoard.addTile(illinoisTile);
 
-        when(board.getTiles()).thenReturn(tilesMap);
+        when(game.getBoard()).thenReturn(indexedBoard);
         Mockito.clearInvocations(player1); // Clear setup invocations
 
         monopolyService.drawChanceCard(player1);
@@ -655,13 +771,11 @@ class MonopolyServiceTest {
     void executeCardAction_AdvanceToIllinoisAve_notFound() {
         setupForCardExecutionTest();
         when(card.getType()).thenReturn("AdvanceToIllinoisAve");
-        Map<Integer, Tile> tilesMap = new HashMap<>();
-        Tile otherTile = mock(Tile.class);
-        PropertyAction otherProp = mock(PropertyAction.class);
-        when(otherProp.getName()).thenReturn("Some Other Place");
-        when(otherTile.getAction()).thenReturn(otherProp);
-        tilesMap.put(10, otherTile);
-        when(board.getTiles()).thenReturn(tilesMap);
+        Board indexedBoard = new Board();
+        Tile otherTile = new Tile(10);
+        otherTile.setAction(new PropertyAction("Some Other Place", 100, 10));
+        indexedBoard.addTile(otherTile);
+        when(game.getBoard()).thenReturn(indexedBoard);
         Mockito.clearInvocations(player1);
 
         monopolyService.drawChanceCard(player1);
@@ -672,12 +786,11 @@ class MonopolyServiceTest {
     void executeCardAction_AdvanceToIllinoisAve_tileNotProperty() {
         setupForCardExecutionTest();
         when(card.getType()).thenReturn("AdvanceToIllinoisAve");
-        Map<Integer, Tile> tilesMap = new HashMap<>();
-        Tile nonPropertyTile = mock(Tile.class);
-        TileAction nonPropertyAction = mock(TileAction.class);
-        when(nonPropertyTile.getAction()).thenReturn(nonPropertyAction);
-        tilesMap.put(24, nonPropertyTile);
-        when(board.getTiles()).thenReturn(tilesMap);
+        Board indexedBoard = new Board();
+        Tile nonPropertyTile = new Tile(24);
+        nonPropertyTile.setAction(mock(TileAction.class));
+        indexedBoard.addTile(nonPropertyTile);
+        when(game.getBoard()).thenReturn(indexedBoard);
         Mockito.clearInvocations(player1);
 
         monopolyService.drawChanceCard(player1);
@@ -688,13 +801,89 @@ class MonopolyServiceTest {
     void executeCardAction_AdvanceToIllinoisAve_emptyTileMap() {
         setupForCardExecutionTest();
         when(card.getType()).thenReturn("AdvanceToIllinoisAve");
-        when(board.getTiles()).thenReturn(Collections.emptyMap());
+        when(game.getBoard()).thenReturn(new Board());
         Mockito.clearInvocations(player1);
 
         monopolyService.drawChanceCard(player1);
         verify(player1, never()).setCurrentTile(any(Tile.class));
     }
 
+    private Board createAdvanceCardBoard() {
+        Board ring = new Board();
+        Tile[] tiles = new Tile[10];
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = new Tile(i);
+            ring.addTile(tiles[i]);
+        }
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i].setNext(tiles[(i + 1) % tiles.length]);
+        }
+        tiles[0].setAction(new GoAction("GO", 200));
+        tiles[2].setAction(new PropertyAction("St. Charles Place", 140, 10, "Pink"));
+        tiles[3].setAction(new RailroadAction("Reading Railroad", 200, 25));
+        tiles[5].setAction(new UtilityAction("Electric Company", 150));
+        tiles[7].setAction(new RailroadAction("Short Line Railroad", 200, 25));
+        ring.buildIndexes();
+        return ring;
+    }
+
+    @Test
+    void executeCardAction_AdvanceToNearestRailroad_passesGo() {
+        setupForCardExecutionTest();
+        Board ring = createAdvanceCardBoard();
+        when(game.getBoard()).thenReturn(ring);
+        when(player1.getCurrentTile()).thenReturn(ring.getTile(8));
+        when(card.getType()).thenReturn("AdvanceToNearestRailroad");
+        Mockito.clearInvocations(player1);
+
+        monopolyService.drawChanceCard(player1);
+        verify(player1).setCurrentTile(ring.getTile(3));
+        verify(player1).increaseMoney(200);
+    }
+
+    @Test
+    void executeCardAction_AdvanceToUtility_noGoPassed() {
+        setupForCardExecutionTest();
+        Board ring = createAdvanceCardBoard();
+        when(game.getBoard()).thenReturn(ring);
+        when(player1.getCurrentTile()).thenReturn(ring.getTile(1));
+        when(card.getType()).thenReturn("AdvanceToUtility");
+        Mockito.clearInvocations(player1);
+
+        monopolyService.drawChanceCard(player1);
+        verify(player1).setCurrentTile(ring.getTile(5));
+        verify(player1, never()).increaseMoney(anyInt());
+    }
+
+    @Test
+    void executeCardAction_AdvanceToProperty_usesTarget() {
+        setupForCardExecutionTest();
+        Board ring = createAdvanceCardBoard();
+        when(game.getBoard()).thenReturn(ring);
+        when(player1.getCurrentTile()).thenReturn(ring.getTile(6));
+        when(card.getType()).thenReturn("AdvanceToProperty");
+        when(card.getStringProperty("target", "")).thenReturn("St. Charles Place");
+        Mockito.clearInvocations(player1);
+
+        monopolyService.drawChanceCard(player1);
+        verify(player1).setCurrentTile(ring.getTile(2));
+        verify(player1).increaseMoney(200);
+    }
+
+    @Test
+    void executeCardAction_AdvanceToRailroad_defaultsToReading() {
+        setupForCardExecutionTest();
+        Board ring = createAdvanceCardBoard();
+        when(game.getBoard()).thenReturn(ring);
+        when(player1.getCurrentTile()).thenReturn(ring.getTile(1));
+        when(card.getType()).thenReturn("AdvanceToRailroad");
+        when(card.getStringProperty("target", "Reading Railroad")).thenReturn("Reading Railroad");
+        Mockito.clearInvocations(player1);
+
+        monopolyService.drawChanceCard(player1);
+        verify(player1).setCurrentTile(ring.getTile(3));
+    }
+
     @Test
     void executeCardAction_GoBack() {
         setupForCardExecutionTest();
@@ -0,0 +1,313 @@
+package edu.ntnu.idi.bidata.service;
+
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.app.GameVariant;
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import edu.ntnu.idi.bidata.factory.BoardFactory;
+import edu.ntnu.idi.bidata.model.Board;
+import edu.ntnu.idi.bidata.model.BoardGame;
+import edu.ntnu.idi.bidata.model.Card;
+import edu.ntnu.idi.bidata.model.Dice;
+import edu.ntnu.idi.bidata.model.MonopolyState;
+import edu.ntnu.idi.bidata.model.Player;
+import edu.ntnu.idi.bidata.model.Tile;
+import edu.ntnu.idi.bidata.model.actions.monopoly.PropertyAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MonopolyStateServiceTest {
+
+    /** Chance and Community Chest tiles of mini_monopoly, which draw from decks the live game shows in the UI. */
+    private static final Set<Integer> CARD_TILES = Set.of(2, 7, 15, 23);
+
+    private Board board;
+    private MonopolyStateService stateService;
+
+    @BeforeEach
+    void setUp() {
+        board = BoardFactory.createFromJson("/data/boards/mini_monopoly.json", GameVariant.MINI_MONOPOLY, null);
+        stateService = new MonopolyStateService(board, Map.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ServiceLocator.setMonopolyService(null);
+    }
+
+    @Test
+    @DisplayName("Turns played on states should match the same turns played by MonopolyService")
+    void testPlayTurn_MatchesLiveGame() {
+        MonopolyService service = new MonopolyService();
+        ServiceLocator.setMonopolyService(service);
+        Dice dice = mock(Dice.class);
+        BoardGame game = new BoardGame();
+        game.setBoard(board);
+        game.setDice(dice);
+        game.addPlayer(new Player("Alice", board.getTile(0)));
+        game.addPlayer(new Player("Bob", board.getTile(0)));
+        game.addPlayer(new Player("Carol", board.getTile(0)));
+        game.setGameService(service);
+        game.init();
+
+        MonopolyState state = stateService.initialState(3);
+        assertEquals(state, stateService.capture(game, service, null));
+
+        for (int turn = 0; turn < 90 && minimumMoney(game) >= 200; turn++) {
+            int seat = state.getCurrentPlayer();
+            Player player = game.getPlayers().get(seat);
+            int roll = safeRoll(player.getCurrentTile().getId(), CARD_TILES);
+            when(dice.rollDie()).thenReturn(roll);
+
+            game.playTurn(player);
+            handleProperty(service, player);
+            state = stateService.playTurn(state, roll);
+            state = stateService.purchaseProperty(state, seat);
+
+            assertEquals(stateService.capture(game, service, null).withLastRoll(roll), state,
+                "State and live game differ after turn " + turn);
+        }
+    }
+
+    @Test
+    @DisplayName("Rents, taxes and bankruptcies on states should match the live game until it is over")
+    void testPlayTurn_MatchesLiveGameToTheEnd() {
+        MonopolyService service = new MonopolyService();
+        ServiceLocator.setMonopolyService(service);
+        Dice dice = mock(Dice.class);
+        BoardGame game = new BoardGame();
+        game.setBoard(board);
+        game.setDice(dice);
+        game.addPlayer(new Player("Alice", board.getTile(0)));
+        game.addPlayer(new Player("Bob", board.getTile(0)));
+        game.addPlayer(new Player("Carol", board.getTile(0)));
+        game.setGameService(service);
+        game.init();
+
+        MonopolyState state = stateService.initialState(3);
+        for (int seat = 0; seat < 3; seat++) {
+            game.getPlayers().get(seat).setMoney(400); // Little money, so players go bankrupt soon
+            state = state.withMoney(seat, 400);
+        }
+
+        int turn = 0;
+        for (; turn < 500 && !service.isFinished(game); turn++) {
+            int seat = state.getCurrentPlayer();
+            Player player = game.getPlayers().get(seat);
+            assertEquals(player, service.getCurrentPlayer(game), "Turn order differs before turn " + turn);
+            int roll = safeRoll(player.getCurrentTile().getId(), CARD_TILES);
+            when(dice.rollDie()).thenReturn(roll);
+
+            game.playTurn(player);
+            handleProperty(service, player);
+            state = stateService.playTurn(state, roll);
+            state = stateService.purchaseProperty(state, seat);
+
+            assertEquals(stateService.capture(game, service, null).withLastRoll(roll), state,
+                "State and live game differ after turn " + turn);
+        }
+
+        assertTrue(service.isFinished(game), "The scripted game should end in bankruptcies");
+        assertTrue(stateService.isFinished(state));
+        assertEquals(game.getPlayers().indexOf(service.getWinner(game)), stateService.getWinner(state));
+    }
+
+    @Test
+    @DisplayName("A tax the player cannot afford should bankrupt them the same way on states and in the live game")
+    void testPlayTurn_UnaffordableTaxMatchesLiveGame() {
+        MonopolyService service = new MonopolyService();
+        ServiceLocator.setMonopolyService(service);
+        Dice dice = mock(Dice.class);
+        BoardGame game = new BoardGame();
+        game.setBoard(board);
+        game.setDice(dice);
+        game.addPlayer(new Player("Alice", board.getTile(0)));
+        game.addPlayer(new Player("Bob", board.getTile(0)));
+        game.addPlayer(new Player("Carol", board.getTile(0)));
+        game.setGameService(service);
+        game.init();
+        game.getPlayers().get(0).setMoney(250);
+        MonopolyState state = stateService.initialState(3).withMoney(0, 250);
+
+        // Alice buys Mediterranean Avenue for $60, then lands on the $200 Income Tax with $190
+        int[] rolls = {1, 3, 5, 3, 2, 3};
+        for (int turn = 0; turn < rolls.length; turn++) {
+            int seat = state.getCurrentPlayer();
+            Player player = game.getPlayers().get(seat);
+            assertEquals(player, service.getCurrentPlayer(game), "Turn order differs before turn " + turn);
+            when(dice.rollDie()).thenReturn(rolls[turn]);
+
+            assertDoesNotThrow(() -> game.playTurn(player));
+            handleProperty(service, player);
+            state = stateService.playTurn(state, rolls[turn]);
+            state = stateService.purchaseProperty(state, seat);
+
+            assertEquals(stateService.capture(game, service, null).withLastRoll(rolls[turn]), state,
+                "State and live game differ after turn " + turn);
+        }
+
+        assertEquals(0, game.getPlayers().get(0).getMoney());
+        assertNull(((PropertyAction) board.getTile(1).getAction()).getOwner(), "Alice's property goes back to the bank");
+        assertEquals(MonopolyState.NO_OWNER, state.getOwner(1));
+        assertEquals(1, state.getCurrentPlayer(), "Alice is skipped from then on");
+    }
+
+    @Test
+    @DisplayName("A bankrupt player should lose their properties and be skipped in the turn order")
+    void testPlayTurn_Bankruptcy() {
+        // Player 1 owns New York Avenue and lands on player 0's Virginia Avenue with only $10
+        MonopolyState state = stateService.initialState(3)
+            .withOwner(18, 1).withOwner(12, 0).withPosition(1, 6).withMoney(1, 10).withCurrentPlayer(1);
+        int rent = stateService.getRentDue(state, 12);
+        assertTrue(rent > 10);
+
+        state = stateService.playTurn(state, 6);
+
+        assertEquals(0, state.getMoney(1));
+        assertEquals(1500, state.getMoney(0), "A player who cannot pay in full pays nothing to the owner");
+        assertEquals(MonopolyState.NO_OWNER, state.getOwner(18), "Properties of a bankrupt player go back to the bank");
+        assertEquals(2, state.getCurrentPlayer());
+        assertEquals(0, stateService.playTurn(state.withPosition(2, 0), 2).getCurrentPlayer(), "Bankrupt players are skipped");
+    }
+
+    @Test
+    @DisplayName("Branches of the same state should be independent")
+    void testBranching() {
+        MonopolyState start = stateService.initialState(2).withPosition(0, 18);
+
+        MonopolyState bought = stateService.purchaseProperty(start, 0); // New York Avenue, 200
+        MonopolyState skipped = start;
+
+        assertEquals(0, bought.getOwner(18));
+        assertEquals(1300, bought.getMoney(0));
+        assertEquals(MonopolyState.NO_OWNER, start.getOwner(18));
+        assertEquals(1500, start.getMoney(0));
+
+        // Player 1 rolls onto New York Avenue in both futures
+        MonopolyState afterBought = stateService.playTurn(bought.withCurrentPlayer(1).withPosition(1, 12), 6);
+        MonopolyState afterSkipped = stateService.playTurn(skipped.withCurrentPlayer(1).withPosition(1, 12), 6);
+
+        assertEquals(1500 - 16, afterBought.getMoney(1));
+        assertEquals(1300 + 16, afterBought.getMoney(0));
+        assertEquals(1500, afterSkipped.getMoney(1));
+        assertEquals(1500, afterSkipped.getMoney(0));
+    }
+
+    @Test
+    @DisplayName("Rent should double for a full color group and count railroads and utilities")
+    void testGetRentDue() {
+        MonopolyState state = stateService.initialState(2).withOwner(1, 0).withLastRoll(7);
+        assertEquals(2, stateService.getRentDue(state, 1));
+        assertEquals(4, stateService.getRentDue(state.withOwner(3, 0), 1), "Brown group is complete");
+
+        state = state.withOwner(5, 1).withOwner(13, 1).withOwner(21, 1);
+        assertEquals(75, stateService.getRentDue(state, 13));
+
+        state = state.withOwner(10, 1);
+        assertEquals(28, stateService.getRentDue(state, 10));
+        assertEquals(70, stateService.getRentDue(state.withOwner(26, 1), 10));
+        assertEquals(0, stateService.getRentDue(state, 9), "Unowned tiles cost nothing");
+    }
+
+    @Test
+    @DisplayName("Cards should be drawn in deck order and run like MonopolyService runs them")
+    void testPlayTurn_Cards() {
+        Card toGo = new Card(1, "AdvanceToGo", "Advance to GO", new JsonObject());
+        JsonObject back = new JsonObject();
+        back.addProperty("spaces", 3);
+        Card goBack = new Card(2, "GoBack", "Go back 3 spaces", back);
+        MonopolyStateService withCards = new MonopolyStateService(board, Map.of("chance", List.of(toGo, goBack)));
+
+        MonopolyState first = withCards.playTurn(withCards.initialState(1).withPosition(0, 4), 3);
+        assertEquals(0, first.getPosition(0));
+        assertEquals(1700, first.getMoney(0));
+
+        MonopolyState second = withCards.playTurn(first.withPosition(0, 4), 3);
+        assertEquals(4, second.getPosition(0), "Going back from Chance lands on the tax tile");
+        assertEquals(1500, second.getMoney(0));
+        assertEquals(0, second.getDeckPosition(MonopolyStateService.CHANCE_DECK), "The deck wraps around");
+    }
+
+    @Test
+    @DisplayName("Go To Jail should jail the player, who sits out until the last jail turn")
+    void testPlayTurn_Jail() {
+        MonopolyState state = stateService.playTurn(stateService.initialState(1).withPosition(0, 20), 4);
+        assertEquals(8, state.getPosition(0));
+        assertEquals(3, state.getJailTurns(0));
+
+        state = stateService.playTurn(stateService.playTurn(state, 4), 4);
+        assertEquals(8, state.getPosition(0));
+        assertEquals(1, state.getJailTurns(0));
+
+        state = stateService.playTurn(state, 4);
+        assertEquals(12, state.getPosition(0));
+        assertEquals(0, state.getJailTurns(0));
+    }
+
+    @Test
+    @DisplayName("Game should finish when at most one player has money left")
+    void testIsFinishedAndWinner() {
+        MonopolyState state = stateService.initialState(3);
+        assertFalse(stateService.isFinished(state));
+
+        state = state.withMoney(0, 0).withMoney(2, 0);
+        assertTrue(stateService.isFinished(state));
+        assertEquals(1, stateService.getWinner(state));
+        assertEquals(-1, stateService.getWinner(state.withMoney(1, 0)));
+    }
+
+    @Test
+    @DisplayName("Should reject boards that are not a ring")
+    void testConstructor_RejectsOpenBoard() {
+        Board open = new Board();
+        Tile first = new Tile(0);
+        Tile second = new Tile(1);
+        first.setNext(second);
+        open.addTile(first);
+        open.addTile(second);
+
+        assertThrows(InvalidParameterException.class, () -> new MonopolyStateService(open, Map.of()));
+        assertThrows(InvalidParameterException.class, () -> new MonopolyStateService(null, Map.of()));
+    }
+
+    /**
+     * Picks the smallest two-dice roll that does not land on a tile the live game needs the UI or cards for.
+     */
+    private int safeRoll(int from, Set<Integer> avoided) {
+        for (int roll = 2; roll <= 12; roll++) {
+            if (!avoided.contains((from + roll) % 32)) {
+                return roll;
+            }
+        }
+        throw new IllegalStateException("No safe roll from tile " + from);
+    }
+
+    /**
+     * Buys or pays rent the way the controller does when it plays for a player.
+     */
+    private static void handleProperty(MonopolyService service, Player player) {
+        if (!(player.getCurrentTile().getAction() instanceof PropertyAction property)) {
+            return;
+        }
+        if (property.getOwner() == null) {
+            if (player.getMoney() >= property.getCost()) {
+                service.purchaseProperty(player, property);
+            }
+        } else if (property.getOwner() != player) {
+            service.payRent(player, property.getOwner(), service.getRentDue(property));
+        }
+    }
+
+    private static int minimumMoney(BoardGame game) {
+        return game.getPlayers().stream().mapToInt(Player::getMoney).min().orElse(0);
+    }
+}
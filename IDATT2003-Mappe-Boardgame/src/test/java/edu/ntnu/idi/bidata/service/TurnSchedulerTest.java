@@ -0,0 +1,79 @@
+package edu.ntnu.idi.bidata.service;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnSchedulerTest {
+
+    @Test
+    void newScheduler_startsWithSeatZeroAndGoesRound() {
+        TurnScheduler turns = new TurnScheduler(3);
+
+        assertEquals(0, turns.getCurrent());
+        assertEquals(3, turns.getActiveCount());
+        turns.endTurn(0);
+        assertEquals(1, turns.getCurrent());
+        turns.endTurn(1);
+        turns.endTurn(2);
+        assertEquals(0, turns.getCurrent());
+    }
+
+    @Test
+    void noSeats_hasNoCurrentSeat() {
+        TurnScheduler turns = new TurnScheduler(0);
+
+        assertEquals(-1, turns.getCurrent());
+        turns.endTurn(-1);
+        assertEquals(-1, turns.getCurrent());
+        assertThrows(InvalidParameterException.class, () -> new TurnScheduler(-1));
+    }
+
+    @Test
+    void remove_skipsSeatFromThenOn() {
+        TurnScheduler turns = new TurnScheduler(4);
+        turns.remove(1);
+        turns.remove(2);
+
+        assertFalse(turns.isActive(1));
+        assertEquals(2, turns.getActiveCount());
+        turns.endTurn(0);
+        assertEquals(3, turns.getCurrent());
+        turns.endTurn(3);
+        assertEquals(0, turns.getCurrent());
+        assertThrows(IllegalArgumentException.class, () -> turns.setCurrent(2));
+    }
+
+    @Test
+    void remove_duringOwnTurn_passesTurnOnlyOnce() {
+        TurnScheduler turns = new TurnScheduler(3);
+        turns.remove(0);
+
+        assertEquals(1, turns.getCurrent());
+        turns.endTurn(0); // The removed seat finishes its turn
+        assertEquals(1, turns.getCurrent());
+    }
+
+    @Test
+    void remove_lastSeat_leavesNoCurrentSeat() {
+        TurnScheduler turns = new TurnScheduler(2);
+        turns.remove(0);
+        turns.remove(1);
+        turns.remove(1);
+
+        assertEquals(0, turns.getActiveCount());
+        assertEquals(-1, turns.getCurrent());
+    }
+
+    @Test
+    void setCurrent_givesTurnToActiveSeat() {
+        TurnScheduler turns = new TurnScheduler(3);
+        turns.setCurrent(2);
+        turns.endTurn(2);
+
+        assertEquals(0, turns.getCurrent());
+        assertThrows(IllegalArgumentException.class, () -> turns.setCurrent(3));
+    }
+}
@@ -0,0 +1,55 @@
+package edu.ntnu.idi.bidata.util;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasTableTest {
+
+    @Test
+    @DisplayName("Samples should follow the weights, and outcomes of weight 0 should never come up")
+    void testSample_FollowsWeights() {
+        double[] weights = {5, 0, 1, 2, 0.5, 1.5};
+        AliasTable table = new AliasTable(weights);
+        SplittableRandom random = new SplittableRandom(11);
+        int samples = 400_000;
+        int[] counts = new int[weights.length];
+
+        for (int i = 0; i < samples; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        assertEquals(weights.length, table.size());
+        assertEquals(0, counts[1]);
+        assertTrue(counts[4] > 0, "Small weights should still be drawn.");
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10, (double) counts[i] / samples, 0.005, "Outcome " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("A single outcome should always be drawn")
+    void testSample_SingleOutcome() {
+        AliasTable table = new AliasTable(3);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, table.sample(random));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing, negative, infinite and all-zero weights")
+    void testConstructor_InvalidWeights() {
+        assertThrows(InvalidParameterException.class, () -> new AliasTable());
+        assertThrows(InvalidParameterException.class, () -> new AliasTable((double[]) null));
+        assertThrows(InvalidParameterException.class, () -> new AliasTable(1, -0.5));
+        assertThrows(InvalidParameterException.class, () -> new AliasTable(1, Double.NaN));
+        assertThrows(InvalidParameterException.class, () -> new AliasTable(Double.POSITIVE_INFINITY));
+        assertThrows(InvalidParameterException.class, () -> new AliasTable(0, 0));
+    }
+}
@@ -68,4 +68,14 @@ class JsonUtilsTest {
         assertInstanceOf(IllegalStateException.class, exception.getCause());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("toJson output should parse back to an equal object")
+    void testToJsonRoundTrip() {
+        JsonObject original = JsonUtils.parse("{\"tiles\":[{\"id\":0,\"nextId\":1},{\"id\":1}]}");
+
+        String text = JsonUtils.toJson(original);
+
+        assertEquals(original, JsonUtils.parse(text));
+        assertThrows(JsonParseException.class, () -> JsonUtils.toJson(null));
+    }
+}
@@ -0,0 +1,92 @@
+package edu.ntnu.idi.bidata.util;
+
+import edu.ntnu.idi.bidata.exception.InvalidParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentIntArrayTest {
+
+    @Test
+    @DisplayName("Should keep the values it was created with, for sizes spanning several tree levels")
+    void testOfAndGet() {
+        for (int size : new int[] {0, 1, 16, 17, 256, 300, 5000}) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = i * 7 - 3;
+            }
+            PersistentIntArray array = PersistentIntArray.of(values);
+
+            assertEquals(size, array.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(values[i], array.get(i), "Wrong value at " + i + " for size " + size);
+            }
+            assertArrayEquals(values, array.toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("set should return a changed copy and leave the original untouched")
+    void testSetLeavesOriginalUnchanged() {
+        PersistentIntArray original = PersistentIntArray.filled(300, 5);
+        PersistentIntArray changed = original.set(257, 9);
+
+        assertEquals(5, original.get(257));
+        assertEquals(9, changed.get(257));
+        assertEquals(5, changed.get(256));
+        assertNotEquals(original, changed);
+        assertSame(changed, changed.set(257, 9), "Setting the same value should not copy anything.");
+    }
+
+    @Test
+    @DisplayName("Versions branched off the same array should not see each other's changes")
+    void testBranchesAreIndependent() {
+        SplittableRandom random = new SplittableRandom(3);
+        int[] expectedA = new int[1000];
+        int[] expectedB = new int[1000];
+        PersistentIntArray base = PersistentIntArray.of(new int[1000]);
+        PersistentIntArray a = base;
+        PersistentIntArray b = base;
+        for (int step = 0; step < 2000; step++) {
+            int index = random.nextInt(1000);
+            int value = random.nextInt();
+            if (step % 2 == 0) {
+                a = a.set(index, value);
+                expectedA[index] = value;
+            } else {
+                b = b.set(index, value);
+                expectedB[index] = value;
+            }
+        }
+
+        assertArrayEquals(expectedA, a.toArray());
+        assertArrayEquals(expectedB, b.toArray());
+        assertArrayEquals(new int[1000], base.toArray());
+    }
+
+    @Test
+    @DisplayName("Equal contents should give equal arrays and hash codes")
+    void testEqualsAndHashCode() {
+        PersistentIntArray a = PersistentIntArray.of(1, 2, 3).set(1, 7);
+        PersistentIntArray b = PersistentIntArray.of(1, 7, 3);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals("[1, 7, 3]", a.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject indexes outside the array and invalid arguments")
+    void testInvalidArguments() {
+        PersistentIntArray array = PersistentIntArray.filled(17, 0);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(17));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.set(17, 1));
+        assertThrows(InvalidParameterException.class, () -> PersistentIntArray.filled(-1, 0));
+        assertThrows(InvalidParameterException.class, () -> PersistentIntArray.of((int[]) null));
+    }
+}